@@ -0,0 +1,53 @@
+package model.benchmark;
+
+import model.dominio.ComentarioTarefa;
+import model.dominio.Projeto;
+import model.dominio.RegistroEsforco;
+import model.dominio.Tarefa;
+import model.dominio.Usuario;
+import model.util.ComentarioTarefaUtil;
+import model.util.RegistroEsforcoUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Utilitários que percorrem coleções inteiras, em tamanhos de 1k a 10M.
+ * 10M entidades pedem heap grande: o fork já sobe com -Xmx8g.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class ColecoesBenchmark {
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int tamanho;
+
+    private List<RegistroEsforco> registros;
+    private List<ComentarioTarefa> comentarios;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        Usuario gerente = Dados.gerente();
+        Projeto projeto = Dados.projeto(gerente);
+        List<Usuario> usuarios = Dados.usuarios(1000);
+        List<Tarefa> tarefas = Dados.tarefas(projeto, 1000);
+        registros = Dados.registros(tamanho, usuarios, tarefas);
+        comentarios = Dados.comentarios(tamanho, usuarios, tarefas);
+    }
+
+    @Benchmark
+    public Map<Usuario, Integer> horasPorUsuario() {
+        return RegistroEsforcoUtil.horasPorUsuario(registros);
+    }
+
+    @Benchmark
+    public List<ComentarioTarefa> ultimosN() {
+        return ComentarioTarefaUtil.ultimosN(comentarios, 10);
+    }
+}
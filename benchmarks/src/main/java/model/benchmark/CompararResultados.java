@@ -0,0 +1,217 @@
+package model.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * Compara um resultado JMH (JSON, -rf json) com a linha de base e aponta regressões.
+ * Casa as métricas por benchmark + parâmetros (+ nome da métrica secundária).
+ * Só a métrica principal de um benchmark em modo vazão (thrpt) é "maior é
+ * melhor"; tempo por operação (avgt, sample, ss) e as secundárias do
+ * GCProfiler (alocação, contagem de GCs) são "menor é melhor", seja qual for
+ * a unidade (ops/ms, us/op, B/op...).
+ * Termina com código 1 se alguma métrica piorou além da tolerância.
+ *
+ * Uso: CompararResultados &lt;baseline.json&gt; &lt;atual.json&gt; [tolerância %, padrão 10]
+ */
+public final class CompararResultados {
+
+    private CompararResultados() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Uso: CompararResultados <baseline.json> <atual.json> [tolerancia%]");
+            System.exit(2);
+        }
+        double tolerancia = (args.length > 2) ? Double.parseDouble(args[2]) : 10.0;
+        Map<String, Metrica> base = ler(Paths.get(args[0]));
+        Map<String, Metrica> atual = ler(Paths.get(args[1]));
+
+        int regressoes = 0;
+        for (Map.Entry<String, Metrica> e : atual.entrySet()) {
+            Metrica b = base.get(e.getKey());
+            Metrica m = e.getValue();
+            if (b == null) {
+                System.out.printf("NOVO      %s = %.3f %s%n", e.getKey(), m.score, m.unidade);
+                continue;
+            }
+            double antes = b.score, depois = m.score;
+            if (antes == 0 || Double.isNaN(antes) || Double.isNaN(depois)) continue;
+            double variacao = (depois - antes) * 100.0 / antes;
+            double piora = m.maiorMelhor ? -variacao : variacao;
+            String rotulo = (piora > tolerancia) ? "REGRESSAO" : (piora < -tolerancia) ? "MELHORA  " : "ok       ";
+            if (piora > tolerancia) regressoes++;
+            System.out.printf("%s %s: %.3f -> %.3f %s (%+.1f%%)%n",
+                    rotulo, e.getKey(), antes, depois, m.unidade, variacao);
+        }
+        for (String chave : base.keySet()) {
+            if (!atual.containsKey(chave)) System.out.println("AUSENTE   " + chave);
+        }
+        System.out.println(regressoes + " regressão(ões) acima de " + tolerancia + "%.");
+        if (regressoes > 0) System.exit(1);
+    }
+
+    /** Uma métrica de um resultado: score, unidade e o sentido de "melhor". */
+    private static final class Metrica {
+        final double score;
+        final String unidade;
+        final boolean maiorMelhor;
+
+        Metrica(Map<?, ?> json, boolean maiorMelhor) {
+            this.score = numero(json.get("score"));
+            this.unidade = String.valueOf(json.get("scoreUnit"));
+            this.maiorMelhor = maiorMelhor;
+        }
+    }
+
+    /** chave (benchmark + parâmetros, e ":métrica" para as secundárias) → métrica. */
+    private static Map<String, Metrica> ler(Path arquivo) throws IOException {
+        Map<String, Metrica> r = new LinkedHashMap<>();
+        Object raiz = new LeitorJson(Files.readString(arquivo, StandardCharsets.UTF_8)).documento();
+        if (!(raiz instanceof List)) throw new IOException("Resultado JMH deve ser uma lista JSON: " + arquivo);
+        for (Object item : (List<?>) raiz) {
+            Map<?, ?> res = (Map<?, ?>) item;
+            String benchmark = (String) res.get("benchmark");
+            String parametros = parametros((Map<?, ?>) res.get("params"));
+            boolean vazao = "thrpt".equals(res.get("mode"));
+            r.put(benchmark + parametros, new Metrica((Map<?, ?>) res.get("primaryMetric"), vazao));
+            Map<?, ?> secundarias = (Map<?, ?>) res.get("secondaryMetrics");
+            if (secundarias == null) continue;
+            for (Map.Entry<?, ?> s : secundarias.entrySet()) {
+                r.put(benchmark + ":" + s.getKey() + parametros, new Metrica((Map<?, ?>) s.getValue(), false));
+            }
+        }
+        return r;
+    }
+
+    private static String parametros(Map<?, ?> params) {
+        if (params == null) return "";
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<?, ?> p : new TreeMap<>(params).entrySet()) {
+            sb.append(' ').append(p.getKey()).append('=').append(p.getValue());
+        }
+        return sb.toString();
+    }
+
+    /** O JMH grava NaN/Infinity como texto entre aspas. */
+    private static double numero(Object v) {
+        return (v instanceof Double) ? (Double) v : Double.parseDouble(String.valueOf(v));
+    }
+
+    /**
+     * Leitor JSON mínimo, suficiente para a saída do JMH: objetos viram
+     * LinkedHashMap, listas ArrayList, números Double; true/false/null.
+     */
+    private static final class LeitorJson {
+        private final String s;
+        private int i;
+
+        LeitorJson(String s) {
+            this.s = s;
+        }
+
+        Object documento() throws IOException {
+            Object v = valor();
+            espacos();
+            if (i != s.length()) throw erro("conteúdo após o fim do documento");
+            return v;
+        }
+
+        private Object valor() throws IOException {
+            espacos();
+            if (i >= s.length()) throw erro("fim inesperado");
+            char c = s.charAt(i);
+            if (c == '{') return objeto();
+            if (c == '[') return lista();
+            if (c == '"') return texto();
+            if (s.startsWith("true", i)) { i += 4; return Boolean.TRUE; }
+            if (s.startsWith("false", i)) { i += 5; return Boolean.FALSE; }
+            if (s.startsWith("null", i)) { i += 4; return null; }
+            return numeroJson();
+        }
+
+        private Map<String, Object> objeto() throws IOException {
+            Map<String, Object> m = new LinkedHashMap<>();
+            i++; // {
+            espacos();
+            if (consumir('}')) return m;
+            do {
+                espacos();
+                if (i >= s.length() || s.charAt(i) != '"') throw erro("esperava nome de campo");
+                String nome = texto();
+                espacos();
+                if (!consumir(':')) throw erro("esperava ':'");
+                m.put(nome, valor());
+                espacos();
+            } while (consumir(','));
+            if (!consumir('}')) throw erro("esperava '}'");
+            return m;
+        }
+
+        private List<Object> lista() throws IOException {
+            List<Object> l = new ArrayList<>();
+            i++; // [
+            espacos();
+            if (consumir(']')) return l;
+            do {
+                l.add(valor());
+                espacos();
+            } while (consumir(','));
+            if (!consumir(']')) throw erro("esperava ']'");
+            return l;
+        }
+
+        private String texto() throws IOException {
+            StringBuilder sb = new StringBuilder();
+            i++; // "
+            while (i < s.length()) {
+                char c = s.charAt(i++);
+                if (c == '"') return sb.toString();
+                if (c != '\\') { sb.append(c); continue; }
+                if (i >= s.length()) break;
+                char esc = s.charAt(i++);
+                switch (esc) {
+                    case 'n': sb.append('\n'); break;
+                    case 't': sb.append('\t'); break;
+                    case 'r': sb.append('\r'); break;
+                    case 'b': sb.append('\b'); break;
+                    case 'f': sb.append('\f'); break;
+                    case 'u':
+                        if (i + 4 > s.length()) throw erro("escape \\u incompleto");
+                        sb.append((char) Integer.parseInt(s.substring(i, i + 4), 16));
+                        i += 4;
+                        break;
+                    default: sb.append(esc); // " \ /
+                }
+            }
+            throw erro("texto sem aspas de fechamento");
+        }
+
+        private Double numeroJson() throws IOException {
+            int inicio = i;
+            while (i < s.length() && "+-0123456789.eE".indexOf(s.charAt(i)) >= 0) i++;
+            if (inicio == i) throw erro("valor inesperado");
+            return Double.valueOf(s.substring(inicio, i));
+        }
+
+        private boolean consumir(char c) {
+            if (i < s.length() && s.charAt(i) == c) {
+                i++;
+                return true;
+            }
+            return false;
+        }
+
+        private void espacos() {
+            while (i < s.length() && Character.isWhitespace(s.charAt(i))) i++;
+        }
+
+        private IOException erro(String motivo) {
+            return new IOException("JSON inválido na posição " + i + ": " + motivo);
+        }
+    }
+}
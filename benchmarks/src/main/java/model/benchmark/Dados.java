@@ -0,0 +1,74 @@
+package model.benchmark;
+
+import model.dominio.ComentarioTarefa;
+import model.dominio.Projeto;
+import model.dominio.RegistroEsforco;
+import model.dominio.Tarefa;
+import model.dominio.Usuario;
+import model.enums.Perfil;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/** Massa de dados determinística (semente fixa) para os benchmarks. */
+final class Dados {
+
+    static final LocalDate INICIO = LocalDate.of(2024, 1, 1);
+    static final String[] CPFS = {"529.982.247-25", "111.444.777-35", "123.456.789-09"};
+    static final String[] EMAILS = {"maria.silva@empresa.com.br", "Joao@X.COM", "dev+tag@sub.dominio.org"};
+
+    private Dados() {}
+
+    static Usuario gerente() {
+        return Usuario.criar("Gerente", CPFS[0], EMAILS[0], "Gerente", "gerente", "gerente123", Perfil.GERENTE);
+    }
+
+    static Projeto projeto(Usuario gerente) {
+        return Projeto.criar("Projeto", "benchmark", INICIO, INICIO.plusYears(1), gerente, null);
+    }
+
+    static List<Usuario> usuarios(int n) {
+        List<Usuario> r = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            r.add(Usuario.criar("Usuario " + i, CPFS[i % CPFS.length], "u" + i + "@empresa.com",
+                    "Dev", "usuario" + i, "senha1234", Perfil.COLABORADOR));
+        }
+        return r;
+    }
+
+    static List<Tarefa> tarefas(Projeto projeto, int n) {
+        List<Tarefa> r = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            r.add(Tarefa.criar(projeto, "Tarefa " + i, "", null, null, INICIO, INICIO.plusDays(30), 8));
+        }
+        return r;
+    }
+
+    /** 'n' lançamentos distribuídos entre os usuários e tarefas informados. */
+    static List<RegistroEsforco> registros(int n, List<Usuario> usuarios, List<Tarefa> tarefas) {
+        SplittableRandom rnd = new SplittableRandom(42);
+        List<RegistroEsforco> r = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            r.add(RegistroEsforco.criar(tarefas.get(rnd.nextInt(tarefas.size())),
+                    usuarios.get(rnd.nextInt(usuarios.size())),
+                    INICIO.plusDays(rnd.nextInt(30)), 1 + rnd.nextInt(8), null));
+        }
+        return r;
+    }
+
+    /** 'n' comentários com datas embaralhadas (ultimosN não pode contar com a ordem de inserção). */
+    static List<ComentarioTarefa> comentarios(int n, List<Usuario> usuarios, List<Tarefa> tarefas) {
+        SplittableRandom rnd = new SplittableRandom(7);
+        LocalDateTime base = INICIO.atStartOfDay();
+        List<ComentarioTarefa> r = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            r.add(ComentarioTarefa.criar(tarefas.get(rnd.nextInt(tarefas.size())),
+                    usuarios.get(rnd.nextInt(usuarios.size())),
+                    base.plusSeconds(rnd.nextInt(Integer.MAX_VALUE)), "comentario " + i));
+        }
+        return r;
+    }
+}
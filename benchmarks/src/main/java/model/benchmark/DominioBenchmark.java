@@ -0,0 +1,51 @@
+package model.benchmark;
+
+import model.dominio.Projeto;
+import model.dominio.Tarefa;
+import model.dominio.Usuario;
+import model.vo.CPF;
+import model.vo.Email;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/** Operações unitárias do domínio (custo por chamada). */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class DominioBenchmark {
+
+    private Usuario usuario;
+    private Projeto projeto;
+    private int i;
+
+    @Setup
+    public void preparar() {
+        usuario = Dados.gerente();
+        projeto = Dados.projeto(usuario);
+    }
+
+    @Benchmark
+    public Tarefa tarefaCriar() {
+        return Tarefa.criar(projeto, "Tarefa", "descrição", usuario, null,
+                Dados.INICIO, Dados.INICIO.plusDays(10), 8);
+    }
+
+    @Benchmark
+    public boolean usuarioVerificarSenha() {
+        return usuario.verificarSenha("gerente123");
+    }
+
+    @Benchmark
+    public CPF cpfOf() {
+        return CPF.of(Dados.CPFS[i++ % Dados.CPFS.length]);
+    }
+
+    @Benchmark
+    public Email emailOf() {
+        return Email.of(Dados.EMAILS[i++ % Dados.EMAILS.length]);
+    }
+}
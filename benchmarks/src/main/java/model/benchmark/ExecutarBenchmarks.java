@@ -0,0 +1,33 @@
+package model.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Roda os benchmarks com o GCProfiler (alocação por operação: gc.alloc.rate.norm)
+ * e grava o resultado em JSON (o mesmo de -rf json), lido por CompararResultados.
+ *
+ * Uso: java -cp benchmarks/target/benchmarks.jar model.benchmark.ExecutarBenchmarks
+ *          [arquivo.json] [regex de benchmarks] [tamanhos separados por vírgula]
+ */
+public final class ExecutarBenchmarks {
+
+    private ExecutarBenchmarks() {}
+
+    public static void main(String[] args) throws RunnerException {
+        String saida = (args.length > 0) ? args[0] : "benchmarks/target/resultado.json";
+        String filtro = (args.length > 1) ? args[1] : "model\\.benchmark\\..*";
+        OptionsBuilder opcoes = new OptionsBuilder();
+        opcoes.include(filtro)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(saida);
+        if (args.length > 2) opcoes.param("tamanho", args[2].split(","));
+        Options o = opcoes.build();
+        new Runner(o).run();
+    }
+}
@@ -0,0 +1,61 @@
+package model.benchmark;
+
+import model.gerador.DestinoGeracao;
+import model.gerador.GeradorPortfolio;
+import model.persistencia.Catalogo;
+import model.persistencia.GerenciadorSnapshots;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Reinício a partir de um snapshot (sem cauda de log): cada medição abre o
+ * diretório e recupera o catálogo inteiro. Meta: 1M tarefas em menos de 2 s.
+ * O fork sobe com heap já dimensionado para a massa, como num servidor.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class RecuperacaoBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int tamanho;
+
+    private Path diretorio;
+
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        diretorio = Files.createTempDirectory("recuperacao-");
+        try (GerenciadorSnapshots gs = GerenciadorSnapshots.abrir(diretorio)) {
+            gs.recuperar();
+            GeradorPortfolio.criar(42)
+                    .comUsuarios(tamanho / 50).comEquipes(tamanho / 500)
+                    .comProjetos(tamanho / 100).comTarefasPorProjeto(100)
+                    .comRegistrosEsforco(0).comComentarios(0)
+                    .gerar(DestinoGeracao.para(gs));
+            gs.snapshot();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void limpar() throws IOException {
+        try (Stream<Path> arquivos = Files.walk(diretorio)) {
+            for (Path p : (Iterable<Path>) arquivos.sorted(Comparator.reverseOrder())::iterator) Files.delete(p);
+        }
+    }
+
+    @Benchmark
+    public Catalogo recuperar() throws IOException {
+        try (GerenciadorSnapshots gs = GerenciadorSnapshots.abrir(diretorio)) {
+            return gs.recuperar();
+        }
+    }
+}
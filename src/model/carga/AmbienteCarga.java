@@ -0,0 +1,247 @@
+package model.carga;
+
+import model.concorrencia.TravasPorProjeto;
+import model.dominio.AlocacaoEquipeProjeto;
+import model.dominio.Projeto;
+import model.dominio.RegistroEsforco;
+import model.dominio.Tarefa;
+import model.dominio.Usuario;
+import model.enums.Perfil;
+import model.enums.PrioridadeTarefa;
+import model.enums.ResultadoTransicao;
+import model.enums.StatusTarefa;
+import model.gerador.Portfolio;
+import model.relatorio.PainelProgresso;
+import model.servico.ServicoAutenticacao;
+import model.servico.Sessao;
+import model.util.AgregadorEsforco;
+import model.vo.Identificador;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sistema sob teste de carga: a camada de serviço montada sobre um
+ * Portfolio (tipicamente do GeradorPortfolio), com as mesmas peças
+ * thread-safe usadas em produção:
+ *  - ServicoAutenticacao: cada operação valida o token da sessão e o perfil;
+ *  - Tarefa: status e esforço por CAS, sem travas;
+ *  - TravasPorProjeto: criação/replanejamento de tarefas e lançamentos de
+ *    esforço são exclusivos por projeto; relatórios de esforço leem de forma
+ *    otimista;
+ *  - PainelProgresso: contadores de progresso atualizados pelos observadores.
+ *
+ * executar devolve true se a operação teve efeito e false se foi recusada
+ * pelas regras do domínio (ex.: transição disputada por outra thread, ou
+ * colaborador sem tarefa aberta); sessão inválida ou perfil sem permissão
+ * lançam IllegalStateException. A mudança de status não conclui tarefas
+ * (só alterna entre os status ativos): numa carga sem pausa, concluir
+ * esgotaria em segundos as tarefas de cada colaborador e a medição passaria
+ * a ser de recusas.
+ * Thread-safe.
+ */
+public final class AmbienteCarga {
+
+    private static final int TENTATIVAS = 8;
+
+    private final ServicoAutenticacao autenticacao;
+    private final TravasPorProjeto travas = TravasPorProjeto.criar();
+    private final PainelProgresso painel = new PainelProgresso();
+    private final Clock relogio;
+
+    private final List<Projeto> projetos;
+    private final Map<Identificador, List<Projeto>> projetosPorGerente = new HashMap<>();
+    private final Map<Identificador, List<Usuario>> membrosPorProjeto = new HashMap<>(); // colaboradores
+    // protegidos pela trava do projeto
+    private final Map<Identificador, List<Tarefa>> tarefasPorProjeto = new HashMap<>();
+    private final Map<Identificador, List<RegistroEsforco>> esforcoPorProjeto = new HashMap<>();
+    // listas sincronizadas: o dono mexe, o gerente acrescenta
+    private final Map<Identificador, List<Tarefa>> abertasPorResponsavel = new ConcurrentHashMap<>();
+
+    private final EnumMap<Perfil, List<Usuario>> elegiveis = new EnumMap<>(Perfil.class);
+
+    private AmbienteCarga(Portfolio portfolio, Clock relogio) {
+        this.relogio = relogio;
+        this.autenticacao = ServicoAutenticacao.criar(Duration.ofDays(1), relogio);
+        this.projetos = new ArrayList<>(portfolio.getProjetos());
+
+        for (Usuario u : portfolio.getUsuarios()) autenticacao.registrar(u);
+        for (Projeto p : projetos) {
+            projetosPorGerente.computeIfAbsent(p.getGerenteResponsavel().getIdentificador(), k -> new ArrayList<>()).add(p);
+            tarefasPorProjeto.put(p.getIdentificador(), new ArrayList<>());
+            esforcoPorProjeto.put(p.getIdentificador(), new ArrayList<>());
+        }
+        for (AlocacaoEquipeProjeto a : portfolio.getAlocacoes()) {
+            List<Usuario> membros = membrosPorProjeto.computeIfAbsent(a.getProjeto().getIdentificador(), k -> new ArrayList<>());
+            for (Usuario u : a.getEquipe().getMembros()) {
+                if (u.getPerfil() == Perfil.COLABORADOR && !membros.contains(u)) membros.add(u);
+            }
+        }
+        for (Tarefa t : portfolio.getTarefas()) {
+            tarefasPorProjeto.get(t.getProjeto().getIdentificador()).add(t);
+            painel.registrar(t);
+            if (t.getResponsavel() != null && t.getStatus().isAtiva()) abertas(t.getResponsavel()).add(t);
+        }
+
+        // quem tem o que fazer: colaboradores com tarefas abertas, gerentes com projetos
+        for (Perfil p : Perfil.values()) elegiveis.put(p, new ArrayList<>());
+        for (Usuario u : portfolio.getUsuarios()) {
+            boolean temTrabalho;
+            switch (u.getPerfil()) {
+                case COLABORADOR: temTrabalho = abertasPorResponsavel.containsKey(u.getIdentificador()); break;
+                case GERENTE: temTrabalho = projetosPorGerente.containsKey(u.getIdentificador()); break;
+                default: temTrabalho = !projetos.isEmpty();
+            }
+            if (temTrabalho) elegiveis.get(u.getPerfil()).add(u);
+        }
+    }
+
+    public static AmbienteCarga criar(Portfolio portfolio) {
+        return criar(portfolio, Clock.systemDefaultZone());
+    }
+
+    public static AmbienteCarga criar(Portfolio portfolio, Clock relogio) {
+        Objects.requireNonNull(portfolio, "portfolio não pode ser nulo");
+        Objects.requireNonNull(relogio, "relogio não pode ser nulo");
+        return new AmbienteCarga(portfolio, relogio);
+    }
+
+    /** Usuários do perfil que têm trabalho para simular (podem virar usuários virtuais). */
+    public List<Usuario> elegiveis(Perfil perfil) {
+        return Collections.unmodifiableList(elegiveis.get(perfil));
+    }
+
+    /** Abre uma sessão para o usuário virtual. */
+    public Sessao entrar(Usuario usuario, String senhaClara) {
+        return autenticacao.autenticar(usuario.getLogin(), senhaClara)
+                .orElseThrow(() -> new IllegalStateException("Falha ao autenticar " + usuario.getLogin()));
+    }
+
+    public PainelProgresso getPainel() { return painel; }
+
+    // ----------------- Operações -----------------
+
+    public boolean executar(OperacaoCarga operacao, String token, SplittableRandom r) {
+        Usuario u = autenticacao.validar(token)
+                .orElseThrow(() -> new IllegalStateException("Sessão inválida ou expirada."));
+        if (!operacao.permitidaPara(u.getPerfil())) {
+            throw new IllegalStateException(u.getPerfil() + " não pode executar " + operacao);
+        }
+        switch (operacao) {
+            case ALTERAR_STATUS: return alterarStatus(u, r);
+            case REGISTRAR_ESFORCO: return registrarEsforco(u, r);
+            case CRIAR_TAREFA: return criarTarefa(u, r);
+            case REPLANEJAR: return replanejar(u, r);
+            case RELATORIO_PROGRESSO: return relatorioProgresso();
+            default: return relatorioEsforco(r);
+        }
+    }
+
+    /** Move uma tarefa própria no ciclo NOVA → EM_ANDAMENTO ⇄ BLOQUEADA. */
+    private boolean alterarStatus(Usuario u, SplittableRandom r) {
+        Tarefa t = tarefaAberta(u, r);
+        if (t == null) return false;
+        StatusTarefa visto = t.getStatus();
+        StatusTarefa destino = (visto == StatusTarefa.EM_ANDAMENTO) ? StatusTarefa.BLOQUEADA : StatusTarefa.EM_ANDAMENTO;
+        return t.tentarTransicionar(visto, destino) == ResultadoTransicao.APLICADA;
+    }
+
+    private boolean registrarEsforco(Usuario u, SplittableRandom r) {
+        Tarefa t = tarefaAberta(u, r);
+        if (t == null) return false;
+        int horas = 1 + r.nextInt(8);
+        return travas.escrever(t.getProjeto(), () -> {
+            try {
+                t.registrarEsforco(horas);
+            } catch (IllegalStateException e) {
+                return false; // finalizada (status muda por CAS, fora da trava)
+            }
+            esforcoPorProjeto.get(t.getProjeto().getIdentificador())
+                    .add(RegistroEsforco.criar(t, u, hoje(t), horas, ""));
+            return true;
+        });
+    }
+
+    private boolean criarTarefa(Usuario u, SplittableRandom r) {
+        Projeto p = projetoDe(u, r);
+        List<Usuario> membros = membrosPorProjeto.getOrDefault(p.getIdentificador(), Collections.emptyList());
+        Usuario responsavel = membros.isEmpty() ? null : membros.get(r.nextInt(membros.size()));
+        LocalDate inicio = LocalDate.now(relogio);
+        Tarefa t = Tarefa.criar(p, "Tarefa de carga", "Criada pelo teste de carga", responsavel,
+                PrioridadeTarefa.values()[r.nextInt(PrioridadeTarefa.values().length)],
+                inicio, inicio.plusDays(1 + r.nextInt(30)), 1 + r.nextInt(40));
+        travas.escrever(p, () -> {
+            tarefasPorProjeto.get(p.getIdentificador()).add(t);
+            painel.registrar(t);
+        });
+        if (responsavel != null) abertas(responsavel).add(t);
+        return true;
+    }
+
+    private boolean replanejar(Usuario u, SplittableRandom r) {
+        Projeto p = projetoDe(u, r);
+        return travas.escrever(p, () -> {
+            List<Tarefa> tarefas = tarefasPorProjeto.get(p.getIdentificador());
+            if (tarefas.isEmpty()) return false;
+            Tarefa t = tarefas.get(r.nextInt(tarefas.size()));
+            if (t.getStatus().isFinalizada()) return false;
+            t.replanejar(t.getDataInicio(), t.getDataTerminoPrevista().plusDays(1 + r.nextInt(7)));
+            return true;
+        });
+    }
+
+    /** Percentual concluído médio da carteira inteira (O(projetos), leitura sem trava). */
+    private boolean relatorioProgresso() {
+        double soma = 0;
+        for (Projeto p : projetos) soma += painel.percentualConcluido(p.getIdentificador());
+        return soma >= 0;
+    }
+
+    /** Horas por usuário de um projeto, agregadas sob leitura otimista. */
+    private boolean relatorioEsforco(SplittableRandom r) {
+        Projeto p = projetos.get(r.nextInt(projetos.size()));
+        List<RegistroEsforco> registros = esforcoPorProjeto.get(p.getIdentificador());
+        Map<Usuario, Integer> porUsuario = travas.ler(p,
+                () -> AgregadorEsforco.agregar(registros, null, null).horasPorUsuario());
+        return porUsuario != null;
+    }
+
+    // ----------------- Apoio -----------------
+
+    private List<Tarefa> abertas(Usuario u) {
+        return abertasPorResponsavel.computeIfAbsent(u.getIdentificador(),
+                k -> Collections.synchronizedList(new ArrayList<>()));
+    }
+
+    /** Sorteia uma tarefa aberta do usuário, descartando as que já foram finalizadas. */
+    private Tarefa tarefaAberta(Usuario u, SplittableRandom r) {
+        List<Tarefa> lista = abertasPorResponsavel.get(u.getIdentificador());
+        if (lista == null) return null;
+        synchronized (lista) {
+            for (int i = 0; i < TENTATIVAS && !lista.isEmpty(); i++) {
+                int k = r.nextInt(lista.size());
+                Tarefa t = lista.get(k);
+                if (!t.getStatus().isFinalizada()) return t;
+                // remoção O(1): troca com o último
+                lista.set(k, lista.get(lista.size() - 1));
+                lista.remove(lista.size() - 1);
+            }
+        }
+        return null;
+    }
+
+    private Projeto projetoDe(Usuario u, SplittableRandom r) {
+        List<Projeto> meus = projetosPorGerente.get(u.getIdentificador());
+        if (meus == null) meus = projetos; // administrador
+        return meus.get(r.nextInt(meus.size()));
+    }
+
+    /** Hoje, sem cair antes do início da tarefa (datas geradas podem estar no futuro). */
+    private LocalDate hoje(Tarefa t) {
+        LocalDate d = LocalDate.now(relogio);
+        return d.isBefore(t.getDataInicio()) ? t.getDataInicio() : d;
+    }
+}
@@ -0,0 +1,95 @@
+package model.carga;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histograma de latências (nanossegundos) em baldes log-lineares, no
+ * estilo HdrHistogram: valores abaixo de 64 ns têm balde próprio; acima,
+ * cada potência de 2 é dividida em 32 baldes, então o percentil devolvido
+ * erra no máximo ~3% para cima. Cobre até 2^40 ns (~18 min); valores
+ * maiores caem no último balde. Memória fixa (~9 KB), independente do
+ * número de amostras.
+ *
+ * Thread-safe: registrar é um incremento atômico no balde, sem travas.
+ */
+public final class HistogramaLatencia {
+
+    private static final int SUB = 32;
+    private static final int EXPOENTE_MAXIMO = 40;
+    private static final int BALDES = 2 * SUB + (EXPOENTE_MAXIMO - 5) * SUB;
+
+    private final AtomicLongArray contagens = new AtomicLongArray(BALDES);
+    private final AtomicLong soma = new AtomicLong();
+    private final AtomicLong maximo = new AtomicLong();
+
+    public void registrar(long nanos) {
+        if (nanos < 0) nanos = 0;
+        contagens.incrementAndGet(balde(nanos));
+        soma.addAndGet(nanos);
+        long m;
+        while (nanos > (m = maximo.get()) && !maximo.compareAndSet(m, nanos)) { /* tenta de novo */ }
+    }
+
+    /** Acrescenta as amostras de outro histograma a este. */
+    public void somar(HistogramaLatencia outro) {
+        for (int i = 0; i < BALDES; i++) {
+            long c = outro.contagens.get(i);
+            if (c != 0) contagens.addAndGet(i, c);
+        }
+        soma.addAndGet(outro.soma.get());
+        long m, o = outro.maximo.get();
+        while (o > (m = maximo.get()) && !maximo.compareAndSet(m, o)) { /* tenta de novo */ }
+    }
+
+    public long quantidade() {
+        long n = 0;
+        for (int i = 0; i < BALDES; i++) n += contagens.get(i);
+        return n;
+    }
+
+    public long maximoNanos() { return maximo.get(); }
+
+    public double mediaNanos() {
+        long n = quantidade();
+        return n == 0 ? 0 : soma.get() / (double) n;
+    }
+
+    /**
+     * Menor valor v tal que ao menos 'percentil'% das amostras são <= v
+     * (limite superior do balde; nunca acima do máximo observado).
+     * 0 se não houver amostras.
+     */
+    public long percentilNanos(double percentil) {
+        if (percentil < 0 || percentil > 100) throw new IllegalArgumentException("percentil deve estar entre 0 e 100.");
+        long[] c = new long[BALDES];
+        long n = 0;
+        for (int i = 0; i < BALDES; i++) n += (c[i] = contagens.get(i));
+        if (n == 0) return 0;
+        long alvo = Math.max(1, (long) Math.ceil(n * percentil / 100.0));
+        long acumulado = 0;
+        for (int i = 0; i < BALDES; i++) {
+            acumulado += c[i];
+            if (acumulado >= alvo) return Math.min(limiteSuperior(i), maximo.get());
+        }
+        return maximo.get();
+    }
+
+    // ----------------- Baldes -----------------
+
+    /** < 64: balde = valor; senão, (expoente, 5 bits seguintes ao mais alto). */
+    static int balde(long v) {
+        if (v < 2 * SUB) return (int) v;
+        int e = 63 - Long.numberOfLeadingZeros(v);
+        if (e > EXPOENTE_MAXIMO) return BALDES - 1;
+        int mantissa = (int) (v >>> (e - 5)) - SUB; // 0..31
+        return 2 * SUB + (e - 6) * SUB + mantissa;
+    }
+
+    static long limiteSuperior(int balde) {
+        if (balde < 2 * SUB) return balde;
+        int e = (balde - 2 * SUB) / SUB + 6;
+        long mantissa = (balde - 2 * SUB) % SUB + SUB;
+        return ((mantissa + 1) << (e - 5)) - 1;
+    }
+}
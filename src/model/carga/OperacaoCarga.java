@@ -0,0 +1,40 @@
+package model.carga;
+
+import model.enums.Perfil;
+
+/**
+ * Operações simuladas pelo teste de carga, com o perfil que as executa
+ * (tabela de permissões do README): colaboradores mexem nas próprias
+ * tarefas, gerentes planejam, administradores consultam relatórios.
+ */
+public enum OperacaoCarga {
+    ALTERAR_STATUS("Alterar status", Perfil.COLABORADOR, 40),
+    REGISTRAR_ESFORCO("Registrar esforço", Perfil.COLABORADOR, 40),
+    CRIAR_TAREFA("Criar tarefa", Perfil.GERENTE, 10),
+    REPLANEJAR("Replanejar tarefa", Perfil.GERENTE, 6),
+    RELATORIO_PROGRESSO("Relatório de progresso", Perfil.ADMINISTRADOR, 2),
+    RELATORIO_ESFORCO("Relatório de esforço", Perfil.ADMINISTRADOR, 2);
+
+    private final String rotulo;
+    private final Perfil perfil;
+    private final int pesoPadrao;
+
+    OperacaoCarga(String rotulo, Perfil perfil, int pesoPadrao) {
+        this.rotulo = rotulo;
+        this.perfil = perfil;
+        this.pesoPadrao = pesoPadrao;
+    }
+
+    public String rotulo() { return rotulo; }
+
+    /** Perfil dos usuários virtuais que executam a operação. */
+    public Perfil perfil() { return perfil; }
+
+    /** Peso no mix padrão (relativo às demais operações do mesmo perfil). */
+    public int pesoPadrao() { return pesoPadrao; }
+
+    /** Administrador pode tudo; os demais, só as operações do próprio perfil. */
+    public boolean permitidaPara(Perfil p) {
+        return p == Perfil.ADMINISTRADOR || p == perfil;
+    }
+}
@@ -0,0 +1,123 @@
+package model.carga;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Resultado de um TesteCarga: vazão e latências por operação, medidas só na
+ * janela após o aquecimento.
+ */
+public final class ResultadoCarga {
+
+    private final Duration janela;
+    private final int usuariosVirtuais;
+    private final Map<OperacaoCarga, Estatistica> porOperacao;
+    private final Throwable primeiroErro;
+
+    ResultadoCarga(Duration janela, int usuariosVirtuais,
+                   Map<OperacaoCarga, Estatistica> porOperacao, Throwable primeiroErro) {
+        this.janela = janela;
+        this.usuariosVirtuais = usuariosVirtuais;
+        this.porOperacao = Collections.unmodifiableMap(porOperacao);
+        this.primeiroErro = primeiroErro;
+    }
+
+    public Duration getJanela() { return janela; }
+    public int getUsuariosVirtuais() { return usuariosVirtuais; }
+
+    /** Estatísticas das operações que tiveram peso no mix. */
+    public Map<OperacaoCarga, Estatistica> getPorOperacao() { return porOperacao; }
+
+    public Optional<Estatistica> estatistica(OperacaoCarga operacao) {
+        return Optional.ofNullable(porOperacao.get(operacao));
+    }
+
+    /** Primeira exceção inesperada lançada por uma operação (para diagnóstico). */
+    public Optional<Throwable> getPrimeiroErro() { return Optional.ofNullable(primeiroErro); }
+
+    public long totalOperacoes() {
+        long n = 0;
+        for (Estatistica e : porOperacao.values()) n += e.quantidade;
+        return n;
+    }
+
+    public double vazaoTotalPorSegundo() {
+        return totalOperacoes() / segundos(janela);
+    }
+
+    /** Tabela de texto: uma linha por operação, latências em microssegundos. */
+    public String relatorio() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "%d usuários virtuais, janela de %.1f s, %.0f ops/s%n",
+                usuariosVirtuais, segundos(janela), vazaoTotalPorSegundo()));
+        sb.append(String.format(Locale.ROOT, "%-24s %10s %10s %8s %8s %10s %10s %10s %10s%n",
+                "operação", "qtd", "ops/s", "recus.", "erros", "p50 µs", "p99 µs", "p99.9 µs", "máx µs"));
+        for (Estatistica e : porOperacao.values()) {
+            sb.append(String.format(Locale.ROOT, "%-24s %10d %10.0f %8d %8d %10.1f %10.1f %10.1f %10.1f%n",
+                    e.operacao.rotulo(), e.quantidade, e.vazaoPorSegundo(), e.recusadas, e.erros,
+                    e.p50Nanos / 1e3, e.p99Nanos / 1e3, e.p999Nanos / 1e3, e.maximoNanos / 1e3));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "ResultadoCarga{" +
+                "usuariosVirtuais=" + usuariosVirtuais +
+                ", janela=" + janela +
+                ", operacoes=" + totalOperacoes() +
+                '}';
+    }
+
+    private static double segundos(Duration d) {
+        return Math.max(1e-9, d.toNanos() / 1e9);
+    }
+
+    // ----------------- Por operação -----------------
+
+    /** Fotografia imutável das medições de uma operação. */
+    public static final class Estatistica {
+        private final OperacaoCarga operacao;
+        private final Duration janela;
+        private final long quantidade;
+        private final long recusadas;
+        private final long erros;
+        private final double mediaNanos;
+        private final long p50Nanos;
+        private final long p99Nanos;
+        private final long p999Nanos;
+        private final long maximoNanos;
+
+        Estatistica(OperacaoCarga operacao, Duration janela, HistogramaLatencia h, long recusadas, long erros) {
+            this.operacao = operacao;
+            this.janela = janela;
+            this.quantidade = h.quantidade();
+            this.recusadas = recusadas;
+            this.erros = erros;
+            this.mediaNanos = h.mediaNanos();
+            this.p50Nanos = h.percentilNanos(50);
+            this.p99Nanos = h.percentilNanos(99);
+            this.p999Nanos = h.percentilNanos(99.9);
+            this.maximoNanos = h.maximoNanos();
+        }
+
+        public OperacaoCarga getOperacao() { return operacao; }
+
+        /** Execuções concluídas na janela (com efeito, recusadas ou com erro). */
+        public long getQuantidade() { return quantidade; }
+
+        /** Recusadas pelas regras do domínio (ex.: transição disputada). */
+        public long getRecusadas() { return recusadas; }
+
+        /** Terminaram com exceção inesperada. */
+        public long getErros() { return erros; }
+
+        public double vazaoPorSegundo() { return quantidade / segundos(janela); }
+
+        public double getMediaNanos() { return mediaNanos; }
+        public long getP50Nanos() { return p50Nanos; }
+        public long getP99Nanos() { return p99Nanos; }
+        public long getP999Nanos() { return p999Nanos; }
+        public long getMaximoNanos() { return maximoNanos; }
+    }
+}
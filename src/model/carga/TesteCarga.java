@@ -0,0 +1,266 @@
+package model.carga;
+
+import model.dominio.Usuario;
+import model.enums.Perfil;
+import model.gerador.GeradorPortfolio;
+import model.servico.Sessao;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Teste de carga em malha fechada: cada usuário virtual é uma thread que
+ * autentica uma vez e então repete "sorteia operação do seu perfil pelo
+ * mix → executa → (pausa)" até o fim do tempo. A vazão medida é, portanto,
+ * o teto do sistema para aquele número de usuários simultâneos.
+ *
+ * Por padrão as threads são virtuais quando a JVM oferece (Java 21+,
+ * Thread.ofVirtual) e de plataforma caso contrário; comFabricaThreads troca
+ * a estratégia. Latências vão para um HistogramaLatencia por operação e só
+ * contam depois do aquecimento.
+ *
+ * Exemplo:
+ *   Portfolio p = GeradorPortfolio.criar(42).gerar(new DestinoGeracao() {});
+ *   ResultadoCarga r = TesteCarga.criar(AmbienteCarga.criar(p))
+ *           .comUsuariosVirtuais(Perfil.COLABORADOR, 2000)
+ *           .comPeso(OperacaoCarga.REGISTRAR_ESFORCO, 70)
+ *           .executar();
+ *   System.out.print(r.relatorio());
+ */
+public final class TesteCarga {
+
+    private final AmbienteCarga ambiente;
+    private final EnumMap<Perfil, Integer> virtuais = new EnumMap<>(Perfil.class);
+    private final EnumMap<OperacaoCarga, Integer> pesos = new EnumMap<>(OperacaoCarga.class);
+    private Duration duracao = Duration.ofSeconds(30);
+    private Duration aquecimento = Duration.ofSeconds(5);
+    private Duration pausa = Duration.ZERO;
+    private String senha = GeradorPortfolio.SENHA_PADRAO;
+    private long semente = 1;
+    private ThreadFactory fabrica = fabricaPadrao();
+
+    private TesteCarga(AmbienteCarga ambiente) {
+        this.ambiente = ambiente;
+        virtuais.put(Perfil.COLABORADOR, 1_000);
+        virtuais.put(Perfil.GERENTE, 50);
+        virtuais.put(Perfil.ADMINISTRADOR, 5);
+        for (OperacaoCarga op : OperacaoCarga.values()) pesos.put(op, op.pesoPadrao());
+    }
+
+    public static TesteCarga criar(AmbienteCarga ambiente) {
+        return new TesteCarga(Objects.requireNonNull(ambiente, "ambiente não pode ser nulo"));
+    }
+
+    /**
+     * Threads virtuais se a JVM tiver Thread.ofVirtual (Java 21+), obtidas por
+     * reflexão para o código continuar compilando em Java 17; senão, threads
+     * de plataforma daemon.
+     */
+    public static ThreadFactory fabricaPadrao() {
+        try {
+            Object construtor = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(construtor);
+        } catch (ReflectiveOperationException e) {
+            return r -> {
+                Thread t = new Thread(r, "carga-usuario-virtual");
+                t.setDaemon(true);
+                return t;
+            };
+        }
+    }
+
+    // ----------------- Configuração -----------------
+
+    /** Quantos usuários virtuais do perfil (distribuídos entre os usuários elegíveis do ambiente). */
+    public TesteCarga comUsuariosVirtuais(Perfil perfil, int quantidade) {
+        Objects.requireNonNull(perfil, "perfil não pode ser nulo");
+        if (quantidade < 0) throw new IllegalArgumentException("quantidade deve ser >= 0.");
+        virtuais.put(perfil, quantidade);
+        return this;
+    }
+
+    /** Peso da operação no sorteio entre as operações do mesmo perfil (0 desliga). */
+    public TesteCarga comPeso(OperacaoCarga operacao, int peso) {
+        Objects.requireNonNull(operacao, "operacao não pode ser nula");
+        if (peso < 0) throw new IllegalArgumentException("peso deve ser >= 0.");
+        pesos.put(operacao, peso);
+        return this;
+    }
+
+    public TesteCarga comDuracao(Duration duracao) {
+        this.duracao = positiva(duracao, "duracao");
+        return this;
+    }
+
+    public TesteCarga comAquecimento(Duration aquecimento) {
+        Objects.requireNonNull(aquecimento, "aquecimento não pode ser nulo");
+        if (aquecimento.isNegative()) throw new IllegalArgumentException("aquecimento deve ser >= 0.");
+        this.aquecimento = aquecimento;
+        return this;
+    }
+
+    /** Tempo de "pensar" entre operações de um mesmo usuário virtual (padrão: zero). */
+    public TesteCarga comPausa(Duration pausa) {
+        Objects.requireNonNull(pausa, "pausa não pode ser nula");
+        if (pausa.isNegative()) throw new IllegalArgumentException("pausa deve ser >= 0.");
+        this.pausa = pausa;
+        return this;
+    }
+
+    /** Senha dos usuários do ambiente (padrão: a do GeradorPortfolio). */
+    public TesteCarga comSenha(String senha) {
+        this.senha = Objects.requireNonNull(senha, "senha não pode ser nula");
+        return this;
+    }
+
+    public TesteCarga comSemente(long semente) {
+        this.semente = semente;
+        return this;
+    }
+
+    public TesteCarga comFabricaThreads(ThreadFactory fabrica) {
+        this.fabrica = Objects.requireNonNull(fabrica, "fabrica não pode ser nula");
+        return this;
+    }
+
+    // ----------------- Execução -----------------
+
+    /** Roda o teste (bloqueia por aquecimento + duração) e devolve as medições. */
+    public ResultadoCarga executar() throws InterruptedException {
+        List<UsuarioVirtual> usuarios = montarUsuarios();
+        EnumMap<OperacaoCarga, HistogramaLatencia> latencias = new EnumMap<>(OperacaoCarga.class);
+        EnumMap<OperacaoCarga, LongAdder> recusadas = new EnumMap<>(OperacaoCarga.class);
+        EnumMap<OperacaoCarga, LongAdder> erros = new EnumMap<>(OperacaoCarga.class);
+        for (OperacaoCarga op : OperacaoCarga.values()) {
+            if (pesos.get(op) == 0 || virtuais.get(op.perfil()) == 0) continue;
+            latencias.put(op, new HistogramaLatencia());
+            recusadas.put(op, new LongAdder());
+            erros.put(op, new LongAdder());
+        }
+
+        AtomicReference<Throwable> primeiroErro = new AtomicReference<>();
+        CountDownLatch prontos = new CountDownLatch(usuarios.size());
+        CountDownLatch largada = new CountDownLatch(1);
+        long[] marcos = new long[2]; // início da medição, fim; publicados pela largada
+        List<Thread> threads = new ArrayList<>(usuarios.size());
+
+        for (UsuarioVirtual uv : usuarios) {
+            Thread t = fabrica.newThread(() -> {
+                Sessao sessao;
+                try {
+                    sessao = ambiente.entrar(uv.usuario, senha);
+                } catch (RuntimeException e) {
+                    primeiroErro.compareAndSet(null, e);
+                    return;
+                } finally {
+                    prontos.countDown();
+                }
+                try {
+                    largada.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                long medirDe = marcos[0], ate = marcos[1];
+                long pausaNanos = pausa.toNanos();
+                for (long agora = System.nanoTime(); agora < ate; agora = System.nanoTime()) {
+                    OperacaoCarga op = uv.sortear();
+                    int desfecho;
+                    try {
+                        desfecho = ambiente.executar(op, sessao.getToken(), uv.aleatorio) ? 0 : 1;
+                    } catch (RuntimeException e) {
+                        primeiroErro.compareAndSet(null, e);
+                        desfecho = 2;
+                    }
+                    long fim = System.nanoTime();
+                    if (agora >= medirDe) {
+                        latencias.get(op).registrar(fim - agora);
+                        if (desfecho == 1) recusadas.get(op).increment();
+                        else if (desfecho == 2) erros.get(op).increment();
+                    }
+                    if (pausaNanos > 0) {
+                        try {
+                            Thread.sleep(pausaNanos / 1_000_000, (int) (pausaNanos % 1_000_000));
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                    }
+                }
+            });
+            threads.add(t);
+            t.start();
+        }
+
+        prontos.await();
+        marcos[0] = System.nanoTime() + aquecimento.toNanos();
+        marcos[1] = marcos[0] + duracao.toNanos();
+        largada.countDown();
+        for (Thread t : threads) t.join();
+
+        Map<OperacaoCarga, ResultadoCarga.Estatistica> porOperacao = new EnumMap<>(OperacaoCarga.class);
+        for (Map.Entry<OperacaoCarga, HistogramaLatencia> e : latencias.entrySet()) {
+            OperacaoCarga op = e.getKey();
+            porOperacao.put(op, new ResultadoCarga.Estatistica(op, duracao, e.getValue(),
+                    recusadas.get(op).sum(), erros.get(op).sum()));
+        }
+        return new ResultadoCarga(duracao, usuarios.size(), porOperacao, primeiroErro.get());
+    }
+
+    private List<UsuarioVirtual> montarUsuarios() {
+        List<UsuarioVirtual> r = new ArrayList<>();
+        SplittableRandom raiz = new SplittableRandom(semente);
+        for (Perfil perfil : Perfil.values()) {
+            int n = virtuais.get(perfil);
+            if (n == 0) continue;
+            List<OperacaoCarga> ops = new ArrayList<>();
+            for (OperacaoCarga op : OperacaoCarga.values()) {
+                if (op.perfil() == perfil && pesos.get(op) > 0) ops.add(op);
+            }
+            if (ops.isEmpty()) continue;
+            List<Usuario> elegiveis = ambiente.elegiveis(perfil);
+            if (elegiveis.isEmpty()) {
+                throw new IllegalArgumentException("Nenhum usuário " + perfil + " com trabalho no ambiente.");
+            }
+            int[] acumulado = new int[ops.size()];
+            int soma = 0;
+            for (int i = 0; i < ops.size(); i++) acumulado[i] = (soma += pesos.get(ops.get(i)));
+            OperacaoCarga[] vetor = ops.toArray(new OperacaoCarga[0]);
+            for (int i = 0; i < n; i++) {
+                r.add(new UsuarioVirtual(elegiveis.get(i % elegiveis.size()), vetor, acumulado, raiz.split()));
+            }
+        }
+        if (r.isEmpty()) throw new IllegalArgumentException("Nenhum usuário virtual com operações no mix.");
+        return r;
+    }
+
+    private static Duration positiva(Duration d, String campo) {
+        Objects.requireNonNull(d, campo + " não pode ser nula");
+        if (d.isZero() || d.isNegative()) throw new IllegalArgumentException(campo + " deve ser > 0.");
+        return d;
+    }
+
+    /** Estado de um usuário virtual: quem ele é, o mix do perfil e seu próprio gerador. */
+    private static final class UsuarioVirtual {
+        final Usuario usuario;
+        final OperacaoCarga[] operacoes;
+        final int[] pesoAcumulado;
+        final SplittableRandom aleatorio;
+
+        UsuarioVirtual(Usuario usuario, OperacaoCarga[] operacoes, int[] pesoAcumulado, SplittableRandom aleatorio) {
+            this.usuario = usuario;
+            this.operacoes = operacoes;
+            this.pesoAcumulado = pesoAcumulado;
+            this.aleatorio = aleatorio;
+        }
+
+        OperacaoCarga sortear() {
+            int x = aleatorio.nextInt(pesoAcumulado[pesoAcumulado.length - 1]);
+            int i = 0;
+            while (pesoAcumulado[i] <= x) i++;
+            return operacoes[i];
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package model.concorrencia;
+
+import model.dominio.Projeto;
+import model.vo.Identificador;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+/**
+ * Travas por agregado Projeto (projeto + suas tarefas e alocações),
+ * distribuídas num vetor fixo de StampedLocks indexado pelo id do projeto.
+ *
+ * - escrever(): exclusivo só na listra do projeto; projetos em listras
+ *   diferentes avançam em paralelo.
+ * - ler(): tenta leitura otimista (sem escrever na memória compartilhada)
+ *   e só cai para a trava de leitura se um escritor da mesma listra
+ *   interferiu. Escritores de outros projetos nunca bloqueiam a leitura.
+ * - escreverTodos(): operações que envolvem vários projetos adquirem as
+ *   listras em ordem crescente, sem risco de deadlock entre si.
+ *
+ * StampedLock não é reentrante: a ação não deve pedir de novo a trava de
+ * um projeto da mesma listra (use escreverTodos para vários projetos).
+ */
+public final class TravasPorProjeto {
+
+    private final StampedLock[] listras;
+    private final int mascara;
+
+    private TravasPorProjeto(int quantidade) {
+        this.listras = new StampedLock[quantidade];
+        for (int i = 0; i < quantidade; i++) listras[i] = new StampedLock();
+        this.mascara = quantidade - 1;
+    }
+
+    /** Quantidade padrão: 4 listras por núcleo, no mínimo 64 (potência de 2). */
+    public static TravasPorProjeto criar() {
+        return criar(Math.max(64, 4 * Runtime.getRuntime().availableProcessors()));
+    }
+
+    /** Arredonda 'listras' para a próxima potência de 2. */
+    public static TravasPorProjeto criar(int listras) {
+        if (listras <= 0 || listras > (1 << 16)) {
+            throw new IllegalArgumentException("Quantidade de listras deve estar entre 1 e 65536.");
+        }
+        return new TravasPorProjeto(proximaPotencia(listras));
+    }
+
+    // ----------------- Escrita -----------------
+
+    /** Executa a ação com exclusividade sobre o agregado do projeto. */
+    public <T> T escrever(Projeto projeto, Supplier<T> acao) {
+        Objects.requireNonNull(acao, "acao não pode ser nula");
+        StampedLock trava = listra(projeto);
+        long selo = trava.writeLock();
+        try {
+            return acao.get();
+        } finally {
+            trava.unlockWrite(selo);
+        }
+    }
+
+    public void escrever(Projeto projeto, Runnable acao) {
+        Objects.requireNonNull(acao, "acao não pode ser nula");
+        escrever(projeto, () -> {
+            acao.run();
+            return null;
+        });
+    }
+
+    /** Executa a ação com exclusividade sobre todos os projetos informados. */
+    public <T> T escreverTodos(Collection<Projeto> projetos, Supplier<T> acao) {
+        Objects.requireNonNull(projetos, "projetos não pode ser nulo");
+        Objects.requireNonNull(acao, "acao não pode ser nula");
+        boolean[] usadas = new boolean[listras.length];
+        for (Projeto p : projetos) usadas[indice(p)] = true;
+        long[] selos = new long[listras.length];
+        int adquiridas = 0;
+        try {
+            for (int i = 0; i < listras.length; i++) {
+                if (!usadas[i]) continue;
+                selos[i] = listras[i].writeLock();
+                adquiridas = i + 1;
+            }
+            return acao.get();
+        } finally {
+            for (int i = adquiridas - 1; i >= 0; i--) {
+                if (usadas[i]) listras[i].unlockWrite(selos[i]);
+            }
+        }
+    }
+
+    // ----------------- Leitura -----------------
+
+    /**
+     * Lê o agregado do projeto. A leitura roda primeiro sem trava; se uma
+     * escrita na mesma listra ocorreu no meio, repete sob trava de leitura.
+     * Por isso deve ser pura (sem efeitos colaterais) e tolerar ver estado
+     * intermediário na tentativa otimista (exceções nela são descartadas).
+     */
+    public <T> T ler(Projeto projeto, Supplier<T> leitura) {
+        Objects.requireNonNull(leitura, "leitura não pode ser nula");
+        StampedLock trava = listra(projeto);
+        long selo = trava.tryOptimisticRead();
+        if (selo != 0L) {
+            try {
+                T valor = leitura.get();
+                if (trava.validate(selo)) return valor;
+            } catch (RuntimeException e) {
+                if (trava.validate(selo)) throw e; // erro legítimo, não efeito de escrita concorrente
+            }
+        }
+        selo = trava.readLock();
+        try {
+            return leitura.get();
+        } finally {
+            trava.unlockRead(selo);
+        }
+    }
+
+    public int quantidadeListras() { return listras.length; }
+
+    // ----------------- Internos -----------------
+
+    private StampedLock listra(Projeto projeto) {
+        return listras[indice(projeto)];
+    }
+
+    private int indice(Projeto projeto) {
+        Objects.requireNonNull(projeto, "projeto não pode ser nulo");
+        Identificador id = projeto.getIdentificador();
+        int h = id.hashCode();
+        h ^= (h >>> 16);
+        return h & mascara;
+    }
+
+    private static int proximaPotencia(int n) {
+        return (n <= 1) ? 1 : Integer.highestOneBit(n - 1) << 1;
+    }
+}
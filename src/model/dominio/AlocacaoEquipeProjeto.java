@@ -1,8 +1,9 @@
 package model.dominio;
 
+import model.vo.Identificador;
+
 import java.time.LocalDate;
 import java.util.Objects;
-import java.util.UUID;
 
 /**
  * Liga uma Equipe a um Projeto por um período, com capacidade semanal de horas.
@@ -12,9 +13,9 @@ import java.util.UUID;
  *  - se dataFim != null, então dataFim >= dataInicio
  *  - capacidadeHorasSemana >= 0
  */
-public final class AlocacaoEquipeProjeto {
+public final class AlocacaoEquipeProjeto extends Observavel<ObservadorAlocacao> {
 
-    private final String id; // UUID
+    private final Identificador id; // VO (UUIDv7 em 2 longs)
     private Projeto projeto;
     private Equipe equipe;
 
@@ -24,7 +25,7 @@ public final class AlocacaoEquipeProjeto {
     private int capacidadeHorasSemana; // >= 0
     private String observacoes;
 
-    private AlocacaoEquipeProjeto(String id,
+    private AlocacaoEquipeProjeto(Identificador id,
                                   Projeto projeto,
                                   Equipe equipe,
                                   LocalDate dataInicio,
@@ -52,7 +53,7 @@ public final class AlocacaoEquipeProjeto {
         int cap = capacidadeHorasSemana == null ? 0 : capacidadeHorasSemana;
         validarCapacidade(cap);
 
-        String id = UUID.randomUUID().toString();
+        Identificador id = Identificador.novo();
         return new AlocacaoEquipeProjeto(
                 id,
                 projeto,
@@ -64,37 +65,76 @@ public final class AlocacaoEquipeProjeto {
         );
     }
 
+    /** Reconstrói uma alocação já persistida, aplicando as mesmas validações da fábrica. */
+    public static AlocacaoEquipeProjeto restaurar(String id,
+                                                  Projeto projeto,
+                                                  Equipe equipe,
+                                                  LocalDate dataInicio,
+                                                  LocalDate dataFim,
+                                                  int capacidadeHorasSemana,
+                                                  String observacoes) {
+        if (id == null || id.trim().isEmpty()) throw new IllegalArgumentException("Campo obrigatório não informado: id");
+        return restaurar(Identificador.of(id), projeto, equipe, dataInicio, dataFim, capacidadeHorasSemana,
+                observacoes);
+    }
+
+    /** Idem, com o id já convertido (ex.: lido de um formato binário). */
+    public static AlocacaoEquipeProjeto restaurar(Identificador id,
+                                                  Projeto projeto,
+                                                  Equipe equipe,
+                                                  LocalDate dataInicio,
+                                                  LocalDate dataFim,
+                                                  int capacidadeHorasSemana,
+                                                  String observacoes) {
+        Objects.requireNonNull(id, "id não pode ser nulo");
+        Objects.requireNonNull(projeto, "projeto não pode ser nulo");
+        Objects.requireNonNull(equipe, "equipe não pode ser nula");
+        Objects.requireNonNull(dataInicio, "dataInicio não pode ser nula");
+        validarPeriodo(dataInicio, dataFim);
+        validarCapacidade(capacidadeHorasSemana);
+
+        return new AlocacaoEquipeProjeto(id, projeto, equipe, dataInicio, dataFim,
+                capacidadeHorasSemana, textoOuVazio(observacoes));
+    }
+
     // ----------------- Métodos de domínio -----------------
 
     /** Ajusta o período da alocação (permite dataFim nula). */
     public void ajustarPeriodo(LocalDate novoInicio, LocalDate novoFim) {
         Objects.requireNonNull(novoInicio, "novoInicio não pode ser nulo");
         validarPeriodo(novoInicio, novoFim);
-        this.dataInicio = novoInicio;
-        this.dataFim = novoFim;
+        mudarPeriodo(novoInicio, novoFim);
     }
 
     /** Encerra a alocação definindo a data de fim (>= dataInicio). */
     public void encerrarAlocacao(LocalDate dataFim) {
         Objects.requireNonNull(dataFim, "dataFim não pode ser nula");
         validarPeriodo(this.dataInicio, dataFim);
-        this.dataFim = dataFim;
+        mudarPeriodo(this.dataInicio, dataFim);
     }
 
     /** Reabre a alocação (remove dataFim). */
     public void reabrirAlocacao() {
-        this.dataFim = null;
+        mudarPeriodo(this.dataInicio, null);
     }
 
     /** Altera a capacidade semanal (>= 0). */
     public void alterarCapacidade(int horasSemana) {
         validarCapacidade(horasSemana);
+        int anterior = this.capacidadeHorasSemana;
         this.capacidadeHorasSemana = horasSemana;
+        if (anterior != horasSemana) {
+            notificar(o -> o.capacidadeAlterada(this, anterior));
+            notificarAlteracao();
+        }
     }
 
     /** Atualiza observações (aceita null -> vazio). */
     public void alterarObservacoes(String novasObs) {
+        String anterior = this.observacoes;
         this.observacoes = textoOuVazio(novasObs);
+        if (!anterior.equals(this.observacoes)) notificar(o -> o.observacoesAlteradas(this, anterior));
+        notificarAlteracao();
     }
 
     /** Verifica se a alocação está vigente na data de referência (ou hoje). */
@@ -105,9 +145,50 @@ public final class AlocacaoEquipeProjeto {
         return iniciou && naoTerminou;
     }
 
+    // ----------------- Observadores -----------------
+
+    /** Registra um observador de alterações. Retorna false se já estava registrado. */
+    public boolean adicionarObservador(ObservadorAlocacao observador) {
+        return incluirObservador(observador);
+    }
+
+    /** Remove um observador. Retorna true se removeu. */
+    public boolean removerObservador(ObservadorAlocacao observador) {
+        return excluirObservador(observador);
+    }
+
+    /**
+     * Copia período, capacidade e observações de outra instância com o mesmo id
+     * (recuperação de log/snapshot). Não notifica observadores.
+     */
+    public void sincronizarCom(AlocacaoEquipeProjeto estado) {
+        Objects.requireNonNull(estado, "estado não pode ser nulo");
+        if (!id.equals(estado.id)) throw new IllegalArgumentException("Estado de outra alocação: " + estado.id);
+        this.dataInicio = estado.dataInicio;
+        this.dataFim = estado.dataFim;
+        this.capacidadeHorasSemana = estado.capacidadeHorasSemana;
+        this.observacoes = estado.observacoes;
+    }
+
+    private void mudarPeriodo(LocalDate novoInicio, LocalDate novoFim) {
+        LocalDate inicioAnterior = this.dataInicio;
+        LocalDate fimAnterior = this.dataFim;
+        this.dataInicio = novoInicio;
+        this.dataFim = novoFim;
+        if (!novoInicio.equals(inicioAnterior) || !Objects.equals(novoFim, fimAnterior)) {
+            notificar(o -> o.periodoAlterado(this, inicioAnterior, fimAnterior));
+            notificarAlteracao();
+        }
+    }
+
+    private void notificarAlteracao() {
+        notificar(o -> o.alocacaoAlterada(this));
+    }
+
     // ----------------- Getters -----------------
 
-    public String getId() { return id; }
+    public String getId() { return id.toString(); }
+    public Identificador getIdentificador() { return id; }
     public Projeto getProjeto() { return projeto; }
     public Equipe getEquipe() { return equipe; }
     public LocalDate getDataInicio() { return dataInicio; }
@@ -140,11 +221,11 @@ public final class AlocacaoEquipeProjeto {
         if (this == o) return true;
         if (!(o instanceof AlocacaoEquipeProjeto)) return false;
         AlocacaoEquipeProjeto that = (AlocacaoEquipeProjeto) o;
-        return Objects.equals(id, that.id);
+        return id.equals(that.id);
     }
 
     @Override
-    public int hashCode() { return Objects.hash(id); }
+    public int hashCode() { return id.hashCode(); }
 
     @Override
     public String toString() {
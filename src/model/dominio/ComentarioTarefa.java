@@ -1,8 +1,9 @@
 package model.dominio;
 
+import model.vo.Identificador;
+
 import java.time.LocalDateTime;
 import java.util.Objects;
-import java.util.UUID;
 
 /**
  * Entidade que representa um comentário feito em uma Tarefa.
@@ -14,13 +15,13 @@ import java.util.UUID;
 public final class ComentarioTarefa {
     public static final int TAMANHO_MAX_MENSAGEM = 1000;
 
-    private final String id; // UUID
+    private final Identificador id; // VO (UUIDv7 em 2 longs)
     private final Tarefa tarefa;
     private final Usuario autor;
     private final LocalDateTime dataHora;
     private final String mensagem;
 
-    private ComentarioTarefa(String id, Tarefa tarefa, Usuario autor,
+    private ComentarioTarefa(Identificador id, Tarefa tarefa, Usuario autor,
                              LocalDateTime dataHora, String mensagem) {
         this.id = id;
         this.tarefa = tarefa;
@@ -37,12 +38,30 @@ public final class ComentarioTarefa {
         Objects.requireNonNull(dataHora, "dataHora não pode ser nula");
         validarMensagem(mensagem);
         return new ComentarioTarefa(
-                UUID.randomUUID().toString(),
+                Identificador.novo(),
                 tarefa, autor, dataHora,
                 mensagem.trim()
         );
     }
 
+    /** Reconstrói um comentário já persistido, com as mesmas validações de criar. */
+    public static ComentarioTarefa restaurar(String id, Tarefa tarefa, Usuario autor,
+                                             LocalDateTime dataHora, String mensagem) {
+        if (id == null || id.trim().isEmpty()) throw new IllegalArgumentException("id é obrigatório.");
+        return restaurar(Identificador.of(id), tarefa, autor, dataHora, mensagem);
+    }
+
+    /** Idem, com o id já convertido (ex.: lido de um formato binário). */
+    public static ComentarioTarefa restaurar(Identificador id, Tarefa tarefa, Usuario autor,
+                                             LocalDateTime dataHora, String mensagem) {
+        Objects.requireNonNull(id, "id não pode ser nulo");
+        Objects.requireNonNull(tarefa, "tarefa não pode ser nula");
+        Objects.requireNonNull(autor, "autor não pode ser nulo");
+        Objects.requireNonNull(dataHora, "dataHora não pode ser nula");
+        validarMensagem(mensagem);
+        return new ComentarioTarefa(id, tarefa, autor, dataHora, mensagem.trim());
+    }
+
     private static void validarMensagem(String msg) {
         if (msg == null || msg.trim().isEmpty())
             throw new IllegalArgumentException("mensagem é obrigatória.");
@@ -51,7 +70,8 @@ public final class ComentarioTarefa {
     }
 
     // Getters (imutável)
-    public String getId() { return id; }
+    public String getId() { return id.toString(); }
+    public Identificador getIdentificador() { return id; }
     public Tarefa getTarefa() { return tarefa; }
     public Usuario getAutor() { return autor; }
     public LocalDateTime getDataHora() { return dataHora; }
@@ -62,7 +82,7 @@ public final class ComentarioTarefa {
         if (!(o instanceof ComentarioTarefa)) return false;
         return Objects.equals(id, ((ComentarioTarefa) o).id);
     }
-    @Override public int hashCode() { return Objects.hash(id); }
+    @Override public int hashCode() { return id.hashCode(); }
 
     @Override public String toString() {
         String resumo = mensagem.length() > 40 ? mensagem.substring(0, 40) + "…" : mensagem;
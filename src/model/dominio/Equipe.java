@@ -1,31 +1,52 @@
 package model.dominio;
 
+import model.vo.Identificador;
+
 import java.util.*;
 import java.util.stream.Collectors;
 
 /**
  * Entidade de domínio que representa uma Equipe.
  * Responsável por manter membros e metadados (nome/descrição).
+ * Membros ficam num LinkedHashMap por id de usuário: inclusão, remoção e
+ * consulta de participação são O(1), preservando a ordem de inserção.
  */
-public final class Equipe {
+public final class Equipe extends Observavel<ObservadorEquipe> {
 
-    private final String id;       // UUID
+    private final Identificador id; // VO (UUIDv7 em 2 longs)
     private String nome;
     private String descricao;
-    private final List<Usuario> membros; // mantém ordem de inserção, sem duplicatas
+    private final List<Usuario> membros = new ArrayList<>();             // ordem de inserção
+    private final List<Usuario> visaoMembros = Collections.unmodifiableList(membros);
+    private final Map<Identificador, Usuario> porId = new HashMap<>();   // pertinência O(1), um por id
 
-    private Equipe(String id, String nome, String descricao, List<Usuario> membros) {
+    private Equipe(Identificador id, String nome, String descricao) {
         this.id = id;
         this.nome = nome;
         this.descricao = descricao;
-        this.membros = membros;
     }
 
     /** Fábrica com validações básicas. */
     public static Equipe criar(String nome, String descricao) {
         validarObrigatorio(nome, "nome");
-        String id = UUID.randomUUID().toString();
-        return new Equipe(id, nome.trim(), textoOuVazio(descricao), new ArrayList<>());
+        Identificador id = Identificador.novo();
+        return new Equipe(id, nome.trim(), textoOuVazio(descricao));
+    }
+
+    /** Reconstrói uma equipe já persistida (membros na ordem original, sem duplicatas). */
+    public static Equipe restaurar(String id, String nome, String descricao, List<Usuario> membros) {
+        validarObrigatorio(id, "id");
+        return restaurar(Identificador.of(id), nome, descricao, membros);
+    }
+
+    /** Idem, com o id já convertido (ex.: lido de um formato binário). */
+    public static Equipe restaurar(Identificador id, String nome, String descricao, List<Usuario> membros) {
+        Objects.requireNonNull(id, "id não pode ser nulo");
+        validarObrigatorio(nome, "nome");
+        Objects.requireNonNull(membros, "membros não pode ser nulo");
+        Equipe e = new Equipe(id, nome.trim(), textoOuVazio(descricao));
+        for (Usuario u : membros) e.adicionarMembro(u);
+        return e;
     }
 
     // ----------------- Métodos de domínio -----------------
@@ -33,19 +54,27 @@ public final class Equipe {
     /** Altera o nome da equipe. */
     public void alterarNome(String novoNome) {
         validarObrigatorio(novoNome, "nome");
+        String anterior = this.nome;
         this.nome = novoNome.trim();
+        if (!anterior.equals(this.nome)) notificar(o -> o.textoAlterado(this, anterior, descricao));
+        notificarAlteracao();
     }
 
     /** Altera a descrição. */
     public void alterarDescricao(String novaDescricao) {
+        String anterior = this.descricao;
         this.descricao = textoOuVazio(novaDescricao);
+        if (!anterior.equals(this.descricao)) notificar(o -> o.textoAlterado(this, nome, anterior));
+        notificarAlteracao();
     }
 
-    /** Adiciona um membro se ainda não estiver presente (considera equals/hash de Usuario). */
+    /** Adiciona um membro se ainda não estiver presente (mesmo id de usuário). */
     public void adicionarMembro(Usuario usuario) {
         Objects.requireNonNull(usuario, "usuario não pode ser nulo");
-        if (!membros.contains(usuario)) {
+        if (porId.putIfAbsent(usuario.getIdentificador(), usuario) == null) {
             membros.add(usuario);
+            notificar(o -> o.membroAdicionado(this, usuario));
+            notificarAlteracao();
         } else {
             throw new IllegalStateException("Usuário já é membro da equipe: " + usuario.getLogin());
         }
@@ -54,19 +83,27 @@ public final class Equipe {
     /** Remove um membro (por objeto). Retorna true se removeu. */
     public boolean removerMembro(Usuario usuario) {
         Objects.requireNonNull(usuario, "usuario não pode ser nulo");
-        return membros.remove(usuario);
+        if (!porId.remove(usuario.getIdentificador(), usuario)) return false;
+        membros.remove(usuario);
+        notificarRemocao(usuario);
+        return true;
     }
 
     /** Remove um membro por ID. Retorna true se removeu. */
     public boolean removerMembroPorId(String usuarioId) {
         validarObrigatorio(usuarioId, "usuarioId");
-        return membros.removeIf(u -> usuarioId.equals(u.getId()));
+        Identificador alvo = Identificador.tentar(usuarioId);
+        Usuario removido = (alvo == null) ? null : porId.remove(alvo);
+        if (removido == null) return false;
+        membros.remove(removido);
+        notificarRemocao(removido);
+        return true;
     }
 
     /** Verifica a participação de um usuário. */
     public boolean contemMembro(Usuario usuario) {
         Objects.requireNonNull(usuario, "usuario não pode ser nulo");
-        return membros.contains(usuario);
+        return usuario.equals(porId.get(usuario.getIdentificador()));
     }
 
     /** Quantidade de membros. */
@@ -74,9 +111,9 @@ public final class Equipe {
         return membros.size();
     }
 
-    /** Retorna lista imutável de membros (view de leitura). */
+    /** Retorna lista imutável de membros (view de leitura), na ordem de inclusão. */
     public List<Usuario> getMembros() {
-        return Collections.unmodifiableList(membros);
+        return visaoMembros;
     }
 
     /** Obtém logins dos membros (conveniência para relatórios). */
@@ -84,9 +121,46 @@ public final class Equipe {
         return membros.stream().map(Usuario::getLogin).collect(Collectors.toList());
     }
 
+    // ----------------- Observadores -----------------
+
+    /** Registra um observador de alterações. Retorna false se já estava registrado. */
+    public boolean adicionarObservador(ObservadorEquipe observador) {
+        return incluirObservador(observador);
+    }
+
+    /** Remove um observador. Retorna true se removeu. */
+    public boolean removerObservador(ObservadorEquipe observador) {
+        return excluirObservador(observador);
+    }
+
+    /**
+     * Copia nome, descrição e membros de outra instância com o mesmo id
+     * (recuperação de log/snapshot). Não notifica observadores.
+     */
+    public void sincronizarCom(Equipe estado) {
+        Objects.requireNonNull(estado, "estado não pode ser nulo");
+        if (!id.equals(estado.id)) throw new IllegalArgumentException("Estado de outra equipe: " + estado.id);
+        this.nome = estado.nome;
+        this.descricao = estado.descricao;
+        this.membros.clear();
+        this.membros.addAll(estado.membros);
+        this.porId.clear();
+        this.porId.putAll(estado.porId);
+    }
+
+    private void notificarRemocao(Usuario removido) {
+        notificar(o -> o.membroRemovido(this, removido));
+        notificarAlteracao();
+    }
+
+    private void notificarAlteracao() {
+        notificar(o -> o.equipeAlterada(this));
+    }
+
     // ----------------- Getters -----------------
 
-    public String getId() { return id; }
+    public String getId() { return id.toString(); }
+    public Identificador getIdentificador() { return id; }
     public String getNome() { return nome; }
     public String getDescricao() { return descricao; }
 
@@ -109,11 +183,11 @@ public final class Equipe {
         if (this == o) return true;
         if (!(o instanceof Equipe)) return false;
         Equipe equipe = (Equipe) o;
-        return Objects.equals(id, equipe.id);
+        return id.equals(equipe.id);
     }
 
     @Override
-    public int hashCode() { return Objects.hash(id); }
+    public int hashCode() { return id.hashCode(); }
 
     @Override
     public String toString() {
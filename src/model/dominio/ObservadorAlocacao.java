@@ -0,0 +1,22 @@
+package model.dominio;
+
+import java.time.LocalDate;
+
+/**
+ * Callback notificado após cada alteração de uma AlocacaoEquipeProjeto.
+ * Mesmo contrato de ObservadorTarefa: métodos vazios por padrão.
+ */
+public interface ObservadorAlocacao {
+
+    /** Vigência mudou (ajustarPeriodo, encerrarAlocacao, reabrirAlocacao). 'fimAnterior' pode ser null. */
+    default void periodoAlterado(AlocacaoEquipeProjeto alocacao, LocalDate inicioAnterior, LocalDate fimAnterior) {}
+
+    /** Capacidade semanal mudou (alterarCapacidade). */
+    default void capacidadeAlterada(AlocacaoEquipeProjeto alocacao, int capacidadeAnterior) {}
+
+    /** Observações mudaram (alterarObservacoes). Recebe o valor anterior. */
+    default void observacoesAlteradas(AlocacaoEquipeProjeto alocacao, String observacoesAnteriores) {}
+
+    /** Chamado ao final de qualquer mutação, depois dos callbacks específicos. */
+    default void alocacaoAlterada(AlocacaoEquipeProjeto alocacao) {}
+}
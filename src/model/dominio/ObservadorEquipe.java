@@ -0,0 +1,20 @@
+package model.dominio;
+
+/**
+ * Callback notificado após cada alteração de uma Equipe.
+ * Mesmo contrato de ObservadorTarefa: métodos vazios por padrão.
+ */
+public interface ObservadorEquipe {
+
+    /** Usuário passou a ser membro (adicionarMembro). */
+    default void membroAdicionado(Equipe equipe, Usuario usuario) {}
+
+    /** Usuário deixou de ser membro (removerMembro, removerMembroPorId). */
+    default void membroRemovido(Equipe equipe, Usuario usuario) {}
+
+    /** Nome ou descrição mudou (alterarNome, alterarDescricao). Recebe os valores anteriores. */
+    default void textoAlterado(Equipe equipe, String nomeAnterior, String descricaoAnterior) {}
+
+    /** Chamado ao final de qualquer mutação, depois dos callbacks específicos. */
+    default void equipeAlterada(Equipe equipe) {}
+}
@@ -0,0 +1,27 @@
+package model.dominio;
+
+import model.enums.StatusProjeto;
+
+import java.time.LocalDate;
+
+/**
+ * Callback notificado após cada alteração relevante de um Projeto.
+ * Mesmo contrato de ObservadorTarefa: métodos vazios por padrão.
+ */
+public interface ObservadorProjeto {
+
+    /** Status mudou (alterarStatus). */
+    default void statusAlterado(Projeto projeto, StatusProjeto anterior) {}
+
+    /** Datas replanejadas (replanejar). Recebe os valores anteriores. */
+    default void datasAlteradas(Projeto projeto, LocalDate inicioAnterior, LocalDate terminoPrevistoAnterior) {}
+
+    /** Descrição mudou (alterarDescricao). Recebe o valor anterior. */
+    default void descricaoAlterada(Projeto projeto, String descricaoAnterior) {}
+
+    /** Gerente responsável mudou (definirGerenteResponsavel). Recebe o anterior. */
+    default void gerenteAlterado(Projeto projeto, Usuario gerenteAnterior) {}
+
+    /** Chamado ao final de qualquer mutação, depois dos callbacks específicos. */
+    default void projetoAlterado(Projeto projeto) {}
+}
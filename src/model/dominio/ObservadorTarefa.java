@@ -0,0 +1,54 @@
+package model.dominio;
+
+import model.enums.PrioridadeTarefa;
+import model.enums.StatusTarefa;
+
+import java.time.LocalDate;
+
+/**
+ * Callback notificado após cada alteração relevante de uma Tarefa.
+ * Permite que índices e agregados (repositórios, relatórios) se mantenham
+ * atualizados sem varrer todas as tarefas. Métodos com implementação vazia:
+ * o observador sobrescreve apenas o que lhe interessa.
+ * As transições do ciclo de vida (status e esforço real) chegam na ordem em
+ * que foram aplicadas, fora de qualquer trava da tarefa, e podem chegar na
+ * thread de outra transição concorrente.
+ */
+public interface ObservadorTarefa {
+
+    /** Status mudou (alterarStatus, bloquear, cancelar, concluir). */
+    default void statusAlterado(Tarefa tarefa, StatusTarefa anterior) {}
+
+    /**
+     * Variante com o status aplicado por esta transição. Com transições
+     * concorrentes, tarefa.getStatus() pode já refletir uma posterior; quem
+     * mantém contadores deve usar esta. Por padrão delega para a anterior.
+     */
+    default void statusAlterado(Tarefa tarefa, StatusTarefa anterior, StatusTarefa novo) {
+        statusAlterado(tarefa, anterior);
+    }
+
+    /** Responsável mudou (atribuirResponsavel). 'anterior' pode ser null. */
+    default void responsavelAlterado(Tarefa tarefa, Usuario anterior) {}
+
+    /** Datas replanejadas (replanejar). Recebe os valores anteriores. */
+    default void datasAlteradas(Tarefa tarefa, LocalDate inicioAnterior, LocalDate terminoPrevistoAnterior) {}
+
+    /** Título ou descrição mudou (alterarTitulo, alterarDescricao). Recebe os valores anteriores. */
+    default void textoAlterado(Tarefa tarefa, String tituloAnterior, String descricaoAnterior) {}
+
+    /** Prioridade mudou (alterarPrioridade). */
+    default void prioridadeAlterada(Tarefa tarefa, PrioridadeTarefa anterior) {}
+
+    /** Esforço estimado e/ou real mudou (registrarEsforco, definirEsforcoEstimado, concluir). */
+    default void esforcoAlterado(Tarefa tarefa, int estimadoAnterior, int realAnterior) {}
+
+    /** Variante com os valores aplicados por esta alteração. Por padrão delega para a anterior. */
+    default void esforcoAlterado(Tarefa tarefa, int estimadoAnterior, int realAnterior,
+                                 int estimadoNovo, int realNovo) {
+        esforcoAlterado(tarefa, estimadoAnterior, realAnterior);
+    }
+
+    /** Chamado ao final de qualquer mutação, depois dos callbacks específicos. */
+    default void tarefaAlterada(Tarefa tarefa) {}
+}
@@ -0,0 +1,11 @@
+package model.dominio;
+
+/**
+ * Callback notificado após cada alteração de um Usuario
+ * (nome, e-mail, cargo, perfil, senha).
+ */
+public interface ObservadorUsuario {
+
+    /** Chamado ao final de qualquer mutação. */
+    default void usuarioAlterado(Usuario usuario) {}
+}
@@ -0,0 +1,70 @@
+package model.dominio;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Base das entidades observáveis: lista copy-on-write de observadores
+ * guardada na própria entidade (sem um objeto à parte por instância, o que
+ * pesa com milhões de tarefas em memória).
+ * Registro é raro e sincronizado no monitor da entidade; notificação
+ * percorre um array imutável, sem travas, então é segura mesmo com
+ * mutações vindas de várias threads. Um único observador (o caso comum: o
+ * log acompanhando o catálogo) fica guardado sem array.
+ */
+abstract class Observavel<O> {
+
+    private static final Object[] VAZIO = new Object[0];
+
+    /** VAZIO, o único observador, ou um array imutável com dois ou mais. */
+    private volatile Object observadores = VAZIO;
+
+    /** Inclui o observador. Retorna false se já estava registrado. */
+    final synchronized boolean incluirObservador(O observador) {
+        Objects.requireNonNull(observador, "observador não pode ser nulo");
+        Object[] atuais = lista(observadores);
+        for (Object o : atuais) if (o == observador) return false;
+        if (atuais.length == 0) {
+            observadores = observador;
+            return true;
+        }
+        Object[] novos = new Object[atuais.length + 1];
+        System.arraycopy(atuais, 0, novos, 0, atuais.length);
+        novos[atuais.length] = observador;
+        observadores = novos;
+        return true;
+    }
+
+    /** Remove o observador. Retorna true se removeu. */
+    final synchronized boolean excluirObservador(O observador) {
+        Object[] atuais = lista(observadores);
+        for (int i = 0; i < atuais.length; i++) {
+            if (atuais[i] == observador) {
+                if (atuais.length == 2) {
+                    observadores = atuais[1 - i];
+                    return true;
+                }
+                Object[] novos = new Object[atuais.length - 1];
+                System.arraycopy(atuais, 0, novos, 0, i);
+                System.arraycopy(atuais, i + 1, novos, i, atuais.length - i - 1);
+                observadores = novos.length == 0 ? VAZIO : novos;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    final void notificar(Consumer<? super O> acao) {
+        Object atual = observadores;
+        if (atual instanceof Object[]) {
+            for (Object o : (Object[]) atual) acao.accept((O) o);
+        } else {
+            acao.accept((O) atual);
+        }
+    }
+
+    private static Object[] lista(Object observadores) {
+        return (observadores instanceof Object[]) ? (Object[]) observadores : new Object[] {observadores};
+    }
+}
@@ -1,11 +1,12 @@
 package model.dominio;
 
+import model.vo.Identificador;
+
 import model.enums.StatusProjeto;
 import model.enums.Perfil;
 
 import java.time.LocalDate;
 import java.util.Objects;
-import java.util.UUID;
 
 /**
  * Entidade de domínio que representa um Projeto.
@@ -13,9 +14,9 @@ import java.util.UUID;
  *  - dataTerminoPrevista >= dataInicio
  *  - gerenteResponsavel deve ter perfil GERENTE ou ADMINISTRADOR
  */
-public final class Projeto {
+public final class Projeto extends Observavel<ObservadorProjeto> {
 
-    private final String id; // UUID
+    private final Identificador id; // VO (UUIDv7 em 2 longs)
     private String nome;
     private String descricao;
     private LocalDate dataInicio;
@@ -23,7 +24,7 @@ public final class Projeto {
     private StatusProjeto status;
     private Usuario gerenteResponsavel;
 
-    private Projeto(String id,
+    private Projeto(Identificador id,
                     String nome,
                     String descricao,
                     LocalDate dataInicio,
@@ -54,12 +55,50 @@ public final class Projeto {
         definirGerenteValido(gerenteResponsavel);
 
         StatusProjeto statusFinal = (status == null) ? StatusProjeto.PLANEJADO : status;
-        String id = UUID.randomUUID().toString();
+        Identificador id = Identificador.novo();
 
         return new Projeto(id, nome.trim(), descricao.trim(),
                 dataInicio, dataTerminoPrevista, statusFinal, gerenteResponsavel);
     }
 
+    /**
+     * Reconstrói um projeto já persistido. Valida só o próprio projeto
+     * (campos obrigatórios, término >= início); o perfil do gerente não é
+     * reavaliado, pois ele pode ter sido rebaixado depois da atribuição.
+     */
+    public static Projeto restaurar(String id,
+                                    String nome,
+                                    String descricao,
+                                    LocalDate dataInicio,
+                                    LocalDate dataTerminoPrevista,
+                                    Usuario gerenteResponsavel,
+                                    StatusProjeto status) {
+        validarObrigatorio(id, "id");
+        return restaurar(Identificador.of(id), nome, descricao, dataInicio, dataTerminoPrevista,
+                gerenteResponsavel, status);
+    }
+
+    /** Idem, com o id já convertido (ex.: lido de um formato binário). */
+    public static Projeto restaurar(Identificador id,
+                                    String nome,
+                                    String descricao,
+                                    LocalDate dataInicio,
+                                    LocalDate dataTerminoPrevista,
+                                    Usuario gerenteResponsavel,
+                                    StatusProjeto status) {
+        Objects.requireNonNull(id, "id não pode ser nulo");
+        validarObrigatorio(nome, "nome");
+        validarObrigatorio(descricao, "descricao");
+        Objects.requireNonNull(dataInicio, "dataInicio não pode ser nula");
+        Objects.requireNonNull(dataTerminoPrevista, "dataTerminoPrevista não pode ser nula");
+        validarDatas(dataInicio, dataTerminoPrevista);
+        if (gerenteResponsavel == null) throw new IllegalArgumentException("gerenteResponsavel não pode ser nulo.");
+        Objects.requireNonNull(status, "status não pode ser nulo");
+
+        return new Projeto(id, nome.trim(), descricao.trim(),
+                dataInicio, dataTerminoPrevista, status, gerenteResponsavel);
+    }
+
     // ----------------- Métodos de domínio -----------------
 
     /** Replaneja datas garantindo coerência (término >= início). */
@@ -67,25 +106,56 @@ public final class Projeto {
         Objects.requireNonNull(novaDataInicio, "novaDataInicio não pode ser nula");
         Objects.requireNonNull(novaDataTerminoPrevista, "novaDataTerminoPrevista não pode ser nula");
         validarDatas(novaDataInicio, novaDataTerminoPrevista);
+        LocalDate inicioAnterior = this.dataInicio;
+        LocalDate terminoAnterior = this.dataTerminoPrevista;
         this.dataInicio = novaDataInicio;
         this.dataTerminoPrevista = novaDataTerminoPrevista;
+        notificar(o -> o.datasAlteradas(this, inicioAnterior, terminoAnterior));
+        notificarAlteracao();
     }
 
     /** Altera status do projeto (ex.: PLANEJADO → EM_ANDAMENTO → CONCLUIDO ou CANCELADO). */
     public void alterarStatus(StatusProjeto novoStatus) {
-        this.status = Objects.requireNonNull(novoStatus, "status não pode ser nulo");
+        Objects.requireNonNull(novoStatus, "status não pode ser nulo");
+        StatusProjeto anterior = this.status;
+        this.status = novoStatus;
+        if (anterior != novoStatus) {
+            notificar(o -> o.statusAlterado(this, anterior));
+            notificarAlteracao();
+        }
     }
 
     /** Atualiza descrição com validação. */
     public void alterarDescricao(String novaDescricao) {
         validarObrigatorio(novaDescricao, "descricao");
+        String anterior = this.descricao;
         this.descricao = novaDescricao.trim();
+        if (!anterior.equals(this.descricao)) notificar(o -> o.descricaoAlterada(this, anterior));
+        notificarAlteracao();
     }
 
     /** Define/atualiza o gerente responsável (precisa ser GERENTE ou ADMINISTRADOR). */
     public void definirGerenteResponsavel(Usuario novoGerente) {
         definirGerenteValido(novoGerente);
+        Usuario anterior = this.gerenteResponsavel;
         this.gerenteResponsavel = novoGerente;
+        if (!Objects.equals(anterior, novoGerente)) notificar(o -> o.gerenteAlterado(this, anterior));
+        notificarAlteracao();
+    }
+
+    /**
+     * Copia o estado mutável de outra instância com o mesmo id (recuperação
+     * de log/snapshot). Não notifica observadores.
+     */
+    public void sincronizarCom(Projeto estado) {
+        Objects.requireNonNull(estado, "estado não pode ser nulo");
+        if (!id.equals(estado.id)) throw new IllegalArgumentException("Estado de outro projeto: " + estado.id);
+        this.nome = estado.nome;
+        this.descricao = estado.descricao;
+        this.dataInicio = estado.dataInicio;
+        this.dataTerminoPrevista = estado.dataTerminoPrevista;
+        this.status = estado.status;
+        this.gerenteResponsavel = estado.gerenteResponsavel;
     }
 
     /** Indica se, na data informada (ou hoje), o projeto está atrasado. */
@@ -95,9 +165,26 @@ public final class Projeto {
                 && dataTerminoPrevista.isBefore(ref);
     }
 
+    // ----------------- Observadores -----------------
+
+    /** Registra um observador de alterações. Retorna false se já estava registrado. */
+    public boolean adicionarObservador(ObservadorProjeto observador) {
+        return incluirObservador(observador);
+    }
+
+    /** Remove um observador. Retorna true se removeu. */
+    public boolean removerObservador(ObservadorProjeto observador) {
+        return excluirObservador(observador);
+    }
+
+    private void notificarAlteracao() {
+        notificar(o -> o.projetoAlterado(this));
+    }
+
     // ----------------- Getters -----------------
 
-    public String getId() { return id; }
+    public String getId() { return id.toString(); }
+    public Identificador getIdentificador() { return id; }
     public String getNome() { return nome; }
     public String getDescricao() { return descricao; }
     public LocalDate getDataInicio() { return dataInicio; }
@@ -134,11 +221,11 @@ public final class Projeto {
         if (this == o) return true;
         if (!(o instanceof Projeto)) return false;
         Projeto projeto = (Projeto) o;
-        return Objects.equals(id, projeto.id);
+        return id.equals(projeto.id);
     }
 
     @Override
-    public int hashCode() { return Objects.hash(id); }
+    public int hashCode() { return id.hashCode(); }
 
     @Override
     public String toString() {
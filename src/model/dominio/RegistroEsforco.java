@@ -1,25 +1,26 @@
 package model.dominio;
 
+import model.vo.Identificador;
+
 import java.time.LocalDate;
 import java.util.Objects;
-import java.util.UUID;
 
 /**
  * Entidade que representa um lançamento de horas em uma Tarefa.
  * Invariantes:
  *  - tarefa != null, usuario != null, data != null
  *  - horas > 0
- *  - data >= tarefa.getDataInicio()
+ *  - data >= tarefa.getDataInicio() (no lançamento; não é revalidado em restaurar)
  */
 public final class RegistroEsforco {
-    private final String id; // UUID
+    private final Identificador id; // VO (UUIDv7 em 2 longs)
     private final Tarefa tarefa;
     private final Usuario usuario;
     private final LocalDate data;
     private final int horas;
     private final String observacao;
 
-    private RegistroEsforco(String id, Tarefa tarefa, Usuario usuario,
+    private RegistroEsforco(Identificador id, Tarefa tarefa, Usuario usuario,
                             LocalDate data, int horas, String observacao) {
         this.id = id;
         this.tarefa = tarefa;
@@ -31,18 +32,46 @@ public final class RegistroEsforco {
 
     public static RegistroEsforco criar(Tarefa tarefa, Usuario usuario,
                                         LocalDate data, int horas, String observacao) {
+        validar(tarefa, usuario, data, horas);
+        return new RegistroEsforco(Identificador.novo(), tarefa, usuario, data, horas, observacao);
+    }
+
+    /**
+     * Reconstrói um lançamento já persistido. Valida só o próprio lançamento
+     * (campos obrigatórios, horas > 0): a tarefa pode ter sido replanejada
+     * para começar depois de esforços já registrados.
+     */
+    public static RegistroEsforco restaurar(String id, Tarefa tarefa, Usuario usuario,
+                                            LocalDate data, int horas, String observacao) {
+        if (id == null || id.trim().isEmpty()) throw new IllegalArgumentException("id é obrigatório.");
+        return restaurar(Identificador.of(id), tarefa, usuario, data, horas, observacao);
+    }
+
+    /** Idem, com o id já convertido (ex.: lido de um formato binário). */
+    public static RegistroEsforco restaurar(Identificador id, Tarefa tarefa, Usuario usuario,
+                                            LocalDate data, int horas, String observacao) {
+        Objects.requireNonNull(id, "id não pode ser nulo");
+        validarCampos(tarefa, usuario, data, horas);
+        return new RegistroEsforco(id, tarefa, usuario, data, horas, observacao);
+    }
+
+    private static void validar(Tarefa tarefa, Usuario usuario, LocalDate data, int horas) {
+        validarCampos(tarefa, usuario, data, horas);
+        if (data.isBefore(tarefa.getDataInicio())) {
+            throw new IllegalArgumentException("data do esforço não pode ser anterior ao início da tarefa.");
+        }
+    }
+
+    private static void validarCampos(Tarefa tarefa, Usuario usuario, LocalDate data, int horas) {
         Objects.requireNonNull(tarefa, "tarefa não pode ser nula");
         Objects.requireNonNull(usuario, "usuario não pode ser nulo");
         Objects.requireNonNull(data, "data não pode ser nula");
         if (horas <= 0) throw new IllegalArgumentException("horas deve ser > 0");
-        if (data.isBefore(tarefa.getDataInicio())) {
-            throw new IllegalArgumentException("data do esforço não pode ser anterior ao início da tarefa.");
-        }
-        return new RegistroEsforco(UUID.randomUUID().toString(), tarefa, usuario, data, horas, observacao);
     }
 
     // Getters
-    public String getId() { return id; }
+    public String getId() { return id.toString(); }
+    public Identificador getIdentificador() { return id; }
     public Tarefa getTarefa() { return tarefa; }
     public Usuario getUsuario() { return usuario; }
     public LocalDate getData() { return data; }
@@ -54,7 +83,7 @@ public final class RegistroEsforco {
         if (!(o instanceof RegistroEsforco)) return false;
         return Objects.equals(id, ((RegistroEsforco) o).id);
     }
-    @Override public int hashCode() { return Objects.hash(id); }
+    @Override public int hashCode() { return id.hashCode(); }
 
     @Override public String toString() {
         return "RegistroEsforco{" +
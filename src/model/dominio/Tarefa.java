@@ -1,11 +1,15 @@
 package model.dominio;
 
 import model.enums.PrioridadeTarefa;
+import model.enums.ResultadoTransicao;
 import model.enums.StatusTarefa;
+import model.vo.Identificador;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.time.LocalDate;
 import java.util.Objects;
-import java.util.UUID;
+import java.util.function.LongUnaryOperator;
 
 /**
  * Entidade de domínio que representa uma Tarefa de um Projeto.
@@ -14,26 +18,68 @@ import java.util.UUID;
  *  - Transições de status controladas (NOVA → EM_ANDAMENTO/BLOQUEADA/CANCELADA;
  *    EM_ANDAMENTO → BLOQUEADA/CONCLUIDA/CANCELADA; BLOQUEADA → EM_ANDAMENTO/CANCELADA)
  *  - CONCLUIDA exige dataConclusao e esforçoReal informado
+ *
+ * Ciclo de vida thread-safe sem locks: status, esforço real e data de
+ * conclusão ficam empacotados num único long, alterado por CAS. Cada
+ * transição é validada (StatusTarefa.podeTransicionarPara) dentro do laço
+ * do CAS, então nenhuma transição concorrente se perde. alterarStatus e
+ * os atalhos revalidam sobre o estado mais recente; tentarTransicionar
+ * devolve CONFLITO quando outro colaborador mudou o status antes.
+ * Enquanto a tarefa não está CONCLUIDA, os bits da data de conclusão
+ * guardam uma versão, incrementada a cada transição no mesmo CAS. As
+ * notificações saem fora de qualquer trava: cada transição entra numa fila
+ * por tarefa e quem consegue a vez de despachar entrega as versões em
+ * sequência, então os observadores recebem as transições na ordem em que
+ * foram aplicadas, mesmo vindas de threads diferentes. Em concorrência, a
+ * notificação pode ser entregue pela thread de outra transição, depois que
+ * a chamada que a originou já retornou.
+ * Os demais campos (título, datas, responsável...) seguem sem sincronização.
  */
-public final class Tarefa {
+public final class Tarefa extends Observavel<ObservadorTarefa> {
+
+    private static final VarHandle ESTADO;
+    private static final VarHandle FILA;
+    private static final VarHandle DESPACHANDO;
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            ESTADO = lookup.findVarHandle(Tarefa.class, "estado", long.class);
+            FILA = lookup.findVarHandle(Tarefa.class, "fila", Entrega.class);
+            DESPACHANDO = lookup.findVarHandle(Tarefa.class, "despachando", boolean.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // Layout de 'estado': bits 0-7 status | 8-39 esforço real | 40-63 data de conclusão (CONCLUIDA) ou versão
+    private static final long MASCARA_STATUS = 0xFFL;
+    private static final long MASCARA_REAL = 0xFFFF_FFFFL;
+    private static final int DESLOCAMENTO_REAL = 8;
+    private static final int DESLOCAMENTO_CONCLUSAO = 40;
+    private static final long DESVIO_CONCLUSAO = 1L << 23; // epochDay + desvio em 24 bits
+    private static final int MASCARA_VERSAO = (1 << 24) - 1;
+    private static final StatusTarefa[] STATUS = StatusTarefa.values();
 
-    private final String id; // UUID
+    private final Identificador id; // VO (UUIDv7 em 2 longs)
     private Projeto projeto;
     private String titulo;
     private String descricao;
 
     private Usuario responsavel;                // opcional no cadastro
     private PrioridadeTarefa prioridade;        // BAIXA/MEDIA/ALTA/CRITICA
-    private StatusTarefa status;                // NOVA (default), ...
+    private volatile long estado;               // status + esforço real + dataConclusao/versão (ver layout)
+
+    private volatile Entrega fila;              // transições ainda não despachadas (pilha, qualquer ordem)
+    private volatile boolean despachando;       // alguém está despachando; os campos abaixo são dele
+    private Entrega adiadas;                    // chegaram antes da vez, em ordem de versão
+    private int proxima = 1;                    // versão da próxima transição a entregar
 
     private LocalDate dataInicio;
     private LocalDate dataTerminoPrevista;
-    private LocalDate dataConclusao;            // somente quando CONCLUIDA
 
     private int esforcoEstimadoHoras;           // >= 0
-    private int esforcoRealHoras;               // >= 0 (soma de registros)
 
-    private Tarefa(String id,
+    private Tarefa(Identificador id,
                    Projeto projeto,
                    String titulo,
                    String descricao,
@@ -51,12 +97,10 @@ public final class Tarefa {
         this.descricao = descricao;
         this.responsavel = responsavel;
         this.prioridade = prioridade;
-        this.status = status;
         this.dataInicio = dataInicio;
         this.dataTerminoPrevista = dataTerminoPrevista;
         this.esforcoEstimadoHoras = esforcoEstimadoHoras;
-        this.esforcoRealHoras = esforcoRealHoras;
-        this.dataConclusao = dataConclusao;
+        this.estado = empacotar(status, esforcoRealHoras, dataConclusao);
     }
 
     /** Fábrica com validações de invariantes. */
@@ -76,7 +120,7 @@ public final class Tarefa {
 
         PrioridadeTarefa prio = (prioridade == null) ? PrioridadeTarefa.MEDIA : prioridade;
         int estimado = (esforcoEstimadoHoras == null) ? 0 : Math.max(0, esforcoEstimadoHoras);
-        String id = UUID.randomUUID().toString();
+        Identificador id = Identificador.novo();
 
         return new Tarefa(
                 id,
@@ -94,6 +138,65 @@ public final class Tarefa {
         );
     }
 
+    /**
+     * Reconstrói uma tarefa já persistida (qualquer status), aplicando as validações
+     * da fábrica e a regra de conclusão: CONCLUIDA exige dataConclusao >= dataInicio;
+     * demais status não têm dataConclusao.
+     */
+    public static Tarefa restaurar(String id,
+                                   Projeto projeto,
+                                   String titulo,
+                                   String descricao,
+                                   Usuario responsavel,
+                                   PrioridadeTarefa prioridade,
+                                   StatusTarefa status,
+                                   LocalDate dataInicio,
+                                   LocalDate dataTerminoPrevista,
+                                   int esforcoEstimadoHoras,
+                                   int esforcoRealHoras,
+                                   LocalDate dataConclusao) {
+        validarObrigatorio(id, "id");
+        return restaurar(Identificador.of(id), projeto, titulo, descricao, responsavel, prioridade, status,
+                dataInicio, dataTerminoPrevista, esforcoEstimadoHoras, esforcoRealHoras, dataConclusao);
+    }
+
+    /** Idem, com o id já convertido (ex.: lido de um formato binário). */
+    public static Tarefa restaurar(Identificador id,
+                                   Projeto projeto,
+                                   String titulo,
+                                   String descricao,
+                                   Usuario responsavel,
+                                   PrioridadeTarefa prioridade,
+                                   StatusTarefa status,
+                                   LocalDate dataInicio,
+                                   LocalDate dataTerminoPrevista,
+                                   int esforcoEstimadoHoras,
+                                   int esforcoRealHoras,
+                                   LocalDate dataConclusao) {
+        Objects.requireNonNull(id, "id não pode ser nulo");
+        Objects.requireNonNull(projeto, "projeto não pode ser nulo");
+        validarObrigatorio(titulo, "titulo");
+        Objects.requireNonNull(prioridade, "prioridade não pode ser nula");
+        Objects.requireNonNull(status, "status não pode ser nulo");
+        Objects.requireNonNull(dataInicio, "dataInicio não pode ser nula");
+        Objects.requireNonNull(dataTerminoPrevista, "dataTerminoPrevista não pode ser nula");
+        validarDatas(dataInicio, dataTerminoPrevista);
+        if (esforcoEstimadoHoras < 0) throw new IllegalArgumentException("Esforço estimado deve ser >= 0.");
+        if (esforcoRealHoras < 0) throw new IllegalArgumentException("Esforço real deve ser >= 0.");
+        if (status == StatusTarefa.CONCLUIDA) {
+            Objects.requireNonNull(dataConclusao, "dataConclusao não pode ser nula");
+            if (dataConclusao.isBefore(dataInicio)) {
+                throw new IllegalArgumentException("dataConclusao não pode ser anterior à data de início.");
+            }
+        } else if (dataConclusao != null) {
+            throw new IllegalArgumentException("dataConclusao só é permitida em tarefa CONCLUIDA.");
+        }
+
+        return new Tarefa(id, projeto, titulo.trim(), descricao == null ? "" : descricao.trim(),
+                responsavel, prioridade, status, dataInicio, dataTerminoPrevista,
+                esforcoEstimadoHoras, esforcoRealHoras, dataConclusao);
+    }
+
     // ----------------- Métodos de domínio -----------------
 
     /** Replaneja datas garantindo coerência (término >= início). */
@@ -102,60 +205,121 @@ public final class Tarefa {
         Objects.requireNonNull(novaDataInicio, "novaDataInicio não pode ser nula");
         Objects.requireNonNull(novaDataTerminoPrevista, "novaDataTerminoPrevista não pode ser nula");
         validarDatas(novaDataInicio, novaDataTerminoPrevista);
+        LocalDate inicioAnterior = this.dataInicio;
+        LocalDate terminoAnterior = this.dataTerminoPrevista;
         this.dataInicio = novaDataInicio;
         this.dataTerminoPrevista = novaDataTerminoPrevista;
+        notificar(o -> o.datasAlteradas(this, inicioAnterior, terminoAnterior));
+        notificarAlteracao();
     }
 
     /** Atribui (ou troca) o responsável pela tarefa. Aceita null para desatribuir. */
     public void atribuirResponsavel(Usuario novoResponsavel) {
         garantirNaoFinalizada();
+        Usuario anterior = this.responsavel;
         this.responsavel = novoResponsavel;
+        if (!Objects.equals(anterior, novoResponsavel)) {
+            notificar(o -> o.responsavelAlterado(this, anterior));
+            notificarAlteracao();
+        }
     }
 
     /** Atualiza prioridade. */
     public void alterarPrioridade(PrioridadeTarefa novaPrioridade) {
         garantirNaoFinalizada();
+        PrioridadeTarefa anterior = this.prioridade;
         this.prioridade = Objects.requireNonNull(novaPrioridade, "prioridade não pode ser nula");
+        if (anterior != novaPrioridade) notificar(o -> o.prioridadeAlterada(this, anterior));
+        notificarAlteracao();
     }
 
     /** Altera o título. */
     public void alterarTitulo(String novoTitulo) {
         garantirNaoFinalizada();
         validarObrigatorio(novoTitulo, "titulo");
+        String anterior = this.titulo;
         this.titulo = novoTitulo.trim();
+        if (!anterior.equals(this.titulo)) {
+            notificar(o -> o.textoAlterado(this, anterior, descricao));
+        }
+        notificarAlteracao();
     }
 
     /** Altera a descrição. */
     public void alterarDescricao(String novaDescricao) {
         garantirNaoFinalizada();
+        String anterior = this.descricao;
         this.descricao = (novaDescricao == null) ? "" : novaDescricao.trim();
+        if (!anterior.equals(this.descricao)) {
+            notificar(o -> o.textoAlterado(this, titulo, anterior));
+        }
+        notificarAlteracao();
     }
 
     /** Registra/acrescenta esforço real em horas (>=1). */
     public void registrarEsforco(int horas) {
         garantirNaoFinalizada();
         if (horas <= 0) throw new IllegalArgumentException("Horas devem ser positivas.");
-        this.esforcoRealHoras += horas;
+        transicionar(atual -> {
+            if (statusDe(atual).isFinalizada()) {
+                throw new IllegalStateException("Tarefa finalizada não pode ser alterada.");
+            }
+            return comReal(atual, somarHoras(realDe(atual), horas));
+        }, (anterior, novo) -> {
+            notificarEsforco(realDe(anterior), realDe(novo));
+            notificarAlteracao();
+        });
     }
 
     /** Define esforço estimado (>=0). */
     public void definirEsforcoEstimado(int horas) {
         garantirNaoFinalizada();
         if (horas < 0) throw new IllegalArgumentException("Esforço estimado deve ser >= 0.");
+        int estimadoAnterior = this.esforcoEstimadoHoras;
         this.esforcoEstimadoHoras = horas;
+        if (estimadoAnterior != horas) {
+            int real = getEsforcoRealHoras();
+            notificar(o -> o.esforcoAlterado(this, estimadoAnterior, real, horas, real));
+            notificarAlteracao();
+        }
     }
 
     /** Transição de status com regras básicas de fluxo. */
     public void alterarStatus(StatusTarefa destino) {
         Objects.requireNonNull(destino, "status destino não pode ser nulo");
-        if (!podeTransicionarPara(destino)) {
-            throw new IllegalStateException("Transição de status inválida: " + status + " → " + destino);
-        }
-        // Se for concluir sem dados, orientar uso de concluir()
-        if (destino == StatusTarefa.CONCLUIDA) {
-            throw new IllegalStateException("Use concluir(horas, data) para encerrar a tarefa.");
+        transicionar(atual -> {
+            if (!statusDe(atual).podeTransicionarPara(destino)) {
+                throw new IllegalStateException("Transição de status inválida: " + statusDe(atual) + " → " + destino);
+            }
+            // Se for concluir sem dados, orientar uso de concluir()
+            if (destino == StatusTarefa.CONCLUIDA) {
+                throw new IllegalStateException("Use concluir(horas, data) para encerrar a tarefa.");
+            }
+            return comStatus(atual, destino);
+        }, (anterior, novo) -> {
+            notificarStatus(statusDe(anterior), destino);
+            notificarAlteracao();
+        });
+    }
+
+    /**
+     * Tenta uma única transição a partir do status que o chamador viu.
+     * CONFLITO: o status já não é 'esperado' (outra thread transicionou antes);
+     * INVALIDA: transição não permitida (CONCLUIDA exige concluir()).
+     */
+    public ResultadoTransicao tentarTransicionar(StatusTarefa esperado, StatusTarefa destino) {
+        Objects.requireNonNull(esperado, "status esperado não pode ser nulo");
+        Objects.requireNonNull(destino, "status destino não pode ser nulo");
+        if (destino == StatusTarefa.CONCLUIDA || !esperado.podeTransicionarPara(destino)) {
+            return ResultadoTransicao.INVALIDA;
         }
-        this.status = destino;
+        // CAS falhou com o mesmo status: só o esforço mudou, tenta de novo
+        long anterior = transicionar(atual -> statusDe(atual) != esperado ? atual : comStatus(atual, destino),
+                (a, novo) -> {
+                    notificarStatus(esperado, destino);
+                    notificarAlteracao();
+                });
+        return anterior == NENHUMA ? ResultadoTransicao.CONFLITO : ResultadoTransicao.APLICADA;
     }
 
     /** Inicia a tarefa (atalho para status EM_ANDAMENTO). */
@@ -163,60 +327,116 @@ public final class Tarefa {
 
     /** Bloqueia a tarefa (atalho para status BLOQUEADA). */
     public void bloquear() {
-        if (status == StatusTarefa.CONCLUIDA || status == StatusTarefa.CANCELADA) {
-            throw new IllegalStateException("Não é possível bloquear tarefa finalizada.");
-        }
-        if (status == StatusTarefa.NOVA || status == StatusTarefa.EM_ANDAMENTO || status == StatusTarefa.BLOQUEADA) {
-            this.status = StatusTarefa.BLOQUEADA;
-        } else {
-            throw new IllegalStateException("Transição para BLOQUEADA inválida a partir de " + status);
-        }
+        transicionar(atual -> {
+            StatusTarefa s = statusDe(atual);
+            if (s.isFinalizada()) {
+                throw new IllegalStateException("Não é possível bloquear tarefa finalizada.");
+            }
+            return s == StatusTarefa.BLOQUEADA ? atual : comStatus(atual, StatusTarefa.BLOQUEADA);
+        }, (anterior, novo) -> {
+            notificarStatus(statusDe(anterior), StatusTarefa.BLOQUEADA);
+            notificarAlteracao();
+        });
     }
 
     /** Cancela a tarefa. */
     public void cancelar() {
-        if (status == StatusTarefa.CONCLUIDA) {
-            throw new IllegalStateException("Não é possível cancelar tarefa concluída.");
-        }
-        this.status = StatusTarefa.CANCELADA;
+        transicionar(atual -> {
+            StatusTarefa s = statusDe(atual);
+            if (s == StatusTarefa.CONCLUIDA) {
+                throw new IllegalStateException("Não é possível cancelar tarefa concluída.");
+            }
+            return s == StatusTarefa.CANCELADA ? atual : comStatus(atual, StatusTarefa.CANCELADA);
+        }, (anterior, novo) -> {
+            notificarStatus(statusDe(anterior), StatusTarefa.CANCELADA);
+            notificarAlteracao();
+        });
     }
 
     /** Conclui a tarefa exigindo esforço real e data de conclusão válidos. */
     public void concluir(int horasRealGastas, LocalDate dataConclusao) {
-        if (!podeTransicionarPara(StatusTarefa.CONCLUIDA)) {
-            throw new IllegalStateException("Transição para CONCLUIDA inválida a partir de " + status);
+        StatusTarefa visto = getStatus();
+        if (!visto.podeTransicionarPara(StatusTarefa.CONCLUIDA)) {
+            throw new IllegalStateException("Transição para CONCLUIDA inválida a partir de " + visto);
         }
         if (horasRealGastas < 0) throw new IllegalArgumentException("Esforço real deve ser >= 0.");
         Objects.requireNonNull(dataConclusao, "dataConclusao não pode ser nula");
         if (dataConclusao.isBefore(this.dataInicio)) {
             throw new IllegalArgumentException("dataConclusao não pode ser anterior à data de início.");
         }
-        this.esforcoRealHoras += horasRealGastas;
-        this.dataConclusao = dataConclusao;
-        this.status = StatusTarefa.CONCLUIDA;
+        transicionar(atual -> {
+            if (!statusDe(atual).podeTransicionarPara(StatusTarefa.CONCLUIDA)) {
+                throw new IllegalStateException("Transição para CONCLUIDA inválida a partir de " + statusDe(atual));
+            }
+            return empacotar(StatusTarefa.CONCLUIDA, somarHoras(realDe(atual), horasRealGastas), dataConclusao);
+        }, (anterior, novo) -> {
+            if (horasRealGastas > 0) notificarEsforco(realDe(anterior), realDe(novo));
+            notificarStatus(statusDe(anterior), StatusTarefa.CONCLUIDA);
+            notificarAlteracao();
+        });
+    }
+
+    /**
+     * Copia o estado mutável de outra instância com o mesmo id (recuperação
+     * de log/snapshot, onde 'estado' já veio de restaurar). Não notifica observadores
+     * nem deve concorrer com transições; a versão da própria tarefa é mantida.
+     */
+    public void sincronizarCom(Tarefa estado) {
+        Objects.requireNonNull(estado, "estado não pode ser nulo");
+        if (!id.equals(estado.id) || !projeto.equals(estado.projeto)) {
+            throw new IllegalArgumentException("Estado de outra tarefa: " + estado.id);
+        }
+        this.titulo = estado.titulo;
+        this.descricao = estado.descricao;
+        this.responsavel = estado.responsavel;
+        this.prioridade = estado.prioridade;
+        this.dataInicio = estado.dataInicio;
+        this.dataTerminoPrevista = estado.dataTerminoPrevista;
+        this.esforcoEstimadoHoras = estado.esforcoEstimadoHoras;
+        long copia = estado.estado;
+        if (statusDe(copia) != StatusTarefa.CONCLUIDA) copia = comVersao(copia, proxima - 1);
+        this.estado = copia;
     }
 
     /** Indica se, na data informada (ou hoje), a tarefa está atrasada. */
     public boolean estaAtrasada(LocalDate referencia) {
         LocalDate ref = (referencia == null) ? LocalDate.now() : referencia;
-        return (status != StatusTarefa.CONCLUIDA && status != StatusTarefa.CANCELADA)
-                && dataTerminoPrevista.isBefore(ref);
+        return !getStatus().isFinalizada() && dataTerminoPrevista.isBefore(ref);
+    }
+
+    // ----------------- Observadores -----------------
+
+    /** Registra um observador de alterações. Retorna false se já estava registrado. */
+    public boolean adicionarObservador(ObservadorTarefa observador) {
+        return incluirObservador(observador);
+    }
+
+    /** Remove um observador. Retorna true se removeu. */
+    public boolean removerObservador(ObservadorTarefa observador) {
+        return excluirObservador(observador);
     }
 
     // ----------------- Getters -----------------
 
-    public String getId() { return id; }
+    public String getId() { return id.toString(); }
+    public Identificador getIdentificador() { return id; }
     public Projeto getProjeto() { return projeto; }
     public String getTitulo() { return titulo; }
     public String getDescricao() { return descricao; }
     public Usuario getResponsavel() { return responsavel; }
     public PrioridadeTarefa getPrioridade() { return prioridade; }
-    public StatusTarefa getStatus() { return status; }
+    public StatusTarefa getStatus() { return statusDe(estado); }
     public LocalDate getDataInicio() { return dataInicio; }
     public LocalDate getDataTerminoPrevista() { return dataTerminoPrevista; }
-    public LocalDate getDataConclusao() { return dataConclusao; }
+    public LocalDate getDataConclusao() { return conclusaoDe(estado); }
     public int getEsforcoEstimadoHoras() { return esforcoEstimadoHoras; }
-    public int getEsforcoRealHoras() { return esforcoRealHoras; }
+    public int getEsforcoRealHoras() { return realDe(estado); }
+
+    /** Leitura atômica de status, esforço real e data de conclusão (coerentes entre si). */
+    public Ciclo getCiclo() {
+        long e = estado;
+        return new Ciclo(statusDe(e), realDe(e), conclusaoDe(e));
+    }
 
     // ----------------- Validações internas -----------------
 
@@ -233,31 +453,188 @@ public final class Tarefa {
     }
 
     private void garantirNaoFinalizada() {
-        if (status == StatusTarefa.CONCLUIDA || status == StatusTarefa.CANCELADA) {
+        if (getStatus().isFinalizada()) {
             throw new IllegalStateException("Tarefa finalizada não pode ser alterada.");
         }
     }
 
-    private boolean podeTransicionarPara(StatusTarefa destino) {
-        if (destino == null) return false;
-        switch (this.status) {
-            case NOVA:
-                return destino == StatusTarefa.EM_ANDAMENTO
-                        || destino == StatusTarefa.BLOQUEADA
-                        || destino == StatusTarefa.CANCELADA;
-            case EM_ANDAMENTO:
-                return destino == StatusTarefa.BLOQUEADA
-                        || destino == StatusTarefa.CONCLUIDA
-                        || destino == StatusTarefa.CANCELADA;
-            case BLOQUEADA:
-                return destino == StatusTarefa.EM_ANDAMENTO
-                        || destino == StatusTarefa.CANCELADA
-                        || destino == StatusTarefa.CONCLUIDA; // permitir concluir bloqueada se houve trabalho?
-            default:
-                return false; // CONCLUIDA e CANCELADA não saem
+    private void notificarStatus(StatusTarefa anterior, StatusTarefa novo) {
+        notificar(o -> o.statusAlterado(this, anterior, novo));
+    }
+
+    private void notificarEsforco(int realAnterior, int realNovo) {
+        int estimado = this.esforcoEstimadoHoras;
+        notificar(o -> o.esforcoAlterado(this, estimado, realAnterior, estimado, realNovo));
+    }
+
+    private void notificarAlteracao() {
+        notificar(o -> o.tarefaAlterada(this));
+    }
+
+    // ----------------- Estado empacotado -----------------
+
+    private static final long NENHUMA = -1L; // transicionar(): nada mudou (estados válidos são >= 0)
+
+    /** O que avisar aos observadores depois de uma transição (estado anterior → novo). */
+    @FunctionalInterface
+    private interface Notificacao {
+        void apos(long anterior, long novo);
+    }
+
+    /**
+     * Aplica 'transicao' (estado atual → novo; devolver o próprio atual = nada
+     * a fazer) por CAS e devolve o estado anterior, ou NENHUMA. A versão
+     * entra no mesmo CAS; a notificação vai para a fila e é despachada
+     * depois, fora de qualquer trava.
+     */
+    private long transicionar(LongUnaryOperator transicao, Notificacao notificacao) {
+        long atual, novo;
+        do {
+            atual = estado;
+            novo = transicao.applyAsLong(atual);
+            if (novo == atual) return NENHUMA;
+            if (statusDe(novo) != StatusTarefa.CONCLUIDA) novo = comVersao(novo, versaoDe(atual) + 1);
+        } while (!ESTADO.compareAndSet(this, atual, novo));
+        enfileirar(new Entrega(versaoDe(atual) + 1 & MASCARA_VERSAO, atual, novo, notificacao));
+        return atual;
+    }
+
+    private void enfileirar(Entrega entrega) {
+        Entrega topo;
+        do {
+            topo = fila;
+            entrega.seguinte = topo;
+        } while (!FILA.compareAndSet(this, topo, entrega));
+        despachar();
+    }
+
+    /**
+     * Entrega as transições na ordem das versões. Só uma thread despacha por
+     * vez; as demais só enfileiram. Quem solta a vez olha a fila de novo, então
+     * nada fica para trás (quem enfileira depois disso tenta despachar). Uma
+     * versão que ainda não chegou (a thread dela está entre o CAS e a fila)
+     * segura as seguintes, que ela mesma entregará ao chegar. Uma transição
+     * feita por um observador durante a entrega só enfileira e sai em seguida.
+     */
+    private void despachar() {
+        RuntimeException falha = null;
+        while (fila != null && DESPACHANDO.compareAndSet(this, false, true)) {
+            try {
+                for (Entrega e = (Entrega) FILA.getAndSet(this, null); e != null; ) {
+                    Entrega seguinte = e.seguinte;
+                    adiar(e);
+                    e = seguinte;
+                }
+                while (adiadas != null && adiadas.versao == proxima) {
+                    Entrega e = adiadas;
+                    adiadas = e.seguinte;
+                    proxima = proxima + 1 & MASCARA_VERSAO;
+                    try {
+                        e.notificacao.apos(e.anterior, e.novo);
+                    } catch (RuntimeException ex) {
+                        if (falha == null) falha = ex; else falha.addSuppressed(ex);
+                    }
+                }
+            } finally {
+                despachando = false;
+            }
+        }
+        if (falha != null) throw falha;
+    }
+
+    /** Insere em 'adiadas' na ordem das versões (contadas a partir de 'proxima', com a volta dos 24 bits). */
+    private void adiar(Entrega e) {
+        int distancia = e.versao - proxima & MASCARA_VERSAO;
+        Entrega anterior = null, atual = adiadas;
+        while (atual != null && (atual.versao - proxima & MASCARA_VERSAO) < distancia) {
+            anterior = atual;
+            atual = atual.seguinte;
+        }
+        e.seguinte = atual;
+        if (anterior == null) adiadas = e; else anterior.seguinte = e;
+    }
+
+    /** Uma transição aplicada, à espera de ser notificada. */
+    private static final class Entrega {
+        final int versao;
+        final long anterior;
+        final long novo;
+        final Notificacao notificacao;
+        Entrega seguinte;
+
+        Entrega(int versao, long anterior, long novo, Notificacao notificacao) {
+            this.versao = versao;
+            this.anterior = anterior;
+            this.novo = novo;
+            this.notificacao = notificacao;
         }
     }
 
+    private static long empacotar(StatusTarefa status, int real, LocalDate conclusao) {
+        long dia = 0;
+        if (conclusao != null) {
+            dia = conclusao.toEpochDay() + DESVIO_CONCLUSAO;
+            if (dia <= 0 || dia >= (1L << 24)) {
+                throw new IllegalArgumentException("dataConclusao fora do intervalo suportado: " + conclusao);
+            }
+        }
+        return status.ordinal() | ((real & MASCARA_REAL) << DESLOCAMENTO_REAL) | (dia << DESLOCAMENTO_CONCLUSAO);
+    }
+
+    private static long comReal(long estado, int real) {
+        return (estado & ~(MASCARA_REAL << DESLOCAMENTO_REAL)) | ((real & MASCARA_REAL) << DESLOCAMENTO_REAL);
+    }
+
+    private static long comStatus(long estado, StatusTarefa status) {
+        return (estado & ~MASCARA_STATUS) | status.ordinal();
+    }
+
+    private static StatusTarefa statusDe(long estado) {
+        return STATUS[(int) (estado & MASCARA_STATUS)];
+    }
+
+    private static int realDe(long estado) {
+        return (int) ((estado >>> DESLOCAMENTO_REAL) & MASCARA_REAL);
+    }
+
+    private static LocalDate conclusaoDe(long estado) {
+        if (statusDe(estado) != StatusTarefa.CONCLUIDA) return null;
+        return LocalDate.ofEpochDay((estado >>> DESLOCAMENTO_CONCLUSAO) - DESVIO_CONCLUSAO);
+    }
+
+    /** Versão de um estado ainda não CONCLUIDA (CONCLUIDA é final: não há transição depois). */
+    private static int versaoDe(long estado) {
+        return (int) (estado >>> DESLOCAMENTO_CONCLUSAO);
+    }
+
+    private static long comVersao(long estado, int versao) {
+        long bits = (long) (versao & MASCARA_VERSAO) << DESLOCAMENTO_CONCLUSAO;
+        return (estado & ~(-1L << DESLOCAMENTO_CONCLUSAO)) | bits;
+    }
+
+    private static int somarHoras(int real, int horas) {
+        long soma = (long) real + horas;
+        if (soma > Integer.MAX_VALUE) throw new IllegalArgumentException("Esforço real excede o limite suportado.");
+        return (int) soma;
+    }
+
+    /** Fotografia imutável do ciclo de vida (ver getCiclo). */
+    public static final class Ciclo {
+        private final StatusTarefa status;
+        private final int esforcoRealHoras;
+        private final LocalDate dataConclusao;
+
+        private Ciclo(StatusTarefa status, int esforcoRealHoras, LocalDate dataConclusao) {
+            this.status = status;
+            this.esforcoRealHoras = esforcoRealHoras;
+            this.dataConclusao = dataConclusao;
+        }
+
+        public StatusTarefa getStatus() { return status; }
+        public int getEsforcoRealHoras() { return esforcoRealHoras; }
+        public LocalDate getDataConclusao() { return dataConclusao; }
+    }
+
     // ----------------- equals/hashCode/toString -----------------
 
     @Override
@@ -265,11 +642,11 @@ public final class Tarefa {
         if (this == o) return true;
         if (!(o instanceof Tarefa)) return false;
         Tarefa tarefa = (Tarefa) o;
-        return Objects.equals(id, tarefa.id);
+        return id.equals(tarefa.id);
     }
 
     @Override
-    public int hashCode() { return Objects.hash(id); }
+    public int hashCode() { return id.hashCode(); }
 
     @Override
     public String toString() {
@@ -278,7 +655,7 @@ public final class Tarefa {
                 ", titulo='" + titulo + '\'' +
                 ", projeto='" + (projeto != null ? projeto.getNome() : "null") + '\'' +
                 ", prioridade=" + prioridade +
-                ", status=" + status +
+                ", status=" + getStatus() +
                 ", terminoPrevisto=" + dataTerminoPrevista +
                 ", responsavel=" + (responsavel != null ? responsavel.getLogin() : "—") +
                 '}';
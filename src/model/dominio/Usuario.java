@@ -2,21 +2,20 @@
 package model.dominio;
 
 import model.enums.Perfil;
+import model.util.HashSenha;
 import model.vo.CPF;
 import model.vo.Email;
+import model.vo.Identificador;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
 import java.util.Objects;
-import java.util.UUID;
 
 /**
  * Entidade de domínio que representa um usuário do sistema.
  * Agora utilizando Value Objects: CPF e Email (imutáveis e validados).
  */
-public final class Usuario {
+public final class Usuario extends Observavel<ObservadorUsuario> {
 
-    private final String id;              // UUID
+    private final Identificador id;       // VO (UUIDv7 em 2 longs)
     private String nomeCompleto;
     private CPF cpf;                      // VO (11 dígitos, com DV)
     private Email email;                  // VO (normalizado)
@@ -25,7 +24,7 @@ public final class Usuario {
     private String senhaHash;             // SHA-256 simples (didático)
     private Perfil perfil;
 
-    private Usuario(String id,
+    private Usuario(Identificador id,
                     String nomeCompleto,
                     CPF cpf,
                     Email email,
@@ -59,7 +58,7 @@ public final class Usuario {
 
         CPF cpf = CPF.of(cpfStr);
         Email email = Email.of(emailStr);
-        String id = UUID.randomUUID().toString();
+        Identificador id = Identificador.novo();
         String senhaHash = hashSenha(login, senhaClara);
 
         return new Usuario(id, nomeCompleto.trim(), cpf, email,
@@ -82,17 +81,54 @@ public final class Usuario {
         Objects.requireNonNull(perfil, "perfil não pode ser nulo");
         validarSenhaClara(senhaClara);
 
-        String id = UUID.randomUUID().toString();
+        Identificador id = Identificador.novo();
         String senhaHash = hashSenha(login, senhaClara);
 
         return new Usuario(id, nomeCompleto.trim(), cpf, email,
                 cargo.trim(), login.trim(), senhaHash, perfil);
     }
 
+    /**
+     * Reconstrói um usuário já persistido (id e hash existentes).
+     * Aplica as mesmas validações das fábricas; CPF/Email chegam como texto e são revalidados.
+     */
+    public static Usuario restaurar(String id,
+                                    String nomeCompleto,
+                                    String cpfStr,
+                                    String emailStr,
+                                    String cargo,
+                                    String login,
+                                    String senhaHash,
+                                    Perfil perfil) {
+        validarObrigatorio(id, "id");
+        return restaurar(Identificador.of(id), nomeCompleto, cpfStr, emailStr, cargo, login, senhaHash, perfil);
+    }
+
+    /** Idem, com o id já convertido (ex.: lido de um formato binário). */
+    public static Usuario restaurar(Identificador id,
+                                    String nomeCompleto,
+                                    String cpfStr,
+                                    String emailStr,
+                                    String cargo,
+                                    String login,
+                                    String senhaHash,
+                                    Perfil perfil) {
+        Objects.requireNonNull(id, "id não pode ser nulo");
+        validarObrigatorio(nomeCompleto, "nomeCompleto");
+        validarObrigatorio(cargo, "cargo");
+        validarLogin(login);
+        Objects.requireNonNull(perfil, "perfil não pode ser nulo");
+        validarObrigatorio(senhaHash, "senhaHash");
+
+        return new Usuario(id, nomeCompleto.trim(), CPF.of(cpfStr), Email.of(emailStr),
+                cargo.trim(), login.trim(), senhaHash, perfil);
+    }
+
     // ---------- Métodos de domínio (intenção) ----------
 
     public void alterarEmail(Email novoEmail) {
         this.email = Objects.requireNonNull(novoEmail, "email não pode ser nulo");
+        notificarAlteracao();
     }
 
     /** Overload que aceita String e converte para VO. */
@@ -103,15 +139,18 @@ public final class Usuario {
     public void alterarCargo(String novoCargo) {
         validarObrigatorio(novoCargo, "cargo");
         this.cargo = novoCargo.trim();
+        notificarAlteracao();
     }
 
     public void alterarNome(String novoNome) {
         validarObrigatorio(novoNome, "nomeCompleto");
         this.nomeCompleto = novoNome.trim();
+        notificarAlteracao();
     }
 
     public void alterarPerfil(Perfil novoPerfil) {
         this.perfil = Objects.requireNonNull(novoPerfil, "perfil não pode ser nulo");
+        notificarAlteracao();
     }
 
     /** Troca a senha, verificando a senha atual. */
@@ -121,16 +160,49 @@ public final class Usuario {
         }
         validarSenhaClara(novaSenhaClara);
         this.senhaHash = hashSenha(this.login, novaSenhaClara);
+        notificarAlteracao();
     }
 
     /** Verifica a senha informada comparando com o hash armazenado. */
     public boolean verificarSenha(String senhaClara) {
-        return Objects.equals(this.senhaHash, hashSenha(this.login, senhaClara));
+        return HashSenha.confere(this.senhaHash, this.login, senhaClara);
+    }
+
+    // ---------- Observadores ----------
+
+    /** Registra um observador de alterações. Retorna false se já estava registrado. */
+    public boolean adicionarObservador(ObservadorUsuario observador) {
+        return incluirObservador(observador);
+    }
+
+    /** Remove um observador. Retorna true se removeu. */
+    public boolean removerObservador(ObservadorUsuario observador) {
+        return excluirObservador(observador);
+    }
+
+    /**
+     * Copia o estado mutável de outra instância com o mesmo id e login
+     * (recuperação de log/snapshot). Não notifica observadores.
+     */
+    public void sincronizarCom(Usuario estado) {
+        Objects.requireNonNull(estado, "estado não pode ser nulo");
+        if (!equals(estado)) throw new IllegalArgumentException("Estado de outro usuário: " + estado.id);
+        this.nomeCompleto = estado.nomeCompleto;
+        this.cpf = estado.cpf;
+        this.email = estado.email;
+        this.cargo = estado.cargo;
+        this.senhaHash = estado.senhaHash;
+        this.perfil = estado.perfil;
+    }
+
+    private void notificarAlteracao() {
+        notificar(o -> o.usuarioAlterado(this));
     }
 
     // ---------- Getters ----------
 
-    public String getId() { return id; }
+    public String getId() { return id.toString(); }
+    public Identificador getIdentificador() { return id; }
     public String getNomeCompleto() { return nomeCompleto; }
     public CPF getCpf() { return cpf; }
     public Email getEmail() { return email; }
@@ -138,6 +210,9 @@ public final class Usuario {
     public String getLogin() { return login; }
     public Perfil getPerfil() { return perfil; }
 
+    /** Hash armazenado (uso da camada de persistência). */
+    public String getSenhaHash() { return senhaHash; }
+
     // Conveniências de exibição
     public String getCpfFormatado() { return cpf.formatado(); }
     public String getCpfMascarado() { return cpf.mascarado(); }
@@ -166,17 +241,7 @@ public final class Usuario {
     }
 
     private static String hashSenha(String login, String senhaClara) {
-        // Didático: usa login como "sal" simples. Não use em produção.
-        String input = login + ":" + senhaClara;
-        try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] digest = md.digest(input.getBytes(StandardCharsets.UTF_8));
-            StringBuilder sb = new StringBuilder(digest.length * 2);
-            for (byte b : digest) sb.append(String.format("%02x", b));
-            return sb.toString();
-        } catch (Exception e) {
-            throw new IllegalStateException("Falha ao calcular hash de senha.", e);
-        }
+        return HashSenha.calcular(login, senhaClara);
     }
 
     // ---------- equals/hashCode/toString ----------
@@ -187,13 +252,13 @@ public final class Usuario {
         if (!(o instanceof Usuario)) return false;
         Usuario usuario = (Usuario) o;
         // id e login identificam unicamente o usuário
-        return Objects.equals(id, usuario.id) &&
+        return id.equals(usuario.id) &&
                 Objects.equals(login, usuario.login);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, login);
+        return 31 * id.hashCode() + Objects.hashCode(login);
     }
 
     @Override
@@ -0,0 +1,13 @@
+package model.enums;
+
+/**
+ * Resultado de uma tentativa de transição de status (Tarefa.tentarTransicionar).
+ */
+public enum ResultadoTransicao {
+    /** A transição foi aplicada. */
+    APLICADA,
+    /** O status mudou antes (transição concorrente); releia e decida de novo. */
+    CONFLITO,
+    /** A transição não é permitida a partir do status esperado. */
+    INVALIDA
+}
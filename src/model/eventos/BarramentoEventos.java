@@ -0,0 +1,380 @@
+package model.eventos;
+
+import model.dominio.AlocacaoEquipeProjeto;
+import model.dominio.Equipe;
+import model.dominio.ObservadorAlocacao;
+import model.dominio.ObservadorEquipe;
+import model.dominio.ObservadorProjeto;
+import model.dominio.ObservadorTarefa;
+import model.dominio.Projeto;
+import model.dominio.Tarefa;
+import model.dominio.Usuario;
+import model.enums.StatusProjeto;
+import model.enums.StatusTarefa;
+import model.vo.Identificador;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Barramento de eventos de domínio sobre um buffer circular pré-alocado
+ * (no estilo do Disruptor).
+ *
+ * Publicação: as entidades acompanhadas (acompanhar) notificam seus
+ * observadores, e o observador do barramento copia a mudança para o
+ * próximo slot livre. Como Tarefa muda por CAS em qualquer thread, a
+ * reserva do slot também é por CAS (vários publicadores); depois de
+ * preenchido, o slot é marcado como disponível com a volta do buffer em
+ * que foi escrito. Nada é alocado por evento.
+ *
+ * Consumo: cada assinatura tem thread e sequência próprias. A thread lê,
+ * a partir da sua sequência, todos os slots contíguos já disponíveis,
+ * entrega-os ao consumidor como um lote e só então avança a sequência
+ * (liberando os slots). Sem eventos, gira, cede e estaciona; o publicador
+ * nunca acorda ninguém.
+ *
+ * Backpressure: um slot só é reutilizado quando a assinatura mais atrasada
+ * já passou dele. Com o buffer cheio vale a PoliticaBackpressure (por
+ * padrão DESCARTAR: o escritor nunca espera e o descarte é contado).
+ * atraso() de cada assinatura e descartados() tornam o atraso visível.
+ */
+public final class BarramentoEventos {
+
+    public static final int CAPACIDADE_PADRAO = 1 << 16;
+
+    private static final int GIROS = 100;
+    private static final int CESSOES = 100;
+    private static final long ESTACIONAR_NANOS = 50_000;
+
+    private final EventoDominio[] slots;
+    private final int mascara;
+    private final int deslocamento;
+    /** Volta do buffer em que cada slot foi publicado (-1 = nunca). */
+    private final AtomicIntegerArray disponivel;
+    private final PoliticaBackpressure politica;
+    private final ThreadFactory fabrica;
+
+    /** Última sequência reservada por um publicador (-1 = nenhuma). */
+    private final AtomicLong reservada = new AtomicLong(-1);
+    /** Cache do menor progresso entre as assinaturas (evita varrê-las a cada reserva). */
+    private volatile long menorLiberada = -1;
+    private volatile Assinatura[] assinaturas = new Assinatura[0];
+    private final LongAdder descartados = new LongAdder();
+
+    private final ObservadorTarefa observadorTarefa = new ObservadorTarefa() {
+        @Override
+        public void statusAlterado(Tarefa t, StatusTarefa anterior, StatusTarefa novo) {
+            publicar(TipoEvento.TAREFA_STATUS, t, t.getIdentificador(), anterior, null, novo, null);
+        }
+
+        @Override
+        public void responsavelAlterado(Tarefa t, Usuario anterior) {
+            publicar(TipoEvento.TAREFA_RESPONSAVEL, t, t.getIdentificador(), anterior, null, t.getResponsavel(), null);
+        }
+
+        @Override
+        public void datasAlteradas(Tarefa t, LocalDate inicioAnterior, LocalDate terminoAnterior) {
+            publicar(TipoEvento.TAREFA_DATAS, t, t.getIdentificador(), inicioAnterior, terminoAnterior,
+                    t.getDataInicio(), t.getDataTerminoPrevista());
+        }
+
+        @Override
+        public void textoAlterado(Tarefa t, String tituloAnterior, String descricaoAnterior) {
+            publicar(TipoEvento.TAREFA_TEXTO, t, t.getIdentificador(), tituloAnterior, descricaoAnterior,
+                    t.getTitulo(), t.getDescricao());
+        }
+
+        @Override
+        public void esforcoAlterado(Tarefa t, int estimadoAnterior, int realAnterior, int estimadoNovo, int realNovo) {
+            long seq = reservar();
+            if (seq < 0) return;
+            EventoDominio e = slot(seq);
+            e.preencher(TipoEvento.TAREFA_ESFORCO, t, t.getIdentificador(), null, null, null, null);
+            e.numeros(estimadoAnterior, realAnterior, estimadoNovo, realNovo);
+            liberar(seq);
+        }
+    };
+
+    private final ObservadorProjeto observadorProjeto = new ObservadorProjeto() {
+        @Override
+        public void statusAlterado(Projeto p, StatusProjeto anterior) {
+            publicar(TipoEvento.PROJETO_STATUS, p, p.getIdentificador(), anterior, null, p.getStatus(), null);
+        }
+
+        @Override
+        public void datasAlteradas(Projeto p, LocalDate inicioAnterior, LocalDate terminoAnterior) {
+            publicar(TipoEvento.PROJETO_DATAS, p, p.getIdentificador(), inicioAnterior, terminoAnterior,
+                    p.getDataInicio(), p.getDataTerminoPrevista());
+        }
+    };
+
+    private final ObservadorEquipe observadorEquipe = new ObservadorEquipe() {
+        @Override
+        public void membroAdicionado(Equipe e, Usuario u) {
+            publicar(TipoEvento.EQUIPE_MEMBRO_ADICIONADO, e, e.getIdentificador(), null, null, u, null);
+        }
+
+        @Override
+        public void membroRemovido(Equipe e, Usuario u) {
+            publicar(TipoEvento.EQUIPE_MEMBRO_REMOVIDO, e, e.getIdentificador(), u, null, null, null);
+        }
+    };
+
+    private final ObservadorAlocacao observadorAlocacao = new ObservadorAlocacao() {
+        @Override
+        public void periodoAlterado(AlocacaoEquipeProjeto a, LocalDate inicioAnterior, LocalDate fimAnterior) {
+            publicar(TipoEvento.ALOCACAO_PERIODO, a, a.getIdentificador(), inicioAnterior, fimAnterior,
+                    a.getDataInicio(), a.getDataFim());
+        }
+
+        @Override
+        public void capacidadeAlterada(AlocacaoEquipeProjeto a, int capacidadeAnterior) {
+            long seq = reservar();
+            if (seq < 0) return;
+            EventoDominio e = slot(seq);
+            e.preencher(TipoEvento.ALOCACAO_CAPACIDADE, a, a.getIdentificador(), null, null, null, null);
+            e.numeros(capacidadeAnterior, 0, a.getCapacidadeHorasSemana(), 0);
+            liberar(seq);
+        }
+    };
+
+    private BarramentoEventos(int capacidade, PoliticaBackpressure politica, ThreadFactory fabrica) {
+        this.slots = new EventoDominio[capacidade];
+        for (int i = 0; i < capacidade; i++) slots[i] = new EventoDominio();
+        this.mascara = capacidade - 1;
+        this.deslocamento = Integer.numberOfTrailingZeros(capacidade);
+        this.disponivel = new AtomicIntegerArray(capacidade);
+        for (int i = 0; i < capacidade; i++) disponivel.set(i, -1);
+        this.politica = politica;
+        this.fabrica = fabrica;
+    }
+
+    public static BarramentoEventos criar() {
+        return criar(CAPACIDADE_PADRAO, PoliticaBackpressure.DESCARTAR);
+    }
+
+    /** 'capacidade' é arredondada para a próxima potência de 2. */
+    public static BarramentoEventos criar(int capacidade, PoliticaBackpressure politica) {
+        return criar(capacidade, politica, r -> {
+            Thread t = new Thread(r, "barramento-eventos");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public static BarramentoEventos criar(int capacidade, PoliticaBackpressure politica, ThreadFactory fabrica) {
+        if (capacidade <= 0 || capacidade > (1 << 30)) {
+            throw new IllegalArgumentException("capacidade deve estar entre 1 e 2^30.");
+        }
+        Objects.requireNonNull(politica, "politica não pode ser nula");
+        Objects.requireNonNull(fabrica, "fabrica não pode ser nula");
+        int cap = (capacidade == 1) ? 1 : Integer.highestOneBit(capacidade - 1) << 1;
+        return new BarramentoEventos(cap, politica, fabrica);
+    }
+
+    // ----------------- Fontes -----------------
+
+    public void acompanhar(Tarefa tarefa) { tarefa.adicionarObservador(observadorTarefa); }
+    public void acompanhar(Projeto projeto) { projeto.adicionarObservador(observadorProjeto); }
+    public void acompanhar(Equipe equipe) { equipe.adicionarObservador(observadorEquipe); }
+    public void acompanhar(AlocacaoEquipeProjeto alocacao) { alocacao.adicionarObservador(observadorAlocacao); }
+
+    public void deixarDeAcompanhar(Tarefa tarefa) { tarefa.removerObservador(observadorTarefa); }
+    public void deixarDeAcompanhar(Projeto projeto) { projeto.removerObservador(observadorProjeto); }
+    public void deixarDeAcompanhar(Equipe equipe) { equipe.removerObservador(observadorEquipe); }
+    public void deixarDeAcompanhar(AlocacaoEquipeProjeto alocacao) { alocacao.removerObservador(observadorAlocacao); }
+
+    // ----------------- Assinaturas -----------------
+
+    /**
+     * Inicia uma assinatura em thread própria. Ela recebe os eventos
+     * publicados a partir de agora (não os anteriores).
+     */
+    public synchronized Assinatura assinar(String nome, ConsumidorEventos consumidor) {
+        Objects.requireNonNull(nome, "nome não pode ser nulo");
+        Objects.requireNonNull(consumidor, "consumidor não pode ser nulo");
+        Assinatura a = new Assinatura(nome, consumidor, reservada.get());
+        Assinatura[] novas = Arrays.copyOf(assinaturas, assinaturas.length + 1);
+        novas[novas.length - 1] = a;
+        assinaturas = novas;
+        a.thread = fabrica.newThread(a::executar);
+        a.thread.start();
+        return a;
+    }
+
+    private synchronized void remover(Assinatura a) {
+        Assinatura[] atuais = assinaturas;
+        for (int i = 0; i < atuais.length; i++) {
+            if (atuais[i] == a) {
+                Assinatura[] novas = new Assinatura[atuais.length - 1];
+                System.arraycopy(atuais, 0, novas, 0, i);
+                System.arraycopy(atuais, i + 1, novas, i, atuais.length - i - 1);
+                assinaturas = novas;
+                return;
+            }
+        }
+    }
+
+    /** Espera as assinaturas processarem tudo o que já foi publicado e as encerra. */
+    public void encerrar() throws InterruptedException {
+        for (Assinatura a : assinaturas) a.cancelar(true);
+    }
+
+    // ----------------- Métricas -----------------
+
+    public int capacidade() { return slots.length; }
+
+    public PoliticaBackpressure politica() { return politica; }
+
+    /** Eventos publicados (sequências reservadas) desde a criação. */
+    public long publicados() { return reservada.get() + 1; }
+
+    /** Eventos perdidos por buffer cheio (política DESCARTAR). */
+    public long descartados() { return descartados.sum(); }
+
+    // ----------------- Publicação -----------------
+
+    private void publicar(TipoEvento tipo, Object entidade, Identificador id,
+                          Object anterior, Object anteriorSecundario, Object novo, Object novoSecundario) {
+        long seq = reservar();
+        if (seq < 0) return;
+        slot(seq).preencher(tipo, entidade, id, anterior, anteriorSecundario, novo, novoSecundario);
+        liberar(seq);
+    }
+
+    /** Reserva a próxima sequência; -1 se descartado pela política. */
+    private long reservar() {
+        int ociosas = 0;
+        while (true) {
+            long atual = reservada.get();
+            long proxima = atual + 1;
+            if (proxima - slots.length > menorLiberada) {
+                // o cache diz cheio: recalcula antes de aplicar a política
+                long menor = menorSequencia(atual);
+                menorLiberada = menor;
+                if (proxima - slots.length > menor) {
+                    switch (politica) {
+                        case DESCARTAR:
+                            descartados.increment();
+                            return -1;
+                        case FALHAR:
+                            throw new IllegalStateException("Barramento de eventos cheio: assinatura atrasada.");
+                        default:
+                            esperar(ociosas++);
+                            continue;
+                    }
+                }
+            }
+            if (reservada.compareAndSet(atual, proxima)) return proxima;
+        }
+    }
+
+    /** Menor sequência já processada por todas as assinaturas ('padrao' se não há nenhuma). */
+    private long menorSequencia(long padrao) {
+        long menor = padrao;
+        for (Assinatura a : assinaturas) menor = Math.min(menor, a.sequencia.get());
+        return menor;
+    }
+
+    private EventoDominio slot(long seq) {
+        return slots[(int) seq & mascara];
+    }
+
+    private void liberar(long seq) {
+        disponivel.lazySet((int) seq & mascara, (int) (seq >>> deslocamento));
+    }
+
+    private boolean publicada(long seq) {
+        return disponivel.get((int) seq & mascara) == (int) (seq >>> deslocamento);
+    }
+
+    private static void esperar(int ociosas) {
+        if (ociosas < GIROS) Thread.onSpinWait();
+        else if (ociosas < GIROS + CESSOES) Thread.yield();
+        else LockSupport.parkNanos(ESTACIONAR_NANOS);
+    }
+
+    // ----------------- Assinatura -----------------
+
+    /** Uma assinatura ativa: thread, sequência e contadores próprios. */
+    public final class Assinatura {
+        private final String nome;
+        private final ConsumidorEventos consumidor;
+        /** Última sequência processada; libera os slots até ela. */
+        private final AtomicLong sequencia;
+        private final AtomicLong lotes = new AtomicLong();
+        private final AtomicLong falhas = new AtomicLong();
+        private final AtomicReference<RuntimeException> primeiraFalha = new AtomicReference<>();
+        private volatile boolean ativa = true;
+        private volatile boolean drenar;
+        private Thread thread;
+
+        private Assinatura(String nome, ConsumidorEventos consumidor, long inicio) {
+            this.nome = nome;
+            this.consumidor = consumidor;
+            this.sequencia = new AtomicLong(inicio);
+        }
+
+        private void executar() {
+            long proxima = sequencia.get() + 1;
+            int ociosas = 0;
+            while (ativa) {
+                long limite = reservada.get();
+                long ultima = proxima - 1;
+                while (ultima < limite && publicada(ultima + 1)) ultima++;
+                if (ultima < proxima) {
+                    if (drenar && limite < proxima) break;
+                    esperar(ociosas++);
+                    continue;
+                }
+                ociosas = 0;
+                for (long s = proxima; s <= ultima; s++) {
+                    try {
+                        consumidor.aoEvento(slot(s), s, s == ultima);
+                    } catch (RuntimeException e) {
+                        falhas.incrementAndGet();
+                        primeiraFalha.compareAndSet(null, e);
+                    }
+                }
+                lotes.incrementAndGet();
+                sequencia.set(ultima);
+                proxima = ultima + 1;
+            }
+        }
+
+        public String getNome() { return nome; }
+
+        /** Última sequência processada (-1 se nenhuma). */
+        public long sequencia() { return sequencia.get(); }
+
+        /** Eventos publicados que esta assinatura ainda não processou. */
+        public long atraso() { return Math.max(0, reservada.get() - sequencia.get()); }
+
+        /** Quantidade de lotes entregues (eventos / lotes = tamanho médio do lote). */
+        public long lotes() { return lotes.get(); }
+
+        /** Eventos em que o consumidor lançou exceção (o processamento continua). */
+        public long falhas() { return falhas.get(); }
+
+        public RuntimeException primeiraFalha() { return primeiraFalha.get(); }
+
+        /**
+         * Encerra a assinatura e libera os slots que ela retinha. Com
+         * 'drenarAntes', processa primeiro tudo o que já foi publicado.
+         */
+        public void cancelar(boolean drenarAntes) throws InterruptedException {
+            if (drenarAntes) drenar = true;
+            else ativa = false;
+            thread.join();
+            ativa = false;
+            remover(this);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package model.eventos;
+
+/**
+ * Assinante do BarramentoEventos. Roda na thread própria da assinatura e
+ * recebe os eventos em lotes, na ordem das sequências.
+ *
+ * O EventoDominio é o slot do buffer: só vale durante a chamada (será
+ * reutilizado). Para guardá-lo, use evento.copia().
+ */
+@FunctionalInterface
+public interface ConsumidorEventos {
+
+    /**
+     * 'fimDoLote' é true no último evento disponível no momento: bom ponto
+     * para descarregar o que foi acumulado (flush de log, commit de índice).
+     */
+    void aoEvento(EventoDominio evento, long sequencia, boolean fimDoLote);
+}
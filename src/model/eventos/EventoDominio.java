@@ -0,0 +1,96 @@
+package model.eventos;
+
+import model.dominio.AlocacaoEquipeProjeto;
+import model.dominio.Equipe;
+import model.dominio.Projeto;
+import model.dominio.Tarefa;
+import model.vo.Identificador;
+
+/**
+ * Evento de mudança numa entidade do domínio. As instâncias são os slots
+ * pré-alocados do BarramentoEventos e são reescritas a cada volta do
+ * buffer: publicar não aloca. Os campos genéricos (anterior/novo e os
+ * numéricos) são interpretados conforme o TipoEvento.
+ */
+public final class EventoDominio {
+
+    TipoEvento tipo;
+    Object entidade;
+    Identificador id;
+    Object anterior;
+    Object anteriorSecundario;
+    Object novo;
+    Object novoSecundario;
+    int numeroAnterior;
+    int numeroAnteriorSecundario;
+    int numeroNovo;
+    int numeroNovoSecundario;
+
+    EventoDominio() {
+    }
+
+    /** Preenche o slot, zerando o que o tipo não usa. */
+    void preencher(TipoEvento tipo, Object entidade, Identificador id,
+                   Object anterior, Object anteriorSecundario, Object novo, Object novoSecundario) {
+        this.tipo = tipo;
+        this.entidade = entidade;
+        this.id = id;
+        this.anterior = anterior;
+        this.anteriorSecundario = anteriorSecundario;
+        this.novo = novo;
+        this.novoSecundario = novoSecundario;
+        this.numeroAnterior = 0;
+        this.numeroAnteriorSecundario = 0;
+        this.numeroNovo = 0;
+        this.numeroNovoSecundario = 0;
+    }
+
+    void numeros(int anterior, int anteriorSecundario, int novo, int novoSecundario) {
+        this.numeroAnterior = anterior;
+        this.numeroAnteriorSecundario = anteriorSecundario;
+        this.numeroNovo = novo;
+        this.numeroNovoSecundario = novoSecundario;
+    }
+
+    /** Cópia desacoplada do buffer, para quem precisa guardar o evento. */
+    public EventoDominio copia() {
+        EventoDominio c = new EventoDominio();
+        c.preencher(tipo, entidade, id, anterior, anteriorSecundario, novo, novoSecundario);
+        c.numeros(numeroAnterior, numeroAnteriorSecundario, numeroNovo, numeroNovoSecundario);
+        return c;
+    }
+
+    public TipoEvento getTipo() { return tipo; }
+
+    /** Id da entidade alterada. */
+    public Identificador getId() { return id; }
+
+    /** A entidade alterada (estado atual, que pode já refletir mudanças posteriores). */
+    public Object getEntidade() { return entidade; }
+
+    public Tarefa getTarefa() { return (entidade instanceof Tarefa) ? (Tarefa) entidade : null; }
+    public Projeto getProjeto() { return (entidade instanceof Projeto) ? (Projeto) entidade : null; }
+    public Equipe getEquipe() { return (entidade instanceof Equipe) ? (Equipe) entidade : null; }
+    public AlocacaoEquipeProjeto getAlocacao() {
+        return (entidade instanceof AlocacaoEquipeProjeto) ? (AlocacaoEquipeProjeto) entidade : null;
+    }
+
+    public Object getAnterior() { return anterior; }
+    public Object getAnteriorSecundario() { return anteriorSecundario; }
+    public Object getNovo() { return novo; }
+    public Object getNovoSecundario() { return novoSecundario; }
+    public int getNumeroAnterior() { return numeroAnterior; }
+    public int getNumeroAnteriorSecundario() { return numeroAnteriorSecundario; }
+    public int getNumeroNovo() { return numeroNovo; }
+    public int getNumeroNovoSecundario() { return numeroNovoSecundario; }
+
+    @Override
+    public String toString() {
+        return "EventoDominio{" +
+                "tipo=" + tipo +
+                ", id=" + id +
+                ", anterior=" + (anterior != null ? anterior : numeroAnterior) +
+                ", novo=" + (novo != null ? novo : numeroNovo) +
+                '}';
+    }
+}
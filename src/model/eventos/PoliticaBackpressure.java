@@ -0,0 +1,17 @@
+package model.eventos;
+
+/**
+ * O que o publicador faz quando o buffer está cheio, isto é, quando o
+ * consumidor mais atrasado ainda não liberou o slot que seria reutilizado.
+ */
+public enum PoliticaBackpressure {
+    /** Não publica e conta o descarte: o escritor nunca espera (padrão). */
+    DESCARTAR,
+    /** Espera (girando e depois estacionando) até o consumidor liberar espaço. */
+    AGUARDAR,
+    /**
+     * Lança IllegalStateException na thread da mutação. A mutação em si já
+     * foi aplicada (a publicação é um observador): só o evento se perde.
+     */
+    FALHAR
+}
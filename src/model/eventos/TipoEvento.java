@@ -0,0 +1,30 @@
+package model.eventos;
+
+/**
+ * Tipos de EventoDominio e o significado dos campos de cada um.
+ * "Novo" é o valor lido da entidade no momento da publicação.
+ */
+public enum TipoEvento {
+    /** anterior/novo: StatusTarefa. */
+    TAREFA_STATUS,
+    /** anterior/novo: Usuario (qualquer um pode ser null). */
+    TAREFA_RESPONSAVEL,
+    /** anterior/anteriorSecundario: início/término previsto anteriores (LocalDate); novo/novoSecundario: atuais. */
+    TAREFA_DATAS,
+    /** anterior/anteriorSecundario: título/descrição anteriores (String); novo/novoSecundario: atuais. */
+    TAREFA_TEXTO,
+    /** numeroAnterior/numeroAnteriorSecundario: estimado/real anteriores; numeroNovo/numeroNovoSecundario: aplicados. */
+    TAREFA_ESFORCO,
+    /** anterior/novo: StatusProjeto. */
+    PROJETO_STATUS,
+    /** Como TAREFA_DATAS, para o projeto. */
+    PROJETO_DATAS,
+    /** novo: Usuario adicionado. */
+    EQUIPE_MEMBRO_ADICIONADO,
+    /** anterior: Usuario removido. */
+    EQUIPE_MEMBRO_REMOVIDO,
+    /** anterior/anteriorSecundario: início/fim anteriores (fim pode ser null); novo/novoSecundario: atuais. */
+    ALOCACAO_PERIODO,
+    /** numeroAnterior/numeroNovo: capacidade semanal em horas. */
+    ALOCACAO_CAPACIDADE
+}
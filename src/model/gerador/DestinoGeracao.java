@@ -0,0 +1,55 @@
+package model.gerador;
+
+import model.dominio.AlocacaoEquipeProjeto;
+import model.dominio.ComentarioTarefa;
+import model.dominio.Equipe;
+import model.dominio.Projeto;
+import model.dominio.RegistroEsforco;
+import model.dominio.Tarefa;
+import model.dominio.Usuario;
+import model.persistencia.GerenciadorSnapshots;
+
+/**
+ * Recebe as entidades geradas, sempre de uma única thread e em ordem de
+ * dependência (usuários, equipes, projetos, alocações, tarefas, lançamentos,
+ * comentários): a implementação não precisa ser thread-safe.
+ * Métodos vazios por padrão.
+ */
+public interface DestinoGeracao {
+
+    default void incluir(Usuario usuario) {}
+
+    default void incluir(Equipe equipe) {}
+
+    default void incluir(Projeto projeto) {}
+
+    default void incluir(AlocacaoEquipeProjeto alocacao) {}
+
+    default void incluir(Tarefa tarefa) {}
+
+    default void incluir(RegistroEsforco registro) {}
+
+    default void incluir(ComentarioTarefa comentario) {}
+
+    /** Chamado depois de cada lote entregue (até 1024 entidades de um mesmo tipo). */
+    default void fimDoLote() {}
+
+    /**
+     * Destino que põe cada entidade no catálogo e grava cada lote entregue
+     * no log do gerenciador com um único fsync. O catálogo retém tudo, então
+     * aqui a memória cresce com o portfólio (inclusive lançamentos e comentários).
+     */
+    static DestinoGeracao para(GerenciadorSnapshots gerenciador) {
+        GerenciadorSnapshots.Lote lote = gerenciador.novoLote();
+        return new DestinoGeracao() {
+            @Override public void incluir(Usuario usuario) { lote.incluir(usuario); }
+            @Override public void incluir(Equipe equipe) { lote.incluir(equipe); }
+            @Override public void incluir(Projeto projeto) { lote.incluir(projeto); }
+            @Override public void incluir(AlocacaoEquipeProjeto alocacao) { lote.incluir(alocacao); }
+            @Override public void incluir(Tarefa tarefa) { lote.incluir(tarefa); }
+            @Override public void incluir(RegistroEsforco registro) { lote.incluir(registro); }
+            @Override public void incluir(ComentarioTarefa comentario) { lote.incluir(comentario); }
+            @Override public void fimDoLote() { lote.confirmar(); }
+        };
+    }
+}
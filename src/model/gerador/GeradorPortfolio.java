@@ -0,0 +1,554 @@
+package model.gerador;
+
+import model.dominio.AlocacaoEquipeProjeto;
+import model.dominio.ComentarioTarefa;
+import model.dominio.Equipe;
+import model.dominio.Projeto;
+import model.dominio.RegistroEsforco;
+import model.dominio.Tarefa;
+import model.dominio.Usuario;
+import model.enums.Perfil;
+import model.enums.PrioridadeTarefa;
+import model.enums.StatusProjeto;
+import model.enums.StatusTarefa;
+import model.util.HashSenha;
+import model.vo.CPF;
+import model.vo.Identificador;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * Gera um portfólio sintético grande (testes de carga, benchmarks, demos)
+ * passando sempre pelas fábricas restaurar do domínio, então todas as
+ * invariantes valem: CPF com dígitos verificadores corretos, e-mail válido,
+ * gerente com perfil adequado, datas coerentes com o status etc.
+ *
+ * Determinístico: cada item i de cada tipo usa um gerador próprio semeado
+ * por (semente, tipo, i), e os ids são UUIDv7 derivados do mesmo par.
+ * A mesma semente produz o mesmo portfólio, com os mesmos ids, qualquer que
+ * seja o paralelismo. As datas são relativas a uma data de referência fixa
+ * (e não a hoje), para o resultado não mudar de um dia para outro.
+ *
+ * A geração é feita em estágios (usuários, equipes, projetos, alocações,
+ * tarefas, lançamentos, comentários), cada um em lotes paralelos entregues
+ * ao DestinoGeracao por uma única thread, na ordem dos índices; no máximo
+ * 2 lotes por worker ficam em voo; depois de cada lote o destino recebe
+ * fimDoLote(). Lançamentos de esforço e comentários não ficam retidos pelo
+ * gerador: vão direto ao destino, então a memória do gerador não cresce com
+ * eles (a do destino depende dele; um catálogo, por exemplo, guarda tudo).
+ *
+ * Distribuições:
+ *  - perfis: ~1% ADMINISTRADOR, ~5% GERENTE, resto COLABORADOR;
+ *  - tamanho de equipe assimétrico (Pareto): a maioria pequena, poucas grandes;
+ *  - projetos em todos os StatusProjeto, com datas coerentes com o status;
+ *  - 1 a 4 equipes por projeto, com equipes compartilhadas entre projetos e
+ *    períodos sobrepostos (parte em aberto);
+ *  - prioridade ~20% BAIXA, 50% MEDIA, 22% ALTA, 8% CRITICA;
+ *  - lançamentos só em tarefas já iniciadas; comentários concentrados em
+ *    poucas tarefas "quentes".
+ */
+public final class GeradorPortfolio {
+
+    /** Senha de todos os usuários gerados (o hash é calculado por login). */
+    public static final String SENHA_PADRAO = "senha123";
+
+    public static final LocalDate REFERENCIA_PADRAO = LocalDate.of(2024, 1, 1);
+
+    private static final int LOTE = 1024;
+    private static final int TAMANHO_MAXIMO_EQUIPE = 250;
+    private static final int MAXIMO_USUARIOS = 100_000_000;
+
+    // tipos: entram no id e na semente de cada item
+    private static final int USUARIO = 1, EQUIPE = 2, PROJETO = 3, ALOCACAO = 4,
+            TAREFA = 5, REGISTRO = 6, COMENTARIO = 7;
+
+    private static final String[] NOMES = {
+            "Ana", "Bruno", "Carla", "Daniel", "Eduarda", "Felipe", "Gabriela", "Henrique",
+            "Isabela", "João", "Larissa", "Marcos", "Natália", "Otávio", "Paula", "Rafael",
+            "Sofia", "Thiago", "Vanessa", "William"
+    };
+    private static final String[] SOBRENOMES = {
+            "Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira", "Alves", "Pereira",
+            "Lima", "Gomes", "Costa", "Ribeiro", "Martins", "Carvalho", "Almeida", "Lopes"
+    };
+    private static final String[] CARGOS = {
+            "Analista", "Desenvolvedor", "Testador", "Designer", "Arquiteto", "Analista de Dados"
+    };
+    private static final String[] AREAS = {
+            "Plataforma", "Pagamentos", "Cadastro", "Relatórios", "Mobile", "Integrações",
+            "Infraestrutura", "Atendimento", "Financeiro", "Logística"
+    };
+    private static final String[] ACOES = {
+            "Implementar", "Revisar", "Corrigir", "Documentar", "Testar", "Migrar", "Otimizar", "Especificar"
+    };
+    private static final String[] OBJETOS = {
+            "tela de login", "relatório mensal", "integração com ERP", "cadastro de clientes",
+            "fluxo de pagamento", "exportação CSV", "painel de indicadores", "API de pedidos",
+            "notificações por e-mail", "controle de acesso"
+    };
+    private static final String[] FRASES = {
+            "Ajustei conforme combinado na reunião.",
+            "Aguardando validação do cliente.",
+            "Encontrei um erro na validação dos campos obrigatórios.",
+            "Subi a correção para homologação.",
+            "Preciso de acesso ao ambiente de testes.",
+            "O prazo precisa ser revisto por causa da dependência externa.",
+            "Testes automatizados passando.",
+            "Documentação atualizada.",
+            "Bloqueado até a liberação do fornecedor.",
+            "Revisão concluída, sem pendências."
+    };
+
+    private final long semente;
+    private LocalDate referencia = REFERENCIA_PADRAO;
+    private int usuarios = 1_000;
+    private int equipes = 50;
+    private int projetos = 100;
+    private int tarefasPorProjeto = 20;
+    private long registros = 100_000;
+    private long comentarios = 100_000;
+    private int paralelismo = Runtime.getRuntime().availableProcessors();
+
+    private GeradorPortfolio(long semente) {
+        this.semente = semente;
+    }
+
+    /** Gerador com volumes padrão (ajustáveis pelos métodos com*). */
+    public static GeradorPortfolio criar(long semente) {
+        return new GeradorPortfolio(semente);
+    }
+
+    // ----------------- Configuração -----------------
+
+    /** Data que separa "passado" de "futuro" nas datas geradas. */
+    public GeradorPortfolio comReferencia(LocalDate referencia) {
+        this.referencia = Objects.requireNonNull(referencia, "referencia não pode ser nula");
+        return this;
+    }
+
+    /** Até 100 milhões (limite da faixa de CPFs únicos). */
+    public GeradorPortfolio comUsuarios(int quantidade) {
+        if (quantidade <= 0 || quantidade > MAXIMO_USUARIOS) {
+            throw new IllegalArgumentException("usuarios deve estar entre 1 e " + MAXIMO_USUARIOS + ".");
+        }
+        this.usuarios = quantidade;
+        return this;
+    }
+
+    public GeradorPortfolio comEquipes(int quantidade) {
+        if (quantidade < 0) throw new IllegalArgumentException("equipes deve ser >= 0.");
+        this.equipes = quantidade;
+        return this;
+    }
+
+    public GeradorPortfolio comProjetos(int quantidade) {
+        if (quantidade < 0) throw new IllegalArgumentException("projetos deve ser >= 0.");
+        this.projetos = quantidade;
+        return this;
+    }
+
+    public GeradorPortfolio comTarefasPorProjeto(int quantidade) {
+        if (quantidade < 0) throw new IllegalArgumentException("tarefasPorProjeto deve ser >= 0.");
+        this.tarefasPorProjeto = quantidade;
+        return this;
+    }
+
+    public GeradorPortfolio comRegistrosEsforco(long quantidade) {
+        if (quantidade < 0) throw new IllegalArgumentException("registros deve ser >= 0.");
+        this.registros = quantidade;
+        return this;
+    }
+
+    public GeradorPortfolio comComentarios(long quantidade) {
+        if (quantidade < 0) throw new IllegalArgumentException("comentarios deve ser >= 0.");
+        this.comentarios = quantidade;
+        return this;
+    }
+
+    /** Número de threads geradoras; não altera o resultado, só o tempo. */
+    public GeradorPortfolio comParalelismo(int threads) {
+        if (threads <= 0) throw new IllegalArgumentException("paralelismo deve ser > 0.");
+        this.paralelismo = threads;
+        return this;
+    }
+
+    // ----------------- Geração -----------------
+
+    /** Gera o portfólio, entregando cada entidade ao destino assim que confirmada. */
+    public Portfolio gerar(DestinoGeracao destino) {
+        Objects.requireNonNull(destino, "destino não pode ser nulo");
+        if ((long) projetos * tarefasPorProjeto > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("projetos × tarefasPorProjeto excede o limite de tarefas.");
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(paralelismo, r -> {
+            Thread t = new Thread(r, "gerador-portfolio");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            return new Execucao(pool, destino).executar();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /** Estado de uma geração. As listas só são escritas pela thread chamadora, entre estágios. */
+    private final class Execucao {
+        private final ExecutorService pool;
+        private final DestinoGeracao destino;
+
+        private final List<Usuario> listaUsuarios = new ArrayList<>(usuarios);
+        private final List<Usuario> gerentes = new ArrayList<>();
+        private final List<Equipe> listaEquipes = new ArrayList<>(equipes);
+        private final List<Projeto> listaProjetos = new ArrayList<>(projetos);
+        private final List<AlocacaoEquipeProjeto> listaAlocacoes = new ArrayList<>();
+        private final List<List<Equipe>> equipesDoProjeto = new ArrayList<>(projetos);
+        private final List<Tarefa> listaTarefas = new ArrayList<>(projetos * tarefasPorProjeto);
+        private int[] tarefasIniciadas = new int[0];
+        private long totalRegistros;
+        private long totalComentarios;
+
+        Execucao(ExecutorService pool, DestinoGeracao destino) {
+            this.pool = pool;
+            this.destino = destino;
+        }
+
+        Portfolio executar() {
+            emLotes(usuarios, this::usuario, u -> {
+                listaUsuarios.add(u);
+                if (u.getPerfil() != Perfil.COLABORADOR) gerentes.add(u);
+                destino.incluir(u);
+            });
+            emLotes(equipes, this::equipe, e -> {
+                listaEquipes.add(e);
+                destino.incluir(e);
+            });
+            emLotes(projetos, this::projeto, p -> {
+                listaProjetos.add(p);
+                destino.incluir(p);
+            });
+            emLotes(projetos, this::alocacoes, lista -> {
+                List<Equipe> doProjeto = new ArrayList<>(lista.size());
+                for (AlocacaoEquipeProjeto a : lista) {
+                    listaAlocacoes.add(a);
+                    doProjeto.add(a.getEquipe());
+                    destino.incluir(a);
+                }
+                equipesDoProjeto.add(doProjeto);
+            });
+            emLotes((long) projetos * tarefasPorProjeto, this::tarefa, t -> {
+                listaTarefas.add(t);
+                destino.incluir(t);
+            });
+
+            tarefasIniciadas = iniciadas();
+            if (tarefasIniciadas.length > 0) {
+                emLotes(registros, this::registro, r -> {
+                    totalRegistros++;
+                    destino.incluir(r);
+                });
+            }
+            if (!listaTarefas.isEmpty()) {
+                emLotes(comentarios, this::comentario, c -> {
+                    totalComentarios++;
+                    destino.incluir(c);
+                });
+            }
+            return new Portfolio(listaUsuarios, listaEquipes, listaProjetos, listaAlocacoes,
+                    listaTarefas, totalRegistros, totalComentarios);
+        }
+
+        // ----------------- Itens -----------------
+
+        private Usuario usuario(long i) {
+            SplittableRandom r = aleatorio(USUARIO, i);
+            double p = r.nextDouble();
+            // o primeiro é sempre administrador: garante ao menos um gerente válido para projetos
+            Perfil perfil = (i == 0 || p < 0.01) ? Perfil.ADMINISTRADOR
+                    : (p < 0.06) ? Perfil.GERENTE : Perfil.COLABORADOR;
+            String nome = escolher(r, NOMES) + " " + escolher(r, SOBRENOMES) + " " + escolher(r, SOBRENOMES);
+            String cargo = (perfil == Perfil.COLABORADOR) ? escolher(r, CARGOS)
+                    : (perfil == Perfil.GERENTE) ? "Gerente de Projetos" : "Administrador";
+            String login = "usuario" + i;
+            return Usuario.restaurar(id(USUARIO, i), nome, cpf(i), login + "@exemplo.com.br",
+                    cargo, login, HashSenha.calcular(login, SENHA_PADRAO), perfil);
+        }
+
+        private Equipe equipe(long i) {
+            SplittableRandom r = aleatorio(EQUIPE, i);
+            // Pareto(xm = 3, alfa = 1.5): mediana ~4, cauda até TAMANHO_MAXIMO_EQUIPE
+            int limite = Math.max(1, Math.min(TAMANHO_MAXIMO_EQUIPE, usuarios / 2));
+            int tamanho = (int) Math.min(limite, 3 / Math.pow(1 - r.nextDouble(), 1 / 1.5));
+            Set<Usuario> membros = new LinkedHashSet<>();
+            while (membros.size() < tamanho) membros.add(listaUsuarios.get(r.nextInt(usuarios)));
+            String area = escolher(r, AREAS);
+            return Equipe.restaurar(id(EQUIPE, i), String.format("Equipe %s %04d", area, i),
+                    "Time de " + area.toLowerCase(), new ArrayList<>(membros));
+        }
+
+        private Projeto projeto(long i) {
+            SplittableRandom r = aleatorio(PROJETO, i);
+            double p = r.nextDouble();
+            StatusProjeto status = (p < 0.20) ? StatusProjeto.PLANEJADO
+                    : (p < 0.65) ? StatusProjeto.EM_ANDAMENTO
+                    : (p < 0.90) ? StatusProjeto.CONCLUIDO : StatusProjeto.CANCELADO;
+            int duracao = 60 + r.nextInt(661);
+            LocalDate inicio;
+            switch (status) {
+                case PLANEJADO:
+                    inicio = referencia.plusDays(1 + r.nextInt(180));
+                    break;
+                case EM_ANDAMENTO: // começou e ainda não terminou
+                    inicio = referencia.minusDays(1 + r.nextInt(duracao - 1));
+                    break;
+                case CONCLUIDO: // terminou antes da referência
+                    inicio = referencia.minusDays(duracao + 1 + r.nextInt(720));
+                    break;
+                default:
+                    inicio = referencia.minusDays(r.nextInt(1080));
+            }
+            String area = escolher(r, AREAS);
+            return Projeto.restaurar(id(PROJETO, i), String.format("Projeto %s %05d", area, i),
+                    "Projeto sintético da área de " + area.toLowerCase(),
+                    inicio, inicio.plusDays(duracao), gerentes.get(r.nextInt(gerentes.size())), status);
+        }
+
+        private List<AlocacaoEquipeProjeto> alocacoes(long i) {
+            if (equipes == 0) return Collections.emptyList();
+            SplittableRandom r = aleatorio(ALOCACAO, i);
+            Projeto projeto = listaProjetos.get((int) i);
+            int quantidade = Math.min(equipes, 1 + (int) (4 * r.nextDouble() * r.nextDouble()));
+            Set<Equipe> escolhidas = new LinkedHashSet<>();
+            while (escolhidas.size() < quantidade) {
+                // equipes de índice baixo são mais disputadas: mais sobreposição entre projetos
+                escolhidas.add(listaEquipes.get((int) (equipes * r.nextDouble() * r.nextDouble())));
+            }
+            long dias = projeto.getDataInicio().until(projeto.getDataTerminoPrevista(), ChronoUnit.DAYS) + 1;
+            List<AlocacaoEquipeProjeto> lista = new ArrayList<>(quantidade);
+            int k = 0;
+            for (Equipe e : escolhidas) {
+                LocalDate inicio = projeto.getDataInicio().plusDays(r.nextLong(Math.max(1, dias / 3)));
+                LocalDate fim = (r.nextDouble() < 0.3) ? null : inicio.plusDays(30 + r.nextLong(dias));
+                lista.add(AlocacaoEquipeProjeto.restaurar(id(ALOCACAO, i * 8 + k++), projeto, e,
+                        inicio, fim, 10 * (1 + r.nextInt(16)), ""));
+            }
+            return lista;
+        }
+
+        private Tarefa tarefa(long i) {
+            SplittableRandom r = aleatorio(TAREFA, i);
+            int p = (int) (i / tarefasPorProjeto);
+            Projeto projeto = listaProjetos.get(p);
+            LocalDate pIni = projeto.getDataInicio();
+            long dias = pIni.until(projeto.getDataTerminoPrevista(), ChronoUnit.DAYS);
+            LocalDate inicio = pIni.plusDays(r.nextLong(dias + 1));
+            // duração: a maioria curta, poucas longas
+            LocalDate termino = inicio.plusDays((long) (1 + 45 * r.nextDouble() * r.nextDouble()));
+
+            double q = r.nextDouble();
+            PrioridadeTarefa prioridade = (q < 0.20) ? PrioridadeTarefa.BAIXA
+                    : (q < 0.70) ? PrioridadeTarefa.MEDIA
+                    : (q < 0.92) ? PrioridadeTarefa.ALTA : PrioridadeTarefa.CRITICA;
+            StatusTarefa status = statusTarefa(r, projeto.getStatus(), inicio, termino);
+            int estimado = (int) Math.round(Math.exp(1 + 3 * r.nextDouble())); // ~3h a ~55h
+            int real;
+            LocalDate conclusao = null;
+            switch (status) {
+                case CONCLUIDA:
+                    real = (int) Math.round(estimado * (0.7 + 0.9 * r.nextDouble()));
+                    conclusao = termino.plusDays(r.nextInt(14) - 3);
+                    if (conclusao.isBefore(inicio)) conclusao = inicio;
+                    break;
+                case EM_ANDAMENTO:
+                case BLOQUEADA:
+                case CANCELADA:
+                    real = (int) Math.round(estimado * 0.8 * r.nextDouble());
+                    break;
+                default:
+                    real = 0;
+            }
+
+            Usuario responsavel = null;
+            if (r.nextDouble() >= 0.1) {
+                List<Equipe> doProjeto = equipesDoProjeto.get(p);
+                if (doProjeto.isEmpty()) {
+                    responsavel = listaUsuarios.get(r.nextInt(usuarios));
+                } else {
+                    List<Usuario> membros = doProjeto.get(r.nextInt(doProjeto.size())).getMembros();
+                    responsavel = membros.isEmpty() ? null : membros.get(r.nextInt(membros.size()));
+                }
+            }
+            String objeto = escolher(r, OBJETOS);
+            return Tarefa.restaurar(id(TAREFA, i), projeto, escolher(r, ACOES) + " " + objeto,
+                    "Tarefa " + (i % tarefasPorProjeto + 1) + " do projeto: " + objeto,
+                    responsavel, prioridade, status, inicio, termino, estimado, real, conclusao);
+        }
+
+        private StatusTarefa statusTarefa(SplittableRandom r, StatusProjeto projeto, LocalDate inicio, LocalDate termino) {
+            double q = r.nextDouble();
+            switch (projeto) {
+                case PLANEJADO:
+                    return StatusTarefa.NOVA;
+                case CONCLUIDO:
+                    return (q < 0.95) ? StatusTarefa.CONCLUIDA : StatusTarefa.CANCELADA;
+                case CANCELADO:
+                    return (q < 0.3 && termino.isBefore(referencia)) ? StatusTarefa.CONCLUIDA : StatusTarefa.CANCELADA;
+                default:
+                    if (inicio.isAfter(referencia)) return StatusTarefa.NOVA;
+                    if (termino.isBefore(referencia)) {
+                        return (q < 0.85) ? StatusTarefa.CONCLUIDA
+                                : (q < 0.95) ? StatusTarefa.EM_ANDAMENTO : StatusTarefa.BLOQUEADA;
+                    }
+                    return (q < 0.2) ? StatusTarefa.NOVA
+                            : (q < 0.9) ? StatusTarefa.EM_ANDAMENTO : StatusTarefa.BLOQUEADA;
+            }
+        }
+
+        private RegistroEsforco registro(long i) {
+            SplittableRandom r = aleatorio(REGISTRO, i);
+            Tarefa tarefa = listaTarefas.get(tarefasIniciadas[r.nextInt(tarefasIniciadas.length)]);
+            Usuario usuario = (tarefa.getResponsavel() != null && r.nextDouble() < 0.8)
+                    ? tarefa.getResponsavel() : listaUsuarios.get(r.nextInt(usuarios));
+            return RegistroEsforco.restaurar(id(REGISTRO, i), tarefa, usuario,
+                    tarefa.getDataInicio().plusDays(r.nextLong(diasAtivos(tarefa))),
+                    1 + r.nextInt(8), r.nextDouble() < 0.3 ? escolher(r, FRASES) : "");
+        }
+
+        private ComentarioTarefa comentario(long i) {
+            SplittableRandom r = aleatorio(COMENTARIO, i);
+            // u³ concentra a maior parte dos comentários nas primeiras tarefas
+            double u = r.nextDouble();
+            Tarefa tarefa = listaTarefas.get((int) (listaTarefas.size() * u * u * u));
+            Usuario autor = (tarefa.getResponsavel() != null && r.nextDouble() < 0.5)
+                    ? tarefa.getResponsavel() : listaUsuarios.get(r.nextInt(usuarios));
+            StringBuilder msg = new StringBuilder(escolher(r, FRASES));
+            for (int n = r.nextInt(3); n > 0; n--) msg.append(' ').append(escolher(r, FRASES));
+            return ComentarioTarefa.restaurar(id(COMENTARIO, i), tarefa, autor,
+                    tarefa.getDataInicio().atStartOfDay()
+                            .plusMinutes(r.nextLong(diasAtivos(tarefa) * 24 * 60)),
+                    msg.toString());
+        }
+
+        // ----------------- Apoio -----------------
+
+        /** Índices das tarefas que já começaram (recebem lançamentos de esforço). */
+        private int[] iniciadas() {
+            int[] r = new int[listaTarefas.size()];
+            int n = 0;
+            for (int i = 0; i < listaTarefas.size(); i++) {
+                if (listaTarefas.get(i).getStatus() != StatusTarefa.NOVA) r[n++] = i;
+            }
+            return Arrays.copyOf(r, n);
+        }
+
+        /** Dias (>= 1) entre o início da tarefa e o fim do trabalho: conclusão, término ou referência. */
+        private long diasAtivos(Tarefa t) {
+            LocalDate fim = (t.getDataConclusao() != null) ? t.getDataConclusao() : t.getDataTerminoPrevista();
+            if (fim.isAfter(referencia)) fim = referencia;
+            return Math.max(1, t.getDataInicio().until(fim, ChronoUnit.DAYS) + 1);
+        }
+
+        /**
+         * Gera os itens [0, total) em lotes paralelos e os entrega na ordem
+         * dos índices, pela thread chamadora.
+         */
+        private <T> void emLotes(long total, LongFunction<T> gerar, Consumer<? super T> entregar) {
+            Deque<Future<Object[]>> emVoo = new ArrayDeque<>();
+            for (long inicio = 0; inicio < total || !emVoo.isEmpty(); ) {
+                if (inicio < total && emVoo.size() < 2 * paralelismo) {
+                    long de = inicio, ate = Math.min(total, inicio + LOTE);
+                    emVoo.add(pool.submit(() -> {
+                        Object[] lote = new Object[(int) (ate - de)];
+                        for (long i = de; i < ate; i++) lote[(int) (i - de)] = gerar.apply(i);
+                        return lote;
+                    }));
+                    inicio = ate;
+                    continue;
+                }
+                for (Object item : aguardar(emVoo.poll())) {
+                    @SuppressWarnings("unchecked")
+                    T t = (T) item;
+                    entregar.accept(t);
+                }
+                destino.fimDoLote();
+            }
+        }
+    }
+
+    // ----------------- Determinismo -----------------
+
+    private SplittableRandom aleatorio(int tipo, long i) {
+        return new SplittableRandom(misturar(semente, tipo, i));
+    }
+
+    /**
+     * Id UUIDv7 determinístico: o campo de milissegundos carrega a
+     * referência + i e os 12 bits "aleatórios" carregam o tipo, então
+     * (tipo, i) distintos nunca colidem; o resto vem da semente.
+     */
+    private String id(int tipo, long i) {
+        long millis = referencia.atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli() + i;
+        long alto = (millis << 16) | 0x7000L | tipo;
+        long baixo = (misturar(~semente, tipo, i) & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+        return Identificador.of(alto, baixo).toString();
+    }
+
+    /**
+     * CPF válido e único por índice: os 9 primeiros dígitos são uma
+     * permutação de i em [0, 10^9) e os dígitos verificadores são
+     * calculados. Se cair numa sequência repetida (ex.: 000.000.000-00),
+     * tenta o próximo candidato fora da faixa dos índices.
+     */
+    private static String cpf(long i) {
+        final long base = 1_000_000_000L;
+        for (long k = i; ; k += MAXIMO_USUARIOS) {
+            long corpo = Math.floorMod(k * 387_420_489L + 123_456_789L, base); // 3^18: coprimo com 10^9
+            char[] d = new char[11];
+            long v = corpo;
+            for (int j = 8; j >= 0; j--, v /= 10) d[j] = (char) ('0' + v % 10);
+            d[9] = digitoVerificador(d, 9);
+            d[10] = digitoVerificador(d, 10);
+            String cpf = new String(d);
+            if (CPF.isValido(cpf)) return cpf;
+        }
+    }
+
+    private static char digitoVerificador(char[] d, int n) {
+        int soma = 0;
+        for (int j = 0; j < n; j++) soma += (d[j] - '0') * (n + 1 - j);
+        int resto = soma % 11;
+        return (char) ('0' + (resto < 2 ? 0 : 11 - resto));
+    }
+
+    private static long misturar(long semente, int tipo, long i) {
+        long z = semente ^ (tipo * 0x9E37_79B9_7F4A_7C15L) ^ (i * 0xBF58_476D_1CE4_E5B9L);
+        z = (z ^ (z >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D0_49BB_1331_11EBL;
+        z = z ^ (z >>> 31);
+        z = (z ^ (z >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+        return z ^ (z >>> 31);
+    }
+
+    private static String escolher(SplittableRandom r, String[] opcoes) {
+        return opcoes[r.nextInt(opcoes.length)];
+    }
+
+    private static Object[] aguardar(Future<Object[]> f) {
+        try {
+            return f.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Geração interrompida.", e);
+        } catch (ExecutionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof Error) throw (Error) causa;
+            throw new IllegalStateException("Falha inesperada na geração.", causa);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package model.gerador;
+
+import model.dominio.AlocacaoEquipeProjeto;
+import model.dominio.Equipe;
+import model.dominio.Projeto;
+import model.dominio.Tarefa;
+import model.dominio.Usuario;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resultado de GeradorPortfolio.gerar. Guarda as entidades "estruturais";
+ * lançamentos de esforço e comentários só foram entregues ao destino
+ * (em fluxo) e aqui aparecem apenas contados.
+ */
+public final class Portfolio {
+
+    private final List<Usuario> usuarios;
+    private final List<Equipe> equipes;
+    private final List<Projeto> projetos;
+    private final List<AlocacaoEquipeProjeto> alocacoes;
+    private final List<Tarefa> tarefas;
+    private final long registrosEsforco;
+    private final long comentarios;
+
+    Portfolio(List<Usuario> usuarios, List<Equipe> equipes, List<Projeto> projetos,
+              List<AlocacaoEquipeProjeto> alocacoes, List<Tarefa> tarefas,
+              long registrosEsforco, long comentarios) {
+        this.usuarios = Collections.unmodifiableList(usuarios);
+        this.equipes = Collections.unmodifiableList(equipes);
+        this.projetos = Collections.unmodifiableList(projetos);
+        this.alocacoes = Collections.unmodifiableList(alocacoes);
+        this.tarefas = Collections.unmodifiableList(tarefas);
+        this.registrosEsforco = registrosEsforco;
+        this.comentarios = comentarios;
+    }
+
+    public List<Usuario> getUsuarios() { return usuarios; }
+    public List<Equipe> getEquipes() { return equipes; }
+    public List<Projeto> getProjetos() { return projetos; }
+    public List<AlocacaoEquipeProjeto> getAlocacoes() { return alocacoes; }
+    public List<Tarefa> getTarefas() { return tarefas; }
+    public long getRegistrosEsforco() { return registrosEsforco; }
+    public long getComentarios() { return comentarios; }
+
+    @Override
+    public String toString() {
+        return "Portfolio{" +
+                "usuarios=" + usuarios.size() +
+                ", equipes=" + equipes.size() +
+                ", projetos=" + projetos.size() +
+                ", alocacoes=" + alocacoes.size() +
+                ", tarefas=" + tarefas.size() +
+                ", registrosEsforco=" + registrosEsforco +
+                ", comentarios=" + comentarios +
+                '}';
+    }
+}
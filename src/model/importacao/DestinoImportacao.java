@@ -0,0 +1,42 @@
+package model.importacao;
+
+import model.dominio.Equipe;
+import model.dominio.Projeto;
+import model.dominio.Tarefa;
+import model.dominio.Usuario;
+import model.persistencia.GerenciadorSnapshots;
+
+/**
+ * Para onde vão as entidades importadas. Chamado por uma única thread
+ * (estágio de confirmação), na ordem das linhas do arquivo: a implementação
+ * não precisa ser thread-safe. Métodos vazios por padrão.
+ */
+public interface DestinoImportacao {
+
+    default void incluir(Usuario usuario) {}
+
+    default void incluir(Projeto projeto) {}
+
+    /** Chamado ao fim do arquivo de equipes, com os membros já adicionados. */
+    default void incluir(Equipe equipe) {}
+
+    default void incluir(Tarefa tarefa) {}
+
+    /** Chamado depois de cada lote de linhas confirmado e depois das equipes. */
+    default void fimDoLote() {}
+
+    /**
+     * Destino que põe cada entidade no catálogo e grava cada lote de linhas
+     * no log do gerenciador com um único fsync.
+     */
+    static DestinoImportacao para(GerenciadorSnapshots gerenciador) {
+        GerenciadorSnapshots.Lote lote = gerenciador.novoLote();
+        return new DestinoImportacao() {
+            @Override public void incluir(Usuario usuario) { lote.incluir(usuario); }
+            @Override public void incluir(Projeto projeto) { lote.incluir(projeto); }
+            @Override public void incluir(Equipe equipe) { lote.incluir(equipe); }
+            @Override public void incluir(Tarefa tarefa) { lote.incluir(tarefa); }
+            @Override public void fimDoLote() { lote.confirmar(); }
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package model.importacao;
+
+/** Linha rejeitada na importação (as demais seguem normalmente). */
+public final class ErroImportacao {
+
+    private final String arquivo;
+    private final long linha;
+    private final String mensagem;
+
+    ErroImportacao(String arquivo, long linha, String mensagem) {
+        this.arquivo = arquivo;
+        this.linha = linha;
+        this.mensagem = (mensagem == null) ? "erro sem mensagem" : mensagem;
+    }
+
+    /** usuarios, projetos, equipes ou tarefas. */
+    public String getArquivo() { return arquivo; }
+
+    /** Número da linha no arquivo (1 = cabeçalho). */
+    public long getLinha() { return linha; }
+
+    public String getMensagem() { return mensagem; }
+
+    @Override
+    public String toString() {
+        return arquivo + ":" + linha + ": " + mensagem;
+    }
+}
@@ -0,0 +1,383 @@
+package model.importacao;
+
+import model.dominio.Equipe;
+import model.dominio.Projeto;
+import model.dominio.Tarefa;
+import model.dominio.Usuario;
+import model.enums.*;
+import model.vo.Identificador;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Importação em lote de usuários, projetos, equipes e tarefas a partir de CSV
+ * (separador ';', primeira linha = cabeçalho com os nomes das colunas).
+ *
+ * Cada arquivo passa por um pipeline em estágios:
+ *  1. leitura em lotes de linhas (thread chamadora);
+ *  2. interpretação/validação em paralelo (pool de workers): campos, parse
+ *     dos enums (Perfil, StatusTarefa, PrioridadeTarefa, PapelEquipe...),
+ *     resolução de referências (tarefa → projeto pelo nome, usuário pelo
+ *     login) e criação da entidade pela fábrica do domínio;
+ *  3. confirmação por um único escritor, na ordem do arquivo: unicidade
+ *     das chaves e entrega ao DestinoImportacao, com fimDoLote() a cada lote.
+ * No máximo 2 lotes por worker ficam em voo, então a memória não cresce com
+ * o tamanho do arquivo. Uma linha inválida vira ErroImportacao e a
+ * importação continua.
+ *
+ * Arquivos e colunas ('?' = opcional):
+ *  - usuarios: nome;cpf;email;cargo;login;senha;perfil
+ *  - projetos: nome;descricao;inicio;termino;gerente(login);status?
+ *  - equipes (uma linha por membro): equipe;descricao?;login?;papel?
+ *  - tarefas: projeto(nome);titulo;descricao?;responsavel(login)?;prioridade?;
+ *             status?;inicio;termino;estimado?;real?;conclusao?
+ * Datas em ISO (aaaa-mm-dd). Os arquivos são processados nessa ordem, pois
+ * cada um referencia os anteriores.
+ */
+public final class ImportadorCSV {
+
+    public static final String USUARIOS = "usuarios";
+    public static final String PROJETOS = "projetos";
+    public static final String EQUIPES = "equipes";
+    public static final String TAREFAS = "tarefas";
+
+    private static final int LINHAS_POR_LOTE = 512;
+
+    private final DestinoImportacao destino;
+    private final int workers;
+
+    private ImportadorCSV(DestinoImportacao destino, int workers) {
+        this.destino = destino;
+        this.workers = workers;
+    }
+
+    /** Um worker por núcleo. */
+    public static ImportadorCSV criar(DestinoImportacao destino) {
+        return criar(destino, Runtime.getRuntime().availableProcessors());
+    }
+
+    public static ImportadorCSV criar(DestinoImportacao destino, int workers) {
+        Objects.requireNonNull(destino, "destino não pode ser nulo");
+        if (workers <= 0) throw new IllegalArgumentException("workers deve ser > 0.");
+        return new ImportadorCSV(destino, workers);
+    }
+
+    /** Importa &lt;dir&gt;/usuarios.csv, projetos.csv, equipes.csv e tarefas.csv (os que existirem). */
+    public ResultadoImportacao importar(Path diretorio) throws IOException {
+        Objects.requireNonNull(diretorio, "diretorio não pode ser nulo");
+        List<BufferedReader> abertos = new ArrayList<>();
+        try {
+            Reader[] r = new Reader[4];
+            String[] nomes = {USUARIOS, PROJETOS, EQUIPES, TAREFAS};
+            for (int i = 0; i < nomes.length; i++) {
+                Path arquivo = diretorio.resolve(nomes[i] + ".csv");
+                if (Files.isRegularFile(arquivo)) {
+                    BufferedReader br = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8);
+                    abertos.add(br);
+                    r[i] = br;
+                }
+            }
+            return importar(r[0], r[1], r[2], r[3]);
+        } finally {
+            for (BufferedReader br : abertos) br.close();
+        }
+    }
+
+    /** Importa as fontes informadas (qualquer uma pode ser null). Não fecha os readers. */
+    public ResultadoImportacao importar(Reader usuarios, Reader projetos, Reader equipes, Reader tarefas)
+            throws IOException {
+        Execucao e = new Execucao();
+        ExecutorService pool = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "importacao-csv");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            if (usuarios != null) e.processar(pool, USUARIOS, usuarios, e::prepararUsuario, e::confirmarUsuario);
+            if (projetos != null) e.processar(pool, PROJETOS, projetos, e::prepararProjeto, e::confirmarProjeto);
+            if (equipes != null) {
+                e.processar(pool, EQUIPES, equipes, e::prepararMembro, e::confirmarMembro);
+                for (Equipe eq : e.equipesPorNome.values()) destino.incluir(eq);
+                destino.fimDoLote();
+            }
+            if (tarefas != null) e.processar(pool, TAREFAS, tarefas, e::prepararTarefa, e::confirmarTarefa);
+        } finally {
+            pool.shutdownNow();
+        }
+        return new ResultadoImportacao(e.usuariosPorLogin, e.projetosPorNome, e.equipesPorNome,
+                e.papeis, e.tarefas, e.erros);
+    }
+
+    // ----------------- Execução -----------------
+
+    /**
+     * Estado de uma importação. Os mapas por chave só são escritos pelo
+     * escritor, no estágio do próprio arquivo; os workers de arquivos
+     * seguintes apenas os leem (a submissão ao pool publica as escritas).
+     */
+    private final class Execucao {
+        final Map<String, Usuario> usuariosPorLogin = new LinkedHashMap<>();
+        final Map<String, Projeto> projetosPorNome = new LinkedHashMap<>();
+        final Map<String, Equipe> equipesPorNome = new LinkedHashMap<>();
+        final Map<Equipe, Map<Usuario, PapelEquipe>> papeis = new HashMap<>();
+        final List<ErroImportacao> erros = new ArrayList<>();
+        int tarefas;
+
+        <R> void processar(ExecutorService pool, String arquivo, Reader fonte,
+                           Function<Linha, R> preparar, Consumer<R> confirmar) throws IOException {
+            BufferedReader leitor = (fonte instanceof BufferedReader) ? (BufferedReader) fonte : new BufferedReader(fonte);
+            String cabecalho = leitor.readLine();
+            if (cabecalho == null) return;
+            Map<String, Integer> colunas = colunas(cabecalho);
+
+            Deque<Future<Object[]>> emVoo = new ArrayDeque<>();
+            List<String> lote = new ArrayList<>(LINHAS_POR_LOTE);
+            long[] numeros = new long[LINHAS_POR_LOTE];
+            long numero = 1;
+            String texto;
+            do {
+                texto = leitor.readLine();
+                if (texto != null) {
+                    numero++;
+                    if (texto.trim().isEmpty()) continue;
+                    numeros[lote.size()] = numero;
+                    lote.add(texto);
+                    if (lote.size() < LINHAS_POR_LOTE) continue;
+                }
+                if (!lote.isEmpty()) {
+                    emVoo.add(pool.submit(preparar(arquivo, colunas, lote, numeros, preparar)));
+                    lote = new ArrayList<>(LINHAS_POR_LOTE);
+                    numeros = new long[LINHAS_POR_LOTE];
+                }
+                while (!emVoo.isEmpty() && (texto == null || emVoo.size() >= 2 * workers)) {
+                    confirmar(arquivo, aguardar(emVoo.poll()), confirmar);
+                }
+            } while (texto != null);
+        }
+
+        /** Worker: devolve pares (número da linha, entidade preparada ou ErroImportacao). */
+        private <R> Callable<Object[]> preparar(String arquivo, Map<String, Integer> colunas, List<String> lote,
+                                                 long[] numeros, Function<Linha, R> preparar) {
+            return () -> {
+                Object[] resultado = new Object[lote.size() * 2];
+                for (int i = 0; i < lote.size(); i++) {
+                    resultado[2 * i] = numeros[i];
+                    try {
+                        resultado[2 * i + 1] = preparar.apply(new Linha(colunas, lote.get(i)));
+                    } catch (RuntimeException ex) {
+                        resultado[2 * i + 1] = new ErroImportacao(arquivo, numeros[i], ex.getMessage());
+                    }
+                }
+                return resultado;
+            };
+        }
+
+        @SuppressWarnings("unchecked")
+        private <R> void confirmar(String arquivo, Object[] preparados, Consumer<R> confirmar) {
+            for (int i = 0; i < preparados.length; i += 2) {
+                Object item = preparados[i + 1];
+                if (item instanceof ErroImportacao) {
+                    erros.add((ErroImportacao) item);
+                    continue;
+                }
+                try {
+                    confirmar.accept((R) item);
+                } catch (RuntimeException ex) {
+                    erros.add(new ErroImportacao(arquivo, (Long) preparados[i], ex.getMessage()));
+                }
+            }
+            destino.fimDoLote();
+        }
+
+        // ----------------- Usuários -----------------
+
+        Usuario prepararUsuario(Linha l) {
+            return Usuario.criar(l.obrigatorio("nome"), l.obrigatorio("cpf"), l.obrigatorio("email"),
+                    l.obrigatorio("cargo"), l.obrigatorio("login"), l.obrigatorio("senha"),
+                    Perfil.parse(l.obrigatorio("perfil")));
+        }
+
+        void confirmarUsuario(Usuario u) {
+            if (usuariosPorLogin.putIfAbsent(u.getLogin(), u) != null) {
+                throw new IllegalStateException("Login duplicado: " + u.getLogin());
+            }
+            destino.incluir(u);
+        }
+
+        // ----------------- Projetos -----------------
+
+        Projeto prepararProjeto(Linha l) {
+            String status = l.opcional("status");
+            return Projeto.criar(l.obrigatorio("nome"), l.obrigatorio("descricao"),
+                    l.data("inicio"), l.data("termino"), usuario(l.obrigatorio("gerente")),
+                    status == null ? null : StatusProjeto.parse(status));
+        }
+
+        void confirmarProjeto(Projeto p) {
+            if (projetosPorNome.putIfAbsent(p.getNome(), p) != null) {
+                throw new IllegalStateException("Projeto duplicado: " + p.getNome());
+            }
+            destino.incluir(p);
+        }
+
+        // ----------------- Equipes -----------------
+
+        Membro prepararMembro(Linha l) {
+            String login = l.opcional("login");
+            String papel = l.opcional("papel");
+            return new Membro(l.obrigatorio("equipe"), l.opcional("descricao"),
+                    login == null ? null : usuario(login),
+                    papel == null ? null : PapelEquipe.parse(papel));
+        }
+
+        void confirmarMembro(Membro m) {
+            Equipe equipe = equipesPorNome.get(m.equipe);
+            if (equipe == null) {
+                equipe = Equipe.criar(m.equipe, m.descricao);
+                equipesPorNome.put(m.equipe, equipe);
+            }
+            if (m.usuario == null) return;
+            equipe.adicionarMembro(m.usuario);
+            if (m.papel != null) papeis.computeIfAbsent(equipe, k -> new HashMap<>()).put(m.usuario, m.papel);
+        }
+
+        // ----------------- Tarefas -----------------
+
+        Tarefa prepararTarefa(Linha l) {
+            Projeto projeto = projetosPorNome.get(l.obrigatorio("projeto"));
+            if (projeto == null) throw new IllegalArgumentException("Projeto não encontrado: " + l.obrigatorio("projeto"));
+            String login = l.opcional("responsavel");
+            Usuario responsavel = (login == null) ? null : usuario(login);
+            String prio = l.opcional("prioridade");
+            PrioridadeTarefa prioridade = (prio == null) ? null : PrioridadeTarefa.parse(prio);
+            String st = l.opcional("status");
+            StatusTarefa status = (st == null) ? StatusTarefa.NOVA : StatusTarefa.parse(st);
+            LocalDate inicio = l.data("inicio");
+            LocalDate termino = l.data("termino");
+            Integer estimado = l.inteiro("estimado");
+
+            if (status == StatusTarefa.NOVA) {
+                if (l.opcional("real") != null || l.opcional("conclusao") != null) {
+                    throw new IllegalArgumentException("Tarefa NOVA não tem esforço real nem conclusão.");
+                }
+                return Tarefa.criar(projeto, l.obrigatorio("titulo"), l.opcional("descricao"), responsavel,
+                        prioridade, inicio, termino, estimado);
+            }
+            Integer real = l.inteiro("real");
+            String conclusao = l.opcional("conclusao");
+            return Tarefa.restaurar(Identificador.novo().toString(), projeto, l.obrigatorio("titulo"),
+                    l.opcional("descricao"), responsavel,
+                    prioridade == null ? PrioridadeTarefa.MEDIA : prioridade, status, inicio, termino,
+                    estimado == null ? 0 : estimado, real == null ? 0 : real,
+                    conclusao == null ? null : l.data("conclusao"));
+        }
+
+        void confirmarTarefa(Tarefa t) {
+            destino.incluir(t);
+            tarefas++;
+        }
+
+        private Usuario usuario(String login) {
+            Usuario u = usuariosPorLogin.get(login);
+            if (u == null) throw new IllegalArgumentException("Usuário não encontrado: " + login);
+            return u;
+        }
+    }
+
+    private static Object[] aguardar(Future<Object[]> f) throws IOException {
+        try {
+            return f.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Importação interrompida.", e);
+        } catch (ExecutionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof Error) throw (Error) causa;
+            throw new IllegalStateException("Falha inesperada no worker de importação.", causa);
+        }
+    }
+
+    private static Map<String, Integer> colunas(String cabecalho) {
+        Map<String, Integer> m = new HashMap<>();
+        String[] nomes = cabecalho.split(";", -1);
+        for (int i = 0; i < nomes.length; i++) {
+            String nome = nomes[i].trim().toLowerCase();
+            if (i == 0 && nome.startsWith("\uFEFF")) nome = nome.substring(1); // BOM
+            if (!nome.isEmpty() && m.putIfAbsent(nome, i) != null) {
+                throw new IllegalArgumentException("Coluna repetida no cabeçalho: " + nome);
+            }
+        }
+        return m;
+    }
+
+    // ----------------- Linha -----------------
+
+    /** Uma linha do CSV acessada pelo nome da coluna. Campos vazios valem null. */
+    private static final class Linha {
+        private final Map<String, Integer> colunas;
+        private final String[] campos;
+
+        Linha(Map<String, Integer> colunas, String texto) {
+            this.colunas = colunas;
+            this.campos = texto.split(";", -1);
+        }
+
+        String opcional(String coluna) {
+            Integer i = colunas.get(coluna);
+            if (i == null || i >= campos.length) return null;
+            String v = campos[i].trim();
+            return v.isEmpty() ? null : v;
+        }
+
+        String obrigatorio(String coluna) {
+            String v = opcional(coluna);
+            if (v == null) throw new IllegalArgumentException("Campo obrigatório não informado: " + coluna);
+            return v;
+        }
+
+        LocalDate data(String coluna) {
+            String v = obrigatorio(coluna);
+            try {
+                return LocalDate.parse(v);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Data inválida em " + coluna + ": " + v);
+            }
+        }
+
+        Integer inteiro(String coluna) {
+            String v = opcional(coluna);
+            if (v == null) return null;
+            try {
+                return Integer.valueOf(v);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Número inválido em " + coluna + ": " + v);
+            }
+        }
+    }
+
+    /** Linha do arquivo de equipes já interpretada. */
+    private static final class Membro {
+        final String equipe;
+        final String descricao;
+        final Usuario usuario; // null = equipe sem membro nesta linha
+        final PapelEquipe papel;
+
+        Membro(String equipe, String descricao, Usuario usuario, PapelEquipe papel) {
+            this.equipe = equipe;
+            this.descricao = descricao;
+            this.usuario = usuario;
+            this.papel = papel;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package model.importacao;
+
+import model.dominio.Equipe;
+import model.dominio.Projeto;
+import model.dominio.Usuario;
+import model.enums.PapelEquipe;
+
+import java.util.*;
+
+/**
+ * Resumo de uma importação: quantidades aceitas, erros por linha e as
+ * entidades por chave natural (login, nome do projeto, nome da equipe).
+ */
+public final class ResultadoImportacao {
+
+    private final Map<String, Usuario> usuariosPorLogin;
+    private final Map<String, Projeto> projetosPorNome;
+    private final Map<String, Equipe> equipesPorNome;
+    private final Map<Equipe, Map<Usuario, PapelEquipe>> papeis;
+    private final int tarefas;
+    private final List<ErroImportacao> erros;
+
+    ResultadoImportacao(Map<String, Usuario> usuariosPorLogin,
+                        Map<String, Projeto> projetosPorNome,
+                        Map<String, Equipe> equipesPorNome,
+                        Map<Equipe, Map<Usuario, PapelEquipe>> papeis,
+                        int tarefas,
+                        List<ErroImportacao> erros) {
+        this.usuariosPorLogin = Collections.unmodifiableMap(usuariosPorLogin);
+        this.projetosPorNome = Collections.unmodifiableMap(projetosPorNome);
+        this.equipesPorNome = Collections.unmodifiableMap(equipesPorNome);
+        this.papeis = Collections.unmodifiableMap(papeis);
+        this.tarefas = tarefas;
+        this.erros = Collections.unmodifiableList(erros);
+    }
+
+    public int getUsuarios() { return usuariosPorLogin.size(); }
+    public int getProjetos() { return projetosPorNome.size(); }
+    public int getEquipes() { return equipesPorNome.size(); }
+    public int getTarefas() { return tarefas; }
+
+    public Map<String, Usuario> getUsuariosPorLogin() { return usuariosPorLogin; }
+    public Map<String, Projeto> getProjetosPorNome() { return projetosPorNome; }
+    public Map<String, Equipe> getEquipesPorNome() { return equipesPorNome; }
+
+    /** Papel informado para o membro na planilha de equipes (vazio se não informado). */
+    public Optional<PapelEquipe> papelDe(Equipe equipe, Usuario usuario) {
+        Map<Usuario, PapelEquipe> m = papeis.get(equipe);
+        return Optional.ofNullable(m == null ? null : m.get(usuario));
+    }
+
+    /** Linhas rejeitadas, na ordem dos arquivos. */
+    public List<ErroImportacao> getErros() { return erros; }
+
+    public boolean temErros() { return !erros.isEmpty(); }
+
+    @Override
+    public String toString() {
+        return "ResultadoImportacao{" +
+                "usuarios=" + getUsuarios() +
+                ", projetos=" + getProjetos() +
+                ", equipes=" + getEquipes() +
+                ", tarefas=" + tarefas +
+                ", erros=" + erros.size() +
+                '}';
+    }
+}
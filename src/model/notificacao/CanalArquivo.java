@@ -0,0 +1,42 @@
+package model.notificacao;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Acrescenta cada resumo a um arquivo de texto (um bloco por resumo,
+ * separados por linha em branco). Escritas serializadas.
+ */
+public final class CanalArquivo implements CanalNotificacao {
+
+    private final Path arquivo;
+
+    private CanalArquivo(Path arquivo) {
+        this.arquivo = arquivo;
+    }
+
+    public static CanalArquivo criar(Path arquivo) {
+        return new CanalArquivo(Objects.requireNonNull(arquivo, "arquivo não pode ser nulo"));
+    }
+
+    @Override
+    public String nome() { return "arquivo"; }
+
+    @Override
+    public synchronized void enviar(ResumoNotificacoes resumo) throws IOException {
+        try (Writer w = Files.newBufferedWriter(arquivo, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            w.write(resumo.ultima() + " para " + resumo.getDestinatario().getLogin());
+            w.write(System.lineSeparator());
+            w.write(resumo.assunto());
+            w.write(System.lineSeparator());
+            w.write(resumo.corpo());
+            w.write(System.lineSeparator());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package model.notificacao;
+
+import java.io.PrintStream;
+import java.util.Objects;
+
+/**
+ * Escreve cada resumo no console (ou em outro PrintStream).
+ */
+public final class CanalConsole implements CanalNotificacao {
+
+    private final PrintStream saida;
+
+    private CanalConsole(PrintStream saida) {
+        this.saida = saida;
+    }
+
+    public static CanalConsole criar() {
+        return criar(System.out);
+    }
+
+    public static CanalConsole criar(PrintStream saida) {
+        return new CanalConsole(Objects.requireNonNull(saida, "saida não pode ser nula"));
+    }
+
+    @Override
+    public String nome() { return "console"; }
+
+    @Override
+    public void enviar(ResumoNotificacoes resumo) {
+        String texto = "Para: " + resumo.getDestinatario().getLogin() + System.lineSeparator()
+                + resumo.assunto() + System.lineSeparator()
+                + resumo.corpo();
+        synchronized (saida) {
+            saida.println(texto); // um resumo inteiro por vez, sem intercalar linhas
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package model.notificacao;
+
+import java.io.IOException;
+
+/**
+ * Estratégia de entrega de notificações (console, arquivo, e-mail...).
+ * Chamado pelos workers do DespachanteNotificacoes, possivelmente em
+ * paralelo: implementações devem ser thread-safe.
+ */
+public interface CanalNotificacao {
+
+    /** Nome para logs e métricas. */
+    String nome();
+
+    void enviar(ResumoNotificacoes resumo) throws IOException;
+}
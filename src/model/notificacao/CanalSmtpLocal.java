@@ -0,0 +1,92 @@
+package model.notificacao;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Substituto local de um servidor SMTP: cada resumo vira uma mensagem
+ * RFC 5322 (.eml) na caixa de saída, endereçada ao e-mail do usuário.
+ * Permite inspecionar o que seria enviado sem servidor de e-mail.
+ * Assunto com acentos (ou qualquer coisa fora do ASCII imprimível) vai
+ * como encoded-words RFC 2047 (=?UTF-8?B?...?=).
+ */
+public final class CanalSmtpLocal implements CanalNotificacao {
+
+    /** Bytes UTF-8 por encoded-word: 52 caracteres base64, linha dobrada com até 76. */
+    private static final int BYTES_POR_PALAVRA = 39;
+
+    private static final DateTimeFormatter DATA = DateTimeFormatter.RFC_1123_DATE_TIME.withZone(ZoneOffset.UTC);
+
+    private final Path caixaSaida;
+    private final String remetente;
+    private final AtomicLong sequencia = new AtomicLong();
+
+    private CanalSmtpLocal(Path caixaSaida, String remetente) {
+        this.caixaSaida = caixaSaida;
+        this.remetente = remetente;
+    }
+
+    public static CanalSmtpLocal criar(Path caixaSaida, String remetente) throws IOException {
+        Objects.requireNonNull(caixaSaida, "caixaSaida não pode ser nula");
+        if (remetente == null || remetente.trim().isEmpty()) throw new IllegalArgumentException("remetente é obrigatório.");
+        Files.createDirectories(caixaSaida);
+        return new CanalSmtpLocal(caixaSaida, remetente.trim());
+    }
+
+    @Override
+    public String nome() { return "smtp-local"; }
+
+    @Override
+    public void enviar(ResumoNotificacoes resumo) throws IOException {
+        String crlf = "\r\n";
+        String mensagem = "From: " + remetente + crlf
+                + "To: " + resumo.getDestinatario().getEmailValue() + crlf
+                + "Date: " + DATA.format(resumo.ultima()) + crlf
+                + "Subject: " + codificarCabecalho(resumo.assunto()) + crlf
+                + "Content-Type: text/plain; charset=UTF-8" + crlf
+                + crlf
+                + resumo.corpo().replace(System.lineSeparator(), crlf);
+        String nome = String.format("%d-%06d-%s.eml", resumo.ultima().toEpochMilli(),
+                sequencia.incrementAndGet(), resumo.getDestinatario().getLogin().replaceAll("[^A-Za-z0-9._-]", "_"));
+        Files.write(caixaSaida.resolve(nome), mensagem.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Texto ASCII imprimível sai como está; o resto vira encoded-words
+     * UTF-8/base64 separadas por dobra de linha, sem partir caracteres.
+     */
+    static String codificarCabecalho(String valor) {
+        boolean ascii = true;
+        for (int i = 0; i < valor.length() && ascii; i++) {
+            char c = valor.charAt(i);
+            ascii = c >= 0x20 && c < 0x7F;
+        }
+        if (ascii) return valor;
+        Base64.Encoder base64 = Base64.getEncoder();
+        StringBuilder sb = new StringBuilder();
+        int inicio = 0;
+        while (inicio < valor.length()) {
+            int fim = inicio, bytes = 0;
+            while (fim < valor.length()) {
+                int cp = valor.codePointAt(fim);
+                int n = cp < 0x80 ? 1 : cp < 0x800 ? 2 : cp < 0x10000 ? 3 : 4;
+                if (bytes + n > BYTES_POR_PALAVRA) break;
+                bytes += n;
+                fim += Character.charCount(cp);
+            }
+            if (sb.length() > 0) sb.append("\r\n ");
+            sb.append("=?UTF-8?B?")
+              .append(base64.encodeToString(valor.substring(inicio, fim).getBytes(StandardCharsets.UTF_8)))
+              .append("?=");
+            inicio = fim;
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,225 @@
+package model.notificacao;
+
+import model.dominio.Usuario;
+import model.vo.Identificador;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pipeline assíncrono de notificações:
+ *  1. notificar() só guarda a notificação na caixa do destinatário e, se
+ *     é a primeira da caixa, agenda o fechamento da janela. Nunca espera:
+ *     nem por E/S nem por fila cheia.
+ *  2. Ao fim da janela, o agendador (uma thread) fecha a caixa num
+ *     ResumoNotificacoes e o entrega ao pool de workers (fila limitada).
+ *  3. Cada worker envia o resumo por todos os canais (estratégias).
+ *
+ * Várias notificações ao mesmo usuário dentro da janela viram um único
+ * resumo. Limites explícitos: no máximo 'limitePendentes' notificações
+ * entre notificar() e o fim do envio (acima disso são descartadas e
+ * contadas); se a fila dos workers enche, a caixa é reaberta e tenta de
+ * novo na próxima janela, acumulando mais itens no mesmo resumo. Falha de
+ * um canal não impede os demais e é contada.
+ * Thread-safe.
+ */
+public final class DespachanteNotificacoes {
+
+    public static final Duration JANELA_PADRAO = Duration.ofSeconds(30);
+    public static final int LIMITE_PENDENTES_PADRAO = 100_000;
+
+    private static final int FILA_RESUMOS = 1024;
+
+    private final List<CanalNotificacao> canais;
+    private final long janelaNanos;
+    private final int limitePendentes;
+    private final ScheduledThreadPoolExecutor agendador;
+    private final ThreadPoolExecutor workers;
+
+    private final ConcurrentHashMap<Identificador, Caixa> caixas = new ConcurrentHashMap<>();
+    private final AtomicInteger pendentes = new AtomicInteger();
+    private final LongAdder recebidas = new LongAdder();
+    private final LongAdder descartadas = new LongAdder();
+    private final LongAdder resumosEnviados = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+    private final AtomicReference<Exception> primeiraFalha = new AtomicReference<>();
+    private volatile boolean encerrado;
+
+    private DespachanteNotificacoes(List<CanalNotificacao> canais, Duration janela, int workers, int limitePendentes) {
+        this.canais = Collections.unmodifiableList(new ArrayList<>(canais));
+        this.janelaNanos = janela.toNanos();
+        this.limitePendentes = limitePendentes;
+        this.agendador = new ScheduledThreadPoolExecutor(1, fabrica("notificacoes-agendador"));
+        this.agendador.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.workers = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(FILA_RESUMOS), fabrica("notificacoes-envio"));
+    }
+
+    /** Janela padrão, 2 workers. */
+    public static DespachanteNotificacoes criar(List<CanalNotificacao> canais) {
+        return criar(canais, JANELA_PADRAO, 2, LIMITE_PENDENTES_PADRAO);
+    }
+
+    public static DespachanteNotificacoes criar(List<CanalNotificacao> canais, Duration janela,
+                                                int workers, int limitePendentes) {
+        Objects.requireNonNull(canais, "canais não pode ser nulo");
+        if (canais.isEmpty()) throw new IllegalArgumentException("Informe ao menos um canal.");
+        for (CanalNotificacao c : canais) Objects.requireNonNull(c, "canal não pode ser nulo");
+        Objects.requireNonNull(janela, "janela não pode ser nula");
+        if (janela.isNegative()) throw new IllegalArgumentException("janela deve ser >= 0.");
+        if (workers <= 0) throw new IllegalArgumentException("workers deve ser > 0.");
+        if (limitePendentes <= 0) throw new IllegalArgumentException("limitePendentes deve ser > 0.");
+        return new DespachanteNotificacoes(canais, janela, workers, limitePendentes);
+    }
+
+    // ----------------- Entrada -----------------
+
+    /**
+     * Enfileira a notificação para o próximo resumo do destinatário.
+     * Retorna false (e conta como descartada) se o limite de pendentes foi
+     * atingido ou o despachante está encerrado.
+     */
+    public boolean notificar(Notificacao notificacao) {
+        Objects.requireNonNull(notificacao, "notificacao não pode ser nula");
+        if (encerrado) {
+            descartadas.increment();
+            return false;
+        }
+        if (pendentes.incrementAndGet() > limitePendentes) {
+            pendentes.decrementAndGet();
+            descartadas.increment();
+            return false;
+        }
+        Usuario destinatario = notificacao.getDestinatario();
+        Caixa caixa = caixas.computeIfAbsent(destinatario.getIdentificador(), k -> new Caixa(destinatario));
+        boolean aceita, abrirJanela = false;
+        synchronized (caixa) {
+            // encerrar() liga 'encerrado' antes de esvaziar as caixas (sob este mesmo monitor):
+            // ou o item entra antes e é esvaziado, ou vê o encerramento aqui e é recusado
+            aceita = !encerrado;
+            if (aceita) {
+                caixa.itens.add(notificacao);
+                abrirJanela = !caixa.agendada;
+                caixa.agendada = true;
+            }
+        }
+        if (!aceita) {
+            pendentes.decrementAndGet();
+            descartadas.increment();
+            return false;
+        }
+        recebidas.increment();
+        if (abrirJanela) agendar(caixa);
+        return true;
+    }
+
+    // ----------------- Métricas -----------------
+
+    public long recebidas() { return recebidas.sum(); }
+
+    /** Recusadas por limite de pendentes ou após encerrar. */
+    public long descartadas() { return descartadas.sum(); }
+
+    public long resumosEnviados() { return resumosEnviados.sum(); }
+
+    /** Envios (resumo × canal) que falharam. */
+    public long falhas() { return falhas.sum(); }
+
+    public Optional<Exception> primeiraFalha() { return Optional.ofNullable(primeiraFalha.get()); }
+
+    /** Notificações aceitas e ainda não enviadas. */
+    public int pendentes() { return pendentes.get(); }
+
+    /**
+     * Para de aceitar notificações, envia imediatamente o que está nas
+     * caixas (sem esperar as janelas) e aguarda os workers terminarem.
+     * Um notificar() concorrente ou tem o item incluído no envio ou é recusado.
+     * Retorna false se o prazo acabou antes.
+     */
+    public boolean encerrar(Duration prazo) throws InterruptedException {
+        encerrado = true;
+        agendador.shutdown();
+        agendador.awaitTermination(prazo.toMillis(), TimeUnit.MILLISECONDS);
+        for (Caixa c : caixas.values()) {
+            List<Notificacao> lote = c.retirar();
+            if (!lote.isEmpty()) enviar(new ResumoNotificacoes(c.destinatario, lote)); // na thread chamadora
+        }
+        workers.shutdown();
+        return workers.awaitTermination(prazo.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // ----------------- Internos -----------------
+
+    private void agendar(Caixa caixa) {
+        try {
+            agendador.schedule(() -> fechar(caixa), janelaNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            // encerrando: encerrar() esvazia as caixas
+        }
+    }
+
+    /** Fim da janela: resumo para os workers; com a fila cheia, reabre a caixa. */
+    private void fechar(Caixa caixa) {
+        List<Notificacao> lote = caixa.retirar();
+        if (lote.isEmpty()) return;
+        ResumoNotificacoes resumo = new ResumoNotificacoes(caixa.destinatario, lote);
+        try {
+            workers.execute(() -> enviar(resumo));
+        } catch (RejectedExecutionException e) {
+            boolean reagendar;
+            synchronized (caixa) {
+                caixa.itens.addAll(0, lote);
+                reagendar = !caixa.agendada;
+                caixa.agendada = true;
+            }
+            if (reagendar && !encerrado) agendar(caixa);
+        }
+    }
+
+    private void enviar(ResumoNotificacoes resumo) {
+        try {
+            for (CanalNotificacao canal : canais) {
+                try {
+                    canal.enviar(resumo);
+                } catch (IOException | RuntimeException e) {
+                    falhas.increment();
+                    primeiraFalha.compareAndSet(null, e);
+                }
+            }
+            resumosEnviados.increment();
+        } finally {
+            pendentes.addAndGet(-resumo.quantidade());
+        }
+    }
+
+    private static ThreadFactory fabrica(String nome) {
+        return r -> {
+            Thread t = new Thread(r, nome);
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    /** Notificações de um destinatário aguardando o fim da janela. */
+    private static final class Caixa {
+        final Usuario destinatario;
+        List<Notificacao> itens = new ArrayList<>();
+        boolean agendada;
+
+        Caixa(Usuario destinatario) {
+            this.destinatario = destinatario;
+        }
+
+        synchronized List<Notificacao> retirar() {
+            List<Notificacao> lote = itens;
+            itens = new ArrayList<>();
+            agendada = false;
+            return lote;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package model.notificacao;
+
+import model.dominio.Tarefa;
+import model.dominio.Usuario;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Aviso a um usuário sobre uma tarefa. Imutável.
+ */
+public final class Notificacao {
+
+    private final Usuario destinatario;
+    private final TipoNotificacao tipo;
+    private final Tarefa tarefa;
+    private final String mensagem;
+    private final Instant instante;
+
+    private Notificacao(Usuario destinatario, TipoNotificacao tipo, Tarefa tarefa, String mensagem, Instant instante) {
+        this.destinatario = destinatario;
+        this.tipo = tipo;
+        this.tarefa = tarefa;
+        this.mensagem = mensagem;
+        this.instante = instante;
+    }
+
+    public static Notificacao criar(Usuario destinatario, TipoNotificacao tipo, Tarefa tarefa,
+                                    String mensagem, Instant instante) {
+        Objects.requireNonNull(destinatario, "destinatario não pode ser nulo");
+        Objects.requireNonNull(tipo, "tipo não pode ser nulo");
+        Objects.requireNonNull(tarefa, "tarefa não pode ser nula");
+        Objects.requireNonNull(instante, "instante não pode ser nulo");
+        if (mensagem == null || mensagem.trim().isEmpty()) throw new IllegalArgumentException("mensagem é obrigatória.");
+        return new Notificacao(destinatario, tipo, tarefa, mensagem.trim(), instante);
+    }
+
+    public Usuario getDestinatario() { return destinatario; }
+    public TipoNotificacao getTipo() { return tipo; }
+    public Tarefa getTarefa() { return tarefa; }
+    public String getMensagem() { return mensagem; }
+    public Instant getInstante() { return instante; }
+
+    @Override
+    public String toString() {
+        return "Notificacao{" +
+                "destinatario=" + destinatario.getLogin() +
+                ", tipo=" + tipo +
+                ", tarefa=" + tarefa.getId() +
+                ", instante=" + instante +
+                '}';
+    }
+}
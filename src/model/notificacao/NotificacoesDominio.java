@@ -0,0 +1,140 @@
+package model.notificacao;
+
+import model.dominio.ComentarioTarefa;
+import model.dominio.ObservadorTarefa;
+import model.dominio.Tarefa;
+import model.dominio.Usuario;
+import model.enums.StatusTarefa;
+import model.eventos.ConsumidorEventos;
+import model.eventos.TipoEvento;
+import model.repositorio.IndicePrazos;
+import model.vo.Identificador;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Traduz acontecimentos do domínio em notificações para o
+ * DespachanteNotificacoes:
+ *  - atribuição de tarefa (atribuirResponsavel) → novo responsável, via
+ *    ObservadorTarefa ou assinatura no BarramentoEventos;
+ *  - comentário novo → responsável da tarefa (se não for o autor);
+ *  - tarefa atrasada (IndicePrazos) → responsável, no máximo uma vez por dia.
+ *    O registro de quem já foi avisado só guarda tarefas ainda atrasadas: sai
+ *    ao finalizar a tarefa, ao deixar de acompanhá-la ou quando ela some da
+ *    lista de atrasadas numa verificação.
+ * Todos os caminhos só enfileiram: o envio acontece nos workers do despachante.
+ */
+public final class NotificacoesDominio {
+
+    private final DespachanteNotificacoes despachante;
+    private final Clock relogio;
+    /** Último dia em que cada tarefa foi avisada como atrasada. */
+    private final ConcurrentHashMap<Identificador, LocalDate> atrasoAvisado = new ConcurrentHashMap<>();
+
+    private final ObservadorTarefa observador = new ObservadorTarefa() {
+        @Override
+        public void responsavelAlterado(Tarefa tarefa, Usuario anterior) {
+            Usuario novo = tarefa.getResponsavel();
+            if (novo != null) tarefaAtribuida(tarefa, novo);
+        }
+
+        @Override
+        public void statusAlterado(Tarefa tarefa, StatusTarefa anterior, StatusTarefa novo) {
+            if (novo.isFinalizada()) atrasoAvisado.remove(tarefa.getIdentificador());
+        }
+    };
+
+    private NotificacoesDominio(DespachanteNotificacoes despachante, Clock relogio) {
+        this.despachante = despachante;
+        this.relogio = relogio;
+    }
+
+    public static NotificacoesDominio criar(DespachanteNotificacoes despachante) {
+        return criar(despachante, Clock.systemDefaultZone());
+    }
+
+    public static NotificacoesDominio criar(DespachanteNotificacoes despachante, Clock relogio) {
+        Objects.requireNonNull(despachante, "despachante não pode ser nulo");
+        Objects.requireNonNull(relogio, "relogio não pode ser nulo");
+        return new NotificacoesDominio(despachante, relogio);
+    }
+
+    // ----------------- Fontes -----------------
+
+    /** Passa a notificar atribuições da tarefa (direto pelo observador). */
+    public void acompanhar(Tarefa tarefa) {
+        tarefa.adicionarObservador(observador);
+    }
+
+    public void deixarDeAcompanhar(Tarefa tarefa) {
+        tarefa.removerObservador(observador);
+        atrasoAvisado.remove(tarefa.getIdentificador());
+    }
+
+    /**
+     * Alternativa a acompanhar: consumidor para BarramentoEventos.assinar,
+     * que tira até o enfileiramento da thread da mutação.
+     */
+    public ConsumidorEventos consumidor() {
+        return (evento, sequencia, fimDoLote) -> {
+            if (evento.getTipo() == TipoEvento.TAREFA_RESPONSAVEL && evento.getNovo() instanceof Usuario) {
+                tarefaAtribuida(evento.getTarefa(), (Usuario) evento.getNovo());
+            } else if (evento.getTipo() == TipoEvento.TAREFA_STATUS
+                    && ((StatusTarefa) evento.getNovo()).isFinalizada()) {
+                atrasoAvisado.remove(evento.getTarefa().getIdentificador());
+            }
+        };
+    }
+
+    // ----------------- Notificações -----------------
+
+    public boolean tarefaAtribuida(Tarefa tarefa, Usuario responsavel) {
+        return despachante.notificar(Notificacao.criar(responsavel, TipoNotificacao.TAREFA_ATRIBUIDA, tarefa,
+                "Você é o responsável (prazo " + tarefa.getDataTerminoPrevista() + ").", relogio.instant()));
+    }
+
+    /** Avisa o responsável da tarefa; o autor não é notificado do próprio comentário. */
+    public boolean comentarioRegistrado(ComentarioTarefa comentario) {
+        Objects.requireNonNull(comentario, "comentario não pode ser nulo");
+        Usuario responsavel = comentario.getTarefa().getResponsavel();
+        if (responsavel == null || responsavel.equals(comentario.getAutor())) return false;
+        String texto = comentario.getMensagem();
+        if (texto.length() > 120) texto = texto.substring(0, 117) + "...";
+        return despachante.notificar(Notificacao.criar(responsavel, TipoNotificacao.NOVO_COMENTARIO,
+                comentario.getTarefa(), comentario.getAutor().getNomeCompleto() + ": " + texto, relogio.instant()));
+    }
+
+    /**
+     * Avisa os responsáveis das tarefas atrasadas em 'hoje'. Chamadas
+     * repetidas no mesmo dia não repetem o aviso; uma tarefa só conta como
+     * avisada se a notificação foi aceita pelo despachante. Retorna quantos
+     * foram enfileirados.
+     */
+    public int verificarAtrasos(IndicePrazos indice, LocalDate hoje) {
+        Objects.requireNonNull(indice, "indice não pode ser nulo");
+        Objects.requireNonNull(hoje, "hoje não pode ser nulo");
+        int avisos = 0;
+        for (Tarefa t : indice.tarefasAtrasadas(hoje)) {
+            Usuario responsavel = t.getResponsavel();
+            if (responsavel == null) continue;
+            Identificador id = t.getIdentificador();
+            LocalDate anterior = atrasoAvisado.put(id, hoje); // reserva o aviso de hoje
+            if (hoje.equals(anterior)) continue;
+            long dias = t.getDataTerminoPrevista().until(hoje, ChronoUnit.DAYS);
+            if (despachante.notificar(Notificacao.criar(responsavel, TipoNotificacao.TAREFA_ATRASADA, t,
+                    "Prazo vencido em " + t.getDataTerminoPrevista() + " (" + dias + " dia(s) de atraso).",
+                    relogio.instant()))) {
+                avisos++;
+            } else {
+                atrasoAvisado.remove(id, hoje); // recusada: a próxima verificação tenta de novo
+            }
+        }
+        // quem não foi reservado hoje já não está atrasado (concluída, prazo adiado...)
+        atrasoAvisado.values().removeIf(dia -> dia.isBefore(hoje));
+        return avisos;
+    }
+}
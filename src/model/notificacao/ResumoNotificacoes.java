@@ -0,0 +1,69 @@
+package model.notificacao;
+
+import model.dominio.Usuario;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Notificações de um destinatário acumuladas numa janela de tempo,
+ * entregues numa única mensagem (resumo).
+ */
+public final class ResumoNotificacoes {
+
+    private final Usuario destinatario;
+    private final List<Notificacao> itens;
+
+    ResumoNotificacoes(Usuario destinatario, List<Notificacao> itens) {
+        this.destinatario = destinatario;
+        this.itens = Collections.unmodifiableList(itens);
+    }
+
+    public Usuario getDestinatario() { return destinatario; }
+
+    /** Em ordem de chegada. */
+    public List<Notificacao> getItens() { return itens; }
+
+    public int quantidade() { return itens.size(); }
+
+    public Instant primeira() { return itens.get(0).getInstante(); }
+
+    public Instant ultima() { return itens.get(itens.size() - 1).getInstante(); }
+
+    /** Ex.: "[SGPE] 3 notificações: 2 Tarefa atribuída, 1 Novo comentário". */
+    public String assunto() {
+        if (itens.size() == 1) return "[SGPE] " + itens.get(0).getTipo().rotulo();
+        EnumMap<TipoNotificacao, Integer> porTipo = new EnumMap<>(TipoNotificacao.class);
+        for (Notificacao n : itens) porTipo.merge(n.getTipo(), 1, Integer::sum);
+        StringJoiner tipos = new StringJoiner(", ");
+        porTipo.forEach((t, q) -> tipos.add(q + " " + t.rotulo()));
+        return "[SGPE] " + itens.size() + " notificações: " + tipos;
+    }
+
+    /** Uma linha por notificação, agrupadas por tipo. */
+    public String corpo() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Olá, ").append(destinatario.getNomeCompleto()).append('.').append(System.lineSeparator());
+        for (TipoNotificacao t : TipoNotificacao.values()) {
+            boolean cabecalho = false;
+            for (Notificacao n : itens) {
+                if (n.getTipo() != t) continue;
+                if (!cabecalho) {
+                    sb.append(System.lineSeparator()).append(t.rotulo()).append(':').append(System.lineSeparator());
+                    cabecalho = true;
+                }
+                sb.append(" - ").append(n.getTarefa().getTitulo()).append(": ").append(n.getMensagem())
+                        .append(System.lineSeparator());
+            }
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "ResumoNotificacoes{" +
+                "destinatario=" + destinatario.getLogin() +
+                ", itens=" + itens.size() +
+                '}';
+    }
+}
@@ -0,0 +1,18 @@
+package model.notificacao;
+
+/**
+ * Motivos de notificação ao usuário.
+ */
+public enum TipoNotificacao {
+    TAREFA_ATRIBUIDA("Tarefa atribuída"),
+    TAREFA_ATRASADA("Tarefa atrasada"),
+    NOVO_COMENTARIO("Novo comentário");
+
+    private final String rotulo;
+
+    TipoNotificacao(String rotulo) {
+        this.rotulo = rotulo;
+    }
+
+    public String rotulo() { return rotulo; }
+}
@@ -0,0 +1,220 @@
+package model.persistencia;
+
+import model.dominio.*;
+import model.enums.Perfil;
+import model.enums.PrioridadeTarefa;
+import model.enums.StatusProjeto;
+import model.enums.StatusTarefa;
+import model.persistencia.FormatoSegmento.Tipo;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static model.persistencia.FormatoSegmento.SEM_REF;
+
+/**
+ * Base de dados em arquivos de segmento mapeados em memória.
+ * abrir() mapeia os arquivos da geração vigente e confere o tamanho de cada
+ * um contra o manifesto e o seu cabeçalho, então nunca mistura segmentos de
+ * gravações diferentes nem aceita um arquivo truncado, e não lê as páginas
+ * dos registros. O CRC32C fica em verificar(): uma geração só é publicada
+ * depois de gravada e forçada em disco, então uma queda não deixa segmento
+ * pela metade, e o que resta detectar é corrupção da mídia; quem abre depois
+ * de um desligamento não limpo (ou faz uma varredura periódica) chama
+ * verificar() antes de confiar nos dados. Cada entidade é decodificada na
+ * primeira vez que é pedida (e as que ela referencia, em cascata), sempre
+ * pelas fábricas restaurar() do domínio, que revalidam só os invariantes
+ * de cada entidade (não as regras entre entidades, que podem ter mudado
+ * depois da gravação).
+ * Não é thread-safe.
+ */
+public final class BaseMapeada {
+
+    private static final int TENTATIVAS = 8;
+
+    private final SegmentoMapeado segUsuarios;
+    private final SegmentoMapeado segProjetos;
+    private final SegmentoMapeado segEquipes;
+    private final SegmentoMapeado segAlocacoes;
+    private final SegmentoMapeado segTarefas;
+    private final SegmentoMapeado segEsforcos;
+    private final SegmentoMapeado segComentarios;
+
+    private final Usuario[] usuarios;
+    private final Projeto[] projetos;
+    private final Equipe[] equipes;
+    private final AlocacaoEquipeProjeto[] alocacoes;
+    private final Tarefa[] tarefas;
+    private final RegistroEsforco[] esforcos;
+    private final ComentarioTarefa[] comentarios;
+
+    private BaseMapeada(Path dir, ManifestoSegmentos m) throws IOException {
+        segUsuarios = SegmentoMapeado.abrir(dir, m, Tipo.USUARIOS);
+        segProjetos = SegmentoMapeado.abrir(dir, m, Tipo.PROJETOS);
+        segEquipes = SegmentoMapeado.abrir(dir, m, Tipo.EQUIPES);
+        segAlocacoes = SegmentoMapeado.abrir(dir, m, Tipo.ALOCACOES);
+        segTarefas = SegmentoMapeado.abrir(dir, m, Tipo.TAREFAS);
+        segEsforcos = SegmentoMapeado.abrir(dir, m, Tipo.ESFORCOS);
+        segComentarios = SegmentoMapeado.abrir(dir, m, Tipo.COMENTARIOS);
+
+        usuarios = new Usuario[segUsuarios.quantidade()];
+        projetos = new Projeto[segProjetos.quantidade()];
+        equipes = new Equipe[segEquipes.quantidade()];
+        alocacoes = new AlocacaoEquipeProjeto[segAlocacoes.quantidade()];
+        tarefas = new Tarefa[segTarefas.quantidade()];
+        esforcos = new RegistroEsforco[segEsforcos.quantidade()];
+        comentarios = new ComentarioTarefa[segComentarios.quantidade()];
+    }
+
+    /**
+     * Mapeia os segmentos da geração vigente gravada por GravadorSegmentos no
+     * diretório. Se uma gravação nova trocar o manifesto e apagar a geração
+     * entre a leitura do manifesto e o mapeamento, tenta de novo com a nova.
+     */
+    public static BaseMapeada abrir(Path diretorio) throws IOException {
+        Objects.requireNonNull(diretorio, "diretorio não pode ser nulo");
+        for (int tentativa = 1; ; tentativa++) {
+            ManifestoSegmentos m = ManifestoSegmentos.ler(diretorio);
+            try {
+                return new BaseMapeada(diretorio, m);
+            } catch (NoSuchFileException e) {
+                if (tentativa == TENTATIVAS || ManifestoSegmentos.geracaoAtual(diretorio) == m.geracao()) throw e;
+            }
+        }
+    }
+
+    /**
+     * Confere o CRC32C de cada segmento contra o manifesto, lendo os arquivos
+     * inteiros; IOException no primeiro que divergir.
+     */
+    public void verificar() throws IOException {
+        segUsuarios.verificar();
+        segProjetos.verificar();
+        segEquipes.verificar();
+        segAlocacoes.verificar();
+        segTarefas.verificar();
+        segEsforcos.verificar();
+        segComentarios.verificar();
+    }
+
+    // ----------------- Quantidades -----------------
+
+    public int quantidadeUsuarios() { return usuarios.length; }
+    public int quantidadeProjetos() { return projetos.length; }
+    public int quantidadeEquipes() { return equipes.length; }
+    public int quantidadeAlocacoes() { return alocacoes.length; }
+    public int quantidadeTarefas() { return tarefas.length; }
+    public int quantidadeEsforcos() { return esforcos.length; }
+    public int quantidadeComentarios() { return comentarios.length; }
+
+    // ----------------- Decodificação sob demanda -----------------
+
+    public Usuario usuario(int i) {
+        if (usuarios[i] == null) {
+            SegmentoMapeado s = segUsuarios;
+            int b = s.base(i);
+            usuarios[i] = Usuario.restaurar(s.texto(b), s.texto(b + 8), s.texto(b + 16), s.texto(b + 24),
+                    s.texto(b + 32), s.texto(b + 40), s.texto(b + 48), enumeracao(Perfil.values(), s.byteEm(b + 56)));
+        }
+        return usuarios[i];
+    }
+
+    public Projeto projeto(int i) {
+        if (projetos[i] == null) {
+            SegmentoMapeado s = segProjetos;
+            int b = s.base(i);
+            projetos[i] = Projeto.restaurar(s.texto(b), s.texto(b + 8), s.texto(b + 16),
+                    s.data(b + 24), s.data(b + 28), usuarioOuNulo(s.inteiro(b + 33)),
+                    enumeracao(StatusProjeto.values(), s.byteEm(b + 32)));
+        }
+        return projetos[i];
+    }
+
+    public Equipe equipe(int i) {
+        if (equipes[i] == null) {
+            SegmentoMapeado s = segEquipes;
+            int b = s.base(i);
+            int[] refs = s.inteiros(b + 24);
+            List<Usuario> membros = new ArrayList<>(refs.length);
+            for (int r : refs) membros.add(usuario(r));
+            equipes[i] = Equipe.restaurar(s.texto(b), s.texto(b + 8), s.texto(b + 16), membros);
+        }
+        return equipes[i];
+    }
+
+    public AlocacaoEquipeProjeto alocacao(int i) {
+        if (alocacoes[i] == null) {
+            SegmentoMapeado s = segAlocacoes;
+            int b = s.base(i);
+            alocacoes[i] = AlocacaoEquipeProjeto.restaurar(s.texto(b), projeto(s.inteiro(b + 16)),
+                    equipe(s.inteiro(b + 20)), s.data(b + 24), s.data(b + 28), s.inteiro(b + 32), s.texto(b + 8));
+        }
+        return alocacoes[i];
+    }
+
+    public Tarefa tarefa(int i) {
+        if (tarefas[i] == null) {
+            SegmentoMapeado s = segTarefas;
+            int b = s.base(i);
+            tarefas[i] = Tarefa.restaurar(s.texto(b), projeto(s.inteiro(b + 24)), s.texto(b + 8), s.texto(b + 16),
+                    usuarioOuNulo(s.inteiro(b + 28)),
+                    enumeracao(PrioridadeTarefa.values(), s.byteEm(b + 32)),
+                    enumeracao(StatusTarefa.values(), s.byteEm(b + 33)),
+                    s.data(b + 34), s.data(b + 38), s.inteiro(b + 46), s.inteiro(b + 50), s.data(b + 42));
+        }
+        return tarefas[i];
+    }
+
+    public RegistroEsforco esforco(int i) {
+        if (esforcos[i] == null) {
+            SegmentoMapeado s = segEsforcos;
+            int b = s.base(i);
+            esforcos[i] = RegistroEsforco.restaurar(s.texto(b), tarefa(s.inteiro(b + 16)),
+                    usuario(s.inteiro(b + 20)), s.data(b + 24), s.inteiro(b + 28), s.texto(b + 8));
+        }
+        return esforcos[i];
+    }
+
+    public ComentarioTarefa comentario(int i) {
+        if (comentarios[i] == null) {
+            SegmentoMapeado s = segComentarios;
+            int b = s.base(i);
+            LocalDateTime quando = LocalDateTime.ofEpochSecond(s.longo(b + 24), s.inteiro(b + 32), ZoneOffset.UTC);
+            comentarios[i] = ComentarioTarefa.restaurar(s.texto(b), tarefa(s.inteiro(b + 16)),
+                    usuario(s.inteiro(b + 20)), quando, s.texto(b + 8));
+        }
+        return comentarios[i];
+    }
+
+    /** Decodifica tudo e devolve um Catalogo completo. */
+    public Catalogo carregarTudo() {
+        Catalogo c = new Catalogo();
+        for (int i = 0; i < usuarios.length; i++) c.incluir(usuario(i));
+        for (int i = 0; i < projetos.length; i++) c.incluir(projeto(i));
+        for (int i = 0; i < equipes.length; i++) c.incluir(equipe(i));
+        for (int i = 0; i < alocacoes.length; i++) c.incluir(alocacao(i));
+        for (int i = 0; i < tarefas.length; i++) c.incluir(tarefa(i));
+        for (int i = 0; i < esforcos.length; i++) c.incluir(esforco(i));
+        for (int i = 0; i < comentarios.length; i++) c.incluir(comentario(i));
+        return c;
+    }
+
+    // ----------------- Internos -----------------
+
+    private Usuario usuarioOuNulo(int ref) {
+        return ref == SEM_REF ? null : usuario(ref);
+    }
+
+    private static <E extends Enum<E>> E enumeracao(E[] valores, byte ordinal) {
+        if (ordinal < 0 || ordinal >= valores.length) {
+            throw new IllegalStateException("Valor de enum inválido no segmento: " + ordinal);
+        }
+        return valores[ordinal];
+    }
+}
@@ -0,0 +1,100 @@
+package model.persistencia;
+
+import model.dominio.*;
+import model.vo.Identificador;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Conjunto completo do modelo de domínio, indexado pelo Identificador de
+ * cada entidade (sem gerar a forma textual a cada inclusão ou busca).
+ * É a unidade que a camada de persistência grava e carrega.
+ * Mapas concorrentes: pode ser lido enquanto outras threads incluem entidades.
+ */
+public final class Catalogo {
+
+    private final Map<Identificador, Usuario> usuarios;
+    private final Map<Identificador, Projeto> projetos;
+    private final Map<Identificador, Equipe> equipes;
+    private final Map<Identificador, AlocacaoEquipeProjeto> alocacoes;
+    private final Map<Identificador, Tarefa> tarefas;
+    private final Map<Identificador, RegistroEsforco> esforcos;
+    private final Map<Identificador, ComentarioTarefa> comentarios;
+
+    public Catalogo() {
+        this(0, 0, 0, 0, 0, 0, 0);
+    }
+
+    /** Mapas já dimensionados para as quantidades esperadas (ex.: carga de snapshot). */
+    Catalogo(int usuarios, int projetos, int equipes, int alocacoes,
+             int tarefas, int esforcos, int comentarios) {
+        this.usuarios = mapa(usuarios);
+        this.projetos = mapa(projetos);
+        this.equipes = mapa(equipes);
+        this.alocacoes = mapa(alocacoes);
+        this.tarefas = mapa(tarefas);
+        this.esforcos = mapa(esforcos);
+        this.comentarios = mapa(comentarios);
+    }
+
+    // ----------------- Inclusão (substitui se o id já existir) -----------------
+
+    public void incluir(Usuario u) { usuarios.put(u.getIdentificador(), u); }
+    public void incluir(Projeto p) { projetos.put(p.getIdentificador(), p); }
+    public void incluir(Equipe e) { equipes.put(e.getIdentificador(), e); }
+    public void incluir(AlocacaoEquipeProjeto a) { alocacoes.put(a.getIdentificador(), a); }
+    public void incluir(Tarefa t) { tarefas.put(t.getIdentificador(), t); }
+    public void incluir(RegistroEsforco r) { esforcos.put(r.getIdentificador(), r); }
+    public void incluir(ComentarioTarefa c) { comentarios.put(c.getIdentificador(), c); }
+
+    // ----------------- Busca por id -----------------
+
+    public Optional<Usuario> buscarUsuario(Identificador id) { return buscar(usuarios, id); }
+    public Optional<Projeto> buscarProjeto(Identificador id) { return buscar(projetos, id); }
+    public Optional<Equipe> buscarEquipe(Identificador id) { return buscar(equipes, id); }
+    public Optional<AlocacaoEquipeProjeto> buscarAlocacao(Identificador id) { return buscar(alocacoes, id); }
+    public Optional<Tarefa> buscarTarefa(Identificador id) { return buscar(tarefas, id); }
+    public Optional<RegistroEsforco> buscarEsforco(Identificador id) { return buscar(esforcos, id); }
+    public Optional<ComentarioTarefa> buscarComentario(Identificador id) { return buscar(comentarios, id); }
+
+    /** Forma textual: id malformado simplesmente não é encontrado. */
+    public Optional<Usuario> buscarUsuario(String id) { return buscarUsuario(Identificador.tentar(id)); }
+    public Optional<Projeto> buscarProjeto(String id) { return buscarProjeto(Identificador.tentar(id)); }
+    public Optional<Equipe> buscarEquipe(String id) { return buscarEquipe(Identificador.tentar(id)); }
+    public Optional<AlocacaoEquipeProjeto> buscarAlocacao(String id) { return buscarAlocacao(Identificador.tentar(id)); }
+    public Optional<Tarefa> buscarTarefa(String id) { return buscarTarefa(Identificador.tentar(id)); }
+    public Optional<RegistroEsforco> buscarEsforco(String id) { return buscarEsforco(Identificador.tentar(id)); }
+    public Optional<ComentarioTarefa> buscarComentario(String id) { return buscarComentario(Identificador.tentar(id)); }
+
+    // ----------------- Visões de leitura -----------------
+
+    public Collection<Usuario> usuarios() { return Collections.unmodifiableCollection(usuarios.values()); }
+    public Collection<Projeto> projetos() { return Collections.unmodifiableCollection(projetos.values()); }
+    public Collection<Equipe> equipes() { return Collections.unmodifiableCollection(equipes.values()); }
+    public Collection<AlocacaoEquipeProjeto> alocacoes() { return Collections.unmodifiableCollection(alocacoes.values()); }
+    public Collection<Tarefa> tarefas() { return Collections.unmodifiableCollection(tarefas.values()); }
+    public Collection<RegistroEsforco> esforcos() { return Collections.unmodifiableCollection(esforcos.values()); }
+    public Collection<ComentarioTarefa> comentarios() { return Collections.unmodifiableCollection(comentarios.values()); }
+
+    private static <T> Map<Identificador, T> mapa(int esperados) {
+        return esperados > 0 ? new ConcurrentHashMap<>(esperados) : new ConcurrentHashMap<>();
+    }
+
+    private static <T> Optional<T> buscar(Map<Identificador, T> mapa, Identificador id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(mapa.get(id));
+    }
+
+    @Override
+    public String toString() {
+        return "Catalogo{" +
+                "usuarios=" + usuarios.size() +
+                ", projetos=" + projetos.size() +
+                ", equipes=" + equipes.size() +
+                ", alocacoes=" + alocacoes.size() +
+                ", tarefas=" + tarefas.size() +
+                ", esforcos=" + esforcos.size() +
+                ", comentarios=" + comentarios.size() +
+                '}';
+    }
+}
@@ -0,0 +1,581 @@
+package model.persistencia;
+
+import model.dominio.*;
+import model.enums.Perfil;
+import model.enums.PrioridadeTarefa;
+import model.enums.StatusProjeto;
+import model.enums.StatusTarefa;
+import model.vo.Identificador;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Codificação binária compacta dos registros do log, com referências por id
+ * (dois longs; 0/0 = null). Dois tipos de registro:
+ *  - estado completo (criações, e toda alteração de Usuario, que não tem
+ *    callbacks específicos): inclui a entidade ou sincroniza a existente;
+ *  - alteração: id + só os campos que a operação mexe (status, datas,
+ *    estimativa, membro...), com os valores vigentes ao gravar, aplicados
+ *    sobre a entidade já no catálogo.
+ * Os dois são "upserts" de valores absolutos (exceto incluir/excluir
+ * membro, que são idempotentes): aplicar o mesmo registro de novo, ou um
+ * mais antigo seguido de um mais novo, converge para o mesmo estado, o que
+ * torna a reprodução do log idempotente.
+ *
+ * Layout: byte tipo + campos (estado completo: na ordem da fábrica restaurar()).
+ * Texto = int bytes (-1 = null) + UTF-8; data = int epochDay (MIN_VALUE = null).
+ * Os tipos 1 a 7, de estado completo com ids em texto, são do formato
+ * anterior e continuam sendo lidos (logs antigos e snapshots versão 1).
+ */
+final class CodecEntidades {
+    private CodecEntidades() {}
+
+    // Estado completo, ids em texto (formato anterior: só leitura). Também indexam os tipos do snapshot.
+    static final byte USUARIO = 1;
+    static final byte PROJETO = 2;
+    static final byte EQUIPE = 3;
+    static final byte ALOCACAO = 4;
+    static final byte TAREFA = 5;
+    static final byte ESFORCO = 6;
+    static final byte COMENTARIO = 7;
+
+    // Estado completo, ids em dois longs
+    static final byte ESTADO_USUARIO = 11;
+    static final byte ESTADO_PROJETO = 12;
+    static final byte ESTADO_EQUIPE = 13;
+    static final byte ESTADO_ALOCACAO = 14;
+    static final byte ESTADO_TAREFA = 15;
+    static final byte ESTADO_ESFORCO = 16;
+    static final byte ESTADO_COMENTARIO = 17;
+
+    // Alterações: id + campos da operação
+    static final byte TAREFA_CICLO = 20;        // status, esforço real, data de conclusão
+    static final byte TAREFA_ESTIMADO = 21;
+    static final byte TAREFA_DATAS = 22;
+    static final byte TAREFA_RESPONSAVEL = 23;
+    static final byte TAREFA_TEXTO = 24;
+    static final byte TAREFA_PRIORIDADE = 25;
+    static final byte PROJETO_STATUS = 30;
+    static final byte PROJETO_DATAS = 31;
+    static final byte PROJETO_DESCRICAO = 32;
+    static final byte PROJETO_GERENTE = 33;
+    static final byte EQUIPE_MEMBRO_INCLUIDO = 40;
+    static final byte EQUIPE_MEMBRO_EXCLUIDO = 41;
+    static final byte EQUIPE_TEXTO = 42;
+    static final byte ALOCACAO_PERIODO = 50;
+    static final byte ALOCACAO_CAPACIDADE = 51;
+    static final byte ALOCACAO_OBSERVACOES = 52;
+
+    static final int SEM_DATA = Integer.MIN_VALUE;
+
+    // ----------------- Codificação: estado completo -----------------
+
+    static byte[] codificar(Usuario u) {
+        return new Saida(ESTADO_USUARIO).id(u.getIdentificador()).texto(u.getNomeCompleto())
+                .texto(u.getCpf().value()).texto(u.getEmailValue()).texto(u.getCargo()).texto(u.getLogin())
+                .texto(u.getSenhaHash()).byteEnum(u.getPerfil()).bytes();
+    }
+
+    static byte[] codificar(Projeto p) {
+        return new Saida(ESTADO_PROJETO).id(p.getIdentificador()).texto(p.getNome()).texto(p.getDescricao())
+                .data(p.getDataInicio()).data(p.getDataTerminoPrevista()).byteEnum(p.getStatus())
+                .id(idOuNulo(p.getGerenteResponsavel())).bytes();
+    }
+
+    static byte[] codificar(Equipe e) {
+        Saida s = new Saida(ESTADO_EQUIPE).id(e.getIdentificador()).texto(e.getNome()).texto(e.getDescricao());
+        List<Usuario> membros = e.getMembros();
+        s.inteiro(membros.size());
+        for (Usuario u : membros) s.id(u.getIdentificador());
+        return s.bytes();
+    }
+
+    static byte[] codificar(AlocacaoEquipeProjeto a) {
+        return new Saida(ESTADO_ALOCACAO).id(a.getIdentificador()).id(a.getProjeto().getIdentificador())
+                .id(a.getEquipe().getIdentificador()).data(a.getDataInicio()).data(a.getDataFim())
+                .inteiro(a.getCapacidadeHorasSemana()).texto(a.getObservacoes()).bytes();
+    }
+
+    static byte[] codificar(Tarefa t) {
+        Tarefa.Ciclo ciclo = t.getCiclo(); // status, real e conclusão coerentes entre si
+        return new Saida(ESTADO_TAREFA).id(t.getIdentificador()).id(t.getProjeto().getIdentificador())
+                .texto(t.getTitulo()).texto(t.getDescricao()).id(idOuNulo(t.getResponsavel()))
+                .byteEnum(t.getPrioridade()).byteEnum(ciclo.getStatus())
+                .data(t.getDataInicio()).data(t.getDataTerminoPrevista())
+                .inteiro(t.getEsforcoEstimadoHoras()).inteiro(ciclo.getEsforcoRealHoras())
+                .data(ciclo.getDataConclusao()).bytes();
+    }
+
+    static byte[] codificar(RegistroEsforco r) {
+        return new Saida(ESTADO_ESFORCO).id(r.getIdentificador()).id(r.getTarefa().getIdentificador())
+                .id(r.getUsuario().getIdentificador()).data(r.getData()).inteiro(r.getHoras())
+                .texto(r.getObservacao()).bytes();
+    }
+
+    static byte[] codificar(ComentarioTarefa c) {
+        return new Saida(ESTADO_COMENTARIO).id(c.getIdentificador()).id(c.getTarefa().getIdentificador())
+                .id(c.getAutor().getIdentificador())
+                .longo(c.getDataHora().toEpochSecond(ZoneOffset.UTC)).inteiro(c.getDataHora().getNano())
+                .texto(c.getMensagem()).bytes();
+    }
+
+    // ----------------- Codificação: alterações (valores vigentes) -----------------
+
+    static byte[] codificarCiclo(Tarefa t) {
+        Tarefa.Ciclo ciclo = t.getCiclo();
+        return new Saida(TAREFA_CICLO).id(t.getIdentificador()).byteEnum(ciclo.getStatus())
+                .inteiro(ciclo.getEsforcoRealHoras()).data(ciclo.getDataConclusao()).bytes();
+    }
+
+    static byte[] codificarEstimado(Tarefa t) {
+        return new Saida(TAREFA_ESTIMADO).id(t.getIdentificador()).inteiro(t.getEsforcoEstimadoHoras()).bytes();
+    }
+
+    static byte[] codificarDatas(Tarefa t) {
+        return new Saida(TAREFA_DATAS).id(t.getIdentificador())
+                .data(t.getDataInicio()).data(t.getDataTerminoPrevista()).bytes();
+    }
+
+    static byte[] codificarResponsavel(Tarefa t) {
+        return new Saida(TAREFA_RESPONSAVEL).id(t.getIdentificador()).id(idOuNulo(t.getResponsavel())).bytes();
+    }
+
+    static byte[] codificarTexto(Tarefa t) {
+        return new Saida(TAREFA_TEXTO).id(t.getIdentificador()).texto(t.getTitulo()).texto(t.getDescricao()).bytes();
+    }
+
+    static byte[] codificarPrioridade(Tarefa t) {
+        return new Saida(TAREFA_PRIORIDADE).id(t.getIdentificador()).byteEnum(t.getPrioridade()).bytes();
+    }
+
+    static byte[] codificarStatus(Projeto p) {
+        return new Saida(PROJETO_STATUS).id(p.getIdentificador()).byteEnum(p.getStatus()).bytes();
+    }
+
+    static byte[] codificarDatas(Projeto p) {
+        return new Saida(PROJETO_DATAS).id(p.getIdentificador())
+                .data(p.getDataInicio()).data(p.getDataTerminoPrevista()).bytes();
+    }
+
+    static byte[] codificarDescricao(Projeto p) {
+        return new Saida(PROJETO_DESCRICAO).id(p.getIdentificador()).texto(p.getDescricao()).bytes();
+    }
+
+    static byte[] codificarGerente(Projeto p) {
+        return new Saida(PROJETO_GERENTE).id(p.getIdentificador()).id(idOuNulo(p.getGerenteResponsavel())).bytes();
+    }
+
+    static byte[] codificarMembro(Equipe e, Usuario u, boolean incluido) {
+        return new Saida(incluido ? EQUIPE_MEMBRO_INCLUIDO : EQUIPE_MEMBRO_EXCLUIDO).id(e.getIdentificador())
+                .id(u.getIdentificador()).bytes();
+    }
+
+    static byte[] codificarTexto(Equipe e) {
+        return new Saida(EQUIPE_TEXTO).id(e.getIdentificador()).texto(e.getNome()).texto(e.getDescricao()).bytes();
+    }
+
+    static byte[] codificarPeriodo(AlocacaoEquipeProjeto a) {
+        return new Saida(ALOCACAO_PERIODO).id(a.getIdentificador()).data(a.getDataInicio()).data(a.getDataFim())
+                .bytes();
+    }
+
+    static byte[] codificarCapacidade(AlocacaoEquipeProjeto a) {
+        return new Saida(ALOCACAO_CAPACIDADE).id(a.getIdentificador()).inteiro(a.getCapacidadeHorasSemana()).bytes();
+    }
+
+    static byte[] codificarObservacoes(AlocacaoEquipeProjeto a) {
+        return new Saida(ALOCACAO_OBSERVACOES).id(a.getIdentificador()).texto(a.getObservacoes()).bytes();
+    }
+
+    // ----------------- Decodificação + aplicação -----------------
+
+    /**
+     * Decodifica o registro e aplica no catálogo: um registro de estado
+     * completo inclui a entidade se o id for novo, ou sincroniza a instância
+     * existente; um de alteração troca só os seus campos na existente.
+     * Aplica o que foi gravado: restaurar só confere os invariantes da
+     * própria entidade, não regras entre entidades (perfil do gerente,
+     * esforço antes do início da tarefa), que operações válidas posteriores
+     * podem ter deixado de atender.
+     * Retorna a entidade incluída, ou null se o id já existia.
+     */
+    static Object aplicar(byte[] registro, Catalogo c) {
+        return aplicar(registro, registro.length, c);
+    }
+
+    /** Idem, lendo só os primeiros 'tamanho' bytes (buffer reaproveitado). */
+    static Object aplicar(byte[] registro, int tamanho, Catalogo c) {
+        ByteBuffer in = ByteBuffer.wrap(registro, 0, tamanho);
+        try {
+            byte tipo = in.get();
+            switch (tipo) {
+                case USUARIO: return aplicarUsuario(in, c, false);
+                case ESTADO_USUARIO: return aplicarUsuario(in, c, true);
+                case PROJETO: return aplicarProjeto(in, c, false);
+                case ESTADO_PROJETO: return aplicarProjeto(in, c, true);
+                case EQUIPE: return aplicarEquipe(in, c, false);
+                case ESTADO_EQUIPE: return aplicarEquipe(in, c, true);
+                case ALOCACAO: return aplicarAlocacao(in, c, false);
+                case ESTADO_ALOCACAO: return aplicarAlocacao(in, c, true);
+                case TAREFA: return aplicarTarefa(in, c, false);
+                case ESTADO_TAREFA: return aplicarTarefa(in, c, true);
+                case ESFORCO: return aplicarEsforco(in, c, false);
+                case ESTADO_ESFORCO: return aplicarEsforco(in, c, true);
+                case COMENTARIO: return aplicarComentario(in, c, false);
+                case ESTADO_COMENTARIO: return aplicarComentario(in, c, true);
+                case TAREFA_CICLO: case TAREFA_ESTIMADO: case TAREFA_DATAS:
+                case TAREFA_RESPONSAVEL: case TAREFA_TEXTO: case TAREFA_PRIORIDADE:
+                    alterarTarefa(tipo, in, c);
+                    return null;
+                case PROJETO_STATUS: case PROJETO_DATAS: case PROJETO_DESCRICAO: case PROJETO_GERENTE:
+                    alterarProjeto(tipo, in, c);
+                    return null;
+                case EQUIPE_MEMBRO_INCLUIDO: case EQUIPE_MEMBRO_EXCLUIDO: case EQUIPE_TEXTO:
+                    alterarEquipe(tipo, in, c);
+                    return null;
+                case ALOCACAO_PERIODO: case ALOCACAO_CAPACIDADE: case ALOCACAO_OBSERVACOES:
+                    alterarAlocacao(tipo, in, c);
+                    return null;
+                default:
+                    throw new IllegalStateException("Tipo de registro desconhecido: " + tipo);
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IllegalStateException("Registro truncado.", e);
+        }
+    }
+
+    private static Usuario aplicarUsuario(ByteBuffer in, Catalogo c, boolean binario) {
+        Usuario u = Usuario.restaurar(exigirId(id(in, binario)), texto(in), texto(in), texto(in), texto(in),
+                texto(in), texto(in), enumeracao(Perfil.values(), in.get()));
+        Usuario atual = c.buscarUsuario(u.getIdentificador()).orElse(null);
+        if (atual != null) {
+            atual.sincronizarCom(u);
+            return null;
+        }
+        c.incluir(u);
+        return u;
+    }
+
+    private static Projeto aplicarProjeto(ByteBuffer in, Catalogo c, boolean binario) {
+        Identificador id = exigirId(id(in, binario));
+        String nome = texto(in), descricao = texto(in);
+        LocalDate inicio = data(in), termino = data(in);
+        StatusProjeto status = enumeracao(StatusProjeto.values(), in.get());
+        Projeto p = Projeto.restaurar(id, nome, descricao, inicio, termino, usuario(c, id(in, binario)), status);
+        Projeto atual = c.buscarProjeto(id).orElse(null);
+        if (atual != null) {
+            atual.sincronizarCom(p);
+            return null;
+        }
+        c.incluir(p);
+        return p;
+    }
+
+    private static Equipe aplicarEquipe(ByteBuffer in, Catalogo c, boolean binario) {
+        Identificador id = exigirId(id(in, binario));
+        String nome = texto(in), descricao = texto(in);
+        int n = in.getInt();
+        if (n < 0) throw new IllegalStateException("Quantidade de membros inválida: " + n);
+        List<Usuario> membros = new ArrayList<>(Math.min(n, 1024));
+        for (int i = 0; i < n; i++) membros.add(usuario(c, id(in, binario)));
+        Equipe e = Equipe.restaurar(id, nome, descricao, membros);
+        Equipe atual = c.buscarEquipe(id).orElse(null);
+        if (atual != null) {
+            atual.sincronizarCom(e);
+            return null;
+        }
+        c.incluir(e);
+        return e;
+    }
+
+    private static AlocacaoEquipeProjeto aplicarAlocacao(ByteBuffer in, Catalogo c, boolean binario) {
+        Identificador id = exigirId(id(in, binario));
+        Projeto p = projeto(c, id(in, binario));
+        Equipe e = equipe(c, id(in, binario));
+        AlocacaoEquipeProjeto a = AlocacaoEquipeProjeto.restaurar(id, p, e, data(in), data(in),
+                in.getInt(), texto(in));
+        AlocacaoEquipeProjeto atual = c.buscarAlocacao(id).orElse(null);
+        if (atual != null) {
+            atual.sincronizarCom(a);
+            return null;
+        }
+        c.incluir(a);
+        return a;
+    }
+
+    private static Tarefa aplicarTarefa(ByteBuffer in, Catalogo c, boolean binario) {
+        Identificador id = exigirId(id(in, binario));
+        Projeto p = projeto(c, id(in, binario));
+        String titulo = texto(in), descricao = texto(in);
+        Identificador responsavelId = id(in, binario);
+        Usuario responsavel = (responsavelId == null) ? null : usuario(c, responsavelId);
+        PrioridadeTarefa prioridade = enumeracao(PrioridadeTarefa.values(), in.get());
+        StatusTarefa status = enumeracao(StatusTarefa.values(), in.get());
+        LocalDate inicio = data(in), termino = data(in);
+        int estimado = in.getInt(), real = in.getInt();
+        Tarefa t = Tarefa.restaurar(id, p, titulo, descricao, responsavel, prioridade, status,
+                inicio, termino, estimado, real, data(in));
+        Tarefa atual = c.buscarTarefa(id).orElse(null);
+        if (atual != null) {
+            atual.sincronizarCom(t);
+            return null;
+        }
+        c.incluir(t);
+        return t;
+    }
+
+    private static RegistroEsforco aplicarEsforco(ByteBuffer in, Catalogo c, boolean binario) {
+        Identificador id = exigirId(id(in, binario));
+        Tarefa t = tarefa(c, id(in, binario));
+        Usuario u = usuario(c, id(in, binario));
+        RegistroEsforco r = RegistroEsforco.restaurar(id, t, u, data(in), in.getInt(), texto(in));
+        if (c.buscarEsforco(id).isPresent()) return null; // imutável
+        c.incluir(r);
+        return r;
+    }
+
+    private static ComentarioTarefa aplicarComentario(ByteBuffer in, Catalogo c, boolean binario) {
+        Identificador id = exigirId(id(in, binario));
+        Tarefa t = tarefa(c, id(in, binario));
+        Usuario autor = usuario(c, id(in, binario));
+        LocalDateTime quando = LocalDateTime.ofEpochSecond(in.getLong(), in.getInt(), ZoneOffset.UTC);
+        ComentarioTarefa ct = ComentarioTarefa.restaurar(id, t, autor, quando, texto(in));
+        if (c.buscarComentario(id).isPresent()) return null; // imutável
+        c.incluir(ct);
+        return ct;
+    }
+
+    /** Parte do estado atual da tarefa, troca os campos do registro e sincroniza. */
+    private static void alterarTarefa(byte tipo, ByteBuffer in, Catalogo c) {
+        Tarefa t = tarefa(c, id(in));
+        Tarefa.Ciclo ciclo = t.getCiclo();
+        String titulo = t.getTitulo(), descricao = t.getDescricao();
+        Usuario responsavel = t.getResponsavel();
+        PrioridadeTarefa prioridade = t.getPrioridade();
+        StatusTarefa status = ciclo.getStatus();
+        LocalDate inicio = t.getDataInicio(), termino = t.getDataTerminoPrevista();
+        LocalDate conclusao = ciclo.getDataConclusao();
+        int estimado = t.getEsforcoEstimadoHoras(), real = ciclo.getEsforcoRealHoras();
+        switch (tipo) {
+            case TAREFA_CICLO:
+                status = enumeracao(StatusTarefa.values(), in.get());
+                real = in.getInt();
+                conclusao = data(in);
+                break;
+            case TAREFA_ESTIMADO:
+                estimado = in.getInt();
+                break;
+            case TAREFA_DATAS:
+                inicio = data(in);
+                termino = data(in);
+                break;
+            case TAREFA_RESPONSAVEL: {
+                Identificador r = id(in);
+                responsavel = (r == null) ? null : usuario(c, r);
+                break;
+            }
+            case TAREFA_TEXTO:
+                titulo = texto(in);
+                descricao = texto(in);
+                break;
+            default:
+                prioridade = enumeracao(PrioridadeTarefa.values(), in.get());
+        }
+        t.sincronizarCom(Tarefa.restaurar(t.getIdentificador(), t.getProjeto(), titulo, descricao, responsavel,
+                prioridade, status, inicio, termino, estimado, real, conclusao));
+    }
+
+    private static void alterarProjeto(byte tipo, ByteBuffer in, Catalogo c) {
+        Projeto p = projeto(c, id(in));
+        String descricao = p.getDescricao();
+        LocalDate inicio = p.getDataInicio(), termino = p.getDataTerminoPrevista();
+        StatusProjeto status = p.getStatus();
+        Usuario gerente = p.getGerenteResponsavel();
+        switch (tipo) {
+            case PROJETO_STATUS:
+                status = enumeracao(StatusProjeto.values(), in.get());
+                break;
+            case PROJETO_DATAS:
+                inicio = data(in);
+                termino = data(in);
+                break;
+            case PROJETO_DESCRICAO:
+                descricao = texto(in);
+                break;
+            default:
+                gerente = usuario(c, id(in));
+        }
+        p.sincronizarCom(Projeto.restaurar(p.getIdentificador(), p.getNome(), descricao, inicio, termino,
+                gerente, status));
+    }
+
+    private static void alterarEquipe(byte tipo, ByteBuffer in, Catalogo c) {
+        Equipe e = equipe(c, id(in));
+        String nome = e.getNome(), descricao = e.getDescricao();
+        List<Usuario> membros = new ArrayList<>(e.getMembros());
+        if (tipo == EQUIPE_TEXTO) {
+            nome = texto(in);
+            descricao = texto(in);
+        } else {
+            Usuario u = usuario(c, id(in));
+            if (tipo == EQUIPE_MEMBRO_EXCLUIDO) membros.remove(u);
+            else if (!membros.contains(u)) membros.add(u);
+        }
+        e.sincronizarCom(Equipe.restaurar(e.getIdentificador(), nome, descricao, membros));
+    }
+
+    private static void alterarAlocacao(byte tipo, ByteBuffer in, Catalogo c) {
+        AlocacaoEquipeProjeto a = alocacao(c, id(in));
+        LocalDate inicio = a.getDataInicio(), fim = a.getDataFim();
+        int capacidade = a.getCapacidadeHorasSemana();
+        String observacoes = a.getObservacoes();
+        switch (tipo) {
+            case ALOCACAO_PERIODO:
+                inicio = data(in);
+                fim = data(in);
+                break;
+            case ALOCACAO_CAPACIDADE:
+                capacidade = in.getInt();
+                break;
+            default:
+                observacoes = texto(in);
+        }
+        a.sincronizarCom(AlocacaoEquipeProjeto.restaurar(a.getIdentificador(), a.getProjeto(), a.getEquipe(),
+                inicio, fim, capacidade, observacoes));
+    }
+
+    // ----------------- Internos -----------------
+
+    private static Identificador idOuNulo(Usuario u) {
+        return u == null ? null : u.getIdentificador();
+    }
+
+    private static Usuario usuario(Catalogo c, Identificador id) {
+        return c.buscarUsuario(exigirId(id)).orElseThrow(() -> referencia("usuario " + id));
+    }
+
+    private static Projeto projeto(Catalogo c, Identificador id) {
+        return c.buscarProjeto(exigirId(id)).orElseThrow(() -> referencia("projeto " + id));
+    }
+
+    private static Equipe equipe(Catalogo c, Identificador id) {
+        return c.buscarEquipe(exigirId(id)).orElseThrow(() -> referencia("equipe " + id));
+    }
+
+    private static AlocacaoEquipeProjeto alocacao(Catalogo c, Identificador id) {
+        return c.buscarAlocacao(exigirId(id)).orElseThrow(() -> referencia("alocacao " + id));
+    }
+
+    private static Tarefa tarefa(Catalogo c, Identificador id) {
+        return c.buscarTarefa(exigirId(id)).orElseThrow(() -> referencia("tarefa " + id));
+    }
+
+    private static Identificador exigirId(Identificador id) {
+        if (id == null) throw new IllegalStateException("Referência obrigatória ausente no registro.");
+        return id;
+    }
+
+    private static IllegalStateException referencia(String alvo) {
+        return new IllegalStateException("Registro referencia entidade inexistente: " + alvo);
+    }
+
+    /** Id binário (dois longs; 0/0 = null). */
+    static Identificador id(ByteBuffer in) {
+        long alto = in.getLong(), baixo = in.getLong();
+        return (alto == 0 && baixo == 0) ? null : Identificador.of(alto, baixo);
+    }
+
+    /** Id binário ou, no formato anterior, em texto. */
+    private static Identificador id(ByteBuffer in, boolean binario) {
+        if (binario) return id(in);
+        String texto = texto(in);
+        return texto == null ? null : Identificador.of(texto);
+    }
+
+    static String texto(ByteBuffer in) {
+        int n = in.getInt();
+        if (n < 0) return null;
+        if (n > in.remaining()) throw new IllegalStateException("Texto truncado no registro.");
+        String s = new String(in.array(), in.arrayOffset() + in.position(), n, StandardCharsets.UTF_8);
+        in.position(in.position() + n);
+        return s;
+    }
+
+    static LocalDate data(ByteBuffer in) {
+        int d = in.getInt();
+        return d == SEM_DATA ? null : LocalDate.ofEpochDay(d);
+    }
+
+    static <E extends Enum<E>> E enumeracao(E[] valores, byte ordinal) {
+        if (ordinal < 0 || ordinal >= valores.length) {
+            throw new IllegalStateException("Valor de enum inválido no registro: " + ordinal);
+        }
+        return valores[ordinal];
+    }
+
+    /** Escrita sequencial de campos (big-endian) em array crescente. */
+    static final class Saida {
+        private byte[] buf = new byte[128];
+        private int tamanho;
+
+        Saida(byte tipo) {
+            garantir(1);
+            buf[tamanho++] = tipo;
+        }
+
+        Saida texto(String v) {
+            if (v == null) return inteiro(-1);
+            byte[] b = v.getBytes(StandardCharsets.UTF_8);
+            inteiro(b.length);
+            garantir(b.length);
+            System.arraycopy(b, 0, buf, tamanho, b.length);
+            tamanho += b.length;
+            return this;
+        }
+
+        Saida data(LocalDate d) {
+            return inteiro(d == null ? SEM_DATA : Math.toIntExact(d.toEpochDay()));
+        }
+
+        /** Id em dois longs; null vira 0/0 (um UUIDv7 nunca é zero). */
+        Saida id(Identificador id) {
+            return id == null ? longo(0).longo(0) : longo(id.alto()).longo(id.baixo());
+        }
+
+        Saida byteEnum(Enum<?> e) {
+            garantir(1);
+            buf[tamanho++] = (byte) e.ordinal();
+            return this;
+        }
+
+        Saida inteiro(int v) {
+            garantir(4);
+            ByteBuffer.wrap(buf, tamanho, 4).putInt(v);
+            tamanho += 4;
+            return this;
+        }
+
+        Saida longo(long v) {
+            garantir(8);
+            ByteBuffer.wrap(buf, tamanho, 8).putLong(v);
+            tamanho += 8;
+            return this;
+        }
+
+        byte[] bytes() {
+            return Arrays.copyOf(buf, tamanho);
+        }
+
+        private void garantir(int extra) {
+            if (tamanho + extra > buf.length) buf = Arrays.copyOf(buf, Math.max(buf.length * 2, tamanho + extra));
+        }
+    }
+}
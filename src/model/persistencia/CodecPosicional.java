@@ -0,0 +1,263 @@
+package model.persistencia;
+
+import model.dominio.*;
+import model.enums.Perfil;
+import model.enums.PrioridadeTarefa;
+import model.enums.StatusProjeto;
+import model.enums.StatusTarefa;
+import model.persistencia.CodecEntidades.Saida;
+import model.vo.Identificador;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static model.persistencia.CodecEntidades.enumeracao;
+import static model.persistencia.CodecEntidades.texto;
+
+/**
+ * Codificação dos registros do snapshot: os campos de CodecEntidades, mas
+ * com o id em dois longs e cada referência como a posição da entidade
+ * referenciada entre as do seu tipo, na ordem de gravação (SEM_REF = null),
+ * como nos arquivos de segmento. Como o snapshot grava cada entidade uma
+ * única vez e depois das que ela referencia, a carga resolve referências
+ * por índice em listas, sem texto de id nem busca no catálogo.
+ */
+final class CodecPosicional {
+    private CodecPosicional() {}
+
+    static final int SEM_REF = -1;
+
+    /** Posição (já gravada) de cada entidade referenciada; SEM_REF para null. */
+    interface Posicoes {
+        int posicao(Usuario u);
+        int posicao(Projeto p);
+        int posicao(Equipe e);
+        int posicao(Tarefa t);
+    }
+
+    // ----------------- Codificação -----------------
+
+    static byte[] codificar(Usuario u) {
+        return id(new Saida(CodecEntidades.USUARIO), u.getIdentificador()).texto(u.getNomeCompleto())
+                .texto(u.getCpf().value()).texto(u.getEmailValue()).texto(u.getCargo()).texto(u.getLogin())
+                .texto(u.getSenhaHash()).byteEnum(u.getPerfil()).bytes();
+    }
+
+    static byte[] codificar(Projeto p, Posicoes pos) {
+        return id(new Saida(CodecEntidades.PROJETO), p.getIdentificador()).texto(p.getNome()).texto(p.getDescricao())
+                .data(p.getDataInicio()).data(p.getDataTerminoPrevista()).byteEnum(p.getStatus())
+                .inteiro(pos.posicao(p.getGerenteResponsavel())).bytes();
+    }
+
+    static byte[] codificar(Equipe e, Posicoes pos) {
+        Saida s = id(new Saida(CodecEntidades.EQUIPE), e.getIdentificador())
+                .texto(e.getNome()).texto(e.getDescricao());
+        List<Usuario> membros = e.getMembros();
+        s.inteiro(membros.size());
+        for (Usuario u : membros) s.inteiro(pos.posicao(u));
+        return s.bytes();
+    }
+
+    static byte[] codificar(AlocacaoEquipeProjeto a, Posicoes pos) {
+        return id(new Saida(CodecEntidades.ALOCACAO), a.getIdentificador())
+                .inteiro(pos.posicao(a.getProjeto())).inteiro(pos.posicao(a.getEquipe()))
+                .data(a.getDataInicio()).data(a.getDataFim()).inteiro(a.getCapacidadeHorasSemana())
+                .texto(a.getObservacoes()).bytes();
+    }
+
+    static byte[] codificar(Tarefa t, Posicoes pos) {
+        Tarefa.Ciclo ciclo = t.getCiclo();
+        return id(new Saida(CodecEntidades.TAREFA), t.getIdentificador()).inteiro(pos.posicao(t.getProjeto()))
+                .texto(t.getTitulo()).texto(t.getDescricao()).inteiro(pos.posicao(t.getResponsavel()))
+                .byteEnum(t.getPrioridade()).byteEnum(ciclo.getStatus())
+                .data(t.getDataInicio()).data(t.getDataTerminoPrevista())
+                .inteiro(t.getEsforcoEstimadoHoras()).inteiro(ciclo.getEsforcoRealHoras())
+                .data(ciclo.getDataConclusao()).bytes();
+    }
+
+    static byte[] codificar(RegistroEsforco r, Posicoes pos) {
+        return id(new Saida(CodecEntidades.ESFORCO), r.getIdentificador())
+                .inteiro(pos.posicao(r.getTarefa())).inteiro(pos.posicao(r.getUsuario()))
+                .data(r.getData()).inteiro(r.getHoras()).texto(r.getObservacao()).bytes();
+    }
+
+    static byte[] codificar(ComentarioTarefa c, Posicoes pos) {
+        return id(new Saida(CodecEntidades.COMENTARIO), c.getIdentificador())
+                .inteiro(pos.posicao(c.getTarefa())).inteiro(pos.posicao(c.getAutor()))
+                .longo(c.getDataHora().toEpochSecond(ZoneOffset.UTC)).inteiro(c.getDataHora().getNano())
+                .texto(c.getMensagem()).bytes();
+    }
+
+    private static Saida id(Saida s, Identificador id) {
+        return s.longo(id.alto()).longo(id.baixo());
+    }
+
+    // ----------------- Decodificação -----------------
+
+    /**
+     * Estado de uma carga: as entidades já decodificadas de cada tipo, na
+     * ordem do arquivo, e o catálogo que as recebe, dimensionado pelas
+     * quantidades esperadas (indexadas pelo byte de tipo). Se houver log,
+     * cada entidade mutável passa a ser acompanhada por ele assim que é
+     * decodificada, enquanto ainda está no cache.
+     * Datas iguais viram a mesma instância de LocalDate (imutável): com
+     * milhões de tarefas concentradas em poucos anos, isso evita milhões
+     * de objetos vivos e o custo de GC de copiá-los.
+     */
+    static final class Carga {
+        private static final int DATAS_EM_CACHE = 1 << 12; // ~11 anos sem colisão
+        private static final Perfil[] PERFIS = Perfil.values();
+        private static final StatusProjeto[] STATUS_PROJETO = StatusProjeto.values();
+        private static final PrioridadeTarefa[] PRIORIDADES = PrioridadeTarefa.values();
+        private static final StatusTarefa[] STATUS_TAREFA = StatusTarefa.values();
+
+        private final Catalogo destino;
+        private final LogEscritaAntecipada log;
+        private final LocalDate[] datas = new LocalDate[DATAS_EM_CACHE];
+        private final int[] diasDasDatas = new int[DATAS_EM_CACHE]; // toEpochDay() de cada uma, que é caro
+        private ByteBuffer leitura = ByteBuffer.allocate(0); // reaproveitado enquanto o array for o mesmo
+        private final List<Usuario> usuarios;
+        private final List<Projeto> projetos;
+        private final List<Equipe> equipes;
+        private final List<Tarefa> tarefas;
+
+        Carga(int[] esperados, LogEscritaAntecipada log) {
+            this.log = log;
+            destino = new Catalogo(esperados[CodecEntidades.USUARIO], esperados[CodecEntidades.PROJETO],
+                    esperados[CodecEntidades.EQUIPE], esperados[CodecEntidades.ALOCACAO],
+                    esperados[CodecEntidades.TAREFA], esperados[CodecEntidades.ESFORCO],
+                    esperados[CodecEntidades.COMENTARIO]);
+            usuarios = new ArrayList<>(esperados[CodecEntidades.USUARIO]);
+            projetos = new ArrayList<>(esperados[CodecEntidades.PROJETO]);
+            equipes = new ArrayList<>(esperados[CodecEntidades.EQUIPE]);
+            tarefas = new ArrayList<>(esperados[CodecEntidades.TAREFA]);
+        }
+
+        Catalogo catalogo() {
+            return destino;
+        }
+
+        /** Decodifica um registro (registro[deslocamento, deslocamento + tamanho)) e o inclui no catálogo. */
+        void aplicar(byte[] registro, int deslocamento, int tamanho) {
+            if (leitura.array() != registro) leitura = ByteBuffer.wrap(registro);
+            ByteBuffer in = leitura;
+            in.limit(deslocamento + tamanho).position(deslocamento);
+            try {
+                byte tipo = in.get();
+                switch (tipo) {
+                    case CodecEntidades.USUARIO: {
+                        Usuario u = Usuario.restaurar(id(in), texto(in), texto(in), texto(in), texto(in),
+                                texto(in), texto(in), enumeracao(PERFIS, in.get()));
+                        usuarios.add(u);
+                        destino.incluir(u);
+                        if (log != null) log.acompanhar(u);
+                        break;
+                    }
+                    case CodecEntidades.PROJETO: {
+                        Identificador id = id(in);
+                        String nome = texto(in), descricao = texto(in);
+                        LocalDate inicio = data(in), termino = data(in);
+                        StatusProjeto status = enumeracao(STATUS_PROJETO, in.get());
+                        Projeto p = Projeto.restaurar(id, nome, descricao, inicio, termino,
+                                ref(usuarios, in.getInt()), status);
+                        projetos.add(p);
+                        destino.incluir(p);
+                        if (log != null) log.acompanhar(p);
+                        break;
+                    }
+                    case CodecEntidades.EQUIPE: {
+                        Identificador id = id(in);
+                        String nome = texto(in), descricao = texto(in);
+                        int n = in.getInt();
+                        if (n < 0 || n > in.remaining() / 4) {
+                            throw new IllegalStateException("Quantidade de membros inválida: " + n);
+                        }
+                        List<Usuario> membros = new ArrayList<>(n);
+                        for (int i = 0; i < n; i++) membros.add(exigir(usuarios, in.getInt()));
+                        Equipe e = Equipe.restaurar(id, nome, descricao, membros);
+                        equipes.add(e);
+                        destino.incluir(e);
+                        if (log != null) log.acompanhar(e);
+                        break;
+                    }
+                    case CodecEntidades.ALOCACAO: {
+                        Identificador id = id(in);
+                        Projeto p = exigir(projetos, in.getInt());
+                        Equipe e = exigir(equipes, in.getInt());
+                        AlocacaoEquipeProjeto a = AlocacaoEquipeProjeto.restaurar(id, p, e, data(in), data(in),
+                                in.getInt(), texto(in));
+                        destino.incluir(a);
+                        if (log != null) log.acompanhar(a);
+                        break;
+                    }
+                    case CodecEntidades.TAREFA: {
+                        Identificador id = id(in);
+                        Projeto p = exigir(projetos, in.getInt());
+                        String titulo = texto(in), descricao = texto(in);
+                        Usuario responsavel = ref(usuarios, in.getInt());
+                        PrioridadeTarefa prioridade = enumeracao(PRIORIDADES, in.get());
+                        StatusTarefa status = enumeracao(STATUS_TAREFA, in.get());
+                        LocalDate inicio = data(in), termino = data(in);
+                        int estimado = in.getInt(), real = in.getInt();
+                        Tarefa t = Tarefa.restaurar(id, p, titulo, descricao, responsavel, prioridade, status,
+                                inicio, termino, estimado, real, data(in));
+                        tarefas.add(t);
+                        destino.incluir(t);
+                        if (log != null) log.acompanhar(t);
+                        break;
+                    }
+                    case CodecEntidades.ESFORCO: {
+                        Identificador id = id(in);
+                        Tarefa t = exigir(tarefas, in.getInt());
+                        Usuario u = exigir(usuarios, in.getInt());
+                        destino.incluir(RegistroEsforco.restaurar(id, t, u, data(in), in.getInt(), texto(in)));
+                        break;
+                    }
+                    case CodecEntidades.COMENTARIO: {
+                        Identificador id = id(in);
+                        Tarefa t = exigir(tarefas, in.getInt());
+                        Usuario autor = exigir(usuarios, in.getInt());
+                        LocalDateTime quando = LocalDateTime.ofEpochSecond(in.getLong(), in.getInt(), ZoneOffset.UTC);
+                        destino.incluir(ComentarioTarefa.restaurar(id, t, autor, quando, texto(in)));
+                        break;
+                    }
+                    default:
+                        throw new IllegalStateException("Tipo de registro desconhecido: " + tipo);
+                }
+            } catch (BufferUnderflowException e) {
+                throw new IllegalStateException("Registro truncado.", e);
+            }
+        }
+
+        private LocalDate data(ByteBuffer in) {
+            int d = in.getInt();
+            if (d == CodecEntidades.SEM_DATA) return null;
+            int i = d & (DATAS_EM_CACHE - 1);
+            if (datas[i] == null || diasDasDatas[i] != d) {
+                datas[i] = LocalDate.ofEpochDay(d);
+                diasDasDatas[i] = d;
+            }
+            return datas[i];
+        }
+
+        private static Identificador id(ByteBuffer in) {
+            return Identificador.of(in.getLong(), in.getLong());
+        }
+
+        private static <T> T ref(List<T> gravadas, int posicao) {
+            return posicao == SEM_REF ? null : exigir(gravadas, posicao);
+        }
+
+        private static <T> T exigir(List<T> gravadas, int posicao) {
+            if (posicao < 0 || posicao >= gravadas.size()) {
+                throw new IllegalStateException("Registro referencia posição inexistente: " + posicao);
+            }
+            return gravadas.get(posicao);
+        }
+    }
+}
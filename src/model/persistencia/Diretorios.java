@@ -0,0 +1,25 @@
+package model.persistencia;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/** Operações de diretório comuns à publicação de arquivos (rename atômico seguido de fsync). */
+final class Diretorios {
+
+    private Diretorios() {}
+
+    /**
+     * Persiste as entradas do diretório (renames, arquivos novos e apagados):
+     * sem isso, uma queda de energia pode desfazer um rename já concluído.
+     */
+    static void sincronizar(Path diretorio) throws IOException {
+        try (FileChannel ch = FileChannel.open(diretorio, StandardOpenOption.READ)) {
+            ch.force(true);
+        } catch (IOException e) {
+            // alguns sistemas (ex.: Windows) não abrem diretórios; lá o rename já é durável
+            if (!System.getProperty("os.name", "").startsWith("Windows")) throw e;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package model.persistencia;
+
+/**
+ * Layout binário dos arquivos de segmento (um arquivo por tipo de entidade).
+ *
+ * <pre>
+ * diretório:
+ *   manifesto               geração vigente + tamanho e CRC32C de cada segmento
+ *   geracao-&lt;n&gt;/*.seg      os segmentos de cada geração (só a vigente é lida)
+ * manifesto (big-endian):
+ *   0  int   mágico "SGMF"
+ *   4  short versão
+ *   6  long  geração
+ *   14 por Tipo, na ordem do enum: long tamanho do arquivo, int CRC32C do arquivo
+ *   .. int   CRC32C dos bytes anteriores do manifesto
+ * </pre>
+ *
+ * <pre>
+ * cabeçalho (32 bytes):
+ *   0  int   mágico "SGPE"
+ *   4  short versão
+ *   6  short tipo (ordinal de Tipo)
+ *   8  int   quantidade de registros
+ *   12 int   tamanho fixo do registro
+ *   16 long  início do heap (offset no arquivo)
+ *   24 long  tamanho do heap
+ * registros: quantidade × tamanho fixo, a partir do byte 32
+ * heap: textos UTF-8 e listas de int (membros de equipe)
+ * </pre>
+ *
+ * Convenções dos campos: texto = (int offset no heap, int bytes; -1 = null),
+ * data = int epochDay (SEM_DATA = null), referência = int posição no segmento
+ * do tipo referenciado (SEM_REF = null), enum = byte ordinal.
+ * Big-endian (padrão de ByteBuffer).
+ */
+final class FormatoSegmento {
+    private FormatoSegmento() {}
+
+    static final int MAGICO = 0x53475045;
+    static final int MAGICO_MANIFESTO = 0x53474D46;
+    static final String MANIFESTO = "manifesto";
+    static final String PREFIXO_GERACAO = "geracao-";
+    static final short VERSAO = 1;
+    static final int TAMANHO_CABECALHO = 32;
+    static final int SEM_DATA = Integer.MIN_VALUE;
+    static final int SEM_REF = -1;
+
+    /** Tipos de segmento, com nome do arquivo e tamanho fixo do registro. */
+    enum Tipo {
+        // id, nome, cpf, email, cargo, login, senhaHash (textos) + perfil (byte)
+        USUARIOS("usuarios.seg", 7 * 8 + 1),
+        // id, nome, descricao + inicio, termino + status (byte) + gerente
+        PROJETOS("projetos.seg", 3 * 8 + 2 * 4 + 1 + 4),
+        // id, nome, descricao + membros (offset no heap, quantidade)
+        EQUIPES("equipes.seg", 3 * 8 + 2 * 4),
+        // id, observacoes + projeto, equipe, inicio, fim, capacidade
+        ALOCACOES("alocacoes.seg", 2 * 8 + 5 * 4),
+        // id, titulo, descricao + projeto, responsavel + prioridade, status (bytes)
+        // + inicio, termino, conclusao, estimado, real
+        TAREFAS("tarefas.seg", 3 * 8 + 2 * 4 + 2 + 5 * 4),
+        // id, observacao + tarefa, usuario, data, horas
+        ESFORCOS("esforcos.seg", 2 * 8 + 4 * 4),
+        // id, mensagem + tarefa, autor + epochSecond (long) + nano
+        COMENTARIOS("comentarios.seg", 2 * 8 + 2 * 4 + 8 + 4);
+
+        final String arquivo;
+        final int tamanhoRegistro;
+
+        Tipo(String arquivo, int tamanhoRegistro) {
+            this.arquivo = arquivo;
+            this.tamanhoRegistro = tamanhoRegistro;
+        }
+    }
+}
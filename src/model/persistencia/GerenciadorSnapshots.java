@@ -0,0 +1,530 @@
+package model.persistencia;
+
+import model.dominio.*;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.zip.CRC32C;
+
+/**
+ * Snapshots periódicos + compactação do log, para reinício rápido.
+ *
+ * Layout do diretório:
+ * <pre>
+ *   wal/wal-&lt;lsn&gt;.log          segmentos do LogEscritaAntecipada
+ *   snapshot-&lt;lsn&gt;.snap       estado completo que cobre o log até &lt;lsn&gt;
+ * </pre>
+ * O snapshot é "difuso": o log é rotacionado (o lsn de corte é o último do
+ * segmento encerrado) e o catálogo é serializado em segundo plano enquanto
+ * as escritas continuam. Uma entidade alterada durante a cópia pode sair
+ * com um estado mais novo que o corte, mas seus registros posteriores
+ * estão no log e, como cada um regrava valores absolutos dos campos que
+ * cobre (ou inclui/exclui um membro, idempotente), reaplicá-los converge
+ * para o estado final. Terminada a cópia, os segmentos cobertos
+ * são apagados.
+ *
+ * Na recuperação: carrega o snapshot mais recente e reproduz só a cauda.
+ * Os registros do snapshot são posicionais (CodecPosicional): uma referência
+ * é a posição da entidade referenciada, que o escritor garante ter gravado
+ * antes, então a carga resolve por índice em vez de buscar pelo id. O
+ * cabeçalho traz as quantidades por tipo, para o catálogo já nascer no
+ * tamanho certo, e cada entidade passa a ser acompanhada pelo log assim que
+ * é decodificada (sem uma segunda varredura do catálogo).
+ * Novas entidades devem entrar por incluir(...), que põe no catálogo antes
+ * de registrar no log (assim um snapshot cortado depois do registro sempre
+ * as enxerga), ou por um Lote, para cargas em massa com um fsync por lote.
+ */
+public final class GerenciadorSnapshots implements Closeable {
+
+    static final int MAGICO = 0x534E4150; // "SNAP"
+    static final short VERSAO = 2; // registros de CodecPosicional; a 1 (CodecEntidades) ainda é lida
+    private static final String PREFIXO = "snapshot-";
+    private static final String SUFIXO = ".snap";
+    private static final int TENTATIVAS_LEITURA_ESTAVEL = 8;
+    private static final int QUANTIDADES = CodecEntidades.COMENTARIO + 1; // indexado pelo byte de tipo
+
+    private final Path diretorio;
+    private final LogEscritaAntecipada log;
+    private final ReentrantLock travaSnapshot = new ReentrantLock();
+    private final ScheduledExecutorService executor;
+    private volatile Catalogo catalogo;
+    private volatile long lsnUltimoSnapshot;
+
+    private GerenciadorSnapshots(Path diretorio, LogEscritaAntecipada log) {
+        this.diretorio = diretorio;
+        this.log = log;
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "snapshot-" + diretorio.getFileName());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /** Abre (ou cria) o diretório de persistência. Chame recuperar() em seguida. */
+    public static GerenciadorSnapshots abrir(Path diretorio) throws IOException {
+        Objects.requireNonNull(diretorio, "diretorio não pode ser nulo");
+        Files.createDirectories(diretorio);
+        return new GerenciadorSnapshots(diretorio, LogEscritaAntecipada.abrir(diretorio.resolve("wal")));
+    }
+
+    // ----------------- Recuperação -----------------
+
+    /**
+     * Carrega o snapshot mais recente, reproduz o log a partir do seu lsn e
+     * passa a registrar as mutações do catálogo resultante.
+     */
+    public Catalogo recuperar() throws IOException {
+        travaSnapshot.lock();
+        try {
+            if (catalogo != null) throw new IllegalStateException("Catálogo já recuperado.");
+            Catalogo c;
+            long lsn = 0;
+            List<Long> snapshots = listarSnapshots(diretorio);
+            if (snapshots.isEmpty()) {
+                c = new Catalogo();
+            } else {
+                lsn = snapshots.get(snapshots.size() - 1);
+                c = carregar(caminho(diretorio, lsn), lsn, log);
+            }
+            log.reproduzirEAcompanhar(c, lsn);
+            lsnUltimoSnapshot = lsn;
+            catalogo = c;
+            return c;
+        } finally {
+            travaSnapshot.unlock();
+        }
+    }
+
+    /** Carrega o snapshot, já acompanhando cada entidade pelo log. */
+    private static Catalogo carregar(Path arquivo, long lsnEsperado, LogEscritaAntecipada log) throws IOException {
+        try (FileChannel ch = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            Janela in = new Janela(ch);
+            if (in.inteiro() != MAGICO) throw new IOException("Arquivo não é um snapshot: " + arquivo);
+            short versao = in.curto();
+            if (versao != 1 && versao != VERSAO) throw new IOException("Versão de snapshot não suportada: " + versao);
+            long lsn = in.longo();
+            if (lsn != lsnEsperado) throw new IOException("Lsn do snapshot não confere com o nome: " + arquivo);
+
+            CodecPosicional.Carga carga = null;
+            Catalogo destino;
+            if (versao == VERSAO) {
+                int[] esperados = new int[QUANTIDADES];
+                for (int tipo = 1; tipo < QUANTIDADES; tipo++) esperados[tipo] = Math.max(0, in.inteiro());
+                carga = new CodecPosicional.Carga(esperados, log);
+                destino = carga.catalogo();
+            } else {
+                destino = new Catalogo();
+            }
+
+            CRC32C crc = new CRC32C();
+            long lidos = 0;
+            int tamanho;
+            while ((tamanho = in.inteiro()) != 0) {
+                if (tamanho < 0) throw new IOException("Registro de snapshot inválido em " + arquivo);
+                int soma = in.inteiro();
+                int inicio = in.bloco(tamanho);
+                byte[] buf = in.array();
+                crc.reset();
+                crc.update(buf, inicio, tamanho);
+                if ((int) crc.getValue() != soma) throw new IOException("Snapshot corrompido: " + arquivo);
+                if (carga != null) {
+                    carga.aplicar(buf, inicio, tamanho);
+                } else {
+                    byte[] registro = Arrays.copyOfRange(buf, inicio, inicio + tamanho); // formato antigo
+                    log.acompanharEntidade(CodecEntidades.aplicar(registro, destino));
+                }
+                lidos++;
+            }
+            if (in.longo() != lidos) throw new IOException("Snapshot incompleto: " + arquivo);
+            return destino;
+        } catch (EOFException e) {
+            throw new IOException("Snapshot truncado: " + arquivo, e);
+        }
+    }
+
+    /**
+     * Leitura sequencial por uma janela de bytes: cada registro é
+     * decodificado direto no array da janela, sem cópia intermediária.
+     */
+    private static final class Janela {
+        private final FileChannel ch;
+        private ByteBuffer buf = ByteBuffer.allocate(1 << 20);
+
+        Janela(FileChannel ch) {
+            this.ch = ch;
+            buf.limit(0);
+        }
+
+        int inteiro() throws IOException { garantir(4); return buf.getInt(); }
+
+        short curto() throws IOException { garantir(2); return buf.getShort(); }
+
+        long longo() throws IOException { garantir(8); return buf.getLong(); }
+
+        /** Consome n bytes e devolve onde eles começam em array(). */
+        int bloco(int n) throws IOException {
+            garantir(n);
+            int inicio = buf.position();
+            buf.position(inicio + n);
+            return inicio;
+        }
+
+        byte[] array() { return buf.array(); }
+
+        private void garantir(int n) throws IOException {
+            if (buf.remaining() >= n) return;
+            if (n > buf.capacity()) {
+                ByteBuffer maior = ByteBuffer.allocate(Math.max(n, buf.capacity() * 2));
+                maior.put(buf);
+                buf = maior;
+            } else {
+                buf.compact();
+            }
+            while (buf.position() < n) {
+                if (ch.read(buf) < 0) throw new EOFException();
+            }
+            buf.flip();
+        }
+    }
+
+    // ----------------- Inclusão -----------------
+
+    public long incluir(Usuario u) { exigirCatalogo().incluir(u); return log.registrarCriacao(u); }
+    public long incluir(Projeto p) { exigirCatalogo().incluir(p); return log.registrarCriacao(p); }
+    public long incluir(Equipe e) { exigirCatalogo().incluir(e); return log.registrarCriacao(e); }
+    public long incluir(AlocacaoEquipeProjeto a) { exigirCatalogo().incluir(a); return log.registrarCriacao(a); }
+    public long incluir(Tarefa t) { exigirCatalogo().incluir(t); return log.registrarCriacao(t); }
+    public long incluir(RegistroEsforco r) { exigirCatalogo().incluir(r); return log.registrarCriacao(r); }
+    public long incluir(ComentarioTarefa c) { exigirCatalogo().incluir(c); return log.registrarCriacao(c); }
+
+    /** Lote vazio de inclusões (ver Lote). */
+    public Lote novoLote() {
+        return new Lote(exigirCatalogo(), log.novoLote());
+    }
+
+    private Catalogo exigirCatalogo() {
+        Catalogo c = catalogo;
+        if (c == null) throw new IllegalStateException("Chame recuperar() antes de incluir entidades.");
+        return c;
+    }
+
+    /**
+     * Inclusões em massa de uma única thread: cada incluir põe a entidade no
+     * catálogo e acumula o registro; confirmar() grava o lote no log com um
+     * único fsync. Até confirmar, as entidades já estão no catálogo mas não
+     * são duráveis.
+     */
+    public static final class Lote {
+        private final Catalogo catalogo;
+        private final LogEscritaAntecipada.Lote registros;
+
+        private Lote(Catalogo catalogo, LogEscritaAntecipada.Lote registros) {
+            this.catalogo = catalogo;
+            this.registros = registros;
+        }
+
+        public Lote incluir(Usuario u) { catalogo.incluir(u); registros.registrarCriacao(u); return this; }
+        public Lote incluir(Projeto p) { catalogo.incluir(p); registros.registrarCriacao(p); return this; }
+        public Lote incluir(Equipe e) { catalogo.incluir(e); registros.registrarCriacao(e); return this; }
+        public Lote incluir(AlocacaoEquipeProjeto a) { catalogo.incluir(a); registros.registrarCriacao(a); return this; }
+        public Lote incluir(Tarefa t) { catalogo.incluir(t); registros.registrarCriacao(t); return this; }
+        public Lote incluir(RegistroEsforco r) { catalogo.incluir(r); registros.registrarCriacao(r); return this; }
+        public Lote incluir(ComentarioTarefa c) { catalogo.incluir(c); registros.registrarCriacao(c); return this; }
+
+        /** Inclusões ainda não confirmadas. */
+        public int tamanho() { return registros.tamanho(); }
+
+        /** Grava o lote no log (um fsync) e o esvazia. Retorna o lsn do último registro. */
+        public long confirmar() { return registros.confirmar(); }
+    }
+
+    // ----------------- Snapshot -----------------
+
+    /**
+     * Tira um snapshot na thread atual (um por vez) e compacta o log.
+     * Retorna o lsn coberto.
+     */
+    public long snapshot() throws IOException {
+        travaSnapshot.lock();
+        try {
+            Catalogo c = exigirCatalogo();
+            long lsn = log.rotacionar();
+            if (lsn == lsnUltimoSnapshot) return lsn; // nada novo desde o último
+
+            Path destino = caminho(diretorio, lsn);
+            Path temporario = destino.resolveSibling(destino.getFileName() + ".tmp");
+            try {
+                gravar(temporario, lsn, c);
+                Files.move(temporario, destino, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                // o rename tem de estar em disco antes de apagar o snapshot e o log que ele substitui
+                Diretorios.sincronizar(diretorio);
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(temporario);
+                throw e;
+            }
+            lsnUltimoSnapshot = lsn;
+
+            for (long antigo : listarSnapshots(diretorio)) {
+                if (antigo < lsn) Files.deleteIfExists(caminho(diretorio, antigo));
+            }
+            log.descartarAte(lsn);
+            return lsn;
+        } finally {
+            travaSnapshot.unlock();
+        }
+    }
+
+    /** Tira um snapshot na thread de fundo. */
+    public CompletableFuture<Long> snapshotEmSegundoPlano() {
+        CompletableFuture<Long> r = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                r.complete(snapshot());
+            } catch (IOException | RuntimeException e) {
+                r.completeExceptionally(e);
+            }
+        });
+        return r;
+    }
+
+    /**
+     * Agenda snapshots periódicos na thread de fundo. Uma falha interrompe o
+     * agendamento (o log continua íntegro; só deixa de ser compactado).
+     */
+    public void agendar(Duration intervalo) {
+        Objects.requireNonNull(intervalo, "intervalo não pode ser nulo");
+        if (intervalo.isNegative() || intervalo.isZero()) {
+            throw new IllegalArgumentException("Intervalo deve ser positivo.");
+        }
+        long ms = intervalo.toMillis();
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                snapshot();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, ms, ms, TimeUnit.MILLISECONDS);
+    }
+
+    private static void gravar(Path arquivo, long lsn, Catalogo c) throws IOException {
+        try (FileChannel ch = FileChannel.open(arquivo, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(ch), 1 << 16));
+            out.writeInt(MAGICO);
+            out.writeShort(VERSAO);
+            out.writeLong(lsn);
+            // quantidades no início da cópia: só dimensionam os mapas da carga
+            for (int n : new int[] {c.usuarios().size(), c.projetos().size(), c.equipes().size(),
+                    c.alocacoes().size(), c.tarefas().size(), c.esforcos().size(), c.comentarios().size()}) {
+                out.writeInt(n);
+            }
+            Escritor e = new Escritor(out);
+            try {
+                for (Usuario u : c.usuarios()) e.usuario(u);
+                for (Projeto p : c.projetos()) e.projeto(p);
+                for (Equipe eq : c.equipes()) e.equipe(eq);
+                for (AlocacaoEquipeProjeto a : c.alocacoes()) e.alocacao(a);
+                for (Tarefa t : c.tarefas()) e.tarefa(t);
+                for (RegistroEsforco r : c.esforcos()) e.esforco(r);
+                for (ComentarioTarefa ct : c.comentarios()) e.comentario(ct);
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+            out.writeInt(0);
+            out.writeLong(e.escritos);
+            out.flush();
+            ch.force(true);
+        }
+    }
+
+    /**
+     * Grava cada entidade uma vez, sempre depois das que ela referencia
+     * (entidades criadas durante a cópia podem aparecer fora de ordem):
+     * pedir a posição de uma referência ainda não gravada a grava antes.
+     */
+    private static final class Escritor implements CodecPosicional.Posicoes {
+        private final DataOutputStream out;
+        private final Map<Object, Integer> posicoes = new IdentityHashMap<>();
+        private final int[] porTipo = new int[QUANTIDADES];
+        private final CRC32C crc = new CRC32C();
+        long escritos;
+
+        Escritor(DataOutputStream out) { this.out = out; }
+
+        void usuario(Usuario u) throws IOException {
+            if (posicoes.containsKey(u)) return;
+            registro(u, CodecEntidades.USUARIO, estavel(() -> CodecPosicional.codificar(u)));
+        }
+
+        void projeto(Projeto p) throws IOException {
+            if (posicoes.containsKey(p)) return;
+            registro(p, CodecEntidades.PROJETO, estavel(() -> CodecPosicional.codificar(p, this)));
+        }
+
+        void equipe(Equipe e) throws IOException {
+            if (posicoes.containsKey(e)) return;
+            registro(e, CodecEntidades.EQUIPE, estavel(() -> CodecPosicional.codificar(e, this)));
+        }
+
+        void alocacao(AlocacaoEquipeProjeto a) throws IOException {
+            if (posicoes.containsKey(a)) return;
+            registro(a, CodecEntidades.ALOCACAO, estavel(() -> CodecPosicional.codificar(a, this)));
+        }
+
+        void tarefa(Tarefa t) throws IOException {
+            if (posicoes.containsKey(t)) return;
+            registro(t, CodecEntidades.TAREFA, estavel(() -> CodecPosicional.codificar(t, this)));
+        }
+
+        void esforco(RegistroEsforco r) throws IOException {
+            if (posicoes.containsKey(r)) return;
+            registro(r, CodecEntidades.ESFORCO, CodecPosicional.codificar(r, this));
+        }
+
+        void comentario(ComentarioTarefa c) throws IOException {
+            if (posicoes.containsKey(c)) return;
+            registro(c, CodecEntidades.COMENTARIO, CodecPosicional.codificar(c, this));
+        }
+
+        // Chamados pela codificação (dentro de estavel), daí a IOException embrulhada.
+
+        @Override public int posicao(Usuario u) {
+            return u == null ? CodecPosicional.SEM_REF : posicao(u, () -> usuario(u));
+        }
+
+        @Override public int posicao(Projeto p) { return posicao(p, () -> projeto(p)); }
+
+        @Override public int posicao(Equipe e) { return posicao(e, () -> equipe(e)); }
+
+        @Override public int posicao(Tarefa t) { return posicao(t, () -> tarefa(t)); }
+
+        private int posicao(Object entidade, Gravacao gravar) {
+            Integer p = posicoes.get(entidade);
+            if (p == null) {
+                try {
+                    gravar.executar();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                p = posicoes.get(entidade);
+            }
+            return p;
+        }
+
+        private void registro(Object entidade, byte tipo, byte[] payload) throws IOException {
+            crc.reset();
+            crc.update(payload);
+            out.writeInt(payload.length);
+            out.writeInt((int) crc.getValue());
+            out.write(payload);
+            posicoes.put(entidade, porTipo[tipo]++);
+            escritos++;
+        }
+    }
+
+    private interface Gravacao {
+        void executar() throws IOException;
+    }
+
+    /**
+     * Lê até duas leituras consecutivas coincidirem, para não gravar um
+     * estado rasgado por uma mutação concorrente (ex.: início novo com
+     * término antigo), que falharia na validação do restaurar.
+     */
+    private static <T> T estavel(Supplier<T> leitura) {
+        T anterior = null;
+        RuntimeException erro = null;
+        for (int i = 0; i < TENTATIVAS_LEITURA_ESTAVEL; i++) {
+            T atual;
+            try {
+                atual = leitura.get();
+            } catch (RuntimeException e) { // ex.: ConcurrentModificationException
+                erro = e;
+                anterior = null;
+                continue;
+            }
+            if (anterior != null && iguais(anterior, atual)) return atual;
+            anterior = atual;
+        }
+        if (anterior != null) return anterior;
+        throw erro;
+    }
+
+    private static boolean iguais(Object a, Object b) {
+        if (a instanceof byte[] && b instanceof byte[]) return Arrays.equals((byte[]) a, (byte[]) b);
+        return a.equals(b);
+    }
+
+    // ----------------- Arquivos -----------------
+
+    private static List<Long> listarSnapshots(Path diretorio) throws IOException {
+        List<Long> r = new ArrayList<>();
+        try (DirectoryStream<Path> ds = Files.newDirectoryStream(diretorio, PREFIXO + "*" + SUFIXO)) {
+            for (Path p : ds) {
+                String n = p.getFileName().toString();
+                try {
+                    r.add(Long.parseLong(n.substring(PREFIXO.length(), n.length() - SUFIXO.length())));
+                } catch (NumberFormatException e) {
+                    throw new IOException("Nome de snapshot inválido: " + p, e);
+                }
+            }
+        }
+        Collections.sort(r);
+        return r;
+    }
+
+    private static Path caminho(Path diretorio, long lsn) {
+        return diretorio.resolve(String.format("%s%020d%s", PREFIXO, lsn, SUFIXO));
+    }
+
+    // ----------------- Estado -----------------
+
+    public long lsnUltimoSnapshot() { return lsnUltimoSnapshot; }
+
+    public LogEscritaAntecipada getLog() { return log; }
+
+    public Path getDiretorio() { return diretorio; }
+
+    /** Encerra a thread de fundo (aguardando um snapshot em curso) e fecha o log. */
+    @Override
+    public void close() throws IOException {
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        travaSnapshot.lock();
+        try {
+            log.close();
+        } finally {
+            travaSnapshot.unlock();
+        }
+    }
+}
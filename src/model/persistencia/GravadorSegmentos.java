@@ -0,0 +1,215 @@
+package model.persistencia;
+
+import model.dominio.*;
+import model.persistencia.FormatoSegmento.Tipo;
+import model.vo.Identificador;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.*;
+
+import static model.persistencia.FormatoSegmento.*;
+
+/**
+ * Grava um Catalogo em arquivos de segmento binários de layout fixo
+ * (ver FormatoSegmento), um por tipo de entidade. Cada gravação vai para a
+ * pasta de uma nova geração e só vale depois que o manifesto é trocado
+ * (ver ManifestoSegmentos): os sete arquivos mudam juntos, ou nenhum muda.
+ * Não suporta duas gravações simultâneas no mesmo diretório.
+ */
+public final class GravadorSegmentos {
+    private GravadorSegmentos() {}
+
+    /** Grava todas as entidades do catálogo no diretório (criado se necessário). */
+    public static void gravar(Path diretorio, Catalogo catalogo) throws IOException {
+        Objects.requireNonNull(diretorio, "diretorio não pode ser nulo");
+        Objects.requireNonNull(catalogo, "catalogo não pode ser nulo");
+        Files.createDirectories(diretorio);
+        long geracao = ManifestoSegmentos.reservarGeracao(diretorio);
+        Path pasta = ManifestoSegmentos.pasta(diretorio, geracao);
+        long[] tamanhos = new long[Tipo.values().length];
+        int[] crcs = new int[tamanhos.length];
+
+        List<Usuario> usuarios = new ArrayList<>(catalogo.usuarios());
+        List<Projeto> projetos = new ArrayList<>(catalogo.projetos());
+        List<Equipe> equipes = new ArrayList<>(catalogo.equipes());
+        List<AlocacaoEquipeProjeto> alocacoes = new ArrayList<>(catalogo.alocacoes());
+        List<Tarefa> tarefas = new ArrayList<>(catalogo.tarefas());
+        List<RegistroEsforco> esforcos = new ArrayList<>(catalogo.esforcos());
+        List<ComentarioTarefa> comentarios = new ArrayList<>(catalogo.comentarios());
+
+        Map<Identificador, Integer> posUsuario = posicoes(usuarios, Usuario::getIdentificador);
+        Map<Identificador, Integer> posProjeto = posicoes(projetos, Projeto::getIdentificador);
+        Map<Identificador, Integer> posEquipe = posicoes(equipes, Equipe::getIdentificador);
+        Map<Identificador, Integer> posTarefa = posicoes(tarefas, Tarefa::getIdentificador);
+
+        Escritor w = new Escritor(Tipo.USUARIOS, usuarios.size());
+        for (Usuario u : usuarios) {
+            w.texto(u.getId()).texto(u.getNomeCompleto()).texto(u.getCpf().value()).texto(u.getEmailValue())
+                    .texto(u.getCargo()).texto(u.getLogin()).texto(u.getSenhaHash()).enumeracao(u.getPerfil());
+        }
+        w.gravar(pasta, tamanhos, crcs);
+
+        w = new Escritor(Tipo.PROJETOS, projetos.size());
+        for (Projeto p : projetos) {
+            w.texto(p.getId()).texto(p.getNome()).texto(p.getDescricao())
+                    .data(p.getDataInicio()).data(p.getDataTerminoPrevista()).enumeracao(p.getStatus())
+                    .ref(posUsuario, p.getGerenteResponsavel() == null ? null : p.getGerenteResponsavel().getIdentificador());
+        }
+        w.gravar(pasta, tamanhos, crcs);
+
+        w = new Escritor(Tipo.EQUIPES, equipes.size());
+        for (Equipe e : equipes) {
+            w.texto(e.getId()).texto(e.getNome()).texto(e.getDescricao());
+            List<Usuario> membros = e.getMembros();
+            int[] refs = new int[membros.size()];
+            for (int i = 0; i < refs.length; i++) refs[i] = exigir(posUsuario, membros.get(i).getIdentificador());
+            w.inteiros(refs);
+        }
+        w.gravar(pasta, tamanhos, crcs);
+
+        w = new Escritor(Tipo.ALOCACOES, alocacoes.size());
+        for (AlocacaoEquipeProjeto a : alocacoes) {
+            w.texto(a.getId()).texto(a.getObservacoes())
+                    .ref(posProjeto, a.getProjeto().getIdentificador()).ref(posEquipe, a.getEquipe().getIdentificador())
+                    .data(a.getDataInicio()).data(a.getDataFim()).inteiro(a.getCapacidadeHorasSemana());
+        }
+        w.gravar(pasta, tamanhos, crcs);
+
+        w = new Escritor(Tipo.TAREFAS, tarefas.size());
+        for (Tarefa t : tarefas) {
+            Tarefa.Ciclo ciclo = t.getCiclo();
+            w.texto(t.getId()).texto(t.getTitulo()).texto(t.getDescricao())
+                    .ref(posProjeto, t.getProjeto().getIdentificador())
+                    .ref(posUsuario, t.getResponsavel() == null ? null : t.getResponsavel().getIdentificador())
+                    .enumeracao(t.getPrioridade()).enumeracao(ciclo.getStatus())
+                    .data(t.getDataInicio()).data(t.getDataTerminoPrevista()).data(ciclo.getDataConclusao())
+                    .inteiro(t.getEsforcoEstimadoHoras()).inteiro(ciclo.getEsforcoRealHoras());
+        }
+        w.gravar(pasta, tamanhos, crcs);
+
+        w = new Escritor(Tipo.ESFORCOS, esforcos.size());
+        for (RegistroEsforco r : esforcos) {
+            w.texto(r.getId()).texto(r.getObservacao())
+                    .ref(posTarefa, r.getTarefa().getIdentificador()).ref(posUsuario, r.getUsuario().getIdentificador())
+                    .data(r.getData()).inteiro(r.getHoras());
+        }
+        w.gravar(pasta, tamanhos, crcs);
+
+        w = new Escritor(Tipo.COMENTARIOS, comentarios.size());
+        for (ComentarioTarefa c : comentarios) {
+            w.texto(c.getId()).texto(c.getMensagem())
+                    .ref(posTarefa, c.getTarefa().getIdentificador()).ref(posUsuario, c.getAutor().getIdentificador())
+                    .longo(c.getDataHora().toEpochSecond(ZoneOffset.UTC)).inteiro(c.getDataHora().getNano());
+        }
+        w.gravar(pasta, tamanhos, crcs);
+
+        ManifestoSegmentos manifesto = new ManifestoSegmentos(geracao, tamanhos, crcs);
+        manifesto.publicar(diretorio);
+        manifesto.removerAnteriores(diretorio);
+    }
+
+    // ----------------- Internos -----------------
+
+    private static <T> Map<Identificador, Integer> posicoes(List<T> itens,
+                                                           java.util.function.Function<T, Identificador> id) {
+        Map<Identificador, Integer> m = new HashMap<>(itens.size() * 2);
+        for (int i = 0; i < itens.size(); i++) m.put(id.apply(itens.get(i)), i);
+        return m;
+    }
+
+    private static int exigir(Map<Identificador, Integer> posicoes, Identificador id) {
+        Integer p = posicoes.get(id);
+        if (p == null) throw new IllegalStateException("Referência a entidade fora do catálogo: " + id);
+        return p;
+    }
+
+    /** Monta registros de tamanho fixo + heap de um segmento e grava em disco. */
+    private static final class Escritor {
+        private final Tipo tipo;
+        private final int quantidade;
+        private final ByteBuffer registros;
+        private byte[] heap = new byte[4096];
+        private int tamanhoHeap;
+
+        Escritor(Tipo tipo, int quantidade) {
+            this.tipo = tipo;
+            this.quantidade = quantidade;
+            this.registros = ByteBuffer.allocate(Math.multiplyExact(quantidade, tipo.tamanhoRegistro));
+        }
+
+        Escritor texto(String v) {
+            if (v == null) return inteiro(0).inteiro(-1);
+            byte[] b = v.getBytes(StandardCharsets.UTF_8);
+            int off = anexar(b.length);
+            System.arraycopy(b, 0, heap, off, b.length);
+            return inteiro(off).inteiro(b.length);
+        }
+
+        Escritor inteiros(int[] valores) {
+            int off = anexar(valores.length * 4);
+            ByteBuffer.wrap(heap, off, valores.length * 4).asIntBuffer().put(valores);
+            return inteiro(off).inteiro(valores.length);
+        }
+
+        Escritor data(LocalDate d) {
+            return inteiro(d == null ? SEM_DATA : Math.toIntExact(d.toEpochDay()));
+        }
+
+        Escritor ref(Map<Identificador, Integer> posicoes, Identificador id) {
+            return inteiro(id == null ? SEM_REF : exigir(posicoes, id));
+        }
+
+        Escritor enumeracao(Enum<?> e) {
+            registros.put((byte) e.ordinal());
+            return this;
+        }
+
+        Escritor inteiro(int v) {
+            registros.putInt(v);
+            return this;
+        }
+
+        Escritor longo(long v) {
+            registros.putLong(v);
+            return this;
+        }
+
+        private int anexar(int bytes) {
+            int off = tamanhoHeap;
+            int necessario = Math.addExact(tamanhoHeap, bytes);
+            if (necessario > heap.length) {
+                heap = Arrays.copyOf(heap, Math.max(necessario, (int) Math.min(Integer.MAX_VALUE - 8, heap.length * 2L)));
+            }
+            tamanhoHeap = necessario;
+            return off;
+        }
+
+        /** Grava o segmento na pasta da geração e anota tamanho e CRC32C para o manifesto. */
+        void gravar(Path pasta, long[] tamanhos, int[] crcs) throws IOException {
+            if (registros.hasRemaining()) throw new IllegalStateException("Registro incompleto em " + tipo);
+            long inicioHeap = TAMANHO_CABECALHO + (long) registros.capacity();
+            ByteBuffer cab = ByteBuffer.allocate(TAMANHO_CABECALHO)
+                    .putInt(MAGICO).putShort(VERSAO).putShort((short) tipo.ordinal())
+                    .putInt(quantidade).putInt(tipo.tamanhoRegistro)
+                    .putLong(inicioHeap).putLong(tamanhoHeap);
+            cab.flip();
+            registros.flip();
+            ByteBuffer corpoHeap = ByteBuffer.wrap(heap, 0, tamanhoHeap);
+            tamanhos[tipo.ordinal()] = inicioHeap + tamanhoHeap;
+            crcs[tipo.ordinal()] = ManifestoSegmentos.crc(cab, registros, corpoHeap);
+
+            try (FileChannel ch = FileChannel.open(pasta.resolve(tipo.arquivo), StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.WRITE)) {
+                ByteBuffer[] partes = {cab, registros, corpoHeap};
+                while (corpoHeap.hasRemaining() || registros.hasRemaining() || cab.hasRemaining()) ch.write(partes);
+                ch.force(true);
+            }
+        }
+    }
+}
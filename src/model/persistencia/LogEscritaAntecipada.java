@@ -0,0 +1,669 @@
+package model.persistencia;
+
+import model.dominio.*;
+import model.enums.PrioridadeTarefa;
+import model.enums.StatusProjeto;
+import model.enums.StatusTarefa;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.CRC32C;
+
+/**
+ * Log de escrita antecipada (WAL) das mutações do domínio.
+ *
+ * Criações gravam o estado completo da entidade; cada mutação observada
+ * grava só os campos que a operação mexeu (CodecEntidades), como um registro:
+ * <pre>
+ *   int tamanho do payload | int CRC32C(lsn + payload) | long lsn | payload
+ * </pre>
+ * Commit em grupo: quem chega primeiro vira "líder", grava o lote pendente
+ * e faz um único fsync; as threads que anexaram enquanto isso esperam e
+ * são liberadas juntas pelo próximo fsync, sem pagar um fsync por
+ * lançamento. Cargas em massa vindas de uma só thread (geração,
+ * importação) usam um Lote, que anexa todos os registros de uma vez e
+ * espera um único fsync.
+ *
+ * Durabilidade: o log acompanha as entidades como observador, então grava
+ * depois da mutação em memória (write-behind). A mutação fica visível a
+ * outras threads antes de estar em disco e se perde numa queda antes do
+ * fsync. O callback só retorna com o registro em disco; sem concorrência
+ * ele roda na thread que fez a mutação, que então só retorna depois disso.
+ * Com transições concorrentes da mesma tarefa, a notificação pode ser
+ * entregue por outra thread e a chamada retornar antes. Criações
+ * (registrarCriacao, Lote.confirmar) são síncronas.
+ *
+ * O log é um diretório de segmentos "wal-&lt;primeiro lsn&gt;.log"; só o último
+ * recebe escritas. rotacionar() abre um segmento novo e descartarAte()
+ * apaga os segmentos já cobertos por um snapshot.
+ *
+ * Na abertura, o segmento ativo é percorrido até o último registro íntegro
+ * (cauda truncada ou corrompida por queda é descartada). reproduzir() aplica
+ * os registros num Catalogo; como cada registro é um upsert de valores
+ * absolutos, a reprodução é idempotente. A reprodução não rejulga as
+ * mutações: tudo o que o domínio aceitou e o log gravou volta a ser aplicado.
+ */
+public final class LogEscritaAntecipada implements Closeable {
+
+    private static final int CABECALHO_REGISTRO = 16;
+    private static final int TAMANHO_MAX_PAYLOAD = 16 * 1024 * 1024;
+    private static final String PREFIXO = "wal-";
+    private static final String SUFIXO = ".log";
+
+    private final Path diretorio;
+    private final List<Long> segmentos; // primeiro lsn de cada segmento, em ordem
+    private FileChannel canal;          // segmento ativo (último)
+
+    private final ReentrantLock trava = new ReentrantLock();
+    private final Condition duravelAvancou = trava.newCondition();
+    private ByteBuffer pendente = ByteBuffer.allocate(64 * 1024);
+    private ByteBuffer emGravacao = ByteBuffer.allocate(64 * 1024);
+    private long ultimoLsn;
+    private long lsnDuravel;
+    private boolean gravando;
+    private IOException falha;
+    private boolean fechado;
+    private long fsyncs;
+
+    private final Observador observador = new Observador();
+
+    private LogEscritaAntecipada(Path diretorio, List<Long> segmentos, FileChannel canal, long ultimoLsn) {
+        this.diretorio = diretorio;
+        this.segmentos = segmentos;
+        this.canal = canal;
+        this.ultimoLsn = ultimoLsn;
+        this.lsnDuravel = ultimoLsn;
+    }
+
+    /** Abre (ou cria) o log no diretório, descartando uma eventual cauda incompleta. */
+    public static LogEscritaAntecipada abrir(Path diretorio) throws IOException {
+        Objects.requireNonNull(diretorio, "diretorio não pode ser nulo");
+        Files.createDirectories(diretorio);
+        List<Long> segmentos = listarSegmentos(diretorio);
+        if (segmentos.isEmpty()) segmentos.add(1L);
+
+        long primeiroAtivo = segmentos.get(segmentos.size() - 1);
+        boolean novo = !Files.exists(caminho(diretorio, primeiroAtivo));
+        FileChannel ch = FileChannel.open(caminho(diretorio, primeiroAtivo), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (novo) Diretorios.sincronizar(diretorio); // a entrada do segmento também precisa estar em disco
+            long[] fim = percorrer(ch, primeiroAtivo - 1, Long.MAX_VALUE, null); // {posição válida, último lsn}
+            if (fim[0] < ch.size()) {
+                ch.truncate(fim[0]);
+                ch.force(true);
+            }
+            ch.position(fim[0]);
+            return new LogEscritaAntecipada(diretorio, segmentos, ch, Math.max(fim[1], primeiroAtivo - 1));
+        } catch (IOException | RuntimeException e) {
+            ch.close();
+            throw e;
+        }
+    }
+
+    // ----------------- Recuperação -----------------
+
+    /**
+     * Aplica no catálogo os registros com lsn maior que 'aposLsn'
+     * (0 = desde o início). Retorna o último lsn aplicado.
+     * Deve ser chamado antes de acompanhar o catálogo.
+     */
+    public long reproduzir(Catalogo destino, long aposLsn) throws IOException {
+        return reproduzir(destino, aposLsn, false);
+    }
+
+    /**
+     * Como reproduzir, mas já acompanha cada entidade que o log incluir no
+     * catálogo; as que o catálogo já tinha devem ter sido acompanhadas antes
+     * (ex.: ao carregar o snapshot). Evita percorrer o catálogo inteiro de
+     * novo só para registrar o observador.
+     */
+    public long reproduzirEAcompanhar(Catalogo destino, long aposLsn) throws IOException {
+        return reproduzir(destino, aposLsn, true);
+    }
+
+    private long reproduzir(Catalogo destino, long aposLsn, boolean acompanharNovas) throws IOException {
+        Objects.requireNonNull(destino, "destino não pode ser nulo");
+        Consumer<Object> novas = acompanharNovas ? this::acompanharEntidade : null;
+        trava.lock();
+        try {
+            garantirAberto();
+            long ultimo = aposLsn;
+            for (int i = 0; i < segmentos.size(); i++) {
+                boolean ativo = (i == segmentos.size() - 1);
+                if (!ativo && segmentos.get(i + 1) - 1 <= aposLsn) continue; // inteiro já coberto
+                long primeiro = segmentos.get(i);
+                long limite = ativo ? Long.MAX_VALUE : segmentos.get(i + 1) - 1;
+                long[] fim;
+                if (ativo) {
+                    fim = percorrer(canal, primeiro - 1, limite, destino, aposLsn, novas);
+                } else {
+                    try (FileChannel ch = FileChannel.open(caminho(diretorio, primeiro), StandardOpenOption.READ)) {
+                        fim = percorrer(ch, primeiro - 1, limite, destino, aposLsn, novas);
+                        if (fim[0] < ch.size() || fim[1] != limite) {
+                            throw new IOException("Segmento de log incompleto: " + caminho(diretorio, primeiro));
+                        }
+                    }
+                }
+                ultimo = Math.max(ultimo, fim[1]);
+            }
+            return ultimo;
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    private static long[] percorrer(FileChannel ch, long lsnAnterior, long lsnMaximo, Catalogo destino) throws IOException {
+        return percorrer(ch, lsnAnterior, lsnMaximo, destino, Long.MAX_VALUE, null);
+    }
+
+    /**
+     * Percorre os registros de um segmento. Se 'destino' != null, aplica os
+     * de lsn > aposLsn e passa a 'novas' (se houver) cada entidade incluída.
+     * Retorna {posição após o último registro íntegro, último lsn}.
+     */
+    private static long[] percorrer(FileChannel ch, long lsnAnterior, long lsnMaximo,
+                                    Catalogo destino, long aposLsn, Consumer<Object> novas) throws IOException {
+        long pos = 0;
+        long ultimo = lsnAnterior;
+        long tamanhoArquivo = ch.size();
+        ByteBuffer cab = ByteBuffer.allocate(CABECALHO_REGISTRO);
+        CRC32C crc = new CRC32C();
+        while (pos + CABECALHO_REGISTRO <= tamanhoArquivo) {
+            cab.clear();
+            lerTudo(ch, cab, pos);
+            int tamanho = cab.getInt(0);
+            int soma = cab.getInt(4);
+            long lsn = cab.getLong(8);
+            if (tamanho <= 0 || tamanho > TAMANHO_MAX_PAYLOAD || pos + CABECALHO_REGISTRO + tamanho > tamanhoArquivo
+                    || lsn != ultimo + 1 || lsn > lsnMaximo) {
+                break;
+            }
+            ByteBuffer payload = ByteBuffer.allocate(tamanho);
+            lerTudo(ch, payload, pos + CABECALHO_REGISTRO);
+            crc.reset();
+            crc.update(cab.array(), 8, 8);
+            crc.update(payload.array(), 0, tamanho);
+            if ((int) crc.getValue() != soma) break;
+
+            if (destino != null && lsn > aposLsn) {
+                Object nova = CodecEntidades.aplicar(payload.array(), destino);
+                if (nova != null && novas != null) novas.accept(nova);
+            }
+            ultimo = lsn;
+            pos += CABECALHO_REGISTRO + tamanho;
+        }
+        return new long[]{pos, ultimo};
+    }
+
+    private static void lerTudo(FileChannel ch, ByteBuffer b, long pos) throws IOException {
+        while (b.hasRemaining()) {
+            int n = ch.read(b, pos + b.position());
+            if (n < 0) throw new IOException("Fim inesperado do log.");
+        }
+    }
+
+    // ----------------- Registro -----------------
+
+    /** Passa a registrar as mutações de todas as entidades do catálogo (sem regravá-las). */
+    public void acompanhar(Catalogo catalogo) {
+        catalogo.usuarios().forEach(this::acompanhar);
+        catalogo.projetos().forEach(this::acompanhar);
+        catalogo.equipes().forEach(this::acompanhar);
+        catalogo.alocacoes().forEach(this::acompanhar);
+        catalogo.tarefas().forEach(this::acompanhar);
+    }
+
+    /** Passa a registrar as mutações de uma entidade já gravada (sem regravá-la). */
+    public void acompanhar(Usuario u) { u.adicionarObservador(observador); }
+    public void acompanhar(Projeto p) { p.adicionarObservador(observador); }
+    public void acompanhar(Equipe e) { e.adicionarObservador(observador); }
+    public void acompanhar(AlocacaoEquipeProjeto a) { a.adicionarObservador(observador); }
+    public void acompanhar(Tarefa t) { t.adicionarObservador(observador); }
+
+    /** Idem, para uma entidade de tipo qualquer; esforços e comentários são imutáveis. */
+    void acompanharEntidade(Object entidade) {
+        if (entidade instanceof Usuario) acompanhar((Usuario) entidade);
+        else if (entidade instanceof Projeto) acompanhar((Projeto) entidade);
+        else if (entidade instanceof Equipe) acompanhar((Equipe) entidade);
+        else if (entidade instanceof AlocacaoEquipeProjeto) acompanhar((AlocacaoEquipeProjeto) entidade);
+        else if (entidade instanceof Tarefa) acompanhar((Tarefa) entidade);
+    }
+
+    /** Registra a criação e passa a registrar as mutações. */
+    public long registrarCriacao(Usuario u) {
+        long lsn = anexar(CodecEntidades.codificar(u));
+        u.adicionarObservador(observador);
+        return lsn;
+    }
+
+    public long registrarCriacao(Projeto p) {
+        long lsn = anexar(CodecEntidades.codificar(p));
+        p.adicionarObservador(observador);
+        return lsn;
+    }
+
+    public long registrarCriacao(Equipe e) {
+        long lsn = anexar(CodecEntidades.codificar(e));
+        e.adicionarObservador(observador);
+        return lsn;
+    }
+
+    public long registrarCriacao(AlocacaoEquipeProjeto a) {
+        long lsn = anexar(CodecEntidades.codificar(a));
+        a.adicionarObservador(observador);
+        return lsn;
+    }
+
+    public long registrarCriacao(Tarefa t) {
+        long lsn = anexar(CodecEntidades.codificar(t));
+        t.adicionarObservador(observador);
+        return lsn;
+    }
+
+    /** Lançamentos de esforço e comentários são imutáveis: um registro basta. */
+    public long registrarCriacao(RegistroEsforco r) {
+        return anexar(CodecEntidades.codificar(r));
+    }
+
+    public long registrarCriacao(ComentarioTarefa c) {
+        return anexar(CodecEntidades.codificar(c));
+    }
+
+    /** Lote vazio de criações (ver Lote). */
+    public Lote novoLote() {
+        return new Lote();
+    }
+
+    /**
+     * Anexa o payload e bloqueia até ele estar em disco (commit em grupo).
+     * Falhas de E/S viram UncheckedIOException e deixam o log inutilizável.
+     */
+    long anexar(byte[] payload) {
+        return anexar(() -> payload);
+    }
+
+    /**
+     * Idem, codificando o payload já com a trava: a ordem dos lsns passa a
+     * ser a ordem das leituras do estado, então mutações concorrentes da
+     * mesma entidade nunca deixam um estado mais antigo por último no log.
+     */
+    long anexar(Supplier<byte[]> codificacao) {
+        trava.lock();
+        try {
+            garantirAberto();
+            byte[] payload = codificacao.get();
+            if (payload.length == 0 || payload.length > TAMANHO_MAX_PAYLOAD) {
+                throw new IllegalArgumentException("Payload de tamanho inválido: " + payload.length);
+            }
+            long lsn = ++ultimoLsn;
+            escreverRegistro(lsn, payload);
+            aguardarDuravel(lsn);
+            return lsn;
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /** Anexa os payloads em lsns consecutivos e bloqueia até o último estar em disco. */
+    long anexarTodos(List<byte[]> payloads) {
+        for (byte[] payload : payloads) {
+            if (payload.length == 0 || payload.length > TAMANHO_MAX_PAYLOAD) {
+                throw new IllegalArgumentException("Payload de tamanho inválido: " + payload.length);
+            }
+        }
+        trava.lock();
+        try {
+            garantirAberto();
+            for (byte[] payload : payloads) escreverRegistro(++ultimoLsn, payload);
+            long lsn = ultimoLsn;
+            aguardarDuravel(lsn);
+            return lsn;
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /** Chamado com a trava: lidera ou espera descargas até 'lsn' estar em disco. */
+    private void aguardarDuravel(long lsn) {
+        while (lsnDuravel < lsn) {
+            if (falha != null) throw new UncheckedIOException("Falha ao gravar o log em " + diretorio, falha);
+            if (!gravando) descarregarComoLider();
+            else duravelAvancou.awaitUninterruptibly();
+        }
+    }
+
+    private void escreverRegistro(long lsn, byte[] payload) {
+        int necessario = CABECALHO_REGISTRO + payload.length;
+        if (pendente.remaining() < necessario) {
+            ByteBuffer maior = ByteBuffer.allocate(Math.max(pendente.capacity() * 2, pendente.position() + necessario));
+            pendente.flip();
+            maior.put(pendente);
+            pendente = maior;
+        }
+        CRC32C crc = new CRC32C();
+        ByteBuffer lsnBytes = ByteBuffer.allocate(8).putLong(0, lsn);
+        crc.update(lsnBytes);
+        crc.update(payload);
+        pendente.putInt(payload.length).putInt((int) crc.getValue()).putLong(lsn).put(payload);
+    }
+
+    /** Chamado com a trava: troca os buffers, grava o lote sem a trava e publica o novo lsn durável. */
+    private void descarregarComoLider() {
+        gravando = true;
+        ByteBuffer lote = pendente;
+        pendente = emGravacao;
+        pendente.clear();
+        emGravacao = lote;
+        long ate = ultimoLsn;
+        trava.unlock();
+        IOException erro = null;
+        try {
+            lote.flip();
+            while (lote.hasRemaining()) canal.write(lote);
+            canal.force(false);
+        } catch (IOException e) {
+            erro = e;
+        } finally {
+            trava.lock();
+            gravando = false;
+            if (erro != null) falha = erro;
+            else {
+                lsnDuravel = ate;
+                fsyncs++;
+            }
+            duravelAvancou.signalAll();
+        }
+    }
+
+    // ----------------- Segmentos -----------------
+
+    /**
+     * Encerra o segmento ativo (descarregando o que estiver pendente) e abre um
+     * novo. Retorna o último lsn do segmento encerrado: tudo até ele já está
+     * refletido em memória, então um snapshot iniciado depois o cobre.
+     */
+    public long rotacionar() throws IOException {
+        trava.lock();
+        try {
+            garantirAberto();
+            while (gravando) duravelAvancou.awaitUninterruptibly();
+            if (pendente.position() > 0) {
+                pendente.flip();
+                while (pendente.hasRemaining()) canal.write(pendente);
+                pendente.clear();
+            }
+            canal.force(false);
+            long ultimo = ultimoLsn;
+            if (lsnDuravel < ultimo) {
+                lsnDuravel = ultimo;
+                fsyncs++;
+                duravelAvancou.signalAll();
+            }
+            if (canal.size() == 0) return ultimo; // ativo vazio: nada a encerrar
+
+            FileChannel novo = FileChannel.open(caminho(diretorio, ultimo + 1), StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            try {
+                Diretorios.sincronizar(diretorio); // senão uma queda pode perder o segmento já com registros
+            } catch (IOException e) {
+                novo.close();
+                throw e;
+            }
+            canal.close();
+            canal = novo;
+            segmentos.add(ultimo + 1);
+            return ultimo;
+        } catch (IOException e) {
+            falha = e;
+            throw e;
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /** Apaga os segmentos encerrados cujos registros são todos <= lsn. Retorna quantos apagou. */
+    public int descartarAte(long lsn) throws IOException {
+        trava.lock();
+        try {
+            int apagados = 0;
+            while (segmentos.size() > 1 && segmentos.get(1) - 1 <= lsn) {
+                Files.deleteIfExists(caminho(diretorio, segmentos.remove(0)));
+                apagados++;
+            }
+            return apagados;
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /** Quantidade de arquivos de segmento no diretório (inclui o ativo). */
+    public int quantidadeSegmentos() {
+        trava.lock();
+        try { return segmentos.size(); } finally { trava.unlock(); }
+    }
+
+    private static List<Long> listarSegmentos(Path diretorio) throws IOException {
+        List<Long> r = new ArrayList<>();
+        try (DirectoryStream<Path> ds = Files.newDirectoryStream(diretorio, PREFIXO + "*" + SUFIXO)) {
+            for (Path p : ds) {
+                String n = p.getFileName().toString();
+                try {
+                    r.add(Long.parseLong(n.substring(PREFIXO.length(), n.length() - SUFIXO.length())));
+                } catch (NumberFormatException e) {
+                    throw new IOException("Nome de segmento inválido: " + p, e);
+                }
+            }
+        }
+        Collections.sort(r);
+        return r;
+    }
+
+    private static Path caminho(Path diretorio, long primeiroLsn) {
+        return diretorio.resolve(String.format("%s%020d%s", PREFIXO, primeiroLsn, SUFIXO));
+    }
+
+    // ----------------- Estado -----------------
+
+    public long ultimoLsn() {
+        trava.lock();
+        try { return ultimoLsn; } finally { trava.unlock(); }
+    }
+
+    /** Quantidade de fsyncs feitos (registros / fsyncs = tamanho médio do grupo). */
+    public long quantidadeFsyncs() {
+        trava.lock();
+        try { return fsyncs; } finally { trava.unlock(); }
+    }
+
+    public Path getDiretorio() { return diretorio; }
+
+    private void garantirAberto() {
+        if (fechado) throw new IllegalStateException("Log fechado: " + diretorio);
+    }
+
+    @Override
+    public void close() throws IOException {
+        trava.lock();
+        try {
+            if (fechado) return;
+            while (gravando) duravelAvancou.awaitUninterruptibly();
+            fechado = true;
+            canal.close();
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /**
+     * Criações acumuladas por uma thread e gravadas com um único fsync em
+     * confirmar(). Como em registrarCriacao, o estado é codificado ao
+     * registrar e as entidades só passam a ser acompanhadas depois que o
+     * lote está em disco: não as altere entre registrar e confirmar.
+     */
+    public final class Lote {
+        private final List<byte[]> payloads = new ArrayList<>();
+        private final List<Runnable> acompanhar = new ArrayList<>();
+
+        private Lote() {}
+
+        public Lote registrarCriacao(Usuario u) {
+            payloads.add(CodecEntidades.codificar(u));
+            acompanhar.add(() -> u.adicionarObservador(observador));
+            return this;
+        }
+
+        public Lote registrarCriacao(Projeto p) {
+            payloads.add(CodecEntidades.codificar(p));
+            acompanhar.add(() -> p.adicionarObservador(observador));
+            return this;
+        }
+
+        public Lote registrarCriacao(Equipe e) {
+            payloads.add(CodecEntidades.codificar(e));
+            acompanhar.add(() -> e.adicionarObservador(observador));
+            return this;
+        }
+
+        public Lote registrarCriacao(AlocacaoEquipeProjeto a) {
+            payloads.add(CodecEntidades.codificar(a));
+            acompanhar.add(() -> a.adicionarObservador(observador));
+            return this;
+        }
+
+        public Lote registrarCriacao(Tarefa t) {
+            payloads.add(CodecEntidades.codificar(t));
+            acompanhar.add(() -> t.adicionarObservador(observador));
+            return this;
+        }
+
+        public Lote registrarCriacao(RegistroEsforco r) {
+            payloads.add(CodecEntidades.codificar(r));
+            return this;
+        }
+
+        public Lote registrarCriacao(ComentarioTarefa c) {
+            payloads.add(CodecEntidades.codificar(c));
+            return this;
+        }
+
+        /** Registros ainda não confirmados. */
+        public int tamanho() { return payloads.size(); }
+
+        /**
+         * Grava os registros pendentes (um fsync), passa a acompanhar as
+         * entidades e esvazia o lote. Retorna o lsn do último registro
+         * (o último lsn do log, se o lote estava vazio).
+         */
+        public long confirmar() {
+            if (payloads.isEmpty()) return ultimoLsn();
+            long lsn = anexarTodos(payloads);
+            for (Runnable r : acompanhar) r.run();
+            payloads.clear();
+            acompanhar.clear();
+            return lsn;
+        }
+    }
+
+    /**
+     * Converte notificações do domínio em registros do log: um por callback
+     * específico, com os campos que a operação mexe, lidos já com a trava
+     * (anexar), então o último registro de um campo traz o valor vigente.
+     * Os callbacks genéricos (tarefaAlterada...) não gravam nada, exceto o
+     * de Usuario, que não tem específicos e grava o estado completo.
+     */
+    private final class Observador implements ObservadorUsuario, ObservadorProjeto, ObservadorEquipe,
+            ObservadorAlocacao, ObservadorTarefa {
+        @Override public void usuarioAlterado(Usuario u) { anexar(() -> CodecEntidades.codificar(u)); }
+
+        @Override public void statusAlterado(Projeto p, StatusProjeto anterior) {
+            anexar(() -> CodecEntidades.codificarStatus(p));
+        }
+
+        @Override public void datasAlteradas(Projeto p, LocalDate inicioAnterior, LocalDate terminoAnterior) {
+            anexar(() -> CodecEntidades.codificarDatas(p));
+        }
+
+        @Override public void descricaoAlterada(Projeto p, String anterior) {
+            anexar(() -> CodecEntidades.codificarDescricao(p));
+        }
+
+        @Override public void gerenteAlterado(Projeto p, Usuario anterior) {
+            anexar(() -> CodecEntidades.codificarGerente(p));
+        }
+
+        @Override public void membroAdicionado(Equipe e, Usuario u) {
+            anexar(CodecEntidades.codificarMembro(e, u, true));
+        }
+
+        @Override public void membroRemovido(Equipe e, Usuario u) {
+            anexar(CodecEntidades.codificarMembro(e, u, false));
+        }
+
+        @Override public void textoAlterado(Equipe e, String nomeAnterior, String descricaoAnterior) {
+            anexar(() -> CodecEntidades.codificarTexto(e));
+        }
+
+        @Override public void periodoAlterado(AlocacaoEquipeProjeto a, LocalDate inicioAnterior,
+                                              LocalDate fimAnterior) {
+            anexar(() -> CodecEntidades.codificarPeriodo(a));
+        }
+
+        @Override public void capacidadeAlterada(AlocacaoEquipeProjeto a, int anterior) {
+            anexar(() -> CodecEntidades.codificarCapacidade(a));
+        }
+
+        @Override public void observacoesAlteradas(AlocacaoEquipeProjeto a, String anteriores) {
+            anexar(() -> CodecEntidades.codificarObservacoes(a));
+        }
+
+        @Override public void statusAlterado(Tarefa t, StatusTarefa anterior, StatusTarefa novo) {
+            anexar(() -> CodecEntidades.codificarCiclo(t));
+        }
+
+        /**
+         * Esforço real sem mudança de status: grava o ciclo. Se a tarefa já
+         * está CONCLUIDA, a notificação de status da conclusão vem em seguida
+         * e grava o ciclo final; um registro basta.
+         */
+        @Override public void esforcoAlterado(Tarefa t, int estimadoAnterior, int realAnterior,
+                                              int estimadoNovo, int realNovo) {
+            if (estimadoNovo != estimadoAnterior) anexar(() -> CodecEntidades.codificarEstimado(t));
+            if (realNovo != realAnterior && t.getStatus() != StatusTarefa.CONCLUIDA) {
+                anexar(() -> CodecEntidades.codificarCiclo(t));
+            }
+        }
+
+        @Override public void responsavelAlterado(Tarefa t, Usuario anterior) {
+            anexar(() -> CodecEntidades.codificarResponsavel(t));
+        }
+
+        @Override public void datasAlteradas(Tarefa t, LocalDate inicioAnterior, LocalDate terminoAnterior) {
+            anexar(() -> CodecEntidades.codificarDatas(t));
+        }
+
+        @Override public void textoAlterado(Tarefa t, String tituloAnterior, String descricaoAnterior) {
+            anexar(() -> CodecEntidades.codificarTexto(t));
+        }
+
+        @Override public void prioridadeAlterada(Tarefa t, PrioridadeTarefa anterior) {
+            anexar(() -> CodecEntidades.codificarPrioridade(t));
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package model.persistencia;
+
+import model.persistencia.FormatoSegmento.Tipo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import static model.persistencia.FormatoSegmento.*;
+
+/**
+ * Manifesto de um diretório de segmentos: qual geração está valendo e o
+ * tamanho e o CRC32C de cada um dos seus arquivos (layout em FormatoSegmento).
+ * Os segmentos de uma geração são gravados numa pasta própria e só passam a
+ * valer quando o manifesto é trocado (rename atômico), então um leitor vê
+ * sempre um conjunto inteiro: o anterior ou o novo, nunca uma mistura.
+ */
+final class ManifestoSegmentos {
+
+    private static final int TAMANHO = 4 + 2 + 8 + Tipo.values().length * (8 + 4) + 4;
+
+    private final long geracao;
+    private final long[] tamanhos;
+    private final int[] crcs;
+
+    ManifestoSegmentos(long geracao, long[] tamanhos, int[] crcs) {
+        this.geracao = geracao;
+        this.tamanhos = tamanhos.clone();
+        this.crcs = crcs.clone();
+    }
+
+    long geracao() { return geracao; }
+
+    long tamanho(Tipo tipo) { return tamanhos[tipo.ordinal()]; }
+
+    int crc(Tipo tipo) { return crcs[tipo.ordinal()]; }
+
+    /** Pasta com os segmentos desta geração. */
+    Path pasta(Path diretorio) {
+        return pasta(diretorio, geracao);
+    }
+
+    static Path pasta(Path diretorio, long geracao) {
+        return diretorio.resolve(String.format("%s%020d", PREFIXO_GERACAO, geracao));
+    }
+
+    /** Lê o manifesto do diretório; NoSuchFileException se nada foi gravado ali. */
+    static ManifestoSegmentos ler(Path diretorio) throws IOException {
+        Path arquivo = diretorio.resolve(MANIFESTO);
+        byte[] bytes = Files.readAllBytes(arquivo);
+        if (bytes.length != TAMANHO) throw new IOException("Manifesto com tamanho inesperado: " + arquivo);
+        ByteBuffer b = ByteBuffer.wrap(bytes);
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, 0, TAMANHO - 4);
+        if (b.getInt(TAMANHO - 4) != (int) crc.getValue()) throw new IOException("Manifesto corrompido: " + arquivo);
+        if (b.getInt() != MAGICO_MANIFESTO) throw new IOException("Arquivo não é um manifesto SGPE: " + arquivo);
+        if (b.getShort() != VERSAO) throw new IOException("Versão de manifesto não suportada: " + arquivo);
+        long geracao = b.getLong();
+        long[] tamanhos = new long[Tipo.values().length];
+        int[] crcs = new int[tamanhos.length];
+        for (int i = 0; i < tamanhos.length; i++) {
+            tamanhos[i] = b.getLong();
+            crcs[i] = b.getInt();
+        }
+        return new ManifestoSegmentos(geracao, tamanhos, crcs);
+    }
+
+    /** Geração valendo no diretório, ou 0 se ainda não há manifesto. */
+    static long geracaoAtual(Path diretorio) throws IOException {
+        try {
+            return ler(diretorio).geracao;
+        } catch (NoSuchFileException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Reserva a pasta da próxima geração (a seguinte à atual). Pula pastas que
+     * sobraram de uma gravação interrompida; elas somem na próxima limpeza.
+     */
+    static long reservarGeracao(Path diretorio) throws IOException {
+        for (long g = geracaoAtual(diretorio) + 1; ; g++) {
+            try {
+                Files.createDirectory(pasta(diretorio, g));
+                return g;
+            } catch (FileAlreadyExistsException e) {
+                // sobra de gravação interrompida
+            }
+        }
+    }
+
+    /** Torna esta geração a vigente: grava num temporário, força em disco e troca por rename atômico. */
+    void publicar(Path diretorio) throws IOException {
+        Diretorios.sincronizar(pasta(diretorio));
+        ByteBuffer b = ByteBuffer.allocate(TAMANHO).putInt(MAGICO_MANIFESTO).putShort(VERSAO).putLong(geracao);
+        for (int i = 0; i < tamanhos.length; i++) b.putLong(tamanhos[i]).putInt(crcs[i]);
+        CRC32C crc = new CRC32C();
+        crc.update(b.array(), 0, TAMANHO - 4);
+        b.putInt((int) crc.getValue()).flip();
+
+        Path destino = diretorio.resolve(MANIFESTO);
+        Path temp = diretorio.resolve(MANIFESTO + ".tmp");
+        try (FileChannel ch = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (b.hasRemaining()) ch.write(b);
+            ch.force(true);
+        }
+        Files.move(temp, destino, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Diretorios.sincronizar(diretorio);
+    }
+
+    /** Apaga as pastas de gerações anteriores a esta (leitores que já as mapearam não são afetados). */
+    void removerAnteriores(Path diretorio) throws IOException {
+        try (DirectoryStream<Path> ds = Files.newDirectoryStream(diretorio, PREFIXO_GERACAO + "*")) {
+            for (Path p : ds) {
+                String sufixo = p.getFileName().toString().substring(PREFIXO_GERACAO.length());
+                if (sufixo.matches("\\d{20}") && Long.parseLong(sufixo) < geracao) apagarPasta(p);
+            }
+        }
+    }
+
+    /** CRC32C do conteúdo restante dos buffers, em sequência (as posições não são alteradas). */
+    static int crc(ByteBuffer... partes) {
+        CRC32C crc = new CRC32C();
+        for (ByteBuffer p : partes) crc.update(p.duplicate());
+        return (int) crc.getValue();
+    }
+
+    private static void apagarPasta(Path pasta) throws IOException {
+        try (Stream<Path> arquivos = Files.walk(pasta)) {
+            for (Path p : (Iterable<Path>) arquivos.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(p);
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package model.persistencia;
+
+import model.persistencia.FormatoSegmento.Tipo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Objects;
+
+import static model.persistencia.FormatoSegmento.*;
+
+/**
+ * Visão somente-leitura de um arquivo de segmento mapeado em memória
+ * (FileChannel.map). Abrir custa só o mapeamento e a checagem do tamanho e
+ * do cabeçalho, sem tocar nas páginas dos registros; o CRC32C do arquivo
+ * inteiro fica para verificar(). Os campos são lidos sob demanda por
+ * posição absoluta.
+ */
+final class SegmentoMapeado {
+
+    private final Tipo tipo;
+    private final Path arquivo;
+    private final int crcEsperado;
+    private final MappedByteBuffer buffer;
+    private final int quantidade;
+    private final int inicioHeap;
+    private final int tamanhoHeap;
+
+    private SegmentoMapeado(Tipo tipo, Path arquivo, int crcEsperado, MappedByteBuffer buffer, int quantidade,
+                            int inicioHeap, int tamanhoHeap) {
+        this.tipo = tipo;
+        this.arquivo = arquivo;
+        this.crcEsperado = crcEsperado;
+        this.buffer = buffer;
+        this.quantidade = quantidade;
+        this.inicioHeap = inicioHeap;
+        this.tamanhoHeap = tamanhoHeap;
+    }
+
+    /** Mapeia o segmento da geração descrita no manifesto, conferindo tamanho e cabeçalho. */
+    static SegmentoMapeado abrir(Path diretorio, ManifestoSegmentos manifesto, Tipo tipo) throws IOException {
+        Path arquivo = manifesto.pasta(diretorio).resolve(tipo.arquivo);
+        try (FileChannel ch = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            long tamanho = ch.size();
+            if (tamanho != manifesto.tamanho(tipo)) {
+                throw new IOException("Segmento com tamanho divergente do manifesto: " + arquivo);
+            }
+            if (tamanho < TAMANHO_CABECALHO) throw new IOException("Segmento truncado: " + arquivo);
+            if (tamanho > Integer.MAX_VALUE) throw new IOException("Segmento acima de 2 GiB não suportado: " + arquivo);
+            MappedByteBuffer b = ch.map(FileChannel.MapMode.READ_ONLY, 0, tamanho); // válido após fechar o canal
+            if (b.getInt(0) != MAGICO) throw new IOException("Arquivo não é um segmento SGPE: " + arquivo);
+            if (b.getShort(4) != VERSAO) throw new IOException("Versão de segmento não suportada: " + b.getShort(4));
+            if (b.getShort(6) != tipo.ordinal()) throw new IOException("Tipo de segmento inesperado em " + arquivo);
+            int quantidade = b.getInt(8);
+            if (quantidade < 0 || b.getInt(12) != tipo.tamanhoRegistro) {
+                throw new IOException("Cabeçalho inconsistente em " + arquivo);
+            }
+            long inicioHeap = b.getLong(16);
+            long tamanhoHeap = b.getLong(24);
+            if (inicioHeap != TAMANHO_CABECALHO + (long) quantidade * tipo.tamanhoRegistro
+                    || tamanhoHeap < 0 || inicioHeap + tamanhoHeap != tamanho) {
+                throw new IOException("Tamanho de segmento inconsistente em " + arquivo);
+            }
+            return new SegmentoMapeado(tipo, arquivo, manifesto.crc(tipo), b, quantidade,
+                    (int) inicioHeap, (int) tamanhoHeap);
+        }
+    }
+
+    /** Confere o CRC32C do arquivo inteiro contra o manifesto (lê todas as páginas). */
+    void verificar() throws IOException {
+        if (ManifestoSegmentos.crc(buffer.duplicate().clear()) != crcEsperado) {
+            throw new IOException("Segmento corrompido: " + arquivo);
+        }
+    }
+
+    int quantidade() { return quantidade; }
+
+    /** Offset do registro i no arquivo. */
+    int base(int i) {
+        Objects.checkIndex(i, quantidade);
+        return TAMANHO_CABECALHO + i * tipo.tamanhoRegistro;
+    }
+
+    byte byteEm(int pos) { return buffer.get(pos); }
+
+    int inteiro(int pos) { return buffer.getInt(pos); }
+
+    long longo(int pos) { return buffer.getLong(pos); }
+
+    LocalDate data(int pos) {
+        int d = buffer.getInt(pos);
+        return d == SEM_DATA ? null : LocalDate.ofEpochDay(d);
+    }
+
+    String texto(int pos) {
+        int off = buffer.getInt(pos);
+        int len = buffer.getInt(pos + 4);
+        if (len < 0) return null;
+        checarHeap(off, len);
+        byte[] b = new byte[len];
+        buffer.get(inicioHeap + off, b);
+        return new String(b, StandardCharsets.UTF_8);
+    }
+
+    int[] inteiros(int pos) {
+        int off = buffer.getInt(pos);
+        int n = buffer.getInt(pos + 4);
+        if (n < 0) throw new IllegalStateException("Lista corrompida em " + tipo.arquivo);
+        checarHeap(off, n * 4L);
+        int[] r = new int[n];
+        ByteBuffer fatia = buffer.slice(inicioHeap + off, n * 4);
+        fatia.asIntBuffer().get(r);
+        return r;
+    }
+
+    private void checarHeap(int off, long len) {
+        if (off < 0 || off + len > tamanhoHeap) {
+            throw new IllegalStateException("Referência fora do heap em " + tipo.arquivo);
+        }
+    }
+}
@@ -0,0 +1,428 @@
+package model.relatorio;
+
+import model.dominio.AlocacaoEquipeProjeto;
+import model.dominio.Equipe;
+import model.dominio.ObservadorAlocacao;
+import model.dominio.ObservadorTarefa;
+import model.dominio.Projeto;
+import model.dominio.Tarefa;
+import model.dominio.Usuario;
+import model.enums.StatusTarefa;
+import model.vo.Identificador;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Motor do relatório "Capacidade vs. Carga", em semanas (segunda a domingo).
+ *
+ * Mantém séries semanais incrementais:
+ *  - capacidade por equipe e por projeto: capacidadeHorasSemana de cada
+ *    AlocacaoEquipeProjeto, em toda semana com ao menos um dia de vigência;
+ *  - carga por projeto e por responsável: esforço estimado de cada Tarefa
+ *    espalhado por dia entre dataInicio e dataTerminoPrevista.
+ *
+ * Uma edição (replanejar, estimativa, responsável, período, capacidade)
+ * retira a contribuição antiga e aplica a nova. Cada série guarda as
+ * diferenças entre semanas consecutivas numa árvore de Fenwick, então somar
+ * a um intervalo de semanas custa O(log semanas), qualquer que seja o seu
+ * tamanho; uma tarefa vira no máximo cinco somas. Uma consulta lê as semanas
+ * do período: O(log + semanas), sem cruzar alocações × tarefas. Tarefas
+ * CANCELADA não contam como carga.
+ *
+ * A carga da equipe é a soma da carga dos membros (tarefas em que são
+ * responsáveis): O(membros × semanas).
+ *
+ * Thread-safe: operações serializadas no próprio motor. Os observadores
+ * são (des)registrados nas entidades fora do monitor do motor, já que os
+ * callbacks deles o tomam.
+ */
+public final class CapacidadeCarga {
+
+    /** Carga guardada em milésimos de hora: o rateio por dia é exato e reversível. */
+    private static final long MILI = 1000L;
+    private static final int ABERTA = Integer.MAX_VALUE;
+
+    private final Map<Identificador, Serie> capacidadePorEquipe = new HashMap<>();
+    private final Map<Identificador, Serie> capacidadePorProjeto = new HashMap<>();
+    private final Map<Identificador, Serie> cargaPorProjeto = new HashMap<>();
+    private final Map<Identificador, Serie> cargaPorResponsavel = new HashMap<>();
+
+    private final Map<Tarefa, Carga> tarefas = new HashMap<>();
+    private final Map<AlocacaoEquipeProjeto, Capacidade> alocacoes = new HashMap<>();
+
+    private final ObservadorTarefa observadorTarefa = new ObservadorTarefa() {
+        @Override
+        public void tarefaAlterada(Tarefa tarefa) {
+            reaplicar(tarefa);
+        }
+    };
+
+    private final ObservadorAlocacao observadorAlocacao = new ObservadorAlocacao() {
+        @Override
+        public void alocacaoAlterada(AlocacaoEquipeProjeto alocacao) {
+            reaplicar(alocacao);
+        }
+    };
+
+    // ----------------- Registro -----------------
+
+    public void registrar(Tarefa tarefa) {
+        Objects.requireNonNull(tarefa, "tarefa não pode ser nula");
+        synchronized (this) {
+            if (tarefas.containsKey(tarefa)) return;
+            tarefas.put(tarefa, Carga.NENHUMA);
+        }
+        acompanhar(tarefa);
+        reaplicar(tarefa); // o que mudou antes do observador entrar
+    }
+
+    public void desregistrar(Tarefa tarefa) {
+        Objects.requireNonNull(tarefa, "tarefa não pode ser nula");
+        synchronized (this) {
+            Carga atual = tarefas.remove(tarefa);
+            if (atual == null) return;
+            aplicar(atual, -1);
+        }
+        acompanhar(tarefa);
+    }
+
+    public void registrar(AlocacaoEquipeProjeto alocacao) {
+        Objects.requireNonNull(alocacao, "alocacao não pode ser nula");
+        synchronized (this) {
+            if (alocacoes.containsKey(alocacao)) return;
+            alocacoes.put(alocacao, Capacidade.NENHUMA);
+        }
+        acompanhar(alocacao);
+        reaplicar(alocacao);
+    }
+
+    public void desregistrar(AlocacaoEquipeProjeto alocacao) {
+        Objects.requireNonNull(alocacao, "alocacao não pode ser nula");
+        synchronized (this) {
+            Capacidade atual = alocacoes.remove(alocacao);
+            if (atual == null) return;
+            aplicar(atual, -1);
+        }
+        acompanhar(alocacao);
+    }
+
+    /**
+     * Deixa o observador na tarefa se, e só se, ela está registrada. Roda
+     * fora do monitor; um registrar/desregistrar concorrente pode inverter a
+     * decisão entre a leitura e a troca, então confere de novo até bater.
+     * Notificações de uma tarefa fora do mapa são ignoradas em reaplicar.
+     */
+    private void acompanhar(Tarefa tarefa) {
+        boolean quer;
+        do {
+            quer = registrada(tarefa);
+            if (quer) tarefa.adicionarObservador(observadorTarefa); else tarefa.removerObservador(observadorTarefa);
+        } while (quer != registrada(tarefa));
+    }
+
+    private void acompanhar(AlocacaoEquipeProjeto alocacao) {
+        boolean quer;
+        do {
+            quer = registrada(alocacao);
+            if (quer) alocacao.adicionarObservador(observadorAlocacao);
+            else alocacao.removerObservador(observadorAlocacao);
+        } while (quer != registrada(alocacao));
+    }
+
+    private synchronized boolean registrada(Tarefa tarefa) { return tarefas.containsKey(tarefa); }
+
+    private synchronized boolean registrada(AlocacaoEquipeProjeto alocacao) { return alocacoes.containsKey(alocacao); }
+
+    // ----------------- Consultas -----------------
+
+    /** Capacidade e carga do projeto nas semanas que cobrem [de, ate]. */
+    public synchronized ComparativoCapacidade comparar(Projeto projeto, LocalDate de, LocalDate ate) {
+        Objects.requireNonNull(projeto, "projeto não pode ser nulo");
+        int[] semanas = semanas(de, ate);
+        Identificador id = projeto.getIdentificador();
+        return comparativo(semanas[0], semanas[1], capacidadePorProjeto.get(id),
+                Collections.singletonList(cargaPorProjeto.get(id)));
+    }
+
+    /** Capacidade da equipe e carga dos seus membros nas semanas que cobrem [de, ate]. */
+    public synchronized ComparativoCapacidade comparar(Equipe equipe, LocalDate de, LocalDate ate) {
+        Objects.requireNonNull(equipe, "equipe não pode ser nula");
+        int[] semanas = semanas(de, ate);
+        List<Serie> cargas = new ArrayList<>();
+        for (Usuario u : equipe.getMembros()) {
+            Serie s = cargaPorResponsavel.get(u.getIdentificador());
+            if (s != null) cargas.add(s);
+        }
+        return comparativo(semanas[0], semanas[1], capacidadePorEquipe.get(equipe.getIdentificador()), cargas);
+    }
+
+    // ----------------- Internos (com o monitor) -----------------
+
+    private synchronized void reaplicar(Tarefa tarefa) {
+        Carga anterior = tarefas.get(tarefa);
+        if (anterior == null) return; // desregistrada no meio da notificação
+        Carga nova = Carga.de(tarefa);
+        if (nova.equals(anterior)) return; // ex.: só o esforço real mudou
+        aplicar(anterior, -1);
+        aplicar(nova, +1);
+        tarefas.put(tarefa, nova);
+    }
+
+    private synchronized void reaplicar(AlocacaoEquipeProjeto alocacao) {
+        Capacidade anterior = alocacoes.get(alocacao);
+        if (anterior == null) return;
+        Capacidade nova = Capacidade.de(alocacao);
+        if (nova.equals(anterior)) return;
+        aplicar(anterior, -1);
+        aplicar(nova, +1);
+        alocacoes.put(alocacao, nova);
+    }
+
+    private void aplicar(Carga c, int sinal) {
+        if (c.milis == 0) return;
+        espalhar(c, serie(cargaPorProjeto, c.projeto), sinal);
+        if (c.responsavel != null) espalhar(c, serie(cargaPorResponsavel, c.responsavel), sinal);
+    }
+
+    private void aplicar(Capacidade c, int sinal) {
+        if (c.horas == 0) return;
+        serie(capacidadePorEquipe, c.equipe).somar(c.semanaInicio, c.semanaFim, (long) sinal * c.horas);
+        serie(capacidadePorProjeto, c.projeto).somar(c.semanaInicio, c.semanaFim, (long) sinal * c.horas);
+    }
+
+    /**
+     * Rateia c.milis pelos dias [inicio, fim]: cada dia recebe milis / dias e os
+     * primeiros (milis % dias) dias recebem 1 a mais. As semanas inteiras do
+     * meio formam no máximo três faixas de valor constante (todos os dias com
+     * o extra, a semana onde os extras acabam, nenhum extra), somadas como
+     * intervalos; só a primeira e a última semana são calculadas à parte.
+     */
+    private static void espalhar(Carga c, Serie serie, int sinal) {
+        int primeira = semana(c.inicio);
+        int ultima = semana(c.fim);
+        serie.somar(primeira, primeira, sinal * naSemana(c, primeira));
+        if (ultima == primeira) return;
+        serie.somar(ultima, ultima, sinal * naSemana(c, ultima));
+        int de = primeira + 1, ate = ultima - 1; // semanas inteiras dentro de [inicio, fim]
+        if (de > ate) return;
+        long dias = c.fim - c.inicio + 1;
+        serie.somar(de, ate, sinal * 7 * (c.milis / dias));
+        long ultimoComExtra = c.inicio + (c.milis % dias) - 1;
+        if (ultimoComExtra < c.inicio) return;
+        int k = semana(ultimoComExtra);
+        if (k > de) serie.somar(de, Math.min(k - 1, ate), sinal * 7L);
+        if (k >= de && k <= ate) serie.somar(k, k, sinal * (ultimoComExtra - diaInicial(k) + 1));
+    }
+
+    /** Parte de c.milis que cai na semana w. */
+    private static long naSemana(Carga c, int w) {
+        long dias = c.fim - c.inicio + 1;
+        long ultimoComExtra = c.inicio + (c.milis % dias) - 1;
+        long a = Math.max(c.inicio, diaInicial(w));
+        long b = Math.min(c.fim, diaInicial(w) + 6);
+        long extras = Math.max(0, Math.min(b, ultimoComExtra) - a + 1);
+        return (b - a + 1) * (c.milis / dias) + extras;
+    }
+
+    private static ComparativoCapacidade comparativo(int de, int ate, Serie capacidade, List<Serie> cargas) {
+        int n = ate - de + 1;
+        long[] cap = new long[n];
+        long[] carga = new long[n];
+        if (capacidade != null) capacidade.copiar(de, cap);
+        long[] tmp = new long[n];
+        for (Serie s : cargas) {
+            if (s == null) continue;
+            s.copiar(de, tmp);
+            for (int i = 0; i < n; i++) carga[i] += tmp[i];
+        }
+        double[] cargaHoras = new double[n];
+        for (int i = 0; i < n; i++) cargaHoras[i] = carga[i] / (double) MILI;
+        return new ComparativoCapacidade(LocalDate.ofEpochDay(diaInicial(de)), cap, cargaHoras);
+    }
+
+    private static Serie serie(Map<Identificador, Serie> mapa, Identificador chave) {
+        return mapa.computeIfAbsent(chave, k -> new Serie());
+    }
+
+    private static int[] semanas(LocalDate de, LocalDate ate) {
+        Objects.requireNonNull(de, "de não pode ser nula");
+        Objects.requireNonNull(ate, "ate não pode ser nula");
+        if (ate.isBefore(de)) throw new IllegalArgumentException("ate deve ser maior ou igual a de.");
+        return new int[]{semana(de.toEpochDay()), semana(ate.toEpochDay())};
+    }
+
+    /** Semana (segunda a domingo) do dia; 1970-01-01 foi uma quinta-feira. */
+    static int semana(long epochDay) {
+        return (int) Math.floorDiv(epochDay + 3, 7);
+    }
+
+    static long diaInicial(int semana) {
+        return 7L * semana - 3;
+    }
+
+    // ----------------- Contribuições registradas -----------------
+
+    /** O que uma tarefa somou às séries; guardado para ser retirado depois. */
+    private static final class Carga {
+        static final Carga NENHUMA = new Carga(null, null, 0, 0, 0);
+
+        final Identificador projeto;
+        final Identificador responsavel; // pode ser null
+        final long inicio;
+        final long fim;
+        final long milis;
+
+        Carga(Identificador projeto, Identificador responsavel, long inicio, long fim, long milis) {
+            this.projeto = projeto;
+            this.responsavel = responsavel;
+            this.inicio = inicio;
+            this.fim = fim;
+            this.milis = milis;
+        }
+
+        static Carga de(Tarefa t) {
+            if (t.getStatus() == StatusTarefa.CANCELADA || t.getEsforcoEstimadoHoras() == 0) return NENHUMA;
+            Usuario r = t.getResponsavel();
+            return new Carga(t.getProjeto().getIdentificador(), r == null ? null : r.getIdentificador(),
+                    t.getDataInicio().toEpochDay(), t.getDataTerminoPrevista().toEpochDay(),
+                    t.getEsforcoEstimadoHoras() * MILI);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Carga)) return false;
+            Carga c = (Carga) o;
+            return inicio == c.inicio && fim == c.fim && milis == c.milis
+                    && Objects.equals(projeto, c.projeto) && Objects.equals(responsavel, c.responsavel);
+        }
+
+        @Override
+        public int hashCode() { return Objects.hash(projeto, responsavel, inicio, fim, milis); }
+    }
+
+    /** O que uma alocação somou às séries de capacidade. */
+    private static final class Capacidade {
+        static final Capacidade NENHUMA = new Capacidade(null, null, 0, 0, 0);
+
+        final Identificador equipe;
+        final Identificador projeto;
+        final int semanaInicio;
+        final int semanaFim; // ABERTA quando a alocação não tem dataFim
+        final int horas;
+
+        Capacidade(Identificador equipe, Identificador projeto, int semanaInicio, int semanaFim, int horas) {
+            this.equipe = equipe;
+            this.projeto = projeto;
+            this.semanaInicio = semanaInicio;
+            this.semanaFim = semanaFim;
+            this.horas = horas;
+        }
+
+        static Capacidade de(AlocacaoEquipeProjeto a) {
+            if (a.getCapacidadeHorasSemana() == 0) return NENHUMA;
+            LocalDate fim = a.getDataFim();
+            return new Capacidade(a.getEquipe().getIdentificador(), a.getProjeto().getIdentificador(),
+                    semana(a.getDataInicio().toEpochDay()),
+                    fim == null ? ABERTA : semana(fim.toEpochDay()),
+                    a.getCapacidadeHorasSemana());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Capacidade)) return false;
+            Capacidade c = (Capacidade) o;
+            return semanaInicio == c.semanaInicio && semanaFim == c.semanaFim && horas == c.horas
+                    && Objects.equals(equipe, c.equipe) && Objects.equals(projeto, c.projeto);
+        }
+
+        @Override
+        public int hashCode() { return Objects.hash(equipe, projeto, semanaInicio, semanaFim, horas); }
+    }
+
+    // ----------------- Série semanal -----------------
+
+    /**
+     * Valores por semana guardados como diferenças entre semanas consecutivas
+     * num vetor contíguo [base, base + difs.length), que cresce para os lados
+     * sob demanda, com uma árvore de Fenwick por cima para os prefixos.
+     * Somar a um intervalo mexe em duas diferenças (uma, se não tem fim) em
+     * O(log n); o valor de uma semana é o prefixo até ela. Semanas à
+     * esquerda da base valem 0; além do vetor, o valor da última semana.
+     */
+    private static final class Serie {
+        private int base;
+        private long[] difs = new long[0];
+        private long[] arvore = new long[1]; // Fenwick sobre difs, índices a partir de 1
+
+        /** Soma 'valor' às semanas [de, ate]; ate == ABERTA estende indefinidamente. */
+        void somar(int de, int ate, long valor) {
+            if (valor == 0) return;
+            if (ate == ABERTA) {
+                garantir(de, de);
+            } else {
+                garantir(de, ate + 1);
+                acumular(ate + 1 - base, -valor);
+            }
+            acumular(de - base, valor);
+        }
+
+        long ler(int semana) {
+            int i = semana - base;
+            if (i < 0 || difs.length == 0) return 0;
+            return prefixo(Math.min(i, difs.length - 1));
+        }
+
+        /** Copia as semanas [de, de + destino.length) para 'destino'. */
+        void copiar(int de, long[] destino) {
+            if (destino.length == 0) return;
+            long v = ler(de);
+            destino[0] = v;
+            for (int k = 1; k < destino.length; k++) {
+                int i = de + k - base;
+                if (i >= 0 && i < difs.length) v += difs[i];
+                destino[k] = v;
+            }
+        }
+
+        private void acumular(int i, long valor) {
+            difs[i] += valor;
+            for (int j = i + 1; j < arvore.length; j += j & -j) arvore[j] += valor;
+        }
+
+        /** Soma de difs[0..i]. */
+        private long prefixo(int i) {
+            long soma = 0;
+            for (int j = i + 1; j > 0; j -= j & -j) soma += arvore[j];
+            return soma;
+        }
+
+        void garantir(int de, int ate) {
+            if (difs.length == 0) {
+                base = de;
+                difs = new long[Math.max(16, ate - de + 1)];
+                arvore = new long[difs.length + 1];
+                return;
+            }
+            int fim = base + difs.length; // exclusivo
+            if (de >= base && ate < fim) return;
+            int novaBase = Math.min(base, de);
+            int novoFim = Math.max(fim, ate + 1);
+            // cresce com folga para amortizar edições que avançam semana a semana
+            int folga = difs.length;
+            if (novaBase < base) novaBase = Math.min(novaBase, base - folga);
+            if (novoFim > fim) novoFim = Math.max(novoFim, fim + folga);
+            // à esquerda, valor 0 (diferença 0); à direita, repete a última semana (diferença 0)
+            long[] novo = new long[novoFim - novaBase];
+            System.arraycopy(difs, 0, novo, base - novaBase, difs.length);
+            base = novaBase;
+            difs = novo;
+            arvore = new long[novo.length + 1];
+            for (int j = 1; j < arvore.length; j++) {
+                arvore[j] += novo[j - 1];
+                int pai = j + (j & -j);
+                if (pai < arvore.length) arvore[pai] += arvore[j];
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package model.relatorio;
+
+import java.time.LocalDate;
+
+/**
+ * Fotografia imutável de capacidade vs. carga, semana a semana.
+ * Semana i começa na segunda-feira inicioSemana(i).
+ */
+public final class ComparativoCapacidade {
+
+    private final LocalDate primeiraSemana;
+    private final long[] capacidadeHoras;
+    private final double[] cargaHoras;
+
+    ComparativoCapacidade(LocalDate primeiraSemana, long[] capacidadeHoras, double[] cargaHoras) {
+        this.primeiraSemana = primeiraSemana;
+        this.capacidadeHoras = capacidadeHoras;
+        this.cargaHoras = cargaHoras;
+    }
+
+    public int getSemanas() { return capacidadeHoras.length; }
+
+    public LocalDate inicioSemana(int i) {
+        return primeiraSemana.plusWeeks(indice(i));
+    }
+
+    public long capacidadeHoras(int i) { return capacidadeHoras[indice(i)]; }
+
+    public double cargaHoras(int i) { return cargaHoras[indice(i)]; }
+
+    /** Capacidade - carga na semana (negativo = sobrecarga). */
+    public double saldoHoras(int i) {
+        int k = indice(i);
+        return capacidadeHoras[k] - cargaHoras[k];
+    }
+
+    public long getCapacidadeTotalHoras() {
+        long t = 0;
+        for (long c : capacidadeHoras) t += c;
+        return t;
+    }
+
+    public double getCargaTotalHoras() {
+        double t = 0;
+        for (double c : cargaHoras) t += c;
+        return t;
+    }
+
+    /** Quantidade de semanas em que a carga excede a capacidade. */
+    public int semanasSobrecarregadas() {
+        int n = 0;
+        for (int i = 0; i < capacidadeHoras.length; i++) {
+            if (cargaHoras[i] > capacidadeHoras[i]) n++;
+        }
+        return n;
+    }
+
+    private int indice(int i) {
+        if (i < 0 || i >= capacidadeHoras.length) {
+            throw new IllegalArgumentException("Semana fora do período: " + i);
+        }
+        return i;
+    }
+
+    @Override
+    public String toString() {
+        return "ComparativoCapacidade{" +
+                "inicio=" + primeiraSemana +
+                ", semanas=" + getSemanas() +
+                ", capacidade=" + getCapacidadeTotalHoras() + "h" +
+                String.format(", carga=%.1fh", getCargaTotalHoras()) +
+                ", sobrecarregadas=" + semanasSobrecarregadas() +
+                '}';
+    }
+}
@@ -0,0 +1,153 @@
+package model.relatorio;
+
+import model.dominio.ObservadorTarefa;
+import model.dominio.Tarefa;
+import model.enums.StatusTarefa;
+import model.vo.Identificador;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Agregados incrementais de progresso por projeto.
+ * Mantém, para cada projeto: total de tarefas, contagem por StatusTarefa e
+ * somas de esforço estimado/real. Os contadores são atualizados pelos
+ * mutadores da Tarefa (via ObservadorTarefa), então a leitura é O(1) e pode
+ * ser consultada por um dashboard com polling frequente.
+ *
+ * Cada projeto guarda o que já contou de cada tarefa e as notificações
+ * trazem valores absolutos (status e esforço aplicados pela transição), que
+ * substituem o contado. Assim, uma notificação de algo que a inclusão já
+ * viu (a tarefa mudou entre o registro do observador e a inclusão) não
+ * conta de novo: como as transições chegam em ordem, a última deixa o
+ * contado igual à tarefa.
+ */
+public final class PainelProgresso {
+
+    private final ConcurrentHashMap<Identificador, Contadores> porProjeto = new ConcurrentHashMap<>();
+
+    private final ObservadorTarefa observador = new ObservadorTarefa() {
+        @Override
+        public void statusAlterado(Tarefa tarefa, StatusTarefa anterior, StatusTarefa novo) {
+            contadores(tarefa).atualizarStatus(tarefa, novo);
+        }
+
+        @Override
+        public void esforcoAlterado(Tarefa tarefa, int estimadoAnterior, int realAnterior,
+                                    int estimadoNovo, int realNovo) {
+            contadores(tarefa).atualizarEsforco(tarefa, estimadoNovo, realNovo);
+        }
+    };
+
+    /** Passa a contabilizar a tarefa no projeto dela (observador primeiro, depois a fotografia). */
+    public void registrar(Tarefa tarefa) {
+        Objects.requireNonNull(tarefa, "tarefa não pode ser nula");
+        if (tarefa.adicionarObservador(observador)) contadores(tarefa).incluir(tarefa);
+    }
+
+    /** Deixa de contabilizar a tarefa (ex.: exclusão). */
+    public void desregistrar(Tarefa tarefa) {
+        Objects.requireNonNull(tarefa, "tarefa não pode ser nula");
+        if (tarefa.removerObservador(observador)) contadores(tarefa).excluir(tarefa);
+    }
+
+    /** Progresso atual do projeto; vazio se nenhuma tarefa foi registrada. */
+    public Optional<ProgressoProjeto> progresso(Identificador projetoId) {
+        Contadores c = (projetoId == null) ? null : porProjeto.get(projetoId);
+        return c == null ? Optional.empty() : Optional.of(c.fotografia(projetoId.toString()));
+    }
+
+    /** Idem, pela forma textual do id (convertida a cada chamada). */
+    public Optional<ProgressoProjeto> progresso(String projetoId) {
+        return progresso(Identificador.tentar(projetoId));
+    }
+
+    /** Atalho: % concluído do projeto (0 se desconhecido). */
+    public double percentualConcluido(Identificador projetoId) {
+        Contadores c = (projetoId == null) ? null : porProjeto.get(projetoId);
+        return c == null ? 0.0 : c.percentualConcluido();
+    }
+
+    /** Idem, pela forma textual do id. */
+    public double percentualConcluido(String projetoId) {
+        return percentualConcluido(Identificador.tentar(projetoId));
+    }
+
+    private Contadores contadores(Tarefa tarefa) {
+        return porProjeto.computeIfAbsent(tarefa.getProjeto().getIdentificador(), k -> new Contadores());
+    }
+
+    /**
+     * Contadores de um projeto; leitura e escrita sob o mesmo monitor para
+     * fotografias coerentes. 'contadas' guarda o que cada tarefa soma agora.
+     */
+    private static final class Contadores {
+        private int total;
+        private final int[] porStatus = new int[StatusTarefa.values().length];
+        private long estimado;
+        private long real;
+        private final Map<Tarefa, Contada> contadas = new HashMap<>();
+
+        synchronized void incluir(Tarefa t) {
+            if (contadas.containsKey(t)) return;
+            Tarefa.Ciclo ciclo = t.getCiclo();
+            Contada c = new Contada(ciclo.getStatus(), t.getEsforcoEstimadoHoras(), ciclo.getEsforcoRealHoras());
+            contadas.put(t, c);
+            total++;
+            porStatus[c.status.ordinal()]++;
+            estimado += c.estimado;
+            real += c.real;
+        }
+
+        synchronized void excluir(Tarefa t) {
+            Contada c = contadas.remove(t);
+            if (c == null) return;
+            total--;
+            porStatus[c.status.ordinal()]--;
+            estimado -= c.estimado;
+            real -= c.real;
+        }
+
+        /** Notificação antes da inclusão: ignorada, a fotografia de incluir já a reflete. */
+        synchronized void atualizarStatus(Tarefa t, StatusTarefa novo) {
+            Contada c = contadas.get(t);
+            if (c == null) return;
+            porStatus[c.status.ordinal()]--;
+            porStatus[novo.ordinal()]++;
+            c.status = novo;
+        }
+
+        synchronized void atualizarEsforco(Tarefa t, int novoEstimado, int novoReal) {
+            Contada c = contadas.get(t);
+            if (c == null) return;
+            estimado += novoEstimado - c.estimado;
+            real += novoReal - c.real;
+            c.estimado = novoEstimado;
+            c.real = novoReal;
+        }
+
+        synchronized double percentualConcluido() {
+            return total == 0 ? 0.0 : porStatus[StatusTarefa.CONCLUIDA.ordinal()] * 100.0 / total;
+        }
+
+        synchronized ProgressoProjeto fotografia(String projetoId) {
+            return new ProgressoProjeto(projetoId, total, porStatus.clone(), estimado, real);
+        }
+    }
+
+    /** O que uma tarefa soma aos contadores do projeto. */
+    private static final class Contada {
+        StatusTarefa status;
+        int estimado;
+        int real;
+
+        Contada(StatusTarefa status, int estimado, int real) {
+            this.status = status;
+            this.estimado = estimado;
+            this.real = real;
+        }
+    }
+}
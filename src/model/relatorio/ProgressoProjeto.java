@@ -0,0 +1,68 @@
+package model.relatorio;
+
+import model.enums.StatusTarefa;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Fotografia imutável do progresso de um projeto.
+ * %concluído = concluídas / total (conforme README).
+ */
+public final class ProgressoProjeto {
+
+    private final String projetoId;
+    private final int total;
+    private final int[] porStatus; // indexado por StatusTarefa.ordinal()
+    private final long esforcoEstimadoHoras;
+    private final long esforcoRealHoras;
+
+    ProgressoProjeto(String projetoId, int total, int[] porStatus,
+                     long esforcoEstimadoHoras, long esforcoRealHoras) {
+        this.projetoId = projetoId;
+        this.total = total;
+        this.porStatus = porStatus;
+        this.esforcoEstimadoHoras = esforcoEstimadoHoras;
+        this.esforcoRealHoras = esforcoRealHoras;
+    }
+
+    public String getProjetoId() { return projetoId; }
+    public int getTotal() { return total; }
+    public int getConcluidas() { return quantidade(StatusTarefa.CONCLUIDA); }
+    public long getEsforcoEstimadoHoras() { return esforcoEstimadoHoras; }
+    public long getEsforcoRealHoras() { return esforcoRealHoras; }
+
+    /** Quantidade de tarefas em um status. */
+    public int quantidade(StatusTarefa status) {
+        return porStatus[status.ordinal()];
+    }
+
+    /** Contagem por status (cópia). */
+    public Map<StatusTarefa, Integer> porStatus() {
+        Map<StatusTarefa, Integer> m = new EnumMap<>(StatusTarefa.class);
+        for (StatusTarefa s : StatusTarefa.values()) m.put(s, porStatus[s.ordinal()]);
+        return m;
+    }
+
+    /** Percentual concluído (0..100). Projeto sem tarefas = 0. */
+    public double percentualConcluido() {
+        return total == 0 ? 0.0 : getConcluidas() * 100.0 / total;
+    }
+
+    /** Esforço real / estimado em % (burn). Sem estimativa = 0. */
+    public double percentualEsforcoConsumido() {
+        return esforcoEstimadoHoras == 0 ? 0.0 : esforcoRealHoras * 100.0 / esforcoEstimadoHoras;
+    }
+
+    @Override
+    public String toString() {
+        return "ProgressoProjeto{" +
+                "projetoId='" + projetoId + '\'' +
+                ", total=" + total +
+                ", concluidas=" + getConcluidas() +
+                String.format(", %%concluido=%.1f", percentualConcluido()) +
+                ", estimado=" + esforcoEstimadoHoras + "h" +
+                ", real=" + esforcoRealHoras + "h" +
+                '}';
+    }
+}
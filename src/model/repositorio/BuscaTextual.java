@@ -0,0 +1,70 @@
+package model.repositorio;
+
+import model.dominio.ComentarioTarefa;
+import model.dominio.ObservadorTarefa;
+import model.dominio.Tarefa;
+import model.util.IndiceInvertido;
+import model.util.ResultadoBusca;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Busca por palavra-chave em comentários (mensagem) e tarefas (título + descrição),
+ * sem varrer as entidades: cada busca consulta um IndiceInvertido.
+ *
+ * Comentários são imutáveis: entram uma vez, ao serem criados (indexar).
+ * Tarefas são reindexadas quando alterarTitulo/alterarDescricao mudam o texto
+ * (via ObservadorTarefa.textoAlterado).
+ */
+public final class BuscaTextual {
+
+    private final IndiceInvertido<ComentarioTarefa> comentarios =
+            new IndiceInvertido<>(ComentarioTarefa::getMensagem);
+    private final IndiceInvertido<Tarefa> tarefas =
+            new IndiceInvertido<>(t -> t.getTitulo() + " " + t.getDescricao());
+
+    private final ObservadorTarefa observador = new ObservadorTarefa() {
+        @Override
+        public void textoAlterado(Tarefa tarefa, String tituloAnterior, String descricaoAnterior) {
+            tarefas.atualizar(tarefa);
+        }
+    };
+
+    // ----------------- Registro -----------------
+
+    /** Indexa um comentário recém-criado (ou restaurado). */
+    public void indexar(ComentarioTarefa comentario) {
+        Objects.requireNonNull(comentario, "comentario não pode ser nulo");
+        comentarios.incluir(comentario);
+    }
+
+    public boolean remover(ComentarioTarefa comentario) {
+        return comentarios.remover(comentario);
+    }
+
+    /** Indexa a tarefa e passa a acompanhar mudanças de título/descrição. */
+    public void registrar(Tarefa tarefa) {
+        Objects.requireNonNull(tarefa, "tarefa não pode ser nula");
+        tarefa.adicionarObservador(observador);
+        tarefas.incluir(tarefa);
+    }
+
+    public void desregistrar(Tarefa tarefa) {
+        Objects.requireNonNull(tarefa, "tarefa não pode ser nula");
+        tarefa.removerObservador(observador);
+        tarefas.remover(tarefa);
+    }
+
+    // ----------------- Consultas -----------------
+
+    /** Comentários mais relevantes para a consulta (acentos e caixa ignorados). */
+    public List<ResultadoBusca<ComentarioTarefa>> buscarComentarios(String consulta, int limite) {
+        return comentarios.buscar(consulta, limite);
+    }
+
+    /** Tarefas mais relevantes para a consulta, por título e descrição. */
+    public List<ResultadoBusca<Tarefa>> buscarTarefas(String consulta, int limite) {
+        return tarefas.buscar(consulta, limite);
+    }
+}
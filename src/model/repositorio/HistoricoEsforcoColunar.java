@@ -0,0 +1,195 @@
+package model.repositorio;
+
+import model.dominio.RegistroEsforco;
+import model.dominio.Tarefa;
+import model.dominio.Usuario;
+import model.util.AgregadorEsforco;
+import model.util.DicionarioDenso;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Histórico de lançamentos de esforço em formato colunar, fora do heap.
+ * Cada lançamento ocupa ~18 bytes + observação, contra 200+ bytes de um
+ * RegistroEsforco (UUID, referências, LocalDate, String):
+ *  - dia      : int   (epochDay)
+ *  - horas    : short
+ *  - usuario  : int   (id denso, dicionário de Usuario)
+ *  - tarefa   : int   (id denso, dicionário de Tarefa)
+ *  - obs      : int   (offset no heap de strings UTF-8)
+ * Somente inclusão (append-only). Agregações rodam direto sobre as colunas
+ * via AgregadorEsforco. Não é thread-safe.
+ */
+public final class HistoricoEsforcoColunar {
+
+    private static final int CAPACIDADE_INICIAL = 1024;
+    /** Limite de linhas para que 'linha * 4' (colunas int) caiba num ByteBuffer. */
+    static final int MAX_LINHAS = (Integer.MAX_VALUE - 8) / 4;
+
+    private final DicionarioDenso<Usuario> usuarios = new DicionarioDenso<>();
+    private final DicionarioDenso<Tarefa> tarefas = new DicionarioDenso<>();
+
+    private ByteBuffer dias;
+    private ByteBuffer horas;
+    private ByteBuffer colUsuario;
+    private ByteBuffer colTarefa;
+    private ByteBuffer obsInicio;
+    private ByteBuffer obsHeap;
+
+    private int tamanho;
+    private int capacidade;
+
+    public HistoricoEsforcoColunar() {
+        this.capacidade = CAPACIDADE_INICIAL;
+        this.dias = alocar(capacidade * 4);
+        this.horas = alocar(capacidade * 2);
+        this.colUsuario = alocar(capacidade * 4);
+        this.colTarefa = alocar(capacidade * 4);
+        this.obsInicio = alocar(capacidade * 4);
+        this.obsHeap = alocar(capacidade * 8);
+    }
+
+    // ----------------- Inclusão -----------------
+
+    /** Anexa um lançamento. O id do RegistroEsforco não é mantido. */
+    public void incluir(RegistroEsforco r) {
+        Objects.requireNonNull(r, "registro não pode ser nulo");
+        incluir(r.getUsuario(), r.getTarefa(), r.getData(), r.getHoras(), r.getObservacao());
+    }
+
+    public void incluirTodos(Iterable<RegistroEsforco> regs) {
+        if (regs == null) return;
+        for (RegistroEsforco r : regs) incluir(r);
+    }
+
+    /** Anexa um lançamento a partir dos campos (mesmas regras de RegistroEsforco). */
+    public void incluir(Usuario usuario, Tarefa tarefa, LocalDate data, int horasLancadas, String observacao) {
+        Objects.requireNonNull(usuario, "usuario não pode ser nulo");
+        Objects.requireNonNull(tarefa, "tarefa não pode ser nula");
+        Objects.requireNonNull(data, "data não pode ser nula");
+        if (horasLancadas <= 0) throw new IllegalArgumentException("horas deve ser > 0");
+        if (horasLancadas > Short.MAX_VALUE) throw new IllegalArgumentException("horas excede " + Short.MAX_VALUE);
+        long epochDay = data.toEpochDay();
+        if (epochDay < Integer.MIN_VALUE || epochDay > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("data fora do intervalo suportado: " + data);
+        }
+
+        if (tamanho == capacidade) crescerColunas();
+        byte[] obs = (observacao == null || observacao.isEmpty())
+                ? new byte[0] : observacao.getBytes(StandardCharsets.UTF_8);
+        garantirHeap(obs.length);
+
+        int i = tamanho;
+        dias.putInt(i * 4, (int) epochDay);
+        horas.putShort(i * 2, (short) horasLancadas);
+        colUsuario.putInt(i * 4, usuarios.indice(usuario));
+        colTarefa.putInt(i * 4, tarefas.indice(tarefa));
+        obsInicio.putInt(i * 4, obsHeap.position());
+        obsHeap.put(obs);
+        tamanho++;
+    }
+
+    // ----------------- Leitura por linha -----------------
+
+    public int tamanho() { return tamanho; }
+
+    public LocalDate data(int linha) {
+        return LocalDate.ofEpochDay(dias.getInt(checar(linha) * 4));
+    }
+
+    public int horas(int linha) {
+        return horas.getShort(checar(linha) * 2);
+    }
+
+    public Usuario usuario(int linha) {
+        return usuarios.valor(colUsuario.getInt(checar(linha) * 4));
+    }
+
+    public Tarefa tarefa(int linha) {
+        return tarefas.valor(colTarefa.getInt(checar(linha) * 4));
+    }
+
+    public String observacao(int linha) {
+        int ini = obsInicio.getInt(checar(linha) * 4);
+        int fim = (linha + 1 < tamanho) ? obsInicio.getInt((linha + 1) * 4) : obsHeap.position();
+        if (fim == ini) return "";
+        byte[] b = new byte[fim - ini];
+        obsHeap.get(ini, b);
+        return new String(b, StandardCharsets.UTF_8);
+    }
+
+    // ----------------- Agregações -----------------
+
+    /** Agrega (total, usuário, tarefa, dia, semana) em [inicio, fim]; ambos podem ser null. */
+    public AgregadorEsforco agregar(LocalDate inicio, LocalDate fim) {
+        AgregadorEsforco a = new AgregadorEsforco(inicio, fim, usuarios, tarefas);
+        for (int i = 0; i < tamanho; i++) {
+            a.acumular(colUsuario.getInt(i * 4), colTarefa.getInt(i * 4), dias.getInt(i * 4), horas.getShort(i * 2));
+        }
+        return a;
+    }
+
+    /** Soma de horas no período, lendo apenas as colunas dia e horas. */
+    public long somarHoras(LocalDate inicio, LocalDate fim) {
+        long ini = (inicio == null) ? Long.MIN_VALUE : inicio.toEpochDay();
+        long fi = (fim == null) ? Long.MAX_VALUE : fim.toEpochDay();
+        long soma = 0;
+        for (int i = 0; i < tamanho; i++) {
+            int d = dias.getInt(i * 4);
+            if (d >= ini && d <= fi) soma += horas.getShort(i * 2);
+        }
+        return soma;
+    }
+
+    public Map<Usuario, Integer> horasPorUsuario(LocalDate inicio, LocalDate fim) {
+        return agregar(inicio, fim).horasPorUsuario();
+    }
+
+    public Map<Tarefa, Integer> horasPorTarefa(LocalDate inicio, LocalDate fim) {
+        return agregar(inicio, fim).horasPorTarefa();
+    }
+
+    // ----------------- Internos -----------------
+
+    private int checar(int linha) {
+        return Objects.checkIndex(linha, tamanho);
+    }
+
+    private void crescerColunas() {
+        if (capacidade == MAX_LINHAS) {
+            throw new IllegalStateException("Histórico atingiu o limite de " + MAX_LINHAS + " lançamentos.");
+        }
+        int nova = (int) Math.min(capacidade * 2L, MAX_LINHAS);
+        dias = copiar(dias, nova * 4, capacidade * 4);
+        horas = copiar(horas, nova * 2, capacidade * 2);
+        colUsuario = copiar(colUsuario, nova * 4, capacidade * 4);
+        colTarefa = copiar(colTarefa, nova * 4, capacidade * 4);
+        obsInicio = copiar(obsInicio, nova * 4, capacidade * 4);
+        capacidade = nova;
+    }
+
+    private void garantirHeap(int bytes) {
+        if (obsHeap.remaining() >= bytes) return;
+        long necessario = (long) obsHeap.position() + bytes;
+        if (necessario > Integer.MAX_VALUE) throw new IllegalStateException("Heap de observações excedeu 2 GiB.");
+        int nova = (int) Math.min(Integer.MAX_VALUE, Math.max(necessario, obsHeap.capacity() * 2L));
+        ByteBuffer b = alocar(nova);
+        b.put(obsHeap.duplicate().flip());
+        obsHeap = b;
+    }
+
+    private static ByteBuffer copiar(ByteBuffer origem, int novaCapacidade, int usados) {
+        ByteBuffer b = alocar(novaCapacidade);
+        b.put(0, origem, 0, usados);
+        return b;
+    }
+
+    private static ByteBuffer alocar(int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+}
@@ -0,0 +1,156 @@
+package model.repositorio;
+
+import model.dominio.AlocacaoEquipeProjeto;
+import model.dominio.Equipe;
+import model.dominio.ObservadorEquipe;
+import model.dominio.Projeto;
+import model.dominio.Usuario;
+import model.vo.Identificador;
+
+import java.util.*;
+
+/**
+ * Índice reverso de participação: usuário → equipes e usuário → projetos
+ * (projetos em que alguma equipe do usuário está alocada, independente do
+ * período da alocação).
+ *
+ * Mantido incrementalmente: mudanças de membros chegam via ObservadorEquipe
+ * e alocações entram/saem por registrar/desregistrar. Assim "minhas equipes"
+ * e "meus projetos" custam proporcional à resposta, não ao total de equipes.
+ * Para projetos, guarda quantos caminhos (equipe × alocação) ligam o usuário
+ * ao projeto, e ele só sai do índice quando o último caminho some.
+ *
+ * Thread-safe: operações serializadas no próprio índice; consultas devolvem cópias.
+ */
+public final class IndiceParticipacao {
+
+    private final Map<Identificador, Equipe> equipes = new HashMap<>();
+    private final Map<Identificador, Set<Equipe>> equipesPorUsuario = new HashMap<>();
+    private final Map<Identificador, Set<AlocacaoEquipeProjeto>> alocacoesPorEquipe = new HashMap<>();
+    private final Map<Identificador, Map<Projeto, Integer>> projetosPorUsuario = new HashMap<>();
+
+    private final ObservadorEquipe observador = new ObservadorEquipe() {
+        @Override
+        public void membroAdicionado(Equipe equipe, Usuario usuario) {
+            synchronized (IndiceParticipacao.this) {
+                if (equipes.get(equipe.getIdentificador()) == equipe) vincular(equipe, usuario);
+            }
+        }
+
+        @Override
+        public void membroRemovido(Equipe equipe, Usuario usuario) {
+            synchronized (IndiceParticipacao.this) {
+                if (equipes.get(equipe.getIdentificador()) == equipe) desvincular(equipe, usuario);
+            }
+        }
+    };
+
+    // ----------------- Registro -----------------
+
+    /** Passa a acompanhar a equipe e seus membros atuais. */
+    public synchronized void registrar(Equipe equipe) {
+        Objects.requireNonNull(equipe, "equipe não pode ser nula");
+        Equipe atual = equipes.putIfAbsent(equipe.getIdentificador(), equipe);
+        if (atual != null) {
+            if (atual == equipe) return;
+            throw new IllegalStateException("Outra instância da equipe já registrada: " + equipe.getId());
+        }
+        equipe.adicionarObservador(observador);
+        for (Usuario u : equipe.getMembros()) vincular(equipe, u);
+    }
+
+    /** Deixa de acompanhar a equipe (e as alocações dela). */
+    public synchronized void desregistrar(Equipe equipe) {
+        Objects.requireNonNull(equipe, "equipe não pode ser nula");
+        if (!equipes.remove(equipe.getIdentificador(), equipe)) return;
+        equipe.removerObservador(observador);
+        Set<AlocacaoEquipeProjeto> alocacoes = alocacoesPorEquipe.remove(equipe.getIdentificador());
+        List<Usuario> membros = equipe.getMembros();
+        if (alocacoes != null) {
+            for (AlocacaoEquipeProjeto a : alocacoes) {
+                for (Usuario u : membros) descontarProjeto(u, a.getProjeto());
+            }
+        }
+        for (Usuario u : membros) removerDe(equipesPorUsuario, u.getIdentificador(), equipe);
+    }
+
+    /** Liga os membros da equipe ao projeto da alocação (registra a equipe, se preciso). */
+    public synchronized void registrar(AlocacaoEquipeProjeto alocacao) {
+        Objects.requireNonNull(alocacao, "alocacao não pode ser nula");
+        Equipe equipe = alocacao.getEquipe();
+        registrar(equipe);
+        if (!alocacoesPorEquipe.computeIfAbsent(equipe.getIdentificador(), k -> new LinkedHashSet<>()).add(alocacao)) {
+            return;
+        }
+        for (Usuario u : equipe.getMembros()) contarProjeto(u, alocacao.getProjeto());
+    }
+
+    public synchronized void desregistrar(AlocacaoEquipeProjeto alocacao) {
+        Objects.requireNonNull(alocacao, "alocacao não pode ser nula");
+        Equipe equipe = alocacao.getEquipe();
+        if (equipes.get(equipe.getIdentificador()) != equipe) return;
+        if (!removerDe(alocacoesPorEquipe, equipe.getIdentificador(), alocacao)) return;
+        for (Usuario u : equipe.getMembros()) descontarProjeto(u, alocacao.getProjeto());
+    }
+
+    // ----------------- Consultas -----------------
+
+    /** Equipes de que o usuário é membro (ordem de entrada). */
+    public synchronized List<Equipe> equipesDo(Usuario usuario) {
+        Objects.requireNonNull(usuario, "usuario não pode ser nulo");
+        return copia(equipesPorUsuario.get(usuario.getIdentificador()));
+    }
+
+    /** Projetos em que alguma equipe do usuário está alocada. */
+    public synchronized List<Projeto> projetosDo(Usuario usuario) {
+        Objects.requireNonNull(usuario, "usuario não pode ser nulo");
+        Map<Projeto, Integer> projetos = projetosPorUsuario.get(usuario.getIdentificador());
+        return (projetos == null) ? new ArrayList<>() : new ArrayList<>(projetos.keySet());
+    }
+
+    public synchronized boolean participaDe(Usuario usuario, Projeto projeto) {
+        Objects.requireNonNull(usuario, "usuario não pode ser nulo");
+        Objects.requireNonNull(projeto, "projeto não pode ser nulo");
+        Map<Projeto, Integer> projetos = projetosPorUsuario.get(usuario.getIdentificador());
+        return projetos != null && projetos.containsKey(projeto);
+    }
+
+    // ----------------- Internos (com o monitor) -----------------
+
+    private void vincular(Equipe equipe, Usuario usuario) {
+        if (!equipesPorUsuario.computeIfAbsent(usuario.getIdentificador(), k -> new LinkedHashSet<>()).add(equipe)) {
+            return;
+        }
+        Set<AlocacaoEquipeProjeto> alocacoes = alocacoesPorEquipe.get(equipe.getIdentificador());
+        if (alocacoes != null) for (AlocacaoEquipeProjeto a : alocacoes) contarProjeto(usuario, a.getProjeto());
+    }
+
+    private void desvincular(Equipe equipe, Usuario usuario) {
+        if (!removerDe(equipesPorUsuario, usuario.getIdentificador(), equipe)) return;
+        Set<AlocacaoEquipeProjeto> alocacoes = alocacoesPorEquipe.get(equipe.getIdentificador());
+        if (alocacoes != null) for (AlocacaoEquipeProjeto a : alocacoes) descontarProjeto(usuario, a.getProjeto());
+    }
+
+    private void contarProjeto(Usuario usuario, Projeto projeto) {
+        projetosPorUsuario.computeIfAbsent(usuario.getIdentificador(), k -> new LinkedHashMap<>())
+                .merge(projeto, 1, Integer::sum);
+    }
+
+    private void descontarProjeto(Usuario usuario, Projeto projeto) {
+        Map<Projeto, Integer> projetos = projetosPorUsuario.get(usuario.getIdentificador());
+        if (projetos == null) return;
+        projetos.computeIfPresent(projeto, (p, n) -> (n <= 1) ? null : n - 1);
+        if (projetos.isEmpty()) projetosPorUsuario.remove(usuario.getIdentificador());
+    }
+
+    private static <T> boolean removerDe(Map<Identificador, Set<T>> indice, Identificador chave, T valor) {
+        Set<T> conjunto = indice.get(chave);
+        if (conjunto == null || !conjunto.remove(valor)) return false;
+        if (conjunto.isEmpty()) indice.remove(chave);
+        return true;
+    }
+
+    private static <T> List<T> copia(Set<T> conjunto) {
+        return (conjunto == null) ? new ArrayList<>() : new ArrayList<>(conjunto);
+    }
+}
@@ -0,0 +1,150 @@
+package model.repositorio;
+
+import model.dominio.ObservadorProjeto;
+import model.dominio.ObservadorTarefa;
+import model.dominio.Projeto;
+import model.dominio.Tarefa;
+import model.enums.StatusProjeto;
+import model.enums.StatusTarefa;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Índice ordenado por dataTerminoPrevista contendo apenas tarefas e projetos
+ * não finalizados. "Atrasados em X" vira uma consulta de intervalo
+ * (headMap) em vez de avaliar estaAtrasada/estaAtrasado item a item.
+ *  - replanejar: reposiciona a entrada na nova data
+ *  - concluir/cancelar (status finalizado): remove a entrada
+ * Leituras não bloqueiam; escritas são serializadas no próprio índice.
+ */
+public final class IndicePrazos {
+
+    private final Agenda<Tarefa> tarefas = new Agenda<>();
+    private final Agenda<Projeto> projetos = new Agenda<>();
+
+    private final ObservadorTarefa observadorTarefa = new ObservadorTarefa() {
+        @Override
+        public void statusAlterado(Tarefa tarefa, StatusTarefa anterior, StatusTarefa novo) {
+            if (novo.isFinalizada()) tarefas.remover(tarefa.getDataTerminoPrevista(), tarefa);
+        }
+
+        @Override
+        public void datasAlteradas(Tarefa tarefa, LocalDate inicioAnterior, LocalDate terminoAnterior) {
+            tarefas.mover(terminoAnterior, tarefa.getDataTerminoPrevista(), tarefa);
+        }
+    };
+
+    private final ObservadorProjeto observadorProjeto = new ObservadorProjeto() {
+        @Override
+        public void statusAlterado(Projeto projeto, StatusProjeto anterior) {
+            // Projeto não restringe transições: pode sair de um estado finalizado
+            if (projeto.getStatus().isFinalizado()) projetos.remover(projeto.getDataTerminoPrevista(), projeto);
+            else if (anterior.isFinalizado()) projetos.incluir(projeto.getDataTerminoPrevista(), projeto);
+        }
+
+        @Override
+        public void datasAlteradas(Projeto projeto, LocalDate inicioAnterior, LocalDate terminoAnterior) {
+            if (!projeto.getStatus().isFinalizado()) {
+                projetos.mover(terminoAnterior, projeto.getDataTerminoPrevista(), projeto);
+            }
+        }
+    };
+
+    // ----------------- Registro -----------------
+
+    /** Passa a acompanhar a tarefa (indexada apenas enquanto não finalizada). */
+    public void registrar(Tarefa tarefa) {
+        Objects.requireNonNull(tarefa, "tarefa não pode ser nula");
+        tarefa.adicionarObservador(observadorTarefa);
+        if (!tarefa.getStatus().isFinalizada()) tarefas.incluir(tarefa.getDataTerminoPrevista(), tarefa);
+    }
+
+    /** Passa a acompanhar o projeto (indexado apenas enquanto não finalizado). */
+    public void registrar(Projeto projeto) {
+        Objects.requireNonNull(projeto, "projeto não pode ser nulo");
+        projeto.adicionarObservador(observadorProjeto);
+        if (!projeto.getStatus().isFinalizado()) projetos.incluir(projeto.getDataTerminoPrevista(), projeto);
+    }
+
+    public void desregistrar(Tarefa tarefa) {
+        tarefa.removerObservador(observadorTarefa);
+        tarefas.remover(tarefa.getDataTerminoPrevista(), tarefa);
+    }
+
+    public void desregistrar(Projeto projeto) {
+        projeto.removerObservador(observadorProjeto);
+        projetos.remover(projeto.getDataTerminoPrevista(), projeto);
+    }
+
+    // ----------------- Consultas -----------------
+
+    /** Tarefas com prazo vencido em 'referencia' (ou hoje), em ordem de prazo. */
+    public List<Tarefa> tarefasAtrasadas(LocalDate referencia) {
+        return achatar(tarefas.porData.headMap(dataOuHoje(referencia), false));
+    }
+
+    /** Projetos com prazo vencido em 'referencia' (ou hoje), em ordem de prazo. */
+    public List<Projeto> projetosAtrasados(LocalDate referencia) {
+        return achatar(projetos.porData.headMap(dataOuHoje(referencia), false));
+    }
+
+    /** Tarefas em aberto com prazo em [inicio, fim] (inclusive). */
+    public List<Tarefa> tarefasComPrazoEntre(LocalDate inicio, LocalDate fim) {
+        Objects.requireNonNull(inicio, "inicio não pode ser nulo");
+        Objects.requireNonNull(fim, "fim não pode ser nulo");
+        if (fim.isBefore(inicio)) return new ArrayList<>();
+        return achatar(tarefas.porData.subMap(inicio, true, fim, true));
+    }
+
+    /** Quantidade de tarefas atrasadas (sem materializar a lista). */
+    public int contarTarefasAtrasadas(LocalDate referencia) {
+        int total = 0;
+        for (Set<Tarefa> s : tarefas.porData.headMap(dataOuHoje(referencia), false).values()) total += s.size();
+        return total;
+    }
+
+    /** Prazo mais próximo entre as tarefas em aberto (vazio se não houver). */
+    public Optional<LocalDate> proximoPrazoTarefa() {
+        Map.Entry<LocalDate, Set<Tarefa>> e = tarefas.porData.firstEntry();
+        return e == null ? Optional.empty() : Optional.of(e.getKey());
+    }
+
+    // ----------------- Internos -----------------
+
+    private static LocalDate dataOuHoje(LocalDate referencia) {
+        return (referencia == null) ? LocalDate.now() : referencia;
+    }
+
+    private static <T> List<T> achatar(ConcurrentNavigableMap<LocalDate, Set<T>> faixa) {
+        List<T> resultado = new ArrayList<>();
+        for (Set<T> s : faixa.values()) resultado.addAll(s);
+        return resultado;
+    }
+
+    /** Mapa data → entidades; escritas sincronizadas para não perder entradas ao limpar chaves vazias. */
+    private static final class Agenda<T> {
+        final ConcurrentSkipListMap<LocalDate, Set<T>> porData = new ConcurrentSkipListMap<>();
+
+        synchronized void incluir(LocalDate data, T item) {
+            porData.computeIfAbsent(data, k -> ConcurrentHashMap.newKeySet()).add(item);
+        }
+
+        synchronized void remover(LocalDate data, T item) {
+            Set<T> s = porData.get(data);
+            if (s == null) return;
+            s.remove(item);
+            if (s.isEmpty()) porData.remove(data);
+        }
+
+        synchronized void mover(LocalDate de, LocalDate para, T item) {
+            Set<T> s = porData.get(de);
+            if (s == null || !s.contains(item)) return; // não indexado (finalizado)
+            remover(de, item);
+            incluir(para, item);
+        }
+    }
+}
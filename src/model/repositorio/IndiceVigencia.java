@@ -0,0 +1,194 @@
+package model.repositorio;
+
+import model.dominio.AlocacaoEquipeProjeto;
+import model.dominio.ObservadorAlocacao;
+import model.vo.Identificador;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Índice de vigência das alocações: árvore de intervalos [dataInicio, dataFim]
+ * (dataFim nula = +∞), implementada como treap ordenada por (início, id) e
+ * aumentada com o maior fim de cada subárvore.
+ *
+ *  - vigentesEm(X): alocações com início <= X <= fim
+ *  - vigentesEntre(a, b): alocações cujo período cruza [a, b]
+ * Ambas em O(min(n, k·log n)) esperado, com k resultados: subárvores cujo
+ * maior fim é anterior ao período, ou cujo início é posterior, não são
+ * visitadas, mas cada resultado pode custar um caminho de O(log n) nós que
+ * cruzam o período pelo início e não pelo fim. Não é O(log n + k): para
+ * isso seria preciso outra estrutura (ex.: árvore de intervalos centrada).
+ *
+ * ajustarPeriodo/encerrarAlocacao/reabrirAlocacao chegam via ObservadorAlocacao
+ * e reposicionam só a alocação alterada (O(log n)).
+ *
+ * Thread-safe: operações serializadas no próprio índice; consultas devolvem cópias.
+ */
+public final class IndiceVigencia {
+
+    private static final long SEM_FIM = Long.MAX_VALUE;
+
+    private No raiz;
+    private final Map<AlocacaoEquipeProjeto, No> nos = new HashMap<>();
+
+    private final ObservadorAlocacao observador = new ObservadorAlocacao() {
+        @Override
+        public void periodoAlterado(AlocacaoEquipeProjeto alocacao, LocalDate inicioAnterior, LocalDate fimAnterior) {
+            reposicionar(alocacao);
+        }
+    };
+
+    // ----------------- Registro -----------------
+
+    public synchronized void registrar(AlocacaoEquipeProjeto alocacao) {
+        Objects.requireNonNull(alocacao, "alocacao não pode ser nula");
+        if (nos.containsKey(alocacao)) return;
+        No no = new No(alocacao);
+        nos.put(alocacao, no);
+        raiz = inserir(raiz, no);
+        alocacao.adicionarObservador(observador);
+    }
+
+    public synchronized boolean desregistrar(AlocacaoEquipeProjeto alocacao) {
+        Objects.requireNonNull(alocacao, "alocacao não pode ser nula");
+        No no = nos.remove(alocacao);
+        if (no == null) return false;
+        alocacao.removerObservador(observador);
+        raiz = remover(raiz, no);
+        return true;
+    }
+
+    public synchronized int tamanho() {
+        return nos.size();
+    }
+
+    // ----------------- Consultas -----------------
+
+    /** Alocações vigentes na data (mesmo critério de isVigente). */
+    public List<AlocacaoEquipeProjeto> vigentesEm(LocalDate data) {
+        Objects.requireNonNull(data, "data não pode ser nula");
+        return vigentesEntre(data, data);
+    }
+
+    /** Alocações vigentes em algum dia de [de, ate], em ordem de início. */
+    public synchronized List<AlocacaoEquipeProjeto> vigentesEntre(LocalDate de, LocalDate ate) {
+        Objects.requireNonNull(de, "de não pode ser nula");
+        Objects.requireNonNull(ate, "ate não pode ser nula");
+        if (ate.isBefore(de)) throw new IllegalArgumentException("ate deve ser maior ou igual a de.");
+        List<AlocacaoEquipeProjeto> r = new ArrayList<>();
+        coletar(raiz, de.toEpochDay(), ate.toEpochDay(), r);
+        return r;
+    }
+
+    // ----------------- Internos (com o monitor) -----------------
+
+    private synchronized void reposicionar(AlocacaoEquipeProjeto alocacao) {
+        No no = nos.get(alocacao);
+        if (no == null) return;
+        raiz = remover(raiz, no);
+        no.ler();
+        raiz = inserir(raiz, no);
+    }
+
+    /**
+     * Percurso em ordem podado por maiorFim (à esquerda) e por início (à direita).
+     * Toda subárvore visitada com maiorFim >= de contém ao menos um nó que
+     * termina depois de 'de', mas ele pode começar depois de 'ate': por isso o
+     * custo é O(log n) por resultado no pior caso, e não O(log n) no total.
+     */
+    private static void coletar(No n, long de, long ate, List<AlocacaoEquipeProjeto> r) {
+        while (n != null && n.maiorFim >= de) {
+            coletar(n.esq, de, ate, r);
+            if (n.inicio > ate) return; // à direita só começam depois
+            if (n.fim >= de) r.add(n.alocacao);
+            n = n.dir;
+        }
+    }
+
+    private static No inserir(No t, No no) {
+        no.esq = no.dir = null;
+        no.atualizar();
+        No[] partes = dividir(t, no);
+        return unir(unir(partes[0], no), partes[1]);
+    }
+
+    /** Remove 'no' (localizado pela chave, que não mudou desde a inserção). */
+    private static No remover(No t, No no) {
+        if (t == null) return null;
+        if (t == no) return unir(t.esq, t.dir);
+        if (no.compareTo(t) < 0) t.esq = remover(t.esq, no);
+        else t.dir = remover(t.dir, no);
+        t.atualizar();
+        return t;
+    }
+
+    /** Divide t em [< chave] e [>= chave]. */
+    private static No[] dividir(No t, No chave) {
+        if (t == null) return new No[2];
+        if (t.compareTo(chave) < 0) {
+            No[] p = dividir(t.dir, chave);
+            t.dir = p[0];
+            t.atualizar();
+            p[0] = t;
+            return p;
+        }
+        No[] p = dividir(t.esq, chave);
+        t.esq = p[1];
+        t.atualizar();
+        p[1] = t;
+        return p;
+    }
+
+    /** Une a e b, com toda chave de a menor que as de b. */
+    private static No unir(No a, No b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        if (a.prioridade > b.prioridade) {
+            a.dir = unir(a.dir, b);
+            a.atualizar();
+            return a;
+        }
+        b.esq = unir(a, b.esq);
+        b.atualizar();
+        return b;
+    }
+
+    private static final class No implements Comparable<No> {
+        final AlocacaoEquipeProjeto alocacao;
+        final Identificador id;
+        final int prioridade; // derivada do id: aleatória e estável
+        long inicio;
+        long fim;
+        long maiorFim;
+        No esq;
+        No dir;
+
+        No(AlocacaoEquipeProjeto alocacao) {
+            this.alocacao = alocacao;
+            this.id = alocacao.getIdentificador();
+            long h = (id.alto() ^ id.baixo()) * 0x9E3779B97F4A7C15L;
+            this.prioridade = (int) (h ^ (h >>> 32));
+            ler();
+        }
+
+        void ler() {
+            LocalDate f = alocacao.getDataFim();
+            inicio = alocacao.getDataInicio().toEpochDay();
+            fim = (f == null) ? SEM_FIM : f.toEpochDay();
+        }
+
+        void atualizar() {
+            long m = fim;
+            if (esq != null && esq.maiorFim > m) m = esq.maiorFim;
+            if (dir != null && dir.maiorFim > m) m = dir.maiorFim;
+            maiorFim = m;
+        }
+
+        @Override
+        public int compareTo(No o) {
+            int c = Long.compare(inicio, o.inicio);
+            return (c != 0) ? c : id.compareTo(o.id);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package model.repositorio;
+
+import model.dominio.ComentarioTarefa;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Contrato de persistência de comentários (imutáveis: só entram).
+ * Listagens saem em ordem cronológica e devem custar proporcional ao
+ * que é devolvido, não ao total de comentários. Empates de dataHora seguem
+ * ComentarioTarefaUtil.ultimosN: valem os salvos primeiro, na ordem em que
+ * foram salvos.
+ */
+public interface RepositorioComentario {
+
+    /** Inclui o comentário (ignorado se o id já existir). */
+    void salvar(ComentarioTarefa comentario);
+
+    Optional<ComentarioTarefa> buscarPorId(String id);
+
+    /** Thread completa da tarefa. */
+    List<ComentarioTarefa> listarPorTarefa(String tarefaId);
+
+    /** Os n comentários mais recentes da tarefa. */
+    List<ComentarioTarefa> ultimosDaTarefa(String tarefaId, int n);
+
+    /** Os n comentários mais recentes de todas as tarefas ("última atividade"). */
+    List<ComentarioTarefa> ultimos(int n);
+
+    int quantidade();
+}
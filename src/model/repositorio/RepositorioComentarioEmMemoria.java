@@ -0,0 +1,177 @@
+package model.repositorio;
+
+import model.dominio.ComentarioTarefa;
+import model.vo.Identificador;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Implementação em memória de RepositorioComentario:
+ *  - por tarefa, uma linha do tempo em array ordenado por dataHora. O caso
+ *    comum (comentário mais novo que o último) é um append O(1); um
+ *    comentário retroativo (restauração, comentarEm no passado) é inserido
+ *    na posição por busca binária.
+ *  - global, um buffer circular com os 'capacidadeRecentes' mais novos,
+ *    na mesma ordem; o mais antigo sai quando chega um mais novo.
+ * Abrir a thread de uma tarefa ou o feed "última atividade" custa O(k) no
+ * que é devolvido, sem ordenar a coleção inteira (ComentarioTarefaUtil.ultimosN).
+ * Empates de dataHora seguem o mesmo critério de ultimosN (ordenação
+ * estável): entre comentários do mesmo instante, ficam os salvos primeiro,
+ * e a saída os lista na ordem em que foram salvos. Para isso os arrays
+ * guardam cada grupo de empatados do mais novo para o mais antigo, e a
+ * leitura inverte o grupo.
+ * Não é thread-safe: sincronização fica a cargo da camada de serviço.
+ */
+public final class RepositorioComentarioEmMemoria implements RepositorioComentario {
+
+    public static final int CAPACIDADE_RECENTES_PADRAO = 100;
+
+    private final Map<Identificador, ComentarioTarefa> porId = new HashMap<>();
+    private final Map<Identificador, LinhaDoTempo> porTarefa = new HashMap<>();
+    private final Recentes recentes;
+
+    public RepositorioComentarioEmMemoria() {
+        this(CAPACIDADE_RECENTES_PADRAO);
+    }
+
+    /** 'capacidadeRecentes' limita o n aceito por ultimos(n). */
+    public RepositorioComentarioEmMemoria(int capacidadeRecentes) {
+        if (capacidadeRecentes <= 0) throw new IllegalArgumentException("capacidadeRecentes deve ser > 0.");
+        this.recentes = new Recentes(capacidadeRecentes);
+    }
+
+    @Override
+    public void salvar(ComentarioTarefa comentario) {
+        Objects.requireNonNull(comentario, "comentario não pode ser nulo");
+        if (porId.putIfAbsent(comentario.getIdentificador(), comentario) != null) return;
+        porTarefa.computeIfAbsent(comentario.getTarefa().getIdentificador(), k -> new LinhaDoTempo())
+                .incluir(comentario);
+        recentes.incluir(comentario);
+    }
+
+    @Override
+    public Optional<ComentarioTarefa> buscarPorId(String id) {
+        return Optional.ofNullable(porId.get(Identificador.tentar(id)));
+    }
+
+    @Override
+    public List<ComentarioTarefa> listarPorTarefa(String tarefaId) {
+        LinhaDoTempo linha = porTarefa.get(Identificador.tentar(tarefaId));
+        return (linha == null) ? new ArrayList<>() : linha.ultimos(linha.tamanho);
+    }
+
+    @Override
+    public List<ComentarioTarefa> ultimosDaTarefa(String tarefaId, int n) {
+        if (n < 0) throw new IllegalArgumentException("n deve ser >= 0.");
+        LinhaDoTempo linha = porTarefa.get(Identificador.tentar(tarefaId));
+        return (linha == null) ? new ArrayList<>() : linha.ultimos(n);
+    }
+
+    @Override
+    public List<ComentarioTarefa> ultimos(int n) {
+        if (n < 0 || n > recentes.capacidade()) {
+            throw new IllegalArgumentException("n deve estar entre 0 e " + recentes.capacidade() + ".");
+        }
+        return recentes.ultimos(n);
+    }
+
+    @Override
+    public int quantidade() {
+        return porId.size();
+    }
+
+    /** Posição de inserção de 'quando' em itens[0..fim): antes dos de mesma dataHora. */
+    private static int posicao(ComentarioTarefa[] itens, int inicio, int fim, int mascara, LocalDateTime quando) {
+        int lo = 0, hi = fim;
+        while (lo < hi) {
+            int meio = (lo + hi) >>> 1;
+            if (!itens[(inicio + meio) & mascara].getDataHora().isBefore(quando)) hi = meio;
+            else lo = meio + 1;
+        }
+        return lo;
+    }
+
+    /** Copia itens[de..ate) em ordem cronológica, desfazendo a ordem invertida dos empates. */
+    private static List<ComentarioTarefa> cronologica(ComentarioTarefa[] itens, int inicio, int mascara,
+                                                      int de, int ate) {
+        List<ComentarioTarefa> r = new ArrayList<>(ate - de);
+        for (int i = de; i < ate; ) {
+            LocalDateTime quando = itens[(inicio + i) & mascara].getDataHora();
+            int fimGrupo = i + 1;
+            while (fimGrupo < ate && itens[(inicio + fimGrupo) & mascara].getDataHora().equals(quando)) fimGrupo++;
+            for (int j = fimGrupo - 1; j >= i; j--) r.add(itens[(inicio + j) & mascara]);
+            i = fimGrupo;
+        }
+        return r;
+    }
+
+    // ----------------- Linha do tempo por tarefa -----------------
+
+    private static final class LinhaDoTempo {
+        private ComentarioTarefa[] itens = new ComentarioTarefa[4];
+        private int tamanho;
+
+        void incluir(ComentarioTarefa c) {
+            if (tamanho == itens.length) itens = Arrays.copyOf(itens, tamanho * 2);
+            if (tamanho == 0 || itens[tamanho - 1].getDataHora().isBefore(c.getDataHora())) {
+                itens[tamanho++] = c;
+                return;
+            }
+            int p = posicao(itens, 0, tamanho, -1, c.getDataHora());
+            System.arraycopy(itens, p, itens, p + 1, tamanho - p);
+            itens[p] = c;
+            tamanho++;
+        }
+
+        /** Os n mais recentes, em ordem cronológica. */
+        List<ComentarioTarefa> ultimos(int n) {
+            int k = Math.min(n, tamanho);
+            return cronologica(itens, 0, -1, tamanho - k, tamanho);
+        }
+    }
+
+    // ----------------- Feed global limitado -----------------
+
+    /** Buffer circular (capacidade potência de 2) com os mais recentes em ordem cronológica. */
+    private static final class Recentes {
+        private final int limite;
+        private final ComentarioTarefa[] itens;
+        private final int mascara;
+        private int inicio;
+        private int tamanho;
+
+        Recentes(int limite) {
+            this.limite = limite;
+            int cap = Integer.highestOneBit(Math.max(1, limite - 1)) << 1;
+            this.itens = new ComentarioTarefa[cap];
+            this.mascara = cap - 1;
+        }
+
+        int capacidade() { return limite; }
+
+        void incluir(ComentarioTarefa c) {
+            LocalDateTime quando = c.getDataHora();
+            if (tamanho == limite) {
+                // cheio: não entra se não for mais novo que o mais fraco retido (empate: fica o já salvo)
+                if (!itens[inicio].getDataHora().isBefore(quando)) return;
+                itens[inicio] = null;
+                inicio = (inicio + 1) & mascara;
+                tamanho--;
+            }
+            int p = (tamanho == 0 || itens[(inicio + tamanho - 1) & mascara].getDataHora().isBefore(quando))
+                    ? tamanho
+                    : posicao(itens, inicio, tamanho, mascara, quando);
+            for (int i = tamanho; i > p; i--) {
+                itens[(inicio + i) & mascara] = itens[(inicio + i - 1) & mascara];
+            }
+            itens[(inicio + p) & mascara] = c;
+            tamanho++;
+        }
+
+        List<ComentarioTarefa> ultimos(int n) {
+            int k = Math.min(n, tamanho);
+            return cronologica(itens, inicio, mascara, tamanho - k, tamanho);
+        }
+    }
+}
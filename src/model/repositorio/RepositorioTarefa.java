@@ -0,0 +1,37 @@
+package model.repositorio;
+
+import model.dominio.Tarefa;
+import model.enums.StatusTarefa;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Contrato de persistência de Tarefas.
+ * Consultas filtradas devem custar proporcional ao resultado, não ao total.
+ */
+public interface RepositorioTarefa {
+
+    /** Inclui ou substitui (mesmo id) uma tarefa. */
+    void salvar(Tarefa tarefa);
+
+    /** Remove por id. Retorna true se removeu. */
+    boolean remover(String id);
+
+    Optional<Tarefa> buscarPorId(String id);
+
+    List<Tarefa> listarTodas();
+
+    List<Tarefa> listarPorProjeto(String projetoId);
+
+    List<Tarefa> listarPorResponsavel(String usuarioId);
+
+    List<Tarefa> listarPorStatus(StatusTarefa status);
+
+    /** Interseção projeto × status (ex.: concluídas de um projeto). */
+    List<Tarefa> listarPorProjetoEStatus(String projetoId, StatusTarefa status);
+
+    int contarPorStatus(StatusTarefa status);
+
+    int quantidade();
+}
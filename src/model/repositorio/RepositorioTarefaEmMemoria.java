@@ -0,0 +1,147 @@
+package model.repositorio;
+
+import model.dominio.ObservadorTarefa;
+import model.dominio.Tarefa;
+import model.dominio.Usuario;
+import model.enums.StatusTarefa;
+import model.vo.Identificador;
+
+import java.util.*;
+
+/**
+ * Implementação em memória de RepositorioTarefa com índices secundários:
+ *  - por projeto e por responsável: Map&lt;Identificador, Set&lt;Tarefa&gt;&gt;
+ *  - por status: EnumMap&lt;StatusTarefa, Set&lt;Tarefa&gt;&gt;
+ * Os índices acompanham as mutações da Tarefa via ObservadorTarefa,
+ * então consultas filtradas custam O(resultado).
+ * Não é thread-safe: sincronização fica a cargo da camada de serviço.
+ */
+public final class RepositorioTarefaEmMemoria implements RepositorioTarefa {
+
+    private final Map<Identificador, Tarefa> porId = new LinkedHashMap<>();
+    private final Map<Identificador, Set<Tarefa>> porProjeto = new HashMap<>();
+    private final Map<Identificador, Set<Tarefa>> porResponsavel = new HashMap<>();
+    private final EnumMap<StatusTarefa, Set<Tarefa>> porStatus = new EnumMap<>(StatusTarefa.class);
+
+    private final ObservadorTarefa observador = new ObservadorTarefa() {
+        @Override
+        public void statusAlterado(Tarefa tarefa, StatusTarefa anterior, StatusTarefa novo) {
+            if (!estaRegistrada(tarefa)) return;
+            porStatus.get(anterior).remove(tarefa);
+            porStatus.get(novo).add(tarefa);
+        }
+
+        @Override
+        public void responsavelAlterado(Tarefa tarefa, Usuario anterior) {
+            if (!estaRegistrada(tarefa)) return;
+            if (anterior != null) desindexar(porResponsavel, anterior.getIdentificador(), tarefa);
+            if (tarefa.getResponsavel() != null) indexar(porResponsavel, tarefa.getResponsavel().getIdentificador(), tarefa);
+        }
+    };
+
+    public RepositorioTarefaEmMemoria() {
+        for (StatusTarefa s : StatusTarefa.values()) porStatus.put(s, new LinkedHashSet<>());
+    }
+
+    @Override
+    public void salvar(Tarefa tarefa) {
+        Objects.requireNonNull(tarefa, "tarefa não pode ser nula");
+        Tarefa atual = porId.get(tarefa.getIdentificador());
+        if (atual == tarefa) return;
+        if (atual != null) remover(atual);
+
+        porId.put(tarefa.getIdentificador(), tarefa);
+        indexar(porProjeto, tarefa.getProjeto().getIdentificador(), tarefa);
+        if (tarefa.getResponsavel() != null) indexar(porResponsavel, tarefa.getResponsavel().getIdentificador(), tarefa);
+        porStatus.get(tarefa.getStatus()).add(tarefa);
+        tarefa.adicionarObservador(observador);
+    }
+
+    @Override
+    public boolean remover(String id) {
+        Tarefa tarefa = porId.get(Identificador.tentar(id));
+        if (tarefa == null) return false;
+        remover(tarefa);
+        return true;
+    }
+
+    private void remover(Tarefa tarefa) {
+        porId.remove(tarefa.getIdentificador());
+        tarefa.removerObservador(observador);
+        desindexar(porProjeto, tarefa.getProjeto().getIdentificador(), tarefa);
+        if (tarefa.getResponsavel() != null) desindexar(porResponsavel, tarefa.getResponsavel().getIdentificador(), tarefa);
+        porStatus.get(tarefa.getStatus()).remove(tarefa);
+    }
+
+    @Override
+    public Optional<Tarefa> buscarPorId(String id) {
+        return Optional.ofNullable(porId.get(Identificador.tentar(id)));
+    }
+
+    @Override
+    public List<Tarefa> listarTodas() {
+        return new ArrayList<>(porId.values());
+    }
+
+    @Override
+    public List<Tarefa> listarPorProjeto(String projetoId) {
+        return copia(porProjeto.get(Identificador.tentar(projetoId)));
+    }
+
+    @Override
+    public List<Tarefa> listarPorResponsavel(String usuarioId) {
+        return copia(porResponsavel.get(Identificador.tentar(usuarioId)));
+    }
+
+    @Override
+    public List<Tarefa> listarPorStatus(StatusTarefa status) {
+        Objects.requireNonNull(status, "status não pode ser nulo");
+        return copia(porStatus.get(status));
+    }
+
+    @Override
+    public List<Tarefa> listarPorProjetoEStatus(String projetoId, StatusTarefa status) {
+        Objects.requireNonNull(status, "status não pode ser nulo");
+        Set<Tarefa> doProjeto = porProjeto.get(Identificador.tentar(projetoId));
+        if (doProjeto == null) return new ArrayList<>();
+        Set<Tarefa> doStatus = porStatus.get(status);
+        // percorre o menor conjunto e testa no maior
+        Set<Tarefa> menor = doProjeto.size() <= doStatus.size() ? doProjeto : doStatus;
+        Set<Tarefa> maior = (menor == doProjeto) ? doStatus : doProjeto;
+        List<Tarefa> resultado = new ArrayList<>();
+        for (Tarefa t : menor) if (maior.contains(t)) resultado.add(t);
+        return resultado;
+    }
+
+    @Override
+    public int contarPorStatus(StatusTarefa status) {
+        Objects.requireNonNull(status, "status não pode ser nulo");
+        return porStatus.get(status).size();
+    }
+
+    @Override
+    public int quantidade() {
+        return porId.size();
+    }
+
+    // ----------------- Índices -----------------
+
+    private boolean estaRegistrada(Tarefa tarefa) {
+        return porId.get(tarefa.getIdentificador()) == tarefa;
+    }
+
+    private static void indexar(Map<Identificador, Set<Tarefa>> indice, Identificador chave, Tarefa tarefa) {
+        indice.computeIfAbsent(chave, k -> new LinkedHashSet<>()).add(tarefa);
+    }
+
+    private static void desindexar(Map<Identificador, Set<Tarefa>> indice, Identificador chave, Tarefa tarefa) {
+        Set<Tarefa> conjunto = indice.get(chave);
+        if (conjunto == null) return;
+        conjunto.remove(tarefa);
+        if (conjunto.isEmpty()) indice.remove(chave);
+    }
+
+    private static List<Tarefa> copia(Set<Tarefa> conjunto) {
+        return (conjunto == null) ? new ArrayList<>() : new ArrayList<>(conjunto);
+    }
+}
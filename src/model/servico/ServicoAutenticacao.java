@@ -0,0 +1,134 @@
+package model.servico;
+
+import model.dominio.Usuario;
+import model.util.HashSenha;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Autenticação por login/senha com sessões por token.
+ *
+ * - Índice login → Usuario (ConcurrentHashMap): o login não varre usuários.
+ * - A senha só é "hasheada" no login (HashSenha: digest por thread, hex por
+ *   tabela). Depois disso, validar(token) é uma busca O(1) no mapa de sessões.
+ * - Sessões vencem após o TTL. Como o TTL é fixo, a fila de emissão já está
+ *   em ordem de vencimento: cada login descarta as vencidas do início da
+ *   fila, em O(1) amortizado, sem varredura periódica.
+ * - Trocar a senha invalida as sessões abertas do usuário.
+ *
+ * Thread-safe.
+ */
+public final class ServicoAutenticacao {
+
+    private static final int BYTES_TOKEN = 32;
+    private static final Base64.Encoder BASE64 = Base64.getUrlEncoder().withoutPadding();
+
+    private final ConcurrentHashMap<String, Usuario> porLogin = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Sessao> sessoes = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Sessao> porVencimento = new ConcurrentLinkedQueue<>();
+    private final SecureRandom aleatorio = new SecureRandom();
+    private final long ttlMillis;
+    private final Clock relogio;
+
+    private ServicoAutenticacao(Duration ttl, Clock relogio) {
+        this.ttlMillis = ttl.toMillis();
+        this.relogio = relogio;
+    }
+
+    public static ServicoAutenticacao criar(Duration ttl) {
+        return criar(ttl, Clock.systemUTC());
+    }
+
+    public static ServicoAutenticacao criar(Duration ttl, Clock relogio) {
+        Objects.requireNonNull(ttl, "ttl não pode ser nulo");
+        Objects.requireNonNull(relogio, "relogio não pode ser nulo");
+        if (ttl.isNegative() || ttl.isZero()) throw new IllegalArgumentException("TTL deve ser positivo.");
+        return new ServicoAutenticacao(ttl, relogio);
+    }
+
+    // ----------------- Usuários -----------------
+
+    /** Torna o usuário apto a autenticar. Login deve ser único. */
+    public void registrar(Usuario usuario) {
+        Objects.requireNonNull(usuario, "usuario não pode ser nulo");
+        Usuario atual = porLogin.putIfAbsent(chave(usuario.getLogin()), usuario);
+        if (atual != null && atual != usuario) {
+            throw new IllegalStateException("Login já cadastrado: " + usuario.getLogin());
+        }
+    }
+
+    /** Remove o usuário do índice; sessões dele deixam de validar. */
+    public boolean desregistrar(Usuario usuario) {
+        Objects.requireNonNull(usuario, "usuario não pode ser nulo");
+        return porLogin.remove(chave(usuario.getLogin()), usuario);
+    }
+
+    public Optional<Usuario> buscarPorLogin(String login) {
+        return (login == null) ? Optional.empty() : Optional.ofNullable(porLogin.get(chave(login)));
+    }
+
+    // ----------------- Sessões -----------------
+
+    /** Confere login e senha; se corretos, abre uma sessão. */
+    public Optional<Sessao> autenticar(String login, String senhaClara) {
+        descartarVencidas();
+        if (login == null || senhaClara == null) return Optional.empty();
+        Usuario u = porLogin.get(chave(login));
+        if (u == null) return Optional.empty();
+        String hash = u.getSenhaHash();
+        if (!HashSenha.confere(hash, u.getLogin(), senhaClara)) return Optional.empty();
+
+        Sessao s = new Sessao(novoToken(), u, hash, relogio.millis() + ttlMillis);
+        sessoes.put(s.getToken(), s);
+        porVencimento.add(s);
+        return Optional.of(s);
+    }
+
+    /** Usuário dono do token, se a sessão ainda for válida. */
+    public Optional<Usuario> validar(String token) {
+        if (token == null) return Optional.empty();
+        Sessao s = sessoes.get(token);
+        if (s == null) return Optional.empty();
+        if (!s.valida(relogio.millis()) || porLogin.get(chave(s.getUsuario().getLogin())) != s.getUsuario()) {
+            sessoes.remove(token, s);
+            return Optional.empty();
+        }
+        return Optional.of(s.getUsuario());
+    }
+
+    /** Encerra a sessão (logout). Retorna true se ela existia. */
+    public boolean encerrar(String token) {
+        return token != null && sessoes.remove(token) != null;
+    }
+
+    public int quantidadeSessoes() {
+        return sessoes.size();
+    }
+
+    // ----------------- Internos -----------------
+
+    private void descartarVencidas() {
+        long agora = relogio.millis();
+        Sessao s;
+        while ((s = porVencimento.peek()) != null && s.expiraEmMillis() <= agora) {
+            if (porVencimento.remove(s)) sessoes.remove(s.getToken(), s);
+        }
+    }
+
+    private String novoToken() {
+        byte[] b = new byte[BYTES_TOKEN];
+        aleatorio.nextBytes(b);
+        return BASE64.encodeToString(b);
+    }
+
+    private static String chave(String login) {
+        return login.trim();
+    }
+}
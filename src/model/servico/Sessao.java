@@ -0,0 +1,43 @@
+package model.servico;
+
+import model.dominio.Usuario;
+
+import java.time.Instant;
+
+/**
+ * Sessão autenticada emitida por ServicoAutenticacao.
+ * Imutável; o token é opaco (256 bits aleatórios em Base64 URL-safe).
+ */
+public final class Sessao {
+
+    private final String token;
+    private final Usuario usuario;
+    private final String senhaHashNoLogin; // troca de senha invalida a sessão
+    private final long expiraEmMillis;
+
+    Sessao(String token, Usuario usuario, String senhaHashNoLogin, long expiraEmMillis) {
+        this.token = token;
+        this.usuario = usuario;
+        this.senhaHashNoLogin = senhaHashNoLogin;
+        this.expiraEmMillis = expiraEmMillis;
+    }
+
+    public String getToken() { return token; }
+    public Usuario getUsuario() { return usuario; }
+    public Instant getExpiraEm() { return Instant.ofEpochMilli(expiraEmMillis); }
+
+    long expiraEmMillis() { return expiraEmMillis; }
+
+    /** Válida se não expirou e a senha do usuário não mudou desde o login. */
+    boolean valida(long agoraMillis) {
+        return agoraMillis < expiraEmMillis && senhaHashNoLogin.equals(usuario.getSenhaHash());
+    }
+
+    @Override
+    public String toString() {
+        return "Sessao{" +
+                "usuario=" + usuario.getLogin() +
+                ", expiraEm=" + getExpiraEm() +
+                '}';
+    }
+}
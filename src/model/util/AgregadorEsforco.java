@@ -0,0 +1,214 @@
+package model.util;
+
+import model.dominio.RegistroEsforco;
+import model.dominio.Tarefa;
+import model.dominio.Usuario;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Motor de agregação de RegistroEsforco em passada única.
+ * Calcula, de uma vez: total, horas por usuário, por tarefa, por dia e por
+ * semana (segunda-feira como início), opcionalmente restrito a um período.
+ * Acumula em arrays de int indexados por ids densos (DicionarioDenso), sem
+ * boxing nem ordenação; mapas só são montados quando pedidos. Os dias
+ * ocupam um array contíguo de no máximo MAX_DIAS_DENSOS posições; datas
+ * fora dessa janela (ex.: ano 1 ou 9999 digitados por engano) vão para um
+ * mapa esparso em vez de alargar o array.
+ * Não é thread-safe.
+ */
+public final class AgregadorEsforco {
+
+    /** Maior janela contígua de dias (~179 anos, 256 KiB de int). */
+    static final int MAX_DIAS_DENSOS = 1 << 16;
+
+    private final DicionarioDenso<Usuario> usuarios;
+    private final DicionarioDenso<Tarefa> tarefas;
+    private final long inicioDia; // inclusive
+    private final long fimDia;    // inclusive
+
+    private int[] horasUsuario = new int[16];
+    private int[] horasTarefa = new int[16];
+    private long total;
+    private int registros;
+
+    private int[] horasDia = new int[0]; // deslocado por baseDia
+    private long baseDia;
+    private final TreeMap<Long, Integer> diasForaDaJanela = new TreeMap<>();
+
+    /** Agregador sem filtro de período. */
+    public AgregadorEsforco() {
+        this(null, null);
+    }
+
+    /** Agregador restrito a [inicio, fim] (inclusive); qualquer um pode ser null (aberto). */
+    public AgregadorEsforco(LocalDate inicio, LocalDate fim) {
+        this(inicio, fim, new DicionarioDenso<>(), new DicionarioDenso<>());
+    }
+
+    /**
+     * Agregador que reaproveita dicionários externos (ex.: armazenamento colunar),
+     * permitindo acumular direto por ids densos já conhecidos.
+     */
+    public AgregadorEsforco(LocalDate inicio, LocalDate fim,
+                            DicionarioDenso<Usuario> usuarios, DicionarioDenso<Tarefa> tarefas) {
+        this.usuarios = Objects.requireNonNull(usuarios, "usuarios não pode ser nulo");
+        this.tarefas = Objects.requireNonNull(tarefas, "tarefas não pode ser nulo");
+        this.inicioDia = (inicio == null) ? Long.MIN_VALUE : inicio.toEpochDay();
+        this.fimDia = (fim == null) ? Long.MAX_VALUE : fim.toEpochDay();
+        if (inicio != null && fim != null && fimDia >= inicioDia && fimDia - inicioDia < 366 * 10) {
+            this.baseDia = inicioDia;
+            this.horasDia = new int[(int) (fimDia - inicioDia + 1)];
+        }
+    }
+
+    /** Atalho: agrega uma coleção inteira em uma passada. */
+    public static AgregadorEsforco agregar(Iterable<RegistroEsforco> regs, LocalDate inicio, LocalDate fim) {
+        AgregadorEsforco a = new AgregadorEsforco(inicio, fim);
+        if (regs != null) for (RegistroEsforco r : regs) a.acumular(r);
+        return a;
+    }
+
+    // ----------------- Acumulação -----------------
+
+    public void acumular(RegistroEsforco r) {
+        long dia = r.getData().toEpochDay();
+        if (dia < inicioDia || dia > fimDia) return;
+        acumularFiltrado(usuarios.indice(r.getUsuario()), tarefas.indice(r.getTarefa()), dia, r.getHoras());
+    }
+
+    /** Acumula por ids densos dos dicionários informados no construtor (aplica o filtro de período). */
+    public void acumular(int usuario, int tarefa, long epochDay, int horas) {
+        if (epochDay < inicioDia || epochDay > fimDia) return;
+        acumularFiltrado(usuario, tarefa, epochDay, horas);
+    }
+
+    private void acumularFiltrado(int usuario, int tarefa, long dia, int horas) {
+        if (usuario >= horasUsuario.length) horasUsuario = crescer(horasUsuario, usuario);
+        if (tarefa >= horasTarefa.length) horasTarefa = crescer(horasTarefa, tarefa);
+        horasUsuario[usuario] += horas;
+        horasTarefa[tarefa] += horas;
+        int p = posicaoDia(dia); // pode realocar horasDia
+        if (p >= 0) horasDia[p] += horas;
+        else diasForaDaJanela.merge(dia, horas, Integer::sum);
+        total += horas;
+        registros++;
+    }
+
+    // ----------------- Consultas -----------------
+
+    public long total() { return total; }
+
+    public int quantidadeRegistros() { return registros; }
+
+    public int horasDoUsuario(Usuario u) {
+        int i = usuarios.buscar(u);
+        return (i < 0 || i >= horasUsuario.length) ? 0 : horasUsuario[i];
+    }
+
+    public int horasDaTarefa(Tarefa t) {
+        int i = tarefas.buscar(t);
+        return (i < 0 || i >= horasTarefa.length) ? 0 : horasTarefa[i];
+    }
+
+    public int horasNoDia(LocalDate dia) {
+        return horasNoDia(dia.toEpochDay());
+    }
+
+    /** Horas da semana (segunda a domingo) que contém o dia informado. */
+    public int horasNaSemana(LocalDate qualquerDia) {
+        long segunda = segunda(qualquerDia.toEpochDay());
+        int soma = 0;
+        for (long d = segunda; d < segunda + 7; d++) soma += horasNoDia(d);
+        return soma;
+    }
+
+    /** Mesmo resultado de RegistroEsforcoUtil.horasPorUsuario (restrito ao período). */
+    public Map<Usuario, Integer> horasPorUsuario() {
+        return paraMapa(usuarios, horasUsuario);
+    }
+
+    /** Mesmo resultado de RegistroEsforcoUtil.horasPorTarefa (restrito ao período). */
+    public Map<Tarefa, Integer> horasPorTarefa() {
+        return paraMapa(tarefas, horasTarefa);
+    }
+
+    /** Horas por dia (apenas dias com lançamento), em ordem cronológica. */
+    public SortedMap<LocalDate, Integer> horasPorDia() {
+        SortedMap<LocalDate, Integer> m = new TreeMap<>();
+        for (int i = 0; i < horasDia.length; i++) {
+            if (horasDia[i] != 0) m.put(LocalDate.ofEpochDay(baseDia + i), horasDia[i]);
+        }
+        diasForaDaJanela.forEach((d, h) -> m.put(LocalDate.ofEpochDay(d), h));
+        return m;
+    }
+
+    /** Horas por semana, chaveadas pela segunda-feira, em ordem cronológica. */
+    public SortedMap<LocalDate, Integer> horasPorSemana() {
+        SortedMap<LocalDate, Integer> m = new TreeMap<>();
+        long semanaAtual = Long.MIN_VALUE;
+        int soma = 0;
+        for (int i = 0; i < horasDia.length; i++) {
+            if (horasDia[i] == 0) continue;
+            long s = segunda(baseDia + i);
+            if (s != semanaAtual) {
+                if (soma != 0) m.put(LocalDate.ofEpochDay(semanaAtual), soma);
+                semanaAtual = s;
+                soma = 0;
+            }
+            soma += horasDia[i];
+        }
+        if (soma != 0) m.put(LocalDate.ofEpochDay(semanaAtual), soma);
+        diasForaDaJanela.forEach((d, h) -> m.merge(LocalDate.ofEpochDay(segunda(d)), h, Integer::sum));
+        return m;
+    }
+
+    // ----------------- Internos -----------------
+
+    private int horasNoDia(long dia) {
+        long p = dia - baseDia;
+        if (p >= 0 && p < horasDia.length) return horasDia[(int) p];
+        return diasForaDaJanela.isEmpty() ? 0 : diasForaDaJanela.getOrDefault(dia, 0);
+    }
+
+    /**
+     * Posição do dia no array, expandindo para a esquerda/direita quando
+     * necessário; -1 se incluí-lo faria a janela passar de MAX_DIAS_DENSOS.
+     */
+    private int posicaoDia(long dia) {
+        if (horasDia.length == 0) {
+            baseDia = dia;
+            horasDia = new int[64];
+        }
+        long p = dia - baseDia;
+        if (p < 0) {
+            if (horasDia.length - p > MAX_DIAS_DENSOS) return -1;
+            int extra = (int) Math.min(Math.max(-p, horasDia.length), MAX_DIAS_DENSOS - horasDia.length);
+            int[] novo = new int[horasDia.length + extra];
+            System.arraycopy(horasDia, 0, novo, extra, horasDia.length);
+            horasDia = novo;
+            baseDia -= extra;
+            p += extra;
+        } else if (p >= horasDia.length) {
+            if (p >= MAX_DIAS_DENSOS) return -1;
+            horasDia = Arrays.copyOf(horasDia, (int) Math.min(Math.max(p + 1, horasDia.length * 2L), MAX_DIAS_DENSOS));
+        }
+        return (int) p;
+    }
+
+    private static long segunda(long epochDay) {
+        return epochDay - Math.floorMod(epochDay + 3, 7); // 1970-01-01 foi quinta-feira
+    }
+
+    private static int[] crescer(int[] a, int indice) {
+        return Arrays.copyOf(a, Math.max(indice + 1, a.length * 2));
+    }
+
+    private static <T> Map<T, Integer> paraMapa(DicionarioDenso<T> dic, int[] horas) {
+        Map<T, Integer> m = new HashMap<>();
+        int n = Math.min(dic.tamanho(), horas.length);
+        for (int i = 0; i < n; i++) if (horas[i] != 0) m.put(dic.valor(i), horas[i]);
+        return m;
+    }
+}
@@ -4,6 +4,8 @@ import model.dominio.ComentarioTarefa;
 import model.dominio.Tarefa;
 import model.dominio.Usuario;
 
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -11,6 +13,7 @@ import java.util.stream.Collectors;
 /**
  * Utilitários para operar coleções de ComentarioTarefa.
  * Inclui criação rápida, filtros, ordenação e exportação CSV.
+ * Para volumes grandes, use escreverCSV (fluxo) em vez de toCSV (String única).
  */
 public final class ComentarioTarefaUtil {
     private ComentarioTarefaUtil() {}
@@ -56,7 +59,7 @@ public final class ComentarioTarefaUtil {
                 .collect(Collectors.toList());
     }
 
-    /** Retorna os N comentários mais recentes. */
+    /** Retorna os N comentários mais recentes. Ordena a coleção: para feeds, use RepositorioComentario.ultimos. */
     public static List<ComentarioTarefa> ultimosN(Collection<ComentarioTarefa> comentarios, int n) {
         if (comentarios == null || n <= 0) return Collections.emptyList();
         return comentarios.stream()
@@ -66,9 +69,11 @@ public final class ComentarioTarefaUtil {
                 .collect(Collectors.toList());
     }
 
-    /** Exporta para CSV (header + linhas). */
+    private static final String HEADER_CSV = "id;dataHora;autor;task;mensagem";
+
+    /** Exporta para CSV (header + linhas). Indicado para coleções pequenas. */
     public static String toCSV(Collection<ComentarioTarefa> comentarios) {
-        String header = "id;dataHora;autor;task;mensagem";
+        String header = HEADER_CSV;
         if (comentarios == null || comentarios.isEmpty()) return header;
         return header + comentarios.stream().map(c -> String.join(";",
                 c.getId(),
@@ -79,5 +84,30 @@ public final class ComentarioTarefaUtil {
         )).collect(Collectors.joining("\n", "\n", ""));
     }
 
+    /**
+     * Exporta para CSV em fluxo (mesmo conteúdo de toCSV), linha a linha,
+     * sem montar o arquivo inteiro em memória.
+     */
+    public static void escreverCSV(Iterable<ComentarioTarefa> comentarios, Appendable destino) throws IOException {
+        Objects.requireNonNull(destino, "destino não pode ser nulo");
+        destino.append(HEADER_CSV);
+        if (comentarios == null) return;
+        for (ComentarioTarefa c : comentarios) {
+            destino.append('\n').append(c.getId()).append(';');
+            destino.append(c.getDataHora().toString()).append(';');
+            EscritaCSV.texto(destino, c.getAutor().getLogin(), false, false);
+            destino.append(';');
+            EscritaCSV.texto(destino, c.getTarefa().getTitulo(), false, false);
+            destino.append(';');
+            EscritaCSV.texto(destino, c.getMensagem(), true, true);
+        }
+    }
+
+    /** Exporta para CSV em um canal (UTF-8, buffer reutilizado), opcionalmente em gzip. Não fecha o canal. */
+    public static void escreverCSV(Iterable<ComentarioTarefa> comentarios, WritableByteChannel canal, boolean gzip) throws IOException {
+        Objects.requireNonNull(canal, "canal não pode ser nulo");
+        EscritaCSV.paraCanal(canal, gzip, destino -> escreverCSV(comentarios, destino));
+    }
+
     private static String safe(String v) { return v == null ? "" : v; }
 }
@@ -0,0 +1,90 @@
+package model.util;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Dicionário que atribui índices densos (0, 1, 2, ...) a valores distintos,
+ * na ordem da primeira ocorrência. Usa endereçamento aberto sobre arrays
+ * primitivos: buscar/incluir não criam objetos (sem boxing de Integer).
+ * Igualdade por equals/hashCode. Não é thread-safe.
+ */
+public final class DicionarioDenso<T> {
+
+    private static final int VAZIO = -1;
+
+    private int[] tabela;      // slot → índice denso (VAZIO se livre)
+    private Object[] valores;  // índice denso → valor
+    private int tamanho;
+
+    public DicionarioDenso() {
+        this(16);
+    }
+
+    public DicionarioDenso(int capacidadeInicial) {
+        int cap = Integer.highestOneBit(Math.max(4, capacidadeInicial * 2 - 1)) << 1;
+        this.tabela = new int[cap];
+        Arrays.fill(tabela, VAZIO);
+        this.valores = new Object[Math.max(4, capacidadeInicial)];
+    }
+
+    /** Índice do valor, incluindo-o se ainda não existir. */
+    public int indice(T valor) {
+        Objects.requireNonNull(valor, "valor não pode ser nulo");
+        int mascara = tabela.length - 1;
+        int slot = espalhar(valor.hashCode()) & mascara;
+        while (true) {
+            int idx = tabela[slot];
+            if (idx == VAZIO) break;
+            if (valores[idx].equals(valor)) return idx;
+            slot = (slot + 1) & mascara;
+        }
+        int novo = tamanho++;
+        if (novo == valores.length) valores = Arrays.copyOf(valores, novo * 2);
+        valores[novo] = valor;
+        tabela[slot] = novo;
+        if (tamanho * 2 > tabela.length) redimensionar();
+        return novo;
+    }
+
+    /** Índice do valor ou -1 se ausente (não inclui). */
+    public int buscar(Object valor) {
+        if (valor == null) return -1;
+        int mascara = tabela.length - 1;
+        int slot = espalhar(valor.hashCode()) & mascara;
+        while (true) {
+            int idx = tabela[slot];
+            if (idx == VAZIO) return -1;
+            if (valores[idx].equals(valor)) return idx;
+            slot = (slot + 1) & mascara;
+        }
+    }
+
+    /** Valor associado ao índice denso. */
+    @SuppressWarnings("unchecked")
+    public T valor(int indice) {
+        Objects.checkIndex(indice, tamanho);
+        return (T) valores[indice];
+    }
+
+    /** Quantidade de valores distintos. */
+    public int tamanho() {
+        return tamanho;
+    }
+
+    private void redimensionar() {
+        int[] nova = new int[tabela.length * 2];
+        Arrays.fill(nova, VAZIO);
+        int mascara = nova.length - 1;
+        for (int i = 0; i < tamanho; i++) {
+            int slot = espalhar(valores[i].hashCode()) & mascara;
+            while (nova[slot] != VAZIO) slot = (slot + 1) & mascara;
+            nova[slot] = i;
+        }
+        this.tabela = nova;
+    }
+
+    private static int espalhar(int h) {
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,79 @@
+package model.util;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Primitivas de escrita CSV em fluxo, compartilhadas pelos utilitários de exportação.
+ * Escrevem campo a campo direto no destino (sem montar a linha em String).
+ */
+final class EscritaCSV {
+    private EscritaCSV() {}
+
+    /** Tamanho do buffer reutilizado na escrita em canal. */
+    static final int TAMANHO_BUFFER = 64 * 1024;
+
+    /** Corpo da exportação: recebe o destino já bufferizado. */
+    @FunctionalInterface
+    interface Corpo {
+        void escrever(Appendable destino) throws IOException;
+    }
+
+    /**
+     * Escreve em um canal (UTF-8), opcionalmente com gzip.
+     * O canal não é fechado: quem abriu é quem fecha.
+     */
+    static void paraCanal(WritableByteChannel canal, boolean gzip, Corpo corpo) throws IOException {
+        OutputStream base = new FilterOutputStream(Channels.newOutputStream(canal)) {
+            @Override public void write(byte[] b, int off, int len) throws IOException { out.write(b, off, len); }
+            @Override public void close() throws IOException { flush(); } // preserva o canal
+        };
+        OutputStream saida = gzip ? new GZIPOutputStream(base, TAMANHO_BUFFER) : base;
+        try (Writer w = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8), TAMANHO_BUFFER)) {
+            corpo.escrever(w);
+        }
+    }
+
+    /** Campo texto: null vira vazio; ';' vira ',' e, se pedido, quebra de linha vira espaço. */
+    static void texto(Appendable out, String v, boolean sanitizar, boolean trocarQuebraLinha) throws IOException {
+        if (v == null) return;
+        if (!sanitizar) { out.append(v); return; }
+        for (int i = 0, n = v.length(); i < n; i++) {
+            char c = v.charAt(i);
+            if (c == ';') c = ',';
+            else if (c == '\n' && trocarQuebraLinha) c = ' ';
+            out.append(c);
+        }
+    }
+
+    /** Inteiro decimal sem alocar String. */
+    static void inteiro(Appendable out, int v) throws IOException {
+        if (v < 0) {
+            if (v == Integer.MIN_VALUE) { out.append(Integer.toString(v)); return; }
+            out.append('-');
+            v = -v;
+        }
+        int div = 1;
+        while (v / div >= 10) div *= 10;
+        for (; div > 0; div /= 10) out.append((char) ('0' + (v / div) % 10));
+    }
+
+    /** Data no formato ISO (mesma saída de LocalDate.toString()). */
+    static void data(Appendable out, LocalDate d) throws IOException {
+        int ano = d.getYear();
+        if (ano < 1000 || ano > 9999) { out.append(d.toString()); return; }
+        inteiro(out, ano);
+        out.append('-');
+        doisDigitos(out, d.getMonthValue());
+        out.append('-');
+        doisDigitos(out, d.getDayOfMonth());
+    }
+
+    private static void doisDigitos(Appendable out, int v) throws IOException {
+        out.append((char) ('0' + v / 10)).append((char) ('0' + v % 10));
+    }
+}
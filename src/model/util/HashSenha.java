@@ -0,0 +1,55 @@
+package model.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Hash de senha SHA-256 de "login:senha" em hexadecimal minúsculo.
+ * Didático: o login serve de "sal" simples. Não use em produção.
+ *
+ * Reaproveita um MessageDigest por thread (getInstance custa mais que o
+ * próprio hash de uma senha curta) e converte para hex por tabela, sem
+ * String.format por byte. O resultado é idêntico ao do cálculo original.
+ */
+public final class HashSenha {
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Falha ao calcular hash de senha.", e);
+        }
+    });
+
+    private HashSenha() {}
+
+    /** Hash hexadecimal (64 caracteres) de login + senha. */
+    public static String calcular(String login, String senhaClara) {
+        return new String(hex(digerir(login, senhaClara)), StandardCharsets.US_ASCII);
+    }
+
+    /** Compara em tempo constante o hash esperado com o de login + senha. */
+    public static boolean confere(String hashEsperado, String login, String senhaClara) {
+        if (hashEsperado == null) return false;
+        byte[] calculado = hex(digerir(login, senhaClara));
+        return MessageDigest.isEqual(hashEsperado.getBytes(StandardCharsets.US_ASCII), calculado);
+    }
+
+    private static byte[] digerir(String login, String senhaClara) {
+        MessageDigest md = SHA256.get();
+        md.reset();
+        return md.digest((login + ":" + senhaClara).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] hex(byte[] bytes) {
+        byte[] r = new byte[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            r[2 * i] = HEX[(bytes[i] >>> 4) & 0xF];
+            r[2 * i + 1] = HEX[bytes[i] & 0xF];
+        }
+        return r;
+    }
+}
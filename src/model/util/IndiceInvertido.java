@@ -0,0 +1,401 @@
+package model.util;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Índice invertido em memória com busca ranqueada (BM25).
+ *
+ * - Termos vêm do Tokenizador (minúsculas, sem acentos, sem palavras vazias).
+ * - Cada termo guarda sua lista de postagens comprimida num byte[]:
+ *   (delta do docId, frequência) em varint, com um ponto de salto a cada
+ *   BLOCO entradas. docIds são atribuídos em ordem crescente, então as
+ *   listas só crescem no fim.
+ * - remover/atualizar marcam o docId antigo como removido (lápide) e, no
+ *   caso de atualizar, indexam o texto novo com um docId novo. A lápide já
+ *   sai da contagem de documentos (df) de cada termo do item, então o idf
+ *   é exato; termo sem documento vivo sai do índice. Quando as lápides
+ *   passam das entradas vivas, as postagens são recompactadas a partir do
+ *   texto atual dos itens.
+ * - buscar percorre as listas dos termos da consulta em paralelo
+ *   (documento a documento) mantendo só os 'limite' melhores num heap, com
+ *   MaxScore: cada termo tem um teto de pontuação (maior frequência, menor
+ *   texto); quando o heap enche, as listas cujos tetos somados não alcançam
+ *   o pior dos melhores deixam de propor candidatos e só são consultadas,
+ *   com saltos, para os documentos propostos pelas demais.
+ *
+ * Os itens são identificados por equals/hashCode. Thread-safe: buscas
+ * concorrentes entre si, escritas exclusivas.
+ */
+public final class IndiceInvertido<T> {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int MIN_LAPIDES_COMPACTAR = 1024;
+    /** Entradas entre pontos de salto nas postagens. */
+    private static final int BLOCO = 64;
+    /** Folga nos tetos contra arredondamento: somas em outra ordem não podem superá-los. */
+    private static final double FOLGA_TETO = 1 + 1e-9;
+
+    private final Function<T, String> texto;
+    private final ReentrantReadWriteLock trava = new ReentrantReadWriteLock();
+
+    private Map<String, Postagens> termos = new HashMap<>();
+    private Map<T, Integer> docPorItem = new HashMap<>();
+    private Object[] itens = new Object[64];
+    private int[] comprimentos = new int[64];
+    private Postagens[][] postagensDoDoc = new Postagens[64][]; // para descontar o df ao remover
+    private BitSet removidos = new BitSet();
+    private int proximoDoc;
+    private int lapides;
+    private long termosVivos;
+
+    /** 'texto' extrai o conteúdo indexável do item (relido em atualizar e na recompactação). */
+    public IndiceInvertido(Function<T, String> texto) {
+        this.texto = Objects.requireNonNull(texto, "texto não pode ser nulo");
+    }
+
+    // ----------------- Escrita -----------------
+
+    /** Indexa o item; se já indexado, equivale a atualizar. */
+    public void incluir(T item) {
+        Objects.requireNonNull(item, "item não pode ser nulo");
+        trava.writeLock().lock();
+        try {
+            removerInterno(item);
+            indexar(item);
+            compactarSeNecessario();
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    /** Reindexa o item com o texto atual. */
+    public void atualizar(T item) {
+        incluir(item);
+    }
+
+    /** Retira o item do índice. Retorna true se estava indexado. */
+    public boolean remover(T item) {
+        if (item == null) return false;
+        trava.writeLock().lock();
+        try {
+            boolean removeu = removerInterno(item);
+            if (removeu) compactarSeNecessario();
+            return removeu;
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    // ----------------- Consulta -----------------
+
+    /**
+     * Até 'limite' itens que contêm algum termo da consulta, do mais para o
+     * menos relevante. Itens com mais termos da consulta, termos mais raros e
+     * textos mais curtos pontuam mais.
+     */
+    public List<ResultadoBusca<T>> buscar(String consulta, int limite) {
+        if (limite <= 0) throw new IllegalArgumentException("limite deve ser > 0.");
+        Set<String> unicos = new LinkedHashSet<>(Tokenizador.termos(consulta));
+        if (unicos.isEmpty()) return new ArrayList<>();
+
+        trava.readLock().lock();
+        try {
+            int vivos = docPorItem.size();
+            if (vivos == 0) return new ArrayList<>();
+            double mediaComprimento = Math.max(1.0, termosVivos / (double) vivos);
+
+            List<Cursor> lista = new ArrayList<>(unicos.size());
+            for (String t : unicos) {
+                Postagens p = termos.get(t);
+                if (p == null) continue;
+                double idf = Math.log(1.0 + (vivos - p.documentos + 0.5) / (p.documentos + 0.5));
+                lista.add(new Cursor(p, Math.max(idf, 1e-6), mediaComprimento));
+            }
+            // do menor teto ao maior; tetoAte[i] = soma dos tetos de 0..i
+            Cursor[] cursores = lista.toArray(new Cursor[0]);
+            Arrays.sort(cursores, Comparator.comparingDouble(c -> c.teto));
+            double[] tetoAte = new double[cursores.length];
+            for (int i = 0; i < cursores.length; i++) {
+                tetoAte[i] = (i == 0 ? 0 : tetoAte[i - 1]) + cursores[i].teto;
+            }
+
+            PriorityQueue<double[]> melhores = new PriorityQueue<>(limite + 1, Comparator.comparingDouble(a -> a[0]));
+            double piorDosMelhores = -1; // pontuações são > 0: enquanto o heap não enche, nada é podado
+            int essenciais = 0;          // cursores[essenciais..] propõem candidatos; os anteriores só completam
+            while (essenciais < cursores.length) {
+                int doc = Integer.MAX_VALUE;
+                for (int i = essenciais; i < cursores.length; i++) doc = Math.min(doc, cursores[i].doc);
+                if (doc == Integer.MAX_VALUE) break;
+
+                if (removidos.get(doc)) {
+                    for (int i = essenciais; i < cursores.length; i++) {
+                        if (cursores[i].doc == doc) cursores[i].avancar();
+                    }
+                    continue;
+                }
+                double pontos = 0;
+                double normal = K1 * (1 - B + B * comprimentos[doc] / mediaComprimento);
+                for (int i = essenciais; i < cursores.length; i++) {
+                    Cursor c = cursores[i];
+                    if (c.doc != doc) continue;
+                    pontos += c.pontuar(normal);
+                    c.avancar();
+                }
+                for (int i = essenciais - 1; i >= 0 && pontos + tetoAte[i] > piorDosMelhores; i--) {
+                    Cursor c = cursores[i];
+                    c.avancarAte(doc);
+                    if (c.doc == doc) pontos += c.pontuar(normal);
+                }
+
+                if (melhores.size() < limite) {
+                    melhores.add(new double[]{pontos, doc});
+                } else if (pontos > piorDosMelhores) {
+                    melhores.poll();
+                    melhores.add(new double[]{pontos, doc});
+                } else {
+                    continue;
+                }
+                if (melhores.size() == limite) {
+                    piorDosMelhores = melhores.peek()[0];
+                    while (essenciais < cursores.length && tetoAte[essenciais] <= piorDosMelhores) essenciais++;
+                }
+            }
+
+            List<ResultadoBusca<T>> r = new ArrayList<>(melhores.size());
+            while (!melhores.isEmpty()) {
+                double[] m = melhores.poll();
+                @SuppressWarnings("unchecked")
+                T item = (T) itens[(int) m[1]];
+                r.add(new ResultadoBusca<>(item, m[0]));
+            }
+            Collections.reverse(r);
+            return r;
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    /** Quantidade de itens indexados. */
+    public int tamanho() {
+        trava.readLock().lock();
+        try {
+            return docPorItem.size();
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    /** Quantidade de termos distintos nos itens indexados. */
+    public int quantidadeTermos() {
+        trava.readLock().lock();
+        try {
+            return termos.size();
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    /** Descarta as lápides e reconstrói as postagens a partir do texto atual. */
+    public void compactar() {
+        trava.writeLock().lock();
+        try {
+            compactarInterno();
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    // ----------------- Internos (com a trava de escrita) -----------------
+
+    private void indexar(T item) {
+        Map<String, int[]> frequencias = new HashMap<>();
+        int[] total = {0};
+        Tokenizador.termos(texto.apply(item), t -> {
+            total[0]++;
+            frequencias.computeIfAbsent(t, k -> new int[1])[0]++;
+        });
+
+        int doc = proximoDoc++;
+        if (doc == itens.length) {
+            itens = Arrays.copyOf(itens, doc * 2);
+            comprimentos = Arrays.copyOf(comprimentos, doc * 2);
+            postagensDoDoc = Arrays.copyOf(postagensDoDoc, doc * 2);
+        }
+        itens[doc] = item;
+        comprimentos[doc] = total[0];
+        docPorItem.put(item, doc);
+        termosVivos += total[0];
+        Postagens[] doItem = new Postagens[frequencias.size()];
+        int i = 0;
+        for (Map.Entry<String, int[]> e : frequencias.entrySet()) {
+            Postagens p = termos.computeIfAbsent(e.getKey(), Postagens::new);
+            p.anexar(doc, e.getValue()[0], total[0]);
+            doItem[i++] = p;
+        }
+        postagensDoDoc[doc] = doItem;
+    }
+
+    private boolean removerInterno(T item) {
+        Integer doc = docPorItem.remove(item);
+        if (doc == null) return false;
+        removidos.set(doc);
+        itens[doc] = null;
+        termosVivos -= comprimentos[doc];
+        for (Postagens p : postagensDoDoc[doc]) {
+            // as entradas ficam na lista até recompactar, mas já não contam no df
+            if (--p.documentos == 0) termos.remove(p.termo);
+        }
+        postagensDoDoc[doc] = null;
+        lapides++;
+        return true;
+    }
+
+    private void compactarSeNecessario() {
+        if (lapides >= MIN_LAPIDES_COMPACTAR && lapides > docPorItem.size()) compactarInterno();
+    }
+
+    private void compactarInterno() {
+        if (lapides == 0) return;
+        List<T> vivos = new ArrayList<>(docPorItem.size());
+        for (int d = 0; d < proximoDoc; d++) {
+            @SuppressWarnings("unchecked")
+            T item = (T) itens[d];
+            if (item != null) vivos.add(item);
+        }
+        int capacidade = Math.max(64, vivos.size() * 2);
+        termos = new HashMap<>();
+        docPorItem = new HashMap<>(capacidade);
+        itens = new Object[capacidade];
+        comprimentos = new int[capacidade];
+        postagensDoDoc = new Postagens[capacidade][];
+        removidos = new BitSet();
+        proximoDoc = 0;
+        lapides = 0;
+        termosVivos = 0;
+        for (T item : vivos) indexar(item);
+    }
+
+    // ----------------- Postagens -----------------
+
+    /**
+     * Lista de (docId, frequência) de um termo, em varint com docId delta.
+     * A cada BLOCO entradas guarda um ponto de salto: o docId anterior ao
+     * bloco e a posição do bloco em 'dados'.
+     */
+    private static final class Postagens {
+        final String termo;
+        byte[] dados = new byte[8];
+        int tamanho;
+        int ultimoDoc = -1;
+        int entradas;
+        /** Documentos vivos com o termo (df). */
+        int documentos;
+        int maiorFrequencia;
+        int menorComprimento = Integer.MAX_VALUE;
+        int[] saltoDoc = new int[0];
+        int[] saltoPos = new int[0];
+        int saltos;
+
+        Postagens(String termo) {
+            this.termo = termo;
+        }
+
+        void anexar(int doc, int frequencia, int comprimento) {
+            if (entradas > 0 && entradas % BLOCO == 0) {
+                if (saltos == saltoDoc.length) {
+                    saltoDoc = Arrays.copyOf(saltoDoc, Math.max(4, saltos * 2));
+                    saltoPos = Arrays.copyOf(saltoPos, saltoDoc.length);
+                }
+                saltoDoc[saltos] = ultimoDoc;
+                saltoPos[saltos++] = tamanho;
+            }
+            if (dados.length - tamanho < 10) dados = Arrays.copyOf(dados, dados.length * 2);
+            tamanho = escreverVarint(dados, tamanho, doc - ultimoDoc);
+            tamanho = escreverVarint(dados, tamanho, frequencia);
+            ultimoDoc = doc;
+            entradas++;
+            documentos++;
+            maiorFrequencia = Math.max(maiorFrequencia, frequencia);
+            menorComprimento = Math.min(menorComprimento, comprimento);
+        }
+
+        private static int escreverVarint(byte[] b, int pos, int v) {
+            while ((v & ~0x7F) != 0) {
+                b[pos++] = (byte) ((v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            b[pos++] = (byte) v;
+            return pos;
+        }
+    }
+
+    /** Leitura sequencial de uma lista de postagens; doc == MAX_VALUE no fim. */
+    private static final class Cursor {
+        private final byte[] dados;
+        private final int tamanho;
+        private final int[] saltoDoc;
+        private final int[] saltoPos;
+        private final int saltos;
+        final double idf;
+        /** Maior pontuação que o termo pode dar a um documento (maior tf, menor texto). */
+        final double teto;
+        private int pos;
+        private int proximoSalto;
+        int doc = -1;
+        int tf;
+
+        Cursor(Postagens p, double idf, double mediaComprimento) {
+            this.dados = p.dados;
+            this.tamanho = p.tamanho;
+            this.saltoDoc = p.saltoDoc;
+            this.saltoPos = p.saltoPos;
+            this.saltos = p.saltos;
+            this.idf = idf;
+            this.teto = FOLGA_TETO * pontuar(idf, p.maiorFrequencia,
+                    K1 * (1 - B + B * p.menorComprimento / mediaComprimento));
+            avancar();
+        }
+
+        double pontuar(double normal) {
+            return pontuar(idf, tf, normal);
+        }
+
+        private static double pontuar(double idf, int tf, double normal) {
+            return idf * tf * (K1 + 1) / (tf + normal);
+        }
+
+        /** Avança até o primeiro doc >= alvo, pulando blocos inteiros abaixo dele. */
+        void avancarAte(int alvo) {
+            if (doc >= alvo) return;
+            while (proximoSalto < saltos && saltoDoc[proximoSalto] < alvo) {
+                if (saltoPos[proximoSalto] > pos) {
+                    doc = saltoDoc[proximoSalto];
+                    pos = saltoPos[proximoSalto];
+                }
+                proximoSalto++;
+            }
+            while (doc < alvo) avancar();
+        }
+
+        void avancar() {
+            if (pos >= tamanho) {
+                doc = Integer.MAX_VALUE;
+                return;
+            }
+            doc += lerVarint();
+            tf = lerVarint();
+        }
+
+        private int lerVarint() {
+            int v = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = dados[pos++];
+                v |= (b & 0x7F) << shift;
+                if (b >= 0) return v;
+            }
+        }
+    }
+}
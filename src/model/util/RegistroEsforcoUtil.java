@@ -4,6 +4,8 @@ import model.dominio.RegistroEsforco;
 import model.dominio.Tarefa;
 import model.dominio.Usuario;
 
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
 import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -11,6 +13,7 @@ import java.util.stream.Collectors;
 /**
  * Utilitários para operar coleções de RegistroEsforco.
  * Funções de soma, filtro, agregação e exportação simples (CSV).
+ * Para volumes grandes, use escreverCSV (fluxo) em vez de toCSV (String única).
  */
 public final class RegistroEsforcoUtil {
     private RegistroEsforcoUtil() {}
@@ -47,6 +50,14 @@ public final class RegistroEsforcoUtil {
         ));
     }
 
+    /**
+     * Agrega em passada única (total, por usuário, tarefa, dia e semana) no período
+     * [inicio, fim]; ambos podem ser null. Preferível a chamar várias funções acima.
+     */
+    public static AgregadorEsforco agregar(Collection<RegistroEsforco> regs, LocalDate inicio, LocalDate fim) {
+        return AgregadorEsforco.agregar(regs, inicio, fim);
+    }
+
     /** Filtra registros por período [inicio, fim] (inclusive). 'fim' pode ser null. */
     public static List<RegistroEsforco> filtrarPeriodo(Collection<RegistroEsforco> regs,
                                                        LocalDate inicio, LocalDate fim) {
@@ -59,9 +70,11 @@ public final class RegistroEsforcoUtil {
                 .collect(Collectors.toList());
     }
 
-    /** Exporta para CSV (header + linhas). */
+    private static final String HEADER_CSV = "id;data;horas;usuario;task;obs";
+
+    /** Exporta para CSV (header + linhas). Indicado para coleções pequenas. */
     public static String toCSV(Collection<RegistroEsforco> regs) {
-        String header = "id;data;horas;usuario;task;obs";
+        String header = HEADER_CSV;
         if (regs == null || regs.isEmpty()) return header;
         return header + regs.stream().map(r -> String.join(";",
                 r.getId(),
@@ -73,5 +86,33 @@ public final class RegistroEsforcoUtil {
         )).collect(Collectors.joining("\n", "\n", ""));
     }
 
+    /**
+     * Exporta para CSV em fluxo (mesmo conteúdo de toCSV), linha a linha,
+     * sem montar o arquivo inteiro em memória.
+     */
+    public static void escreverCSV(Iterable<RegistroEsforco> regs, Appendable destino) throws IOException {
+        Objects.requireNonNull(destino, "destino não pode ser nulo");
+        destino.append(HEADER_CSV);
+        if (regs == null) return;
+        for (RegistroEsforco r : regs) {
+            destino.append('\n').append(r.getId()).append(';');
+            EscritaCSV.data(destino, r.getData());
+            destino.append(';');
+            EscritaCSV.inteiro(destino, r.getHoras());
+            destino.append(';');
+            EscritaCSV.texto(destino, r.getUsuario().getLogin(), false, false);
+            destino.append(';');
+            EscritaCSV.texto(destino, r.getTarefa().getTitulo(), false, false);
+            destino.append(';');
+            EscritaCSV.texto(destino, r.getObservacao(), true, false);
+        }
+    }
+
+    /** Exporta para CSV em um canal (UTF-8, buffer reutilizado), opcionalmente em gzip. Não fecha o canal. */
+    public static void escreverCSV(Iterable<RegistroEsforco> regs, WritableByteChannel canal, boolean gzip) throws IOException {
+        Objects.requireNonNull(canal, "canal não pode ser nulo");
+        EscritaCSV.paraCanal(canal, gzip, destino -> escreverCSV(regs, destino));
+    }
+
     private static String safe(String v) { return v == null ? "" : v; }
 }
@@ -0,0 +1,21 @@
+package model.util;
+
+/** Item encontrado por uma busca textual e sua pontuação (BM25; maior = mais relevante). */
+public final class ResultadoBusca<T> {
+
+    private final T item;
+    private final double pontuacao;
+
+    ResultadoBusca(T item, double pontuacao) {
+        this.item = item;
+        this.pontuacao = pontuacao;
+    }
+
+    public T getItem() { return item; }
+    public double getPontuacao() { return pontuacao; }
+
+    @Override
+    public String toString() {
+        return String.format("ResultadoBusca{pontuacao=%.3f, item=%s}", pontuacao, item);
+    }
+}
@@ -0,0 +1,66 @@
+package model.util;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Quebra texto em termos de busca para português:
+ *  - minúsculas e sem acentos ("Ação" → "acao", "pêssego" → "pessego");
+ *  - separa em tudo que não for letra ou dígito;
+ *  - descarta termos de 1 caractere e palavras vazias comuns (de, que, para...).
+ * Texto só ASCII não passa pelo Normalizer.
+ */
+public final class Tokenizador {
+
+    private static final Set<String> PALAVRAS_VAZIAS = new HashSet<>(Arrays.asList(
+            "a", "ao", "aos", "as", "com", "como", "da", "das", "de", "do", "dos", "e", "ela", "ele",
+            "em", "entre", "esta", "este", "eu", "foi", "ha", "isso", "ja", "la", "mais", "mas", "me",
+            "na", "nas", "nao", "no", "nos", "o", "os", "ou", "para", "pela", "pelo", "por", "que",
+            "se", "sem", "ser", "seu", "sua", "tem", "um", "uma", "uns", "umas"));
+
+    private Tokenizador() {}
+
+    /** Entrega cada termo do texto, na ordem, ao consumidor. */
+    public static void termos(String texto, Consumer<String> destino) {
+        if (texto == null || texto.isEmpty()) return;
+        String t = dobrar(texto);
+        StringBuilder sb = new StringBuilder(16);
+        for (int i = 0, n = t.length(); i <= n; i++) {
+            char c = (i < n) ? t.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            } else if (sb.length() > 0) {
+                emitir(sb, destino);
+                sb.setLength(0);
+            }
+        }
+    }
+
+    /** Termos do texto numa lista (com repetições). */
+    public static List<String> termos(String texto) {
+        List<String> r = new ArrayList<>();
+        termos(texto, r::add);
+        return r;
+    }
+
+    private static void emitir(StringBuilder sb, Consumer<String> destino) {
+        if (sb.length() < 2) return;
+        String termo = sb.toString();
+        if (!PALAVRAS_VAZIAS.contains(termo)) destino.accept(termo);
+    }
+
+    /** Remove diacríticos (decomposição NFD sem as marcas combinantes). */
+    private static String dobrar(String texto) {
+        boolean ascii = true;
+        for (int i = 0; i < texto.length() && ascii; i++) ascii = texto.charAt(i) < 0x80;
+        if (ascii) return texto;
+        String nfd = Normalizer.normalize(texto, Normalizer.Form.NFD);
+        StringBuilder sb = new StringBuilder(nfd.length());
+        for (int i = 0; i < nfd.length(); i++) {
+            char c = nfd.charAt(i);
+            if (Character.getType(c) != Character.NON_SPACING_MARK) sb.append(c);
+        }
+        return sb.toString();
+    }
+}
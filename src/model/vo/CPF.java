@@ -1,67 +1,114 @@
 package model.vo;
 
-import java.util.Objects;
-
 /**
  * Value Object para CPF (somente dígitos).
  * - Imutável
  * - Valida formato e dígitos verificadores
  * - Oferece formatos: bruto (11 dígitos), formatado (###.###.###-##) e mascarado
+ *
+ * Guardado como long; as formas em texto são montadas sob demanda.
+ * A validação percorre a entrada uma vez, sem regex nem String intermediária.
  */
 public final class CPF {
 
-    private final String digits; // 11 dígitos
+    private static final long REPETIDO = 11_111_111_111L; // d × REPETIDO = "ddddddddddd"
+
+    private final long numero; // 11 dígitos (zeros à esquerda implícitos)
 
-    private CPF(String digits) {
-        this.digits = digits;
+    private CPF(long numero) {
+        this.numero = numero;
     }
 
+    // Códigos de erro de analisar() (números de CPF são sempre >= 0)
+    private static final long NULO = -1, TAMANHO = -2, SEQUENCIA = -3, DV = -4;
+
     /** Cria um CPF a partir de qualquer entrada (com ou sem máscara), validando DV. */
     public static CPF of(String input) {
-        if (input == null) throw new IllegalArgumentException("CPF não pode ser nulo.");
-        String d = input.replaceAll("\\D", "");
-        if (d.length() != 11) throw new IllegalArgumentException("CPF deve conter 11 dígitos.");
-        if (todosIguais(d)) throw new IllegalArgumentException("CPF inválido (sequência repetida).");
-        if (!dvValido(d)) throw new IllegalArgumentException("CPF inválido (dígitos verificadores).");
-        return new CPF(d);
+        long numero = analisar(input);
+        if (numero == NULO) throw new IllegalArgumentException("CPF não pode ser nulo.");
+        if (numero == TAMANHO) throw new IllegalArgumentException("CPF deve conter 11 dígitos.");
+        if (numero == SEQUENCIA) throw new IllegalArgumentException("CPF inválido (sequência repetida).");
+        if (numero == DV) throw new IllegalArgumentException("CPF inválido (dígitos verificadores).");
+        return new CPF(numero);
+    }
+
+    /** Mesma validação de of(), sem criar objeto nem lançar exceção (checagens em lote). */
+    public static boolean isValido(String input) {
+        return analisar(input) >= 0;
+    }
+
+    /**
+     * Percorre a entrada uma vez ignorando o que não é dígito ASCII (mesmo
+     * critério do antigo replaceAll("\\D", "")) e somando os pesos dos DVs.
+     */
+    private static long analisar(String input) {
+        if (input == null) return NULO;
+        long numero = 0;
+        int qtd = 0, soma1 = 0, soma2 = 0, d10 = 0, d11 = 0;
+        for (int i = 0, n = input.length(); i < n; i++) {
+            int d = input.charAt(i) - '0';
+            if (d < 0 || d > 9) continue;
+            if (qtd < 11) numero = numero * 10 + d;
+            if (qtd < 9) soma1 += d * (10 - qtd);
+            if (qtd < 10) soma2 += d * (11 - qtd);
+            if (qtd == 9) d10 = d;
+            if (qtd == 10) d11 = d;
+            qtd++;
+        }
+        if (qtd != 11) return TAMANHO;
+        if (numero % REPETIDO == 0) return SEQUENCIA;
+        if (!dvValido(soma1, soma2, d10, d11)) return DV;
+        return numero;
     }
 
     /** Retorna os 11 dígitos (sem máscara). */
-    public String value() { return digits; }
+    public String value() {
+        char[] c = new char[11];
+        escreverDigitos(c, 0, 0, 11);
+        return new String(c);
+    }
+
+    /** Os 11 dígitos como número (zeros à esquerda implícitos). */
+    public long numero() { return numero; }
 
     /** Retorna o CPF formatado (###.###.###-##). */
     public String formatado() {
-        return digits.substring(0,3) + "." + digits.substring(3,6) + "." +
-                digits.substring(6,9) + "-" + digits.substring(9);
+        char[] c = new char[14];
+        escreverDigitos(c, 0, 0, 3);
+        c[3] = '.';
+        escreverDigitos(c, 4, 3, 6);
+        c[7] = '.';
+        escreverDigitos(c, 8, 6, 9);
+        c[11] = '-';
+        escreverDigitos(c, 12, 9, 11);
+        return new String(c);
     }
 
     /** Retorna o CPF mascarado (***.***.***-##). */
     public String mascarado() {
-        return "***.***.***-" + digits.substring(9);
+        char[] c = "***.***.***-00".toCharArray();
+        escreverDigitos(c, 12, 9, 11);
+        return new String(c);
     }
 
-    // ---------- helpers de validação ----------
+    // ---------- helpers ----------
 
-    private static boolean todosIguais(String d) {
-        char c = d.charAt(0);
-        for (int i = 1; i < d.length(); i++) if (d.charAt(i) != c) return false;
-        return true;
+    /** Escreve os dígitos de índice [de, ate) (0 = mais significativo) em destino[pos..]. */
+    private void escreverDigitos(char[] destino, int pos, int de, int ate) {
+        long v = numero;
+        for (int i = 10; i >= ate; i--) v /= 10;
+        for (int i = ate - 1; i >= de; i--) {
+            destino[pos + i - de] = (char) ('0' + (v % 10));
+            v /= 10;
+        }
     }
 
-    private static boolean dvValido(String d) {
-        // Cálculo do 1º DV
-        int soma = 0, peso = 10;
-        for (int i = 0; i < 9; i++) soma += (d.charAt(i) - '0') * peso--;
-        int resto = soma % 11;
+    private static boolean dvValido(int soma1, int soma2, int d10, int d11) {
+        int resto = soma1 % 11;
         int dv1 = (resto < 2) ? 0 : 11 - resto;
-
-        // Cálculo do 2º DV
-        soma = 0; peso = 11;
-        for (int i = 0; i < 10; i++) soma += (d.charAt(i) - '0') * peso--;
-        resto = soma % 11;
+        resto = soma2 % 11;
         int dv2 = (resto < 2) ? 0 : 11 - resto;
-
-        return dv1 == (d.charAt(9) - '0') && dv2 == (d.charAt(10) - '0');
+        return dv1 == d10 && dv2 == d11;
     }
 
     // ---------- equals/hashCode/toString ----------
@@ -69,11 +116,16 @@ public final class CPF {
     @Override public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof CPF)) return false;
-        CPF cpf = (CPF) o;
-        return Objects.equals(digits, cpf.digits);
+        return numero == ((CPF) o).numero;
     }
 
-    @Override public int hashCode() { return Objects.hash(digits); }
+    /** Mesmo valor de Objects.hash(value()), calculado sem montar a String. */
+    @Override public int hashCode() {
+        int h = 0;
+        long div = 10_000_000_000L;
+        for (int i = 0; i < 11; i++, div /= 10) h = 31 * h + (int) ('0' + (numero / div) % 10);
+        return 31 + h;
+    }
 
     @Override public String toString() { return formatado(); }
 }
@@ -1,22 +1,16 @@
 package model.vo;
 
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 /**
  * Value Object para Email.
  * - Imutável
  * - Normaliza (trim + lower-case)
- * - Valida formato com regex simples
+ * - Valida formato equivalente à regex ^[A-Z0-9._%+-]+@[A-Z0-9.-]+\.[A-Z]{2,}$
+ *   (sem distinção de caixa), mas por varredura direta dos caracteres
  */
 public final class Email {
 
-    // Regex básica e pragmática para este projeto (case-insensitive)
-    private static final Pattern EMAIL_RX = Pattern.compile(
-            "^[A-Z0-9._%+-]+@[A-Z0-9.-]+\\.[A-Z]{2,}$",
-            Pattern.CASE_INSENSITIVE
-    );
-
     private final String address; // normalizado (lower-case, trimmed)
 
     private Email(String address) {
@@ -28,10 +22,59 @@ public final class Email {
         if (input == null) throw new IllegalArgumentException("E-mail não pode ser nulo.");
         String v = input.trim().toLowerCase();
         if (v.isEmpty()) throw new IllegalArgumentException("E-mail não pode ser vazio.");
-        if (!EMAIL_RX.matcher(v).matches()) throw new IllegalArgumentException("E-mail inválido.");
+        if (!formatoValido(v)) throw new IllegalArgumentException("E-mail inválido.");
         return new Email(v);
     }
 
+    /** Mesma validação de of(), sem criar objeto nem lançar exceção (checagens em lote). */
+    public static boolean isValido(String input) {
+        if (input == null) return false;
+        String v = input.trim().toLowerCase();
+        return !v.isEmpty() && formatoValido(v);
+    }
+
+    /**
+     * Autômato da regex: LOCAL+ '@' DOMINIO+ '.' LETRA{2,}, em que LOCAL e
+     * DOMINIO não contêm '@'. Como o sufixo final só tem letras, ele é o que
+     * vem depois do último '.' do domínio; basta uma passada lembrando a
+     * posição desse ponto e se o trecho depois dele só tem letras.
+     */
+    private static boolean formatoValido(String v) {
+        int n = v.length();
+        int i = 0;
+        while (i < n && caractereLocal(v.charAt(i))) i++;
+        if (i == 0 || i == n || v.charAt(i) != '@') return false;
+        int inicioDominio = ++i;
+        int ultimoPonto = -1;
+        boolean sufixoSoLetras = false;
+        for (; i < n; i++) {
+            char c = v.charAt(i);
+            if (c == '.') {
+                ultimoPonto = i;
+                sufixoSoLetras = true;
+            } else if (letra(c)) {
+                // mantém sufixoSoLetras
+            } else if (digito(c) || c == '-') {
+                sufixoSoLetras = false;
+            } else {
+                return false;
+            }
+        }
+        return ultimoPonto > inicioDominio && n - ultimoPonto - 1 >= 2 && sufixoSoLetras;
+    }
+
+    private static boolean letra(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean digito(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean caractereLocal(char c) {
+        return letra(c) || digito(c) || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+    }
+
     /** Endereço completo normalizado. */
     public String value() { return address; }
 
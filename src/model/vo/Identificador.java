@@ -0,0 +1,129 @@
+package model.vo;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Value Object para identificadores de entidade (128 bits em dois longs).
+ * - Imutável
+ * - Layout UUID versão 7: 48 bits de timestamp em ms + 74 bits aleatórios,
+ *   gerado sem lock nem SecureRandom (ThreadLocalRandom)
+ * - equals/hashCode sem alocação
+ * - Forma textual idêntica à do UUID (36 caracteres), usada na exportação
+ *   e para ler ids legados gerados por UUID.randomUUID(); montada na
+ *   primeira chamada de toString e guardada (getId() das entidades é
+ *   chamado por linha na exportação CSV)
+ */
+public final class Identificador implements Comparable<Identificador> {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final long alto;
+    private final long baixo;
+    /** toString em cache; corrida benigna como em String.hash (String é imutável). */
+    private String texto;
+
+    private Identificador(long alto, long baixo) {
+        this.alto = alto;
+        this.baixo = baixo;
+    }
+
+    /** Gera um identificador novo (UUIDv7: ordenável pelo instante de criação). */
+    public static Identificador novo() {
+        ThreadLocalRandom r = ThreadLocalRandom.current();
+        long alto = (System.currentTimeMillis() << 16) | 0x7000L | (r.nextLong() & 0x0FFFL);
+        long baixo = (r.nextLong() & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+        return new Identificador(alto, baixo);
+    }
+
+    /** Reconstrói a partir dos dois longs (ex.: lidos de um formato binário). */
+    public static Identificador of(long alto, long baixo) {
+        return new Identificador(alto, baixo);
+    }
+
+    /** Converte a forma textual (8-4-4-4-12 hexadecimal, qualquer caixa). */
+    public static Identificador of(String texto) {
+        Identificador id = tentar(texto);
+        if (id == null) throw new IllegalArgumentException("Identificador inválido: " + texto);
+        return id;
+    }
+
+    /** Como of(String), mas devolve null em vez de lançar (útil em consultas). */
+    public static Identificador tentar(String texto) {
+        if (texto == null || texto.length() != 36) return null;
+        long alto = 0, baixo = 0;
+        for (int i = 0; i < 36; i++) {
+            char c = texto.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') return null;
+                continue;
+            }
+            int v = digitoHex(c);
+            if (v < 0) return null;
+            if (i < 19) alto = (alto << 4) | v;
+            else baixo = (baixo << 4) | v;
+        }
+        return new Identificador(alto, baixo);
+    }
+
+    public long alto() { return alto; }
+
+    public long baixo() { return baixo; }
+
+    /** Instante de criação em ms (só significativo para ids gerados por novo()). */
+    public long epochMilli() { return alto >>> 16; }
+
+    // ---------- equals/hashCode/toString ----------
+
+    @Override public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Identificador)) return false;
+        Identificador id = (Identificador) o;
+        return alto == id.alto && baixo == id.baixo;
+    }
+
+    @Override public int hashCode() {
+        long h = alto * 0x9E3779B97F4A7C15L ^ baixo;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @Override public int compareTo(Identificador o) {
+        int c = Long.compareUnsigned(alto, o.alto);
+        return c != 0 ? c : Long.compareUnsigned(baixo, o.baixo);
+    }
+
+    /** Forma textual legada (minúsculas, 8-4-4-4-12). */
+    @Override public String toString() {
+        String t = texto;
+        if (t == null) texto = t = formatar();
+        return t;
+    }
+
+    private String formatar() {
+        char[] s = new char[36];
+        hex(s, 0, alto >>> 32, 8);
+        s[8] = '-';
+        hex(s, 9, alto >>> 16, 4);
+        s[13] = '-';
+        hex(s, 14, alto, 4);
+        s[18] = '-';
+        hex(s, 19, baixo >>> 48, 4);
+        s[23] = '-';
+        hex(s, 24, baixo, 12);
+        return new String(s);
+    }
+
+    /** Só [0-9a-fA-F] ASCII (Character.digit aceitaria dígitos de outros alfabetos). */
+    private static int digitoHex(char c) {
+        if (c >= '0' && c <= '9') return c - '0';
+        if (c >= 'a' && c <= 'f') return c - 'a' + 10;
+        if (c >= 'A' && c <= 'F') return c - 'A' + 10;
+        return -1;
+    }
+
+    private static void hex(char[] destino, int pos, long valor, int digitos) {
+        for (int i = pos + digitos - 1; i >= pos; i--) {
+            destino[i] = HEX[(int) (valor & 0xF)];
+            valor >>>= 4;
+        }
+    }
+}
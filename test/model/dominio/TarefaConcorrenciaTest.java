@@ -0,0 +1,199 @@
+package model.dominio;
+
+import model.enums.Perfil;
+import model.enums.StatusTarefa;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ciclo de vida da Tarefa sob concorrência: transições de várias threads
+ * chegam aos observadores em ordem e sem perdas, e os callbacks rodam fora
+ * do monitor da tarefa (um observador que trava algo também usado por quem
+ * (des)registra observadores não causa deadlock).
+ */
+class TarefaConcorrenciaTest {
+
+    private static final LocalDate INICIO = LocalDate.of(2024, 1, 1);
+    private static final int RODADAS = 20_000;
+
+    private static final Usuario GERENTE = Usuario.criar("Gerente", "529.982.247-25", "gerente@exemplo.com",
+            "Gerente", "gerente", "segredo123", Perfil.GERENTE);
+    private static final Projeto PROJETO = Projeto.criar("Projeto", "Descrição", INICIO, INICIO.plusYears(1),
+            GERENTE, null);
+
+    @Test
+    void transicoesConcorrentesChegamEmOrdem() throws Exception {
+        Tarefa t = novaTarefa();
+        Sequencia seq = new Sequencia();
+        t.adicionarObservador(seq);
+        t.iniciar();
+
+        Thread esforco = iniciar(() -> {
+            for (int i = 0; i < RODADAS; i++) t.registrarEsforco(1);
+        });
+        Thread status = iniciar(() -> {
+            for (int i = 0; i < RODADAS; i++) {
+                t.tentarTransicionar(StatusTarefa.EM_ANDAMENTO, StatusTarefa.BLOQUEADA);
+                t.tentarTransicionar(StatusTarefa.BLOQUEADA, StatusTarefa.EM_ANDAMENTO);
+            }
+        });
+        Thread registro = iniciar(() -> {
+            ObservadorTarefa passageiro = new ObservadorTarefa() {};
+            for (int i = 0; i < RODADAS; i++) {
+                assertTrue(t.adicionarObservador(passageiro));
+                assertTrue(t.removerObservador(passageiro));
+            }
+        });
+        esperar(esforco, status, registro);
+
+        assertEquals(List.of(), seq.erros);
+        assertEquals(RODADAS, t.getEsforcoRealHoras());
+        assertEquals(RODADAS, seq.real);
+        assertEquals(RODADAS, seq.esforcos);
+        assertEquals(t.getStatus(), seq.status);
+        assertEquals(2 * RODADAS + 1, seq.transicoes);
+
+        t.concluir(5, INICIO.plusDays(3));
+        assertEquals(StatusTarefa.CONCLUIDA, seq.status);
+        assertEquals(RODADAS + 5, seq.real);
+        assertEquals(INICIO.plusDays(3), t.getDataConclusao());
+    }
+
+    @Test
+    void callbackForaDoMonitorDaTarefa() throws Exception {
+        Tarefa t = novaTarefa();
+        t.iniciar();
+        Object trava = new Object();
+        CountDownLatch noCallback = new CountDownLatch(1);
+        CountDownLatch travaTomada = new CountDownLatch(1);
+        AtomicInteger vistos = new AtomicInteger();
+        ObservadorTarefa travando = new ObservadorTarefa() {
+            @Override
+            public void tarefaAlterada(Tarefa tarefa) {
+                noCallback.countDown();
+                aguardar(travaTomada);
+                synchronized (trava) {
+                    vistos.incrementAndGet();
+                }
+            }
+        };
+        t.adicionarObservador(travando);
+
+        // Como CapacidadeCarga: um lado muda a tarefa e o callback pega a trava;
+        // o outro, com a trava, remove o observador da tarefa no meio do callback.
+        Thread mutacao = iniciar(() -> t.registrarEsforco(1));
+        Thread registro = iniciar(() -> {
+            aguardar(noCallback);
+            synchronized (trava) {
+                travaTomada.countDown();
+                assertTrue(t.removerObservador(travando));
+                assertTrue(t.adicionarObservador(travando));
+            }
+        });
+        esperar(mutacao, registro);
+
+        assertEquals(1, t.getEsforcoRealHoras());
+        assertEquals(1, vistos.get());
+    }
+
+    @Test
+    void transicaoFeitaPorObservadorSaiDepoisDaAtual() {
+        Tarefa t = novaTarefa();
+        List<String> ordem = new ArrayList<>();
+        t.adicionarObservador(new ObservadorTarefa() {
+            @Override
+            public void statusAlterado(Tarefa tarefa, StatusTarefa anterior, StatusTarefa novo) {
+                ordem.add(anterior + ">" + novo);
+                if (novo == StatusTarefa.EM_ANDAMENTO) tarefa.bloquear();
+            }
+        });
+        t.iniciar();
+        assertEquals(List.of("NOVA>EM_ANDAMENTO", "EM_ANDAMENTO>BLOQUEADA"), ordem);
+        assertEquals(StatusTarefa.BLOQUEADA, t.getStatus());
+    }
+
+    @Test
+    void versaoNaoVazaComoDataDeConclusao() {
+        Tarefa t = novaTarefa();
+        for (int i = 0; i < 1_000; i++) t.registrarEsforco(1);
+        assertNull(t.getDataConclusao());
+        assertNull(t.getCiclo().getDataConclusao());
+        t.iniciar();
+        t.concluir(0, INICIO);
+        assertEquals(INICIO, t.getCiclo().getDataConclusao());
+        assertFalse(t.estaAtrasada(INICIO.plusYears(2)));
+    }
+
+    // ---------- helpers ----------
+
+    private static Tarefa novaTarefa() {
+        return Tarefa.criar(PROJETO, "Tarefa", null, null, null, INICIO, INICIO.plusMonths(1), 10);
+    }
+
+    private static Thread iniciar(Runnable corpo) {
+        Thread t = new Thread(corpo);
+        t.setDaemon(true);
+        t.start();
+        return t;
+    }
+
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(60, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void esperar(Thread... threads) throws InterruptedException {
+        CountDownLatch fim = new CountDownLatch(threads.length);
+        for (Thread t : threads) {
+            Thread vigia = new Thread(() -> {
+                try {
+                    t.join();
+                    fim.countDown();
+                } catch (InterruptedException ignorada) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            vigia.setDaemon(true);
+            vigia.start();
+        }
+        assertTrue(fim.await(30, TimeUnit.SECONDS), "threads não terminaram (deadlock?)");
+    }
+
+    /** Confere que cada notificação continua de onde a anterior parou. */
+    private static final class Sequencia implements ObservadorTarefa {
+        final List<String> erros = new ArrayList<>();
+        StatusTarefa status = StatusTarefa.NOVA;
+        int real;
+        int esforcos;
+        int transicoes;
+
+        @Override
+        public void statusAlterado(Tarefa tarefa, StatusTarefa anterior, StatusTarefa novo) {
+            if (anterior != status) erros.add("status " + anterior + " depois de " + status);
+            status = novo;
+            transicoes++;
+        }
+
+        @Override
+        public void esforcoAlterado(Tarefa tarefa, int estimadoAnterior, int realAnterior,
+                                    int estimadoNovo, int realNovo) {
+            if (realAnterior != real) erros.add("real " + realAnterior + " depois de " + real);
+            real = realNovo;
+            esforcos++;
+        }
+    }
+}
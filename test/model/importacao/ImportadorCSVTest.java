@@ -0,0 +1,166 @@
+package model.importacao;
+
+import model.dominio.Equipe;
+import model.dominio.Projeto;
+import model.dominio.Tarefa;
+import model.dominio.Usuario;
+import model.enums.PapelEquipe;
+import model.enums.Perfil;
+import model.enums.StatusTarefa;
+import model.persistencia.Catalogo;
+import model.persistencia.GerenciadorSnapshots;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Importação em estágios: o destino recebe as entidades na ordem das linhas
+ * mesmo com vários workers, uma linha inválida vira erro com o seu número e
+ * não interrompe as demais, e a importação para um GerenciadorSnapshots
+ * sobrevive a um reinício.
+ */
+class ImportadorCSVTest {
+
+    private static final String USUARIOS = "nome;cpf;email;cargo;login;senha;perfil\n"
+            + "Gerente Geral;111.444.777-35;gerente@exemplo.com;Gerente;gerente;segredo123;GERENTE\n"
+            + "Ana Lima;529.982.247-25;ana@exemplo.com;Analista;ana;segredo123;COLABORADOR\n"
+            + "\n"
+            + "Ana Dup;123.456.789-09;ana2@exemplo.com;Analista;ana;segredo123;COLABORADOR\n"
+            + "Sem Perfil;123.456.789-09;sem@exemplo.com;Analista;sem;segredo123;XYZ\n";
+
+    private static final String PROJETOS = "nome;descricao;inicio;termino;gerente;status\n"
+            + "Portal;Novo portal;2024-01-01;2024-12-31;gerente;EM_ANDAMENTO\n"
+            + "Fantasma;Sem gerente;2024-01-01;2024-12-31;ninguem;\n";
+
+    private static final String EQUIPES = "equipe;descricao;login;papel\n"
+            + "Web;Time web;ana;DEV\n"
+            + "Web;;gerente;\n"
+            + "Vazia;Sem membros;;\n";
+
+    @Test
+    void importaNaOrdemComErrosPorLinha() throws IOException {
+        String tarefas = "projeto;titulo;descricao;responsavel;prioridade;status;inicio;termino;"
+                + "estimado;real;conclusao\n"
+                + "Portal;Login;Tela;ana;ALTA;;2024-01-02;2024-01-20;16;;\n"
+                + "Portal;Cadastro;;;;CONCLUIDA;2024-01-02;2024-02-20;8;9;2024-02-10\n"
+                + "Outro;Perdida;;;;;2024-01-02;2024-01-20;;;\n"
+                + "Portal;Real em nova;;;;;2024-01-02;2024-01-20;4;2;\n"
+                + "Portal;Data ruim;;;;;2024-13-02;2024-01-20;;;\n";
+        Gravacao g = new Gravacao();
+        ResultadoImportacao r = ImportadorCSV.criar(g, 3).importar(new StringReader(USUARIOS),
+                new StringReader(PROJETOS), new StringReader(EQUIPES), new StringReader(tarefas));
+
+        assertEquals(List.of("U gerente", "U ana", "|", "P Portal", "|", "|", "E Web: ana,gerente", "E Vazia: ",
+                "|", "T Login", "T Cadastro", "|"), g.eventos);
+        assertEquals(List.of(
+                "usuarios:5: Login duplicado: ana",
+                "usuarios:6: " + erro(() -> Perfil.parse("XYZ")),
+                "projetos:3: Usuário não encontrado: ninguem",
+                "tarefas:4: Projeto não encontrado: Outro",
+                "tarefas:5: Tarefa NOVA não tem esforço real nem conclusão.",
+                "tarefas:6: Data inválida em inicio: 2024-13-02"),
+                r.getErros().stream().map(ErroImportacao::toString).collect(Collectors.toList()));
+
+        assertEquals(2, r.getUsuarios());
+        assertEquals(1, r.getProjetos());
+        assertEquals(2, r.getEquipes());
+        assertEquals(2, r.getTarefas());
+        Equipe web = r.getEquipesPorNome().get("Web");
+        Usuario ana = r.getUsuariosPorLogin().get("ana");
+        assertEquals(PapelEquipe.parse("DEV"), r.papelDe(web, ana).orElseThrow());
+        assertTrue(r.papelDe(web, r.getUsuariosPorLogin().get("gerente")).isEmpty());
+        Tarefa cadastro = g.tarefas.get(1);
+        assertEquals(StatusTarefa.CONCLUIDA, cadastro.getStatus());
+        assertEquals(9, cadastro.getEsforcoRealHoras());
+        assertEquals(LocalDate.of(2024, 2, 10), cadastro.getDataConclusao());
+        assertNull(g.tarefas.get(0).getDataConclusao());
+        assertEquals(ana, g.tarefas.get(0).getResponsavel());
+    }
+
+    @Test
+    void variosLotesEmParaleloChegamNaOrdemDoArquivo() throws IOException {
+        StringBuilder tarefas = new StringBuilder("titulo;projeto;inicio;termino;estimado\n");
+        for (int i = 0; i < 5_000; i++) {
+            tarefas.append("T").append(i).append(";Portal;2024-01-02;2024-03-01;")
+                    .append(i % 7 == 0 ? "x" : Integer.toString(i % 50)).append('\n');
+        }
+        Gravacao g = new Gravacao();
+        ResultadoImportacao r = ImportadorCSV.criar(g, 4).importar(new StringReader(USUARIOS),
+                new StringReader(PROJETOS), null, new StringReader(tarefas.toString()));
+
+        List<String> esperado = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) if (i % 7 != 0) esperado.add("T" + i);
+        assertEquals(esperado, g.tarefas.stream().map(Tarefa::getTitulo).collect(Collectors.toList()));
+        assertEquals(esperado.size(), r.getTarefas());
+        List<ErroImportacao> erros = r.getErros().subList(3, r.getErros().size());
+        assertEquals(5_000 - esperado.size(), erros.size());
+        for (int k = 0; k < erros.size(); k++) assertEquals(2 + 7L * k, erros.get(k).getLinha());
+        long lotesDeTarefas = g.eventos.stream().dropWhile(e -> !e.startsWith("T")).filter("|"::equals).count();
+        assertEquals((5_000 + 511) / 512, lotesDeTarefas);
+    }
+
+    @Test
+    void importacaoNoGerenciadorSobreviveAoReinicio(@TempDir Path dir) throws IOException {
+        String tarefas = "projeto;titulo;responsavel;status;inicio;termino;estimado;real\n"
+                + "Portal;Login;ana;EM_ANDAMENTO;2024-01-02;2024-01-20;16;3\n"
+                + "Portal;Cadastro;;;2024-01-02;2024-02-20;8;\n";
+        ResultadoImportacao r;
+        try (GerenciadorSnapshots g = GerenciadorSnapshots.abrir(dir)) {
+            g.recuperar();
+            r = ImportadorCSV.criar(DestinoImportacao.para(g), 2).importar(new StringReader(USUARIOS),
+                    new StringReader(PROJETOS), new StringReader(EQUIPES), new StringReader(tarefas));
+        }
+        try (GerenciadorSnapshots g = GerenciadorSnapshots.abrir(dir)) {
+            Catalogo c = g.recuperar();
+            assertEquals(List.of("ana", "gerente"), ordenados(c.usuarios().stream().map(Usuario::getLogin)));
+            assertEquals(List.of("Portal"), ordenados(c.projetos().stream().map(Projeto::getNome)));
+            assertEquals(List.of("Vazia", "Web"), ordenados(c.equipes().stream().map(Equipe::getNome)));
+            Equipe web = c.buscarEquipe(r.getEquipesPorNome().get("Web").getIdentificador()).orElseThrow();
+            assertEquals(List.of("ana", "gerente"), ordenados(web.getMembros().stream().map(Usuario::getLogin)));
+            assertEquals(List.of("Cadastro:NOVA:0", "Login:EM_ANDAMENTO:3"), ordenados(c.tarefas().stream()
+                    .map(t -> t.getTitulo() + ":" + t.getStatus() + ":" + t.getEsforcoRealHoras())));
+        }
+    }
+
+    // ---------- helpers ----------
+
+    private static List<String> ordenados(Stream<String> s) {
+        return s.sorted().collect(Collectors.toList());
+    }
+
+    private static String erro(Runnable r) {
+        try {
+            r.run();
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+        throw new AssertionError("esperava IllegalArgumentException");
+    }
+
+    /** Destino que anota a sequência de chamadas ("|" = fimDoLote). */
+    private static final class Gravacao implements DestinoImportacao {
+        final List<String> eventos = new ArrayList<>();
+        final List<Tarefa> tarefas = new ArrayList<>();
+
+        @Override public void incluir(Usuario u) { eventos.add("U " + u.getLogin()); }
+        @Override public void incluir(Projeto p) { eventos.add("P " + p.getNome()); }
+        @Override public void incluir(Equipe e) {
+            eventos.add("E " + e.getNome() + ": "
+                    + e.getMembros().stream().map(Usuario::getLogin).collect(Collectors.joining(",")));
+        }
+        @Override public void incluir(Tarefa t) { eventos.add("T " + t.getTitulo()); tarefas.add(t); }
+        @Override public void fimDoLote() { eventos.add("|"); }
+    }
+}
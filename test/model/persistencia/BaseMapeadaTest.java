@@ -0,0 +1,122 @@
+package model.persistencia;
+
+import model.dominio.*;
+import model.enums.Perfil;
+import model.enums.PrioridadeTarefa;
+import model.persistencia.FormatoSegmento.Tipo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Segmentos mapeados: o que é gravado volta igual; abrir confere tamanho e
+ * cabeçalho sem ler os registros, e a corrupção que só o CRC32C pega aparece
+ * em verificar(); uma gravação nova substitui a geração anterior inteira.
+ */
+class BaseMapeadaTest {
+
+    private static final LocalDate INICIO = LocalDate.of(2024, 3, 4);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void gravarEAbrirDevolveOMesmoCatalogo() throws IOException {
+        Catalogo original = exemplo();
+        GravadorSegmentos.gravar(dir, original);
+
+        BaseMapeada base = BaseMapeada.abrir(dir);
+        base.verificar();
+        assertEquals(original.tarefas().size(), base.quantidadeTarefas());
+        assertSame(base.tarefa(0).getProjeto(), base.projeto(0));
+        assertEquals(DescricaoCatalogo.de(original), DescricaoCatalogo.de(base.carregarTudo()));
+    }
+
+    @Test
+    void corrupcaoSoApareceEmVerificar() throws IOException {
+        GravadorSegmentos.gravar(dir, exemplo());
+        Path tarefas = ManifestoSegmentos.ler(dir).pasta(dir).resolve(Tipo.TAREFAS.arquivo);
+        try (FileChannel ch = FileChannel.open(tarefas, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer b = ByteBuffer.allocate(1);
+            long ultimo = ch.size() - 1; // último byte do heap de textos
+            ch.read(b, ultimo);
+            b.put(0, (byte) (b.get(0) ^ 0x20)).rewind();
+            ch.write(b, ultimo);
+        }
+
+        BaseMapeada base = BaseMapeada.abrir(dir);
+        IOException e = assertThrows(IOException.class, base::verificar);
+        assertEquals("Segmento corrompido: " + tarefas, e.getMessage());
+    }
+
+    @Test
+    void segmentoTruncadoNaoAbre() throws IOException {
+        GravadorSegmentos.gravar(dir, exemplo());
+        Path equipes = ManifestoSegmentos.ler(dir).pasta(dir).resolve(Tipo.EQUIPES.arquivo);
+        try (FileChannel ch = FileChannel.open(equipes, StandardOpenOption.WRITE)) {
+            ch.truncate(ch.size() - 3);
+        }
+        assertThrows(IOException.class, () -> BaseMapeada.abrir(dir));
+    }
+
+    @Test
+    void novaGravacaoSubstituiAGeracaoAnterior() throws IOException {
+        Catalogo catalogo = exemplo();
+        GravadorSegmentos.gravar(dir, catalogo);
+        Path anterior = ManifestoSegmentos.ler(dir).pasta(dir);
+
+        Tarefa t = catalogo.tarefas().stream().filter(x -> x.getTitulo().equals("Login")).findFirst().orElseThrow();
+        t.iniciar();
+        t.registrarEsforco(6);
+        GravadorSegmentos.gravar(dir, catalogo);
+
+        assertFalse(Files.exists(anterior));
+        BaseMapeada base = BaseMapeada.abrir(dir);
+        base.verificar();
+        assertEquals(DescricaoCatalogo.de(catalogo), DescricaoCatalogo.de(base.carregarTudo()));
+    }
+
+    // ---------- helpers ----------
+
+    private static Catalogo exemplo() {
+        Usuario gerente = Usuario.criar("Gerente Geral", "111.444.777-35", "gerente@exemplo.com", "Gerente",
+                "gerente", "segredo123", Perfil.GERENTE);
+        Usuario membro = Usuario.criar("Bruno Dias", "123.456.789-09", "bruno@exemplo.com", "Dev", "bruno",
+                "segredo123", Perfil.COLABORADOR);
+        Projeto projeto = Projeto.criar("Portal", "Novo portal", INICIO, INICIO.plusMonths(6), gerente, null);
+        Equipe equipe = Equipe.criar("Web", "Time web");
+        equipe.adicionarMembro(membro);
+        equipe.adicionarMembro(gerente);
+        AlocacaoEquipeProjeto alocacao = AlocacaoEquipeProjeto.criar(projeto, equipe, INICIO, 30, null);
+        Tarefa tarefa = Tarefa.criar(projeto, "Login", "Tela de login", membro, PrioridadeTarefa.ALTA,
+                INICIO, INICIO.plusDays(20), 16);
+        Tarefa outra = Tarefa.criar(projeto, "Cadastro", null, null, null, INICIO, INICIO.plusDays(30), 8);
+        outra.iniciar();
+        outra.concluir(7, INICIO.plusDays(12));
+
+        Catalogo c = new Catalogo();
+        c.incluir(gerente);
+        c.incluir(membro);
+        c.incluir(projeto);
+        c.incluir(equipe);
+        c.incluir(alocacao);
+        c.incluir(tarefa);
+        c.incluir(outra);
+        c.incluir(RegistroEsforco.criar(outra, membro, INICIO.plusDays(1), 7, "implementação"));
+        c.incluir(ComentarioTarefa.criar(tarefa, membro, LocalDateTime.of(2024, 3, 5, 9, 30, 15, 7), "Começando"));
+        return c;
+    }
+}
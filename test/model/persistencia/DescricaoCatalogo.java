@@ -0,0 +1,58 @@
+package model.persistencia;
+
+import model.dominio.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Texto com todos os campos de todas as entidades de um catálogo, em ordem
+ * de id: dois catálogos com o mesmo estado dão o mesmo texto, e um
+ * assertEquals entre eles mostra exatamente o campo que divergiu.
+ */
+final class DescricaoCatalogo {
+    private DescricaoCatalogo() {}
+
+    static String de(Catalogo c) {
+        List<String> linhas = new ArrayList<>();
+        for (Usuario u : c.usuarios()) {
+            linhas.add("U " + u.getId() + " " + u.getNomeCompleto() + "|" + u.getCpf().value() + "|"
+                    + u.getEmailValue() + "|" + u.getCargo() + "|" + u.getLogin() + "|" + u.getSenhaHash()
+                    + "|" + u.getPerfil());
+        }
+        for (Projeto p : c.projetos()) {
+            linhas.add("P " + p.getId() + " " + p.getNome() + "|" + p.getDescricao() + "|" + p.getDataInicio()
+                    + "|" + p.getDataTerminoPrevista() + "|" + p.getStatus() + "|" + id(p.getGerenteResponsavel()));
+        }
+        for (Equipe e : c.equipes()) {
+            linhas.add("E " + e.getId() + " " + e.getNome() + "|" + e.getDescricao() + "|"
+                    + e.getMembros().stream().map(Usuario::getId).collect(Collectors.joining(",")));
+        }
+        for (AlocacaoEquipeProjeto a : c.alocacoes()) {
+            linhas.add("A " + a.getId() + " " + a.getProjeto().getId() + "|" + a.getEquipe().getId() + "|"
+                    + a.getDataInicio() + "|" + a.getDataFim() + "|" + a.getCapacidadeHorasSemana() + "|"
+                    + a.getObservacoes());
+        }
+        for (Tarefa t : c.tarefas()) {
+            linhas.add("T " + t.getId() + " " + t.getProjeto().getId() + "|" + t.getTitulo() + "|"
+                    + t.getDescricao() + "|" + id(t.getResponsavel()) + "|" + t.getPrioridade() + "|"
+                    + t.getStatus() + "|" + t.getDataInicio() + "|" + t.getDataTerminoPrevista() + "|"
+                    + t.getEsforcoEstimadoHoras() + "|" + t.getEsforcoRealHoras() + "|" + t.getDataConclusao());
+        }
+        for (RegistroEsforco r : c.esforcos()) {
+            linhas.add("R " + r.getId() + " " + r.getTarefa().getId() + "|" + r.getUsuario().getId() + "|"
+                    + r.getData() + "|" + r.getHoras() + "|" + r.getObservacao());
+        }
+        for (ComentarioTarefa ct : c.comentarios()) {
+            linhas.add("C " + ct.getId() + " " + ct.getTarefa().getId() + "|" + ct.getAutor().getId() + "|"
+                    + ct.getDataHora() + "|" + ct.getMensagem());
+        }
+        linhas.sort(null);
+        return String.join("\n", linhas);
+    }
+
+    private static String id(Usuario u) {
+        return u == null ? "-" : u.getId();
+    }
+}
@@ -0,0 +1,124 @@
+package model.persistencia;
+
+import model.dominio.Tarefa;
+import model.persistencia.LogEscritaAntecipadaTest.Cenario;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Recuperação por snapshot + cauda do log: o catálogo recuperado tem de ser
+ * igual ao que foi alterado, antes e depois do corte, inclusive com um
+ * snapshot em segundo plano tirado durante as escritas; cada snapshot
+ * substitui o anterior e os segmentos de log que ele cobre.
+ */
+class GerenciadorSnapshotsTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void snapshotMaisCaudaRecuperaOEstado() throws IOException {
+        Catalogo original;
+        try (GerenciadorSnapshots g = GerenciadorSnapshots.abrir(dir)) {
+            original = g.recuperar();
+            Cenario c = Cenario.criar(original, g.getLog());
+            c.tarefa.definirEsforcoEstimado(30);
+            c.outra.registrarEsforco(2);
+            long lsn = g.snapshot();
+            assertEquals(lsn, g.lsnUltimoSnapshot());
+            c.alterarTudo();
+        }
+        assertEquals(DescricaoCatalogo.de(original), DescricaoCatalogo.de(recuperar(dir)));
+    }
+
+    @Test
+    void snapshotSubstituiOAnteriorEOLogCoberto() throws IOException {
+        Catalogo original;
+        try (GerenciadorSnapshots g = GerenciadorSnapshots.abrir(dir)) {
+            original = g.recuperar();
+            Cenario c = Cenario.criar(original, g.getLog());
+            g.snapshot();
+            c.alterarTudo();
+            long lsn = g.snapshot();
+            assertEquals(List.of(String.format("snapshot-%020d.snap", lsn)), snapshots(dir));
+            assertEquals(1, g.getLog().quantidadeSegmentos());
+            assertEquals(lsn, g.snapshot()); // nada novo: não grava outro
+        }
+        assertEquals(DescricaoCatalogo.de(original), DescricaoCatalogo.de(recuperar(dir)));
+    }
+
+    @Test
+    void catalogoRecuperadoContinuaSendoRegistrado() throws IOException {
+        try (GerenciadorSnapshots g = GerenciadorSnapshots.abrir(dir)) {
+            Cenario.criar(g.recuperar(), g.getLog());
+            g.snapshot();
+        }
+        Catalogo alterado;
+        try (GerenciadorSnapshots g = GerenciadorSnapshots.abrir(dir)) {
+            alterado = g.recuperar();
+            for (Tarefa t : alterado.tarefas()) t.definirEsforcoEstimado(t.getEsforcoEstimadoHoras() + 5);
+            assertThrows(IllegalStateException.class, g::recuperar);
+        }
+        assertEquals(DescricaoCatalogo.de(alterado), DescricaoCatalogo.de(recuperar(dir)));
+    }
+
+    @Test
+    void snapshotEmSegundoPlanoDuranteEscritas() throws Exception {
+        Catalogo original;
+        try (GerenciadorSnapshots g = GerenciadorSnapshots.abrir(dir)) {
+            original = g.recuperar();
+            Cenario c = Cenario.criar(original, g.getLog());
+            c.tarefa.iniciar();
+            Thread escrita = new Thread(() -> {
+                for (int i = 0; i < 2_000; i++) {
+                    c.tarefa.registrarEsforco(1);
+                    if (i % 100 == 0) c.alocacao.alterarCapacidade(i % 40);
+                }
+            });
+            escrita.start();
+            for (int i = 0; i < 5; i++) {
+                CompletableFuture<Long> f = g.snapshotEmSegundoPlano();
+                f.get();
+            }
+            escrita.join();
+            assertEquals(2_000, c.tarefa.getEsforcoRealHoras());
+        }
+        assertEquals(DescricaoCatalogo.de(original), DescricaoCatalogo.de(recuperar(dir)));
+    }
+
+    @Test
+    void snapshotTemporarioDeixadoPorQuedaEIgnorado() throws IOException {
+        Catalogo original;
+        try (GerenciadorSnapshots g = GerenciadorSnapshots.abrir(dir)) {
+            original = g.recuperar();
+            Cenario.criar(original, g.getLog()).alterarTudo();
+            g.snapshot();
+        }
+        Files.write(dir.resolve(String.format("snapshot-%020d.snap.tmp", 1L << 40)), new byte[]{1, 2, 3});
+        assertEquals(DescricaoCatalogo.de(original), DescricaoCatalogo.de(recuperar(dir)));
+    }
+
+    // ---------- helpers ----------
+
+    private static Catalogo recuperar(Path dir) throws IOException {
+        try (GerenciadorSnapshots g = GerenciadorSnapshots.abrir(dir)) {
+            return g.recuperar();
+        }
+    }
+
+    private static List<String> snapshots(Path dir) throws IOException {
+        try (Stream<Path> s = Files.list(dir)) {
+            return s.map(p -> p.getFileName().toString()).filter(n -> n.startsWith("snapshot-")).sorted().toList();
+        }
+    }
+}
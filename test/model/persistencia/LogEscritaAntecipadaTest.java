@@ -0,0 +1,262 @@
+package model.persistencia;
+
+import model.dominio.*;
+import model.enums.Perfil;
+import model.enums.PrioridadeTarefa;
+import model.enums.StatusProjeto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Reprodução do log: um catálogo recuperado tem de ser igual ao que foi
+ * alterado, com criações em estado completo e alterações gravando só os
+ * campos mexidos; cauda corrompida é descartada; commit em grupo não perde
+ * registros; o formato anterior (ids em texto) continua sendo lido.
+ */
+class LogEscritaAntecipadaTest {
+
+    private static final LocalDate INICIO = LocalDate.of(2024, 3, 4);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void reproduzirRecuperaCriacoesEAlteracoes() throws IOException {
+        Catalogo original = new Catalogo();
+        try (LogEscritaAntecipada log = LogEscritaAntecipada.abrir(dir)) {
+            Cenario c = Cenario.criar(original, log);
+            c.alterarTudo();
+        }
+        assertEquals(DescricaoCatalogo.de(original), DescricaoCatalogo.de(recuperar(dir)));
+    }
+
+    @Test
+    void alteracaoGravaSoOsCamposDaOperacao() throws IOException {
+        try (LogEscritaAntecipada log = LogEscritaAntecipada.abrir(dir)) {
+            Cenario c = Cenario.criar(new Catalogo(), log);
+            long antes = tamanhoDoLog(dir);
+            c.tarefa.iniciar();
+            // cabeçalho (16) + tipo + id (16) + status + real + conclusão
+            assertEquals(16 + 1 + 16 + 1 + 4 + 4, tamanhoDoLog(dir) - antes);
+
+            antes = tamanhoDoLog(dir);
+            c.tarefa.registrarEsforco(3);
+            c.tarefa.definirEsforcoEstimado(40);
+            c.equipe.removerMembro(c.membro);
+            long esperado = 3 * 16 + (1 + 16 + 1 + 4 + 4) + (1 + 16 + 4) + (1 + 16 + 16); // ciclo, estimado, membro
+            assertEquals(esperado, tamanhoDoLog(dir) - antes);
+        }
+    }
+
+    @Test
+    void caudaCorrompidaEDescartada() throws IOException {
+        Catalogo original = new Catalogo();
+        long ultimo;
+        try (LogEscritaAntecipada log = LogEscritaAntecipada.abrir(dir)) {
+            Cenario.criar(original, log).alterarTudo();
+            ultimo = log.ultimoLsn();
+        }
+        Path ativo = segmentos(dir).get(0);
+        try (FileChannel ch = FileChannel.open(ativo, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ch.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 40, 1, 2, 3, 4, 0, 0, 0, 0, 0, 0, 0}));
+        }
+        try (LogEscritaAntecipada log = LogEscritaAntecipada.abrir(dir)) {
+            assertEquals(ultimo, log.ultimoLsn());
+            Catalogo recuperado = new Catalogo();
+            assertEquals(ultimo, log.reproduzir(recuperado, 0));
+            assertEquals(DescricaoCatalogo.de(original), DescricaoCatalogo.de(recuperado));
+        }
+    }
+
+    @Test
+    void reproducaoDepoisDeRotacionarEDescartar() throws IOException {
+        Catalogo original = new Catalogo();
+        try (LogEscritaAntecipada log = LogEscritaAntecipada.abrir(dir)) {
+            Cenario c = Cenario.criar(original, log);
+            long corte = log.rotacionar();
+            c.alterarTudo();
+            log.rotacionar();
+            c.alocacao.alterarCapacidade(12);
+            assertEquals(3, log.quantidadeSegmentos());
+            assertEquals(0, log.descartarAte(corte - 1));
+        }
+        assertEquals(DescricaoCatalogo.de(original), DescricaoCatalogo.de(recuperar(dir)));
+    }
+
+    @Test
+    void commitEmGrupoNaoPerdeRegistros() throws Exception {
+        Catalogo original = new Catalogo();
+        try (LogEscritaAntecipada log = LogEscritaAntecipada.abrir(dir)) {
+            Cenario c = Cenario.criar(original, log);
+            List<Tarefa> tarefas = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                Tarefa t = Tarefa.criar(c.projeto, "Paralela " + i, null, null, null,
+                        INICIO, INICIO.plusDays(9), 1);
+                original.incluir(t);
+                log.registrarCriacao(t);
+                tarefas.add(t);
+            }
+            long fsyncsAntes = log.quantidadeFsyncs();
+            long lsnAntes = log.ultimoLsn();
+            List<Thread> threads = new ArrayList<>();
+            for (Tarefa t : tarefas) {
+                threads.add(new Thread(() -> {
+                    for (int i = 0; i < 200; i++) t.registrarEsforco(1);
+                }));
+            }
+            threads.forEach(Thread::start);
+            for (Thread t : threads) t.join();
+            assertEquals(lsnAntes + 800, log.ultimoLsn());
+            assertTrue(log.quantidadeFsyncs() - fsyncsAntes <= 800);
+        }
+        Catalogo recuperado = recuperar(dir);
+        assertEquals(DescricaoCatalogo.de(original), DescricaoCatalogo.de(recuperado));
+        for (Tarefa t : recuperado.tarefas()) {
+            if (t.getTitulo().startsWith("Paralela")) assertEquals(200, t.getEsforcoRealHoras());
+        }
+    }
+
+    @Test
+    void registroNoFormatoAnteriorAindaELido() throws IOException {
+        Usuario u = Usuario.criar("Ana Lima", "529.982.247-25", "ana@exemplo.com", "Analista", "ana",
+                "segredo123", Perfil.COLABORADOR);
+        byte[] legado = new CodecEntidades.Saida(CodecEntidades.USUARIO).texto(u.getId())
+                .texto(u.getNomeCompleto()).texto(u.getCpf().value()).texto(u.getEmailValue())
+                .texto(u.getCargo()).texto(u.getLogin())
+                .texto(u.getSenhaHash()).byteEnum(u.getPerfil()).bytes();
+        try (LogEscritaAntecipada log = LogEscritaAntecipada.abrir(dir)) {
+            log.anexar(legado);
+            u.alterarCargo("Coordenadora");
+            log.anexar(CodecEntidades.codificar(u));
+        }
+        Catalogo recuperado = recuperar(dir);
+        Usuario lido = recuperado.buscarUsuario(u.getIdentificador()).orElseThrow();
+        assertEquals("Coordenadora", lido.getCargo());
+        assertEquals(u.getSenhaHash(), lido.getSenhaHash());
+    }
+
+    @Test
+    void esforcoEComentarioSaoGravadosUmaVez() throws IOException {
+        Catalogo original = new Catalogo();
+        try (LogEscritaAntecipada log = LogEscritaAntecipada.abrir(dir)) {
+            Cenario c = Cenario.criar(original, log);
+            RegistroEsforco r = RegistroEsforco.criar(c.tarefa, c.membro, INICIO.plusDays(1), 3, "setup");
+            ComentarioTarefa ct = ComentarioTarefa.criar(c.tarefa, c.membro,
+                    LocalDateTime.of(2024, 3, 5, 9, 30, 15, 7), "Começando");
+            log.registrarCriacao(r);
+            log.registrarCriacao(ct);
+            original.incluir(r);
+            original.incluir(ct);
+        }
+        Catalogo recuperado = recuperar(dir);
+        assertEquals(DescricaoCatalogo.de(original), DescricaoCatalogo.de(recuperado));
+        assertFalse(recuperado.comentarios().isEmpty());
+    }
+
+    // ---------- helpers ----------
+
+    private static Catalogo recuperar(Path dir) throws IOException {
+        Catalogo recuperado = new Catalogo();
+        try (LogEscritaAntecipada log = LogEscritaAntecipada.abrir(dir)) {
+            log.reproduzir(recuperado, 0);
+        }
+        return recuperado;
+    }
+
+    private static List<Path> segmentos(Path dir) throws IOException {
+        try (Stream<Path> s = Files.list(dir)) {
+            return s.sorted().toList();
+        }
+    }
+
+    private static long tamanhoDoLog(Path dir) throws IOException {
+        long total = 0;
+        for (Path p : segmentos(dir)) total += Files.size(p);
+        return total;
+    }
+
+    /** Uma entidade de cada tipo, registradas no log e no catálogo. */
+    static final class Cenario {
+        Usuario gerente;
+        Usuario membro;
+        Projeto projeto;
+        Equipe equipe;
+        AlocacaoEquipeProjeto alocacao;
+        Tarefa tarefa;
+        Tarefa outra;
+
+        static Cenario criar(Catalogo catalogo, LogEscritaAntecipada log) {
+            Cenario c = new Cenario();
+            c.gerente = Usuario.criar("Gerente Geral", "111.444.777-35", "gerente@exemplo.com", "Gerente",
+                    "gerente", "segredo123", Perfil.GERENTE);
+            c.membro = Usuario.criar("Bruno Dias", "123.456.789-09", "bruno@exemplo.com", "Dev", "bruno",
+                    "segredo123", Perfil.COLABORADOR);
+            c.projeto = Projeto.criar("Portal", "Novo portal", INICIO, INICIO.plusMonths(6), c.gerente, null);
+            c.equipe = Equipe.criar("Web", "Time web");
+            c.equipe.adicionarMembro(c.membro);
+            c.alocacao = AlocacaoEquipeProjeto.criar(c.projeto, c.equipe, INICIO, 30, "inicial");
+            c.tarefa = Tarefa.criar(c.projeto, "Login", "Tela de login", c.membro, PrioridadeTarefa.ALTA,
+                    INICIO, INICIO.plusDays(20), 16);
+            c.outra = Tarefa.criar(c.projeto, "Cadastro", null, null, null, INICIO, INICIO.plusDays(30), 8);
+            LogEscritaAntecipada.Lote lote = log.novoLote();
+            lote.registrarCriacao(c.gerente).registrarCriacao(c.membro).registrarCriacao(c.projeto)
+                    .registrarCriacao(c.equipe).registrarCriacao(c.alocacao).registrarCriacao(c.tarefa);
+            lote.confirmar();
+            log.registrarCriacao(c.outra);
+            catalogo.incluir(c.gerente);
+            catalogo.incluir(c.membro);
+            catalogo.incluir(c.projeto);
+            catalogo.incluir(c.equipe);
+            catalogo.incluir(c.alocacao);
+            catalogo.incluir(c.tarefa);
+            catalogo.incluir(c.outra);
+            return c;
+        }
+
+        /** Passa por todos os callbacks que o log grava. */
+        void alterarTudo() {
+            gerente.alterarCargo("Diretor");
+            projeto.alterarStatus(StatusProjeto.EM_ANDAMENTO);
+            projeto.replanejar(INICIO.plusDays(1), INICIO.plusMonths(7));
+            projeto.alterarDescricao("Portal renovado");
+            projeto.definirGerenteResponsavel(gerente);
+            equipe.alterarNome("Web e Mobile");
+            equipe.alterarDescricao("Time de front");
+            equipe.adicionarMembro(gerente);
+            equipe.removerMembro(membro);
+            alocacao.ajustarPeriodo(INICIO.plusDays(2), INICIO.plusMonths(3));
+            alocacao.alterarCapacidade(25);
+            alocacao.alterarObservacoes("revista");
+            tarefa.alterarTitulo("Login social");
+            tarefa.alterarDescricao("Google e GitHub");
+            tarefa.alterarPrioridade(PrioridadeTarefa.CRITICA);
+            tarefa.replanejar(INICIO.plusDays(1), INICIO.plusDays(25));
+            tarefa.atribuirResponsavel(gerente);
+            tarefa.definirEsforcoEstimado(20);
+            tarefa.iniciar();
+            tarefa.registrarEsforco(5);
+            tarefa.bloquear();
+            tarefa.iniciar();
+            tarefa.concluir(4, INICIO.plusDays(10));
+            outra.atribuirResponsavel(membro);
+            outra.atribuirResponsavel(null);
+            outra.cancelar();
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package model.relatorio;
+
+import model.dominio.AlocacaoEquipeProjeto;
+import model.dominio.Equipe;
+import model.dominio.Projeto;
+import model.dominio.Tarefa;
+import model.dominio.Usuario;
+import model.enums.Perfil;
+import model.enums.StatusTarefa;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Teste diferencial: as séries incrementais do motor têm de bater com o
+ * rateio recalculado dia a dia (copiado abaixo como referência) depois de
+ * edições, (des)registros e, no teste concorrente, de edições em uma thread
+ * enquanto outra (des)registra as mesmas tarefas.
+ */
+class CapacidadeCargaTest {
+
+    private static final LocalDate BASE = LocalDate.of(2024, 1, 1);
+
+    private static final Usuario GERENTE = Usuario.criar("Gerente", "529.982.247-25", "gerente@exemplo.com",
+            "Gerente", "gerente", "segredo123", Perfil.GERENTE);
+
+    @Test
+    void edicoesAleatoriasBatemComRateioDiaADia() {
+        SplittableRandom rnd = new SplittableRandom(15);
+        Projeto projeto = novoProjeto();
+        Equipe equipe = Equipe.criar("Equipe", null);
+        CapacidadeCarga motor = new CapacidadeCarga();
+        List<Tarefa> tarefas = new ArrayList<>();
+        List<AlocacaoEquipeProjeto> alocacoes = new ArrayList<>();
+        List<Object> registradas = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            Tarefa t = novaTarefa(projeto, rnd);
+            tarefas.add(t);
+            motor.registrar(t);
+            registradas.add(t);
+        }
+        for (int i = 0; i < 4; i++) {
+            AlocacaoEquipeProjeto a = AlocacaoEquipeProjeto.criar(projeto, equipe,
+                    BASE.plusDays(rnd.nextInt(300)), rnd.nextInt(41), null);
+            alocacoes.add(a);
+            motor.registrar(a);
+            registradas.add(a);
+        }
+
+        for (int passo = 0; passo < 600; passo++) {
+            int op = rnd.nextInt(8);
+            if (op < 5) {
+                Tarefa t = tarefas.get(rnd.nextInt(tarefas.size()));
+                if (t.getStatus().isFinalizada()) continue;
+                switch (op) {
+                    case 0: replanejar(t, rnd); break;
+                    case 1: t.definirEsforcoEstimado(rnd.nextInt(200)); break;
+                    case 2: if (rnd.nextInt(10) == 0) t.cancelar(); else t.registrarEsforco(1); break;
+                    case 3:
+                        if (registradas.remove(t)) motor.desregistrar(t); else { motor.registrar(t); registradas.add(t); }
+                        break;
+                    default: t.atribuirResponsavel(rnd.nextBoolean() ? GERENTE : null);
+                }
+            } else {
+                AlocacaoEquipeProjeto a = alocacoes.get(rnd.nextInt(alocacoes.size()));
+                switch (op) {
+                    case 5: a.alterarCapacidade(rnd.nextInt(41)); break;
+                    case 6:
+                        if (rnd.nextBoolean()) a.reabrirAlocacao();
+                        else a.encerrarAlocacao(a.getDataInicio().plusDays(rnd.nextInt(200)));
+                        break;
+                    default:
+                        if (registradas.remove(a)) motor.desregistrar(a); else { motor.registrar(a); registradas.add(a); }
+                }
+            }
+            conferir(motor, projeto, registradas, BASE.minusDays(30), BASE.plusDays(900));
+        }
+    }
+
+    @Test
+    void tarefaLongaSomaComoIntervalos() {
+        Projeto projeto = novoProjeto();
+        CapacidadeCarga motor = new CapacidadeCarga();
+        // milis % dias varia: sem extras, extras terminando no meio, em todas as semanas inteiras
+        int[][] casos = {{0, 3650, 3651}, {2, 1000, 997}, {5, 400, 1}, {3, 70, 71 * 3 + 50}, {6, 6, 1}};
+        List<Object> registradas = new ArrayList<>();
+        for (int[] c : casos) {
+            Tarefa t = Tarefa.criar(projeto, "Longa", null, null, null, BASE.plusDays(c[0]),
+                    BASE.plusDays(c[0] + c[1]), c[2]);
+            motor.registrar(t);
+            registradas.add(t);
+            conferir(motor, projeto, registradas, BASE.minusDays(10), BASE.plusDays(3700));
+        }
+    }
+
+    @Test
+    void edicoesConcorrentesComRegistro() throws Exception {
+        Projeto projeto = novoProjeto();
+        CapacidadeCarga motor = new CapacidadeCarga();
+        List<Tarefa> tarefas = new ArrayList<>();
+        SplittableRandom inicial = new SplittableRandom(16);
+        for (int i = 0; i < 8; i++) {
+            Tarefa t = novaTarefa(projeto, inicial);
+            t.iniciar();
+            tarefas.add(t);
+            motor.registrar(t);
+        }
+
+        Thread edicao = new Thread(() -> {
+            SplittableRandom rnd = new SplittableRandom(17);
+            for (int i = 0; i < 20_000; i++) {
+                Tarefa t = tarefas.get(rnd.nextInt(tarefas.size()));
+                if (rnd.nextBoolean()) replanejar(t, rnd); else t.definirEsforcoEstimado(rnd.nextInt(200));
+                t.registrarEsforco(1);
+            }
+        });
+        Thread registro = new Thread(() -> {
+            SplittableRandom rnd = new SplittableRandom(18);
+            for (int i = 0; i < 20_000; i++) {
+                Tarefa t = tarefas.get(rnd.nextInt(tarefas.size()));
+                motor.desregistrar(t);
+                motor.registrar(t);
+            }
+        });
+        edicao.start();
+        registro.start();
+        edicao.join(TimeUnit.SECONDS.toMillis(60));
+        registro.join(TimeUnit.SECONDS.toMillis(60));
+        assertFalse(edicao.isAlive() || registro.isAlive(), "threads não terminaram (deadlock?)");
+
+        conferir(motor, projeto, new ArrayList<>(tarefas), BASE.minusDays(30), BASE.plusDays(900));
+        // cada tarefa segue observada: uma edição agora ainda chega ao motor
+        for (Tarefa t : tarefas) t.definirEsforcoEstimado(t.getEsforcoEstimadoHoras() + 7);
+        conferir(motor, projeto, new ArrayList<>(tarefas), BASE.minusDays(30), BASE.plusDays(900));
+    }
+
+    // ---------- helpers ----------
+
+    private static Projeto novoProjeto() {
+        return Projeto.criar("Projeto", "Descrição", BASE, BASE.plusYears(3), GERENTE, null);
+    }
+
+    private static Tarefa novaTarefa(Projeto projeto, SplittableRandom rnd) {
+        LocalDate inicio = BASE.plusDays(rnd.nextInt(400));
+        return Tarefa.criar(projeto, "Tarefa", null, rnd.nextBoolean() ? GERENTE : null, null,
+                inicio, inicio.plusDays(rnd.nextInt(300)), rnd.nextInt(200));
+    }
+
+    private static void replanejar(Tarefa t, SplittableRandom rnd) {
+        LocalDate inicio = BASE.plusDays(rnd.nextInt(400));
+        t.replanejar(inicio, inicio.plusDays(rnd.nextInt(300)));
+    }
+
+    private static void conferir(CapacidadeCarga motor, Projeto projeto, List<Object> registradas,
+                                 LocalDate de, LocalDate ate) {
+        ComparativoCapacidade obtido = motor.comparar(projeto, de, ate);
+        int primeira = CapacidadeCarga.semana(de.toEpochDay());
+        int n = CapacidadeCarga.semana(ate.toEpochDay()) - primeira + 1;
+        long[] capacidade = new long[n];
+        long[] carga = new long[n];
+        for (Object o : registradas) {
+            if (o instanceof Tarefa) Referencia.carga((Tarefa) o, primeira, carga);
+            else Referencia.capacidade((AlocacaoEquipeProjeto) o, primeira, capacidade);
+        }
+        assertEquals(n, obtido.getSemanas());
+        for (int i = 0; i < n; i++) {
+            assertEquals(capacidade[i], obtido.capacidadeHoras(i), "capacidade na semana " + i);
+            assertEquals(carga[i], Math.round(obtido.cargaHoras(i) * 1000), "carga na semana " + i);
+        }
+    }
+
+    /** Rateio dia a dia, sem séries: cada dia recebe milis / dias, os primeiros milis % dias recebem 1 a mais. */
+    private static final class Referencia {
+        static void carga(Tarefa t, int primeira, long[] semanas) {
+            if (t.getStatus() == StatusTarefa.CANCELADA || t.getEsforcoEstimadoHoras() == 0) return;
+            long inicio = t.getDataInicio().toEpochDay();
+            long fim = t.getDataTerminoPrevista().toEpochDay();
+            long milis = t.getEsforcoEstimadoHoras() * 1000L;
+            long dias = fim - inicio + 1;
+            for (long d = inicio; d <= fim; d++) {
+                int i = CapacidadeCarga.semana(d) - primeira;
+                if (i >= 0 && i < semanas.length) semanas[i] += milis / dias + (d - inicio < milis % dias ? 1 : 0);
+            }
+        }
+
+        static void capacidade(AlocacaoEquipeProjeto a, int primeira, long[] semanas) {
+            int de = CapacidadeCarga.semana(a.getDataInicio().toEpochDay());
+            int ate = a.getDataFim() == null ? Integer.MAX_VALUE : CapacidadeCarga.semana(a.getDataFim().toEpochDay());
+            for (int i = 0; i < semanas.length; i++) {
+                int w = primeira + i;
+                if (w >= de && w <= ate) semanas[i] += a.getCapacidadeHorasSemana();
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package model.relatorio;
+
+import model.dominio.Projeto;
+import model.dominio.Tarefa;
+import model.dominio.Usuario;
+import model.enums.Perfil;
+import model.enums.StatusTarefa;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Os contadores do painel têm de bater com uma contagem direta das tarefas
+ * registradas, inclusive quando as tarefas transicionam em outra thread
+ * enquanto são registradas e desregistradas (nada contado duas vezes).
+ */
+class PainelProgressoTest {
+
+    private static final LocalDate INICIO = LocalDate.of(2024, 1, 1);
+
+    private static final Usuario GERENTE = Usuario.criar("Gerente", "529.982.247-25", "gerente@exemplo.com",
+            "Gerente", "gerente", "segredo123", Perfil.GERENTE);
+
+    @Test
+    void registroConcorrenteComTransicoes() throws Exception {
+        Projeto projeto = Projeto.criar("Projeto", "Descrição", INICIO, INICIO.plusYears(1), GERENTE, null);
+        PainelProgresso painel = new PainelProgresso();
+        List<Tarefa> tarefas = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Tarefa t = Tarefa.criar(projeto, "Tarefa " + i, null, null, null, INICIO, INICIO.plusMonths(1), 10);
+            tarefas.add(t);
+            painel.registrar(t);
+        }
+
+        Thread transicoes = new Thread(() -> {
+            SplittableRandom rnd = new SplittableRandom(3);
+            for (int i = 0; i < 30_000; i++) {
+                Tarefa t = tarefas.get(rnd.nextInt(tarefas.size()));
+                switch (rnd.nextInt(4)) {
+                    case 0: t.tentarTransicionar(StatusTarefa.NOVA, StatusTarefa.EM_ANDAMENTO); break;
+                    case 1: t.tentarTransicionar(StatusTarefa.EM_ANDAMENTO, StatusTarefa.BLOQUEADA); break;
+                    case 2: t.tentarTransicionar(StatusTarefa.BLOQUEADA, StatusTarefa.EM_ANDAMENTO); break;
+                    default: t.registrarEsforco(1 + rnd.nextInt(3));
+                }
+            }
+        });
+        Thread registro = new Thread(() -> {
+            SplittableRandom rnd = new SplittableRandom(4);
+            for (int i = 0; i < 30_000; i++) {
+                Tarefa t = tarefas.get(rnd.nextInt(tarefas.size()));
+                painel.desregistrar(t);
+                painel.registrar(t);
+            }
+        });
+        transicoes.start();
+        registro.start();
+        transicoes.join(TimeUnit.SECONDS.toMillis(60));
+        registro.join(TimeUnit.SECONDS.toMillis(60));
+        assertFalse(transicoes.isAlive() || registro.isAlive());
+
+        conferir(painel, projeto, tarefas);
+        Tarefa t = tarefas.get(0);
+        if (t.getStatus() == StatusTarefa.NOVA) t.iniciar();
+        if (t.getStatus() == StatusTarefa.BLOQUEADA) t.iniciar();
+        t.concluir(2, INICIO.plusDays(5));
+        conferir(painel, projeto, tarefas);
+        painel.desregistrar(t);
+        tarefas.remove(t);
+        conferir(painel, projeto, tarefas);
+    }
+
+    @Test
+    void registrarDuasVezesNaoDuplica() {
+        Projeto projeto = Projeto.criar("Projeto", "Descrição", INICIO, INICIO.plusYears(1), GERENTE, null);
+        PainelProgresso painel = new PainelProgresso();
+        Tarefa t = Tarefa.criar(projeto, "Tarefa", null, null, null, INICIO, INICIO.plusMonths(1), 8);
+        painel.registrar(t);
+        painel.registrar(t);
+        t.iniciar();
+        t.definirEsforcoEstimado(12);
+        conferir(painel, projeto, List.of(t));
+        painel.desregistrar(t);
+        painel.desregistrar(t);
+        conferir(painel, projeto, List.of());
+    }
+
+    private static void conferir(PainelProgresso painel, Projeto projeto, List<Tarefa> tarefas) {
+        ProgressoProjeto p = painel.progresso(projeto.getIdentificador()).orElseThrow();
+        String esperado = "total=" + tarefas.size();
+        for (StatusTarefa s : StatusTarefa.values()) {
+            esperado += " " + s + "=" + tarefas.stream().filter(t -> t.getStatus() == s).count();
+        }
+        esperado += " estimado=" + tarefas.stream().mapToLong(Tarefa::getEsforcoEstimadoHoras).sum()
+                + " real=" + tarefas.stream().mapToLong(Tarefa::getEsforcoRealHoras).sum();
+        String obtido = "total=" + p.getTotal();
+        for (StatusTarefa s : StatusTarefa.values()) obtido += " " + s + "=" + p.quantidade(s);
+        obtido += " estimado=" + p.getEsforcoEstimadoHoras() + " real=" + p.getEsforcoRealHoras();
+        assertEquals(esperado, obtido);
+    }
+}
@@ -0,0 +1,82 @@
+package model.repositorio;
+
+import model.dominio.ComentarioTarefa;
+import model.dominio.Projeto;
+import model.dominio.Tarefa;
+import model.dominio.Usuario;
+import model.enums.Perfil;
+import model.util.ComentarioTarefaUtil;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * As listagens do repositório têm de devolver o mesmo que
+ * ComentarioTarefaUtil.ultimosN sobre os comentários na ordem em que foram
+ * salvos, inclusive com dataHora empatada e comentários retroativos.
+ */
+class RepositorioComentarioEmMemoriaTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    private final Usuario autor = Usuario.criar("Autor", "529.982.247-25", "autor@empresa.com", "Dev",
+            "autor", "senha1234", Perfil.GERENTE);
+    private final Projeto projeto = Projeto.criar("Projeto", "teste", LocalDate.of(2024, 1, 1),
+            LocalDate.of(2024, 12, 31), autor, null);
+
+    @Test
+    void empateMantemOsSalvosPrimeiro() {
+        Tarefa t = tarefa("T");
+        ComentarioTarefa a = ComentarioTarefa.criar(t, autor, BASE, "A");
+        ComentarioTarefa b = ComentarioTarefa.criar(t, autor, BASE, "B");
+        ComentarioTarefa c = ComentarioTarefa.criar(t, autor, BASE, "C");
+        RepositorioComentarioEmMemoria repo = new RepositorioComentarioEmMemoria(2);
+        for (ComentarioTarefa x : List.of(a, b, c)) repo.salvar(x);
+
+        assertEquals(List.of(a, b), repo.ultimos(2));
+        assertEquals(List.of(a, b), repo.ultimosDaTarefa(t.getId(), 2));
+        assertEquals(List.of(a, b, c), repo.listarPorTarefa(t.getId()));
+        assertEquals(ComentarioTarefaUtil.ultimosN(List.of(a, b, c), 2), repo.ultimos(2));
+    }
+
+    @Test
+    void mesmoResultadoQueUltimosN() {
+        SplittableRandom rnd = new SplittableRandom(18);
+        List<Tarefa> tarefas = List.of(tarefa("T1"), tarefa("T2"), tarefa("T3"));
+        for (int rodada = 0; rodada < 200; rodada++) {
+            int capacidade = 1 + rnd.nextInt(12);
+            RepositorioComentarioEmMemoria repo = new RepositorioComentarioEmMemoria(capacidade);
+            List<ComentarioTarefa> salvos = new ArrayList<>();
+            int total = rnd.nextInt(60);
+            for (int i = 0; i < total; i++) {
+                // poucos instantes distintos: muitos empates, e metade chega fora de ordem
+                LocalDateTime quando = BASE.plusMinutes(rnd.nextBoolean() ? i / 3 : rnd.nextInt(8));
+                ComentarioTarefa c = ComentarioTarefa.criar(tarefas.get(rnd.nextInt(tarefas.size())), autor,
+                        quando, "c" + i);
+                repo.salvar(c);
+                salvos.add(c);
+            }
+            for (int n = 0; n <= capacidade; n++) {
+                assertEquals(ComentarioTarefaUtil.ultimosN(salvos, n), repo.ultimos(n), "ultimos " + n);
+            }
+            for (Tarefa t : tarefas) {
+                List<ComentarioTarefa> daTarefa = new ArrayList<>();
+                for (ComentarioTarefa c : salvos) if (c.getTarefa() == t) daTarefa.add(c);
+                for (int n = 0; n <= daTarefa.size() + 1; n++) {
+                    assertEquals(ComentarioTarefaUtil.ultimosN(daTarefa, n), repo.ultimosDaTarefa(t.getId(), n));
+                }
+                assertEquals(ComentarioTarefaUtil.ultimosN(daTarefa, daTarefa.size()), repo.listarPorTarefa(t.getId()));
+            }
+        }
+    }
+
+    private Tarefa tarefa(String titulo) {
+        return Tarefa.criar(projeto, titulo, "", null, null, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 1), 8);
+    }
+}
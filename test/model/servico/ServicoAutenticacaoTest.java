@@ -0,0 +1,108 @@
+package model.servico;
+
+import model.dominio.Usuario;
+import model.enums.Perfil;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Sessões: o token vale até o TTL (exclusive) e cai depois, as vencidas saem
+ * do mapa no login seguinte, e trocar a senha ou desregistrar o usuário
+ * invalida as sessões abertas.
+ */
+class ServicoAutenticacaoTest {
+
+    private static final Duration TTL = Duration.ofMinutes(30);
+
+    @Test
+    void sessaoValeAteOTtl() {
+        Relogio relogio = new Relogio();
+        ServicoAutenticacao auth = ServicoAutenticacao.criar(TTL, relogio);
+        Usuario ana = ana();
+        auth.registrar(ana);
+
+        assertTrue(auth.autenticar("ana", "errada123").isEmpty());
+        assertTrue(auth.autenticar("bia", "segredo123").isEmpty());
+        Sessao s = auth.autenticar(" ana ", "segredo123").orElseThrow();
+        assertEquals(Instant.ofEpochMilli(relogio.agora + TTL.toMillis()), s.getExpiraEm());
+        assertEquals(Optional.of(ana), auth.validar(s.getToken()));
+
+        relogio.agora += TTL.toMillis() - 1;
+        assertEquals(Optional.of(ana), auth.validar(s.getToken()));
+        relogio.agora += 1;
+        assertTrue(auth.validar(s.getToken()).isEmpty());
+        assertEquals(0, auth.quantidadeSessoes());
+    }
+
+    @Test
+    void vencidasSaemNoLoginSeguinte() {
+        Relogio relogio = new Relogio();
+        ServicoAutenticacao auth = ServicoAutenticacao.criar(TTL, relogio);
+        auth.registrar(ana());
+        for (int i = 0; i < 5; i++) {
+            auth.autenticar("ana", "segredo123").orElseThrow();
+            relogio.agora += 1_000;
+        }
+        assertEquals(5, auth.quantidadeSessoes());
+
+        relogio.agora += TTL.toMillis() - 4_000; // as duas primeiras venceram
+        Sessao nova = auth.autenticar("ana", "segredo123").orElseThrow();
+        assertEquals(4, auth.quantidadeSessoes());
+        assertTrue(auth.encerrar(nova.getToken()));
+        assertFalse(auth.encerrar(nova.getToken()));
+        assertEquals(3, auth.quantidadeSessoes());
+    }
+
+    @Test
+    void trocaDeSenhaEDesregistroInvalidamSessoes() {
+        ServicoAutenticacao auth = ServicoAutenticacao.criar(TTL, new Relogio());
+        Usuario ana = ana();
+        auth.registrar(ana);
+        Sessao antes = auth.autenticar("ana", "segredo123").orElseThrow();
+
+        ana.trocarSenha("segredo123", "outraSenha456");
+        assertTrue(auth.validar(antes.getToken()).isEmpty());
+        assertTrue(auth.autenticar("ana", "segredo123").isEmpty());
+        Sessao depois = auth.autenticar("ana", "outraSenha456").orElseThrow();
+        assertNotEquals(antes.getToken(), depois.getToken());
+
+        assertThrows(IllegalStateException.class, () -> auth.registrar(ana()));
+        assertTrue(auth.desregistrar(ana));
+        assertTrue(auth.validar(depois.getToken()).isEmpty());
+    }
+
+    @Test
+    void ttlDeveSerPositivo() {
+        assertThrows(IllegalArgumentException.class, () -> ServicoAutenticacao.criar(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> ServicoAutenticacao.criar(Duration.ofSeconds(-1)));
+    }
+
+    // ---------- helpers ----------
+
+    private static Usuario ana() {
+        return Usuario.criar("Ana Lima", "529.982.247-25", "ana@exemplo.com", "Analista", "ana", "segredo123",
+                Perfil.COLABORADOR);
+    }
+
+    /** Relógio controlado pelo teste. */
+    private static final class Relogio extends Clock {
+        long agora = 1_700_000_000_000L;
+
+        @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+        @Override public Clock withZone(ZoneId zone) { throw new UnsupportedOperationException(); }
+        @Override public long millis() { return agora; }
+        @Override public Instant instant() { return Instant.ofEpochMilli(agora); }
+    }
+}
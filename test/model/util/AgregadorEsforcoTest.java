@@ -0,0 +1,135 @@
+package model.util;
+
+import model.dominio.Projeto;
+import model.dominio.RegistroEsforco;
+import model.dominio.Tarefa;
+import model.dominio.Usuario;
+import model.enums.Perfil;
+import model.vo.Identificador;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Teste diferencial: o agregador (dias no array denso, os que não cabem na
+ * janela no mapa esparso) tem de dar os mesmos totais por usuário, tarefa,
+ * dia e semana que a soma direta dos lançamentos, com datas extremas,
+ * janelas que crescem para os dois lados e filtro de período.
+ */
+class AgregadorEsforcoTest {
+
+    private static final LocalDate BASE = LocalDate.of(2024, 1, 1);
+
+    private static final Usuario GERENTE = Usuario.criar("Gerente", "111.444.777-35", "gerente@exemplo.com",
+            "Gerente", "gerente", "segredo123", Perfil.GERENTE);
+    private static final Usuario ANA = Usuario.criar("Ana Lima", "529.982.247-25", "ana@exemplo.com",
+            "Analista", "ana", "segredo123", Perfil.COLABORADOR);
+    private static final Projeto PROJETO = Projeto.criar("Projeto", "Descrição", BASE, BASE.plusYears(1),
+            GERENTE, null);
+
+    @Test
+    void densoEEsparsoSomamComoAReferencia() {
+        SplittableRandom rnd = new SplittableRandom(5);
+        List<Tarefa> tarefas = tarefas(6);
+        List<RegistroEsforco> regs = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) regs.add(lancamento(rnd, tarefas, BASE.plusDays(rnd.nextInt(700) - 200)));
+        // datas digitadas por engano e janelas que só cabem crescendo para um dos lados
+        LocalDate[] extremos = {LocalDate.of(1, 1, 1), LocalDate.of(9999, 12, 31), BASE.minusDays(40_000),
+                BASE.plusDays(30_000), BASE.plusDays(20_000), BASE.minusDays(65_000), LocalDate.of(1, 1, 3)};
+        for (LocalDate d : extremos) regs.add(lancamento(rnd, tarefas, d));
+        regs.add(1, lancamento(rnd, tarefas, BASE.plusDays(50_000))); // antes de quase tudo
+
+        AgregadorEsforco a = AgregadorEsforco.agregar(regs, null, null);
+        conferir(regs, a, null, null);
+        for (LocalDate d : extremos) {
+            assertEquals(referenciaPorDia(regs, null, null).getOrDefault(d, 0), a.horasNoDia(d));
+        }
+    }
+
+    @Test
+    void filtroDePeriodoComJanelaPreAlocada() {
+        SplittableRandom rnd = new SplittableRandom(6);
+        List<Tarefa> tarefas = tarefas(3);
+        List<RegistroEsforco> regs = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) regs.add(lancamento(rnd, tarefas, BASE.plusDays(rnd.nextInt(900) - 300)));
+
+        LocalDate inicio = BASE.plusDays(10);
+        LocalDate fim = BASE.plusDays(400);
+        conferir(regs, AgregadorEsforco.agregar(regs, inicio, fim), inicio, fim);
+        conferir(regs, AgregadorEsforco.agregar(regs, inicio, null), inicio, null);
+        conferir(regs, AgregadorEsforco.agregar(regs, null, fim), null, fim);
+        conferir(regs, AgregadorEsforco.agregar(regs, fim, inicio), fim, inicio); // período vazio
+    }
+
+    @Test
+    void idsDensosExternos() {
+        DicionarioDenso<Usuario> usuarios = new DicionarioDenso<>();
+        DicionarioDenso<Tarefa> tarefas = new DicionarioDenso<>();
+        Tarefa t = tarefas(1).get(0);
+        AgregadorEsforco a = new AgregadorEsforco(null, null, usuarios, tarefas);
+        a.acumular(usuarios.indice(ANA), tarefas.indice(t), BASE.toEpochDay(), 4);
+        a.acumular(usuarios.indice(GERENTE), tarefas.indice(t), BASE.plusDays(6).toEpochDay(), 2);
+        a.acumular(usuarios.indice(ANA), tarefas.indice(t), LocalDate.of(9999, 1, 1).toEpochDay(), 1);
+        assertEquals(7, a.total());
+        assertEquals(5, a.horasDoUsuario(ANA));
+        assertEquals(7, a.horasDaTarefa(t));
+        assertEquals(6, a.horasNaSemana(BASE.plusDays(3)));
+    }
+
+    // ---------- helpers ----------
+
+    private static void conferir(List<RegistroEsforco> regs, AgregadorEsforco a, LocalDate inicio, LocalDate fim) {
+        List<RegistroEsforco> noPeriodo = new ArrayList<>();
+        for (RegistroEsforco r : regs) if (dentro(r.getData(), inicio, fim)) noPeriodo.add(r);
+        SortedMap<LocalDate, Integer> porDia = referenciaPorDia(regs, inicio, fim);
+        SortedMap<LocalDate, Integer> porSemana = new TreeMap<>();
+        porDia.forEach((d, h) -> porSemana.merge(d.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)), h,
+                Integer::sum));
+
+        assertEquals(noPeriodo.size(), a.quantidadeRegistros());
+        assertEquals(RegistroEsforcoUtil.somarHoras(noPeriodo), a.total());
+        assertEquals(RegistroEsforcoUtil.horasPorUsuario(noPeriodo), a.horasPorUsuario());
+        assertEquals(RegistroEsforcoUtil.horasPorTarefa(noPeriodo), a.horasPorTarefa());
+        assertEquals(porDia, a.horasPorDia());
+        assertEquals(porSemana, a.horasPorSemana());
+        for (LocalDate semana : porSemana.keySet()) {
+            assertEquals(porSemana.get(semana), a.horasNaSemana(semana.plusDays(4)));
+        }
+    }
+
+    private static SortedMap<LocalDate, Integer> referenciaPorDia(List<RegistroEsforco> regs,
+                                                                 LocalDate inicio, LocalDate fim) {
+        SortedMap<LocalDate, Integer> m = new TreeMap<>();
+        for (RegistroEsforco r : regs) {
+            if (dentro(r.getData(), inicio, fim)) m.merge(r.getData(), r.getHoras(), Integer::sum);
+        }
+        return m;
+    }
+
+    private static boolean dentro(LocalDate d, LocalDate inicio, LocalDate fim) {
+        return (inicio == null || !d.isBefore(inicio)) && (fim == null || !d.isAfter(fim));
+    }
+
+    private static List<Tarefa> tarefas(int n) {
+        List<Tarefa> r = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            r.add(Tarefa.criar(PROJETO, "Tarefa " + i, null, null, null, BASE, BASE.plusMonths(2), 10));
+        }
+        return r;
+    }
+
+    /** Via restaurar: lançamentos antigos podem ter qualquer data. */
+    private static RegistroEsforco lancamento(SplittableRandom rnd, List<Tarefa> tarefas, LocalDate data) {
+        return RegistroEsforco.restaurar(Identificador.novo(), tarefas.get(rnd.nextInt(tarefas.size())),
+                rnd.nextBoolean() ? ANA : GERENTE, data, 1 + rnd.nextInt(8), null);
+    }
+}
@@ -0,0 +1,115 @@
+package model.util;
+
+import model.dominio.ComentarioTarefa;
+import model.dominio.Projeto;
+import model.dominio.RegistroEsforco;
+import model.dominio.Tarefa;
+import model.dominio.Usuario;
+import model.enums.Perfil;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Exportação em fluxo: escreverCSV (em Appendable ou em canal, com e sem
+ * gzip) tem de produzir exatamente o mesmo texto de toCSV, inclusive com
+ * ';' e quebras de linha nos campos livres, e as primitivas de número e
+ * data têm de bater com toString().
+ */
+class EscritaCSVTest {
+
+    private static final LocalDate INICIO = LocalDate.of(2024, 1, 1);
+
+    @Test
+    void inteiroEDataComoToString() throws IOException {
+        int[] inteiros = {0, 7, 10, 99, 100, -1, -10, 123_456_789, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        for (int v : inteiros) {
+            StringBuilder sb = new StringBuilder();
+            EscritaCSV.inteiro(sb, v);
+            assertEquals(Integer.toString(v), sb.toString());
+        }
+        LocalDate[] datas = {INICIO, LocalDate.of(999, 12, 31), LocalDate.of(1000, 1, 9),
+                LocalDate.of(9999, 10, 10), LocalDate.of(10_000, 1, 1), LocalDate.of(-5, 6, 7)};
+        for (LocalDate d : datas) {
+            StringBuilder sb = new StringBuilder();
+            EscritaCSV.data(sb, d);
+            assertEquals(d.toString(), sb.toString());
+        }
+    }
+
+    @Test
+    void esforcosEmFluxoIguaisAToCSV() throws IOException {
+        List<RegistroEsforco> regs = new ArrayList<>();
+        assertEquals(RegistroEsforcoUtil.toCSV(regs), emTexto(regs));
+
+        Usuario u = usuario();
+        Tarefa t = tarefa(u);
+        regs.add(RegistroEsforco.criar(t, u, INICIO, 3, null));
+        regs.add(RegistroEsforco.criar(t, u, INICIO.plusDays(1), 12, "revisão; ajustes\nfinais"));
+        regs.add(RegistroEsforco.criar(t, u, INICIO.plusDays(40), 1, "ç ã é"));
+
+        String esperado = RegistroEsforcoUtil.toCSV(regs);
+        assertEquals(esperado, emTexto(regs));
+        ByteArrayOutputStream simples = new ByteArrayOutputStream();
+        RegistroEsforcoUtil.escreverCSV(regs, Channels.newChannel(simples), false);
+        assertEquals(esperado, simples.toString(StandardCharsets.UTF_8));
+        ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+        RegistroEsforcoUtil.escreverCSV(regs, Channels.newChannel(gzip), true);
+        assertEquals(esperado, descompactar(gzip.toByteArray()));
+    }
+
+    @Test
+    void comentariosEmFluxoIguaisAToCSV() throws IOException {
+        Usuario u = usuario();
+        Tarefa t = tarefa(u);
+        List<ComentarioTarefa> comentarios = List.of(
+                ComentarioTarefa.criar(t, u, LocalDateTime.of(2024, 1, 2, 8, 0), "ok"),
+                ComentarioTarefa.criar(t, u, LocalDateTime.of(2024, 1, 2, 8, 0, 5, 120), "a;b\nc;d"));
+
+        String esperado = ComentarioTarefaUtil.toCSV(comentarios);
+        StringBuilder sb = new StringBuilder();
+        ComentarioTarefaUtil.escreverCSV(comentarios, sb);
+        assertEquals(esperado, sb.toString());
+        ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+        ComentarioTarefaUtil.escreverCSV(comentarios, Channels.newChannel(gzip), true);
+        assertEquals(esperado, descompactar(gzip.toByteArray()));
+    }
+
+    // ---------- helpers ----------
+
+    private static String emTexto(List<RegistroEsforco> regs) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        RegistroEsforcoUtil.escreverCSV(regs, sb);
+        return sb.toString();
+    }
+
+    private static String descompactar(byte[] bytes) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static Usuario usuario() {
+        return Usuario.criar("Ana Lima", "529.982.247-25", "ana@exemplo.com", "Analista", "ana", "segredo123",
+                Perfil.COLABORADOR);
+    }
+
+    private static Tarefa tarefa(Usuario autor) {
+        Usuario gerente = Usuario.criar("Gerente", "111.444.777-35", "gerente@exemplo.com", "Gerente", "gerente",
+                "segredo123", Perfil.GERENTE);
+        Projeto p = Projeto.criar("Portal", "Novo portal", INICIO, INICIO.plusYears(1), gerente, null);
+        return Tarefa.criar(p, "Login; social", null, autor, null, INICIO, INICIO.plusMonths(2), 40);
+    }
+}
@@ -0,0 +1,48 @@
+package model.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * O hash tem de ser idêntico ao cálculo original (SHA-256 de "login:senha"
+ * em hex com String.format), e confere() só aceita o hash exato, com
+ * qualquer tamanho de entrada.
+ */
+class HashSenhaTest {
+
+    @Test
+    void igualAoCalculoOriginal() throws NoSuchAlgorithmException {
+        String[][] casos = {{"ana", "segredo123"}, {"joão", "çãé!"}, {"", ""}, {"x", "a:b"}};
+        for (String[] c : casos) {
+            assertEquals(original(c[0], c[1]), HashSenha.calcular(c[0], c[1]));
+        }
+    }
+
+    @Test
+    void confereSoOHashExato() {
+        String hash = HashSenha.calcular("ana", "segredo123");
+        assertTrue(HashSenha.confere(hash, "ana", "segredo123"));
+        assertFalse(HashSenha.confere(hash, "ana", "segredo124"));
+        assertFalse(HashSenha.confere(hash, "bia", "segredo123"));
+        assertFalse(HashSenha.confere(hash.toUpperCase(), "ana", "segredo123"));
+        assertFalse(HashSenha.confere(hash.substring(0, 63), "ana", "segredo123"));
+        assertFalse(HashSenha.confere(hash + "0", "ana", "segredo123"));
+        assertFalse(HashSenha.confere("", "ana", "segredo123"));
+        assertFalse(HashSenha.confere(null, "ana", "segredo123"));
+    }
+
+    private static String original(String login, String senha) throws NoSuchAlgorithmException {
+        MessageDigest md = MessageDigest.getInstance("SHA-256");
+        byte[] digest = md.digest((login + ":" + senha).getBytes(StandardCharsets.UTF_8));
+        StringBuilder sb = new StringBuilder();
+        for (byte b : digest) sb.append(String.format("%02x", b));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,151 @@
+package model.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Teste diferencial: buscar (MaxScore com saltos, df descontado nas
+ * lápides) tem de devolver as mesmas pontuações que o BM25 calculado item a
+ * item sobre os itens vivos, depois de inclusões, remoções e atualizações.
+ */
+class IndiceInvertidoTest {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    /** Item mutável com igualdade por identidade, como uma entidade. */
+    private static final class Doc {
+        String texto;
+
+        Doc(String texto) {
+            this.texto = texto;
+        }
+    }
+
+    @Test
+    void lapideSaiDoDfEDosTermos() {
+        IndiceInvertido<Doc> indice = new IndiceInvertido<>(d -> d.texto);
+        Doc a = new Doc("relatorio mensal"), b = new Doc("relatorio anual"), c = new Doc("planilha");
+        for (Doc d : List.of(a, b, c)) indice.incluir(d);
+
+        indice.remover(b);
+        assertEquals(3, indice.quantidadeTermos()); // "anual" saiu
+        // df de "relatorio" é 1 entre 2 vivos, não 2 (lápide contada)
+        assertEquals(new Bm25(List.of(a, c)).melhores("relatorio", 1), pontuacoes(indice.buscar("relatorio", 1)));
+        assertEquals(List.of(), indice.buscar("anual", 5));
+    }
+
+    @Test
+    void mesmoResultadoQueBm25ItemAItem() {
+        SplittableRandom rnd = new SplittableRandom(17);
+        IndiceInvertido<Doc> indice = new IndiceInvertido<>(d -> d.texto);
+        List<Doc> vivos = new ArrayList<>();
+        for (int passo = 0; passo < 6_000; passo++) {
+            int op = rnd.nextInt(10);
+            if (op < 6 || vivos.isEmpty()) {
+                Doc d = new Doc(texto(rnd));
+                indice.incluir(d);
+                vivos.add(d);
+            } else if (op < 8) {
+                indice.remover(vivos.remove(rnd.nextInt(vivos.size())));
+            } else {
+                Doc d = vivos.get(rnd.nextInt(vivos.size()));
+                d.texto = texto(rnd);
+                indice.atualizar(d);
+            }
+            if (passo % 500 == 499) conferir(indice, vivos, rnd);
+        }
+        indice.compactar();
+        conferir(indice, vivos, rnd);
+    }
+
+    // ---------- helpers ----------
+
+    private static void conferir(IndiceInvertido<Doc> indice, List<Doc> vivos, SplittableRandom rnd) {
+        Bm25 bm25 = new Bm25(vivos);
+        assertEquals(vivos.size(), indice.tamanho());
+        assertEquals(bm25.df.size(), indice.quantidadeTermos());
+
+        for (int q = 0; q < 200; q++) {
+            StringBuilder consulta = new StringBuilder();
+            int n = 1 + rnd.nextInt(5);
+            for (int i = 0; i < n; i++) consulta.append(palavra(rnd)).append(' ');
+            int limite = 1 + rnd.nextInt(20);
+            List<ResultadoBusca<Doc>> obtido = indice.buscar(consulta.toString(), limite);
+
+            List<Double> esperado = bm25.melhores(consulta.toString(), limite);
+            List<Double> pontos = pontuacoes(obtido);
+            assertEquals(esperado.size(), pontos.size(), consulta::toString);
+            for (int i = 0; i < esperado.size(); i++) {
+                assertEquals(esperado.get(i), pontos.get(i), 1e-9, consulta::toString);
+            }
+            for (ResultadoBusca<Doc> r : obtido) {
+                assertEquals(bm25.pontuar(r.getItem(), consulta.toString()), r.getPontuacao(), 1e-9);
+            }
+        }
+    }
+
+    /** BM25 calculado item a item sobre os itens vivos, com df exato. */
+    private static final class Bm25 {
+        final Map<Doc, List<String>> termos = new IdentityHashMap<>();
+        final Map<String, Integer> df = new HashMap<>();
+        final double media;
+
+        Bm25(List<Doc> vivos) {
+            long total = 0;
+            for (Doc d : vivos) {
+                List<String> t = Tokenizador.termos(d.texto);
+                termos.put(d, t);
+                total += t.size();
+                for (String termo : new HashSet<>(t)) df.merge(termo, 1, Integer::sum);
+            }
+            media = Math.max(1.0, total / (double) vivos.size());
+        }
+
+        /** As 'limite' maiores pontuações entre os itens com algum termo da consulta. */
+        List<Double> melhores(String consulta, int limite) {
+            List<Double> todas = new ArrayList<>();
+            for (Doc d : termos.keySet()) {
+                double p = pontuar(d, consulta);
+                if (p > 0) todas.add(p);
+            }
+            todas.sort(Comparator.reverseOrder());
+            return todas.subList(0, Math.min(limite, todas.size()));
+        }
+
+        double pontuar(Doc doc, String consulta) {
+            List<String> doDoc = termos.get(doc);
+            double pontos = 0;
+            for (String t : new LinkedHashSet<>(Tokenizador.termos(consulta))) {
+                int tf = Collections.frequency(doDoc, t);
+                if (tf == 0) continue;
+                int n = df.get(t);
+                double idf = Math.max(Math.log(1.0 + (termos.size() - n + 0.5) / (n + 0.5)), 1e-6);
+                pontos += idf * tf * (K1 + 1) / (tf + K1 * (1 - B + B * doDoc.size() / media));
+            }
+            return pontos;
+        }
+    }
+
+    private static List<Double> pontuacoes(List<ResultadoBusca<Doc>> resultados) {
+        List<Double> r = new ArrayList<>();
+        for (ResultadoBusca<Doc> x : resultados) r.add(x.getPontuacao());
+        return r;
+    }
+
+    /** Poucos termos muito frequentes (listas longas, com saltos) e uma cauda de raros. */
+    private static String palavra(SplittableRandom rnd) {
+        double u = rnd.nextDouble();
+        return "t" + (int) (300 * u * u * u);
+    }
+
+    private static String texto(SplittableRandom rnd) {
+        StringBuilder sb = new StringBuilder();
+        int n = 1 + rnd.nextInt(25);
+        for (int i = 0; i < n; i++) sb.append(palavra(rnd)).append(' ');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,180 @@
+package model.vo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Teste diferencial: o CPF com varredura direta tem de se comportar como a
+ * versão anterior baseada em replaceAll("\\D", ""), copiada abaixo como
+ * referência (aceitação, mensagem de erro, normalização e formatos).
+ */
+class CPFTest {
+
+    private static final String[] VALIDOS = {"529.982.247-25", "111.444.777-35", "123.456.789-09", "000.000.001-91"};
+
+    /** Dígitos de outros sistemas de escrita: \D os trata como não-dígitos. */
+    private static final String[] NAO_ASCII = {"٥", "۵", "५", "５", "߅", "𝟓", "¹", "½"};
+
+    private static final String RUIDO = " .-/_()*#abcXYZ\t ç";
+
+    @Test
+    void casosEscolhidos() {
+        List<String> casos = new ArrayList<>(Arrays.asList(
+                null, "", " ", "abc", "52998224725", " 529 982 247 25 ", "CPF: 529.982.247-25",
+                "529.982.247-2", "529.982.247-250", "529.982.247-26", "000.000.000-00", "999.999.999-99",
+                "11111111111", "111.111.111-12", "00000000191", "1", "12345678901234567890"));
+        for (String v : VALIDOS) {
+            casos.add(v);
+            casos.add(v.toUpperCase());
+            casos.add(v.replace('.', ' '));
+            casos.add(v.replace("-", "–"));
+            for (String d : NAO_ASCII) {
+                casos.add(d + v);
+                casos.add(v.replace("5", d));
+                casos.add(v.substring(0, v.length() - 1) + d);
+            }
+        }
+        for (String c : casos) comparar(c);
+    }
+
+    @Test
+    void entradasAleatorias() {
+        SplittableRandom rnd = new SplittableRandom(20);
+        for (int i = 0; i < 50_000; i++) {
+            String base = (i % 3 == 0) ? digitosAleatorios(rnd, 9 + rnd.nextInt(4)) : comDv(rnd);
+            comparar(decorar(rnd, base));
+        }
+    }
+
+    @Test
+    void igualdadeEHashSeguemOsDigitos() {
+        SplittableRandom rnd = new SplittableRandom(21);
+        for (int i = 0; i < 1_000; i++) {
+            String cpf = comDv(rnd);
+            if (!Referencia.valido(cpf)) continue;
+            CPF a = CPF.of(cpf);
+            CPF b = CPF.of(intercalar(rnd, cpf));
+            assertEquals(a, b);
+            assertEquals(Objects.hash(Referencia.of(cpf)), a.hashCode(), cpf);
+            assertEquals(a.hashCode(), b.hashCode());
+        }
+    }
+
+    // ---------- helpers ----------
+
+    private static void comparar(String entrada) {
+        String esperado;
+        try {
+            String d = Referencia.of(entrada);
+            String formatado = Referencia.formatado(d);
+            esperado = d + "|" + formatado + "|" + Referencia.mascarado(d) + "|" + formatado;
+        } catch (IllegalArgumentException e) {
+            esperado = "erro: " + e.getMessage();
+        }
+        String obtido;
+        try {
+            CPF c = CPF.of(entrada);
+            obtido = c.value() + "|" + c.formatado() + "|" + c.mascarado() + "|" + c;
+        } catch (IllegalArgumentException e) {
+            obtido = "erro: " + e.getMessage();
+        }
+        assertEquals(esperado, obtido, () -> "entrada: " + entrada);
+        assertEquals(!esperado.startsWith("erro: "), CPF.isValido(entrada), () -> "isValido: " + entrada);
+    }
+
+    /** 9 dígitos aleatórios + DVs corretos (às vezes uma sequência repetida). */
+    private static String comDv(SplittableRandom rnd) {
+        String d = rnd.nextInt(50) == 0 ? String.valueOf(rnd.nextInt(10)).repeat(9) : digitosAleatorios(rnd, 9);
+        d += dv(d, 10);
+        return d + dv(d, 11);
+    }
+
+    private static int dv(String d, int peso) {
+        int soma = 0;
+        for (int i = 0; i < d.length(); i++) soma += (d.charAt(i) - '0') * peso--;
+        int resto = soma % 11;
+        return resto < 2 ? 0 : 11 - resto;
+    }
+
+    private static String digitosAleatorios(SplittableRandom rnd, int n) {
+        StringBuilder sb = new StringBuilder(n);
+        for (int i = 0; i < n; i++) sb.append((char) ('0' + rnd.nextInt(10)));
+        return sb.toString();
+    }
+
+    /** Intercala ruído e, de vez em quando, sobra um dígito a mais no fim. */
+    private static String decorar(SplittableRandom rnd, String digitos) {
+        String r = intercalar(rnd, digitos);
+        return rnd.nextInt(20) == 0 ? r + (char) ('0' + rnd.nextInt(10)) : r;
+    }
+
+    /** Intercala ruído (pontuação, letras, espaços, dígitos não-ASCII) entre os dígitos. */
+    private static String intercalar(SplittableRandom rnd, String digitos) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < digitos.length(); i++) {
+            int sorteio = rnd.nextInt(10);
+            if (sorteio == 0) sb.append(NAO_ASCII[rnd.nextInt(NAO_ASCII.length)]);
+            else if (sorteio < 4) sb.append(RUIDO.charAt(rnd.nextInt(RUIDO.length())));
+            sb.append(digitos.charAt(i));
+        }
+        return sb.toString();
+    }
+
+    /** Implementação anterior (regex), mantida só como oráculo do teste. */
+    private static final class Referencia {
+
+        static String of(String input) {
+            if (input == null) throw new IllegalArgumentException("CPF não pode ser nulo.");
+            String d = input.replaceAll("\\D", "");
+            if (d.length() != 11) throw new IllegalArgumentException("CPF deve conter 11 dígitos.");
+            if (todosIguais(d)) throw new IllegalArgumentException("CPF inválido (sequência repetida).");
+            if (!dvValido(d)) throw new IllegalArgumentException("CPF inválido (dígitos verificadores).");
+            return d;
+        }
+
+        static boolean valido(String input) {
+            try {
+                of(input);
+                return true;
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
+
+        static String formatado(String digits) {
+            return digits.substring(0,3) + "." + digits.substring(3,6) + "." +
+                    digits.substring(6,9) + "-" + digits.substring(9);
+        }
+
+        static String mascarado(String digits) {
+            return "***.***.***-" + digits.substring(9);
+        }
+
+        private static boolean todosIguais(String d) {
+            char c = d.charAt(0);
+            for (int i = 1; i < d.length(); i++) if (d.charAt(i) != c) return false;
+            return true;
+        }
+
+        private static boolean dvValido(String d) {
+            int soma = 0, peso = 10;
+            for (int i = 0; i < 9; i++) soma += (d.charAt(i) - '0') * peso--;
+            int resto = soma % 11;
+            int dv1 = (resto < 2) ? 0 : 11 - resto;
+
+            soma = 0; peso = 11;
+            for (int i = 0; i < 10; i++) soma += (d.charAt(i) - '0') * peso--;
+            resto = soma % 11;
+            int dv2 = (resto < 2) ? 0 : 11 - resto;
+
+            return dv1 == (d.charAt(9) - '0') && dv2 == (d.charAt(10) - '0');
+        }
+    }
+}
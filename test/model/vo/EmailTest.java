@@ -0,0 +1,104 @@
+package model.vo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Teste diferencial: o Email com varredura direta tem de aceitar e recusar
+ * exatamente o que a regex anterior, copiada abaixo como referência,
+ * aceitava e recusava, com a mesma normalização.
+ */
+class EmailTest {
+
+    private static final String[] CASOS = {
+            null, "", "   ", "maria.silva@empresa.com.br", "Joao@X.COM", "dev+tag@sub.dominio.org",
+            "  Espacos@Fora.com \t", "a@b.co", "a@b.c", "a@b", "@b.com", "a@.com", "a@b.com.", "a@b..com",
+            "a@@b.com", "a@b@c.com", "a.b-c_d%e+f@g-h.i-j.kl", "a@b.c0m", "a@b.com1", "a@1.23", "a@-.xx",
+            "a@b.-x.yy", "a b@c.com", "a@b .com", "a@b.com\n", "a@b.com\u0085", "a@b.com ", " a@b.com",
+            "ﬁ@b.com", "K@b.com", "a@b.Kz", "a@b.coİ", "İa@b.com", "ß@b.com", "é@b.com",
+            "a@b.ç", "a@ｂ.com", "a＠b.com", "a@b．com", "a@b.c٣", "٣@b.com", "a@b.ſx", "A@B.CO", "x@y.zZ"
+    };
+
+    private static final String ALFABETO = "abcXYZ09._%+-@@..-  \tKİſé٣５＠";
+
+    @Test
+    void casosEscolhidos() {
+        for (String c : CASOS) comparar(c);
+    }
+
+    @Test
+    void entradasAleatorias() {
+        SplittableRandom rnd = new SplittableRandom(20);
+        for (int i = 0; i < 50_000; i++) comparar(aleatorio(rnd));
+    }
+
+    @Test
+    void mesmaNormalizacaoComLocaleTurco() {
+        Locale anterior = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            for (String c : CASOS) comparar(c);
+            comparar("FILIZ@ISTANBUL.COM");
+        } finally {
+            Locale.setDefault(anterior);
+        }
+    }
+
+    // ---------- helpers ----------
+
+    private static void comparar(String entrada) {
+        String esperado;
+        try {
+            String v = Referencia.of(entrada);
+            int at = v.lastIndexOf('@');
+            esperado = v + "|" + v.substring(0, at) + "|" + v.substring(at + 1);
+        } catch (IllegalArgumentException e) {
+            esperado = "erro: " + e.getMessage();
+        }
+        String obtido;
+        try {
+            Email e = Email.of(entrada);
+            obtido = e.value() + "|" + e.usuario() + "|" + e.dominio();
+        } catch (IllegalArgumentException e) {
+            obtido = "erro: " + e.getMessage();
+        }
+        assertEquals(esperado, obtido, () -> "entrada: " + entrada);
+        assertEquals(!esperado.startsWith("erro: "), Email.isValido(entrada), () -> "isValido: " + entrada);
+    }
+
+    /** Endereço quase válido com trechos trocados por caracteres do alfabeto de teste. */
+    private static String aleatorio(SplittableRandom rnd) {
+        StringBuilder sb = new StringBuilder(rnd.nextBoolean() ? "Nome.Sobrenome@Sub.Dominio.COM" : "");
+        int trocas = rnd.nextInt(4);
+        for (int i = 0; i < trocas && sb.length() > 0; i++) {
+            sb.setCharAt(rnd.nextInt(sb.length()), ALFABETO.charAt(rnd.nextInt(ALFABETO.length())));
+        }
+        int extras = sb.length() == 0 ? 1 + rnd.nextInt(12) : rnd.nextInt(3);
+        for (int i = 0; i < extras; i++) {
+            sb.insert(rnd.nextInt(sb.length() + 1), ALFABETO.charAt(rnd.nextInt(ALFABETO.length())));
+        }
+        return sb.toString();
+    }
+
+    /** Implementação anterior (regex), mantida só como oráculo do teste. */
+    private static final class Referencia {
+
+        private static final Pattern EMAIL_RX = Pattern.compile(
+                "^[A-Z0-9._%+-]+@[A-Z0-9.-]+\\.[A-Z]{2,}$",
+                Pattern.CASE_INSENSITIVE
+        );
+
+        static String of(String input) {
+            if (input == null) throw new IllegalArgumentException("E-mail não pode ser nulo.");
+            String v = input.trim().toLowerCase();
+            if (v.isEmpty()) throw new IllegalArgumentException("E-mail não pode ser vazio.");
+            if (!EMAIL_RX.matcher(v).matches()) throw new IllegalArgumentException("E-mail inválido.");
+            return v;
+        }
+    }
+}